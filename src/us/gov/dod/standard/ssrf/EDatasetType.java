@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf;
 
+import java.util.HashMap;
+import java.util.Map;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
 
@@ -69,6 +71,17 @@ public enum EDatasetType {
   TR(RFSystem.class),
   TX(Transmitter.class);
 
+  /**
+   * The dataset type of each class type.
+   */
+  private static final Map<Class<?>, EDatasetType> BY_CLASS = new HashMap<>();
+
+  static {
+    for (EDatasetType datasetType : values()) {
+      BY_CLASS.put(datasetType.clazz, datasetType);
+    }
+  }
+
   /**
    * The class type.
    */
@@ -108,12 +121,7 @@ public enum EDatasetType {
    * @return the serial number data type code
    */
   public static EDatasetType fromInstance(Class clazz) {
-    for (EDatasetType eSerialType : EDatasetType.values()) {
-      if (eSerialType.getClazz().equals(clazz)) {
-        return eSerialType;
-      }
-    }
-    return null;
+    return BY_CLASS.get(clazz);
   }
 
   /**
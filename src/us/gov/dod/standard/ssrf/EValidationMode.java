@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+/**
+ * Enumerated list of validation modes.
+ * <p>
+ * Used by {@link SSRFValidationResult}
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public enum EValidationMode {
+
+  /**
+   * Stop at the first violation. Use this mode to decide if an instance is
+   * valid.
+   */
+  FAIL_FAST,
+  /**
+   * Record every violation, up to the configured maximum. Violations beyond
+   * the maximum are counted but not recorded.
+   */
+  COLLECT_ALL;
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+/**
+ * Enumerated list of SSRF validation rules.
+ * <p>
+ * Each rule has a stable numeric code that is reported with every violation
+ * recorded in a {@link SSRFValidationResult}.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public enum EValidationRule {
+
+  /**
+   * A required field is not set.
+   */
+  REQUIRED(1),
+  /**
+   * A classification is less restrictive than the classification of its
+   * parent; SSRF requires that subordinate data items have a classification
+   * less than or equal to their parents.
+   */
+  CLASSIFICATION(2),
+  /**
+   * A field value does not conform to its SSRF data type (length, pattern,
+   * range or digit count).
+   */
+  FORMAT(3);
+
+  /**
+   * The rule code.
+   */
+  private final int code;
+
+  private EValidationRule(int code) {
+    this.code = code;
+  }
+
+  /**
+   * Get the numeric rule code.
+   * <p>
+   * @return the rule code
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * Get a rule by its numeric code.
+   * <p>
+   * @param code the rule code
+   * @return the rule, or null if the code is not recognized
+   */
+  public static EValidationRule fromCode(int code) {
+    for (EValidationRule rule : values()) {
+      if (rule.code == code) {
+        return rule;
+      }
+    }
+    return null;
+  }
+}
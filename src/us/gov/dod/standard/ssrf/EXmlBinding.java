@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+/**
+ * Enumerated list of XML binding engines.
+ * <p>
+ * The engine is chosen per call, e.g.
+ * {@link SSRF#toXML(java.io.Writer, boolean, EXmlBinding)},
+ * {@link SSRF#fromXml(java.io.Reader, EXmlBinding)} or the
+ * {@link SSRFUtility} marshal and unmarshal overloads accepting an
+ * EXmlBinding. Methods without an EXmlBinding parameter use JAXB.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public enum EXmlBinding {
+
+  /**
+   * The configured JAXB provider, via the shared {@link SSRFContext}.
+   */
+  JAXB,
+  /**
+   * The {@link SSRFXmlBinding} StAX engine. This reads and writes the same
+   * annotated fields as JAXB without the JAXB runtime.
+   */
+  STAX;
+
+}
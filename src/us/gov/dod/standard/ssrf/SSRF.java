@@ -15,7 +15,12 @@
  */
 package us.gov.dod.standard.ssrf;
 
+import java.io.*;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
 import javax.xml.bind.annotation.*;
 import us.gov.dod.standard.ssrf._3_0.*;
 
@@ -144,24 +149,41 @@ public class SSRF extends SchemaRoot<SSRF> {
     }
   }//</editor-fold>
 
-  //<editor-fold defaultstate="collapsed" desc="Export to XML">
+  //<editor-fold defaultstate="collapsed" desc="Serial Index">
   /**
-   * Assemble the SSRF instance. This method applies properties and invokes
-   * prepare() methods. This method supports the {@link #build()},
-   * {@link #isValid()} and {@link #evaluate()} methods.
+   * The serial number index used to resolve dataset references during
+   * {@link SSRFUtility#postLoad(SSRF)}. This is only set while post-load is
+   * in progress.
    * <p>
-   * This method does not perform any validation. Call {@link #prepare()} to
-   * validate.
+   * @since 3.1.0
+   */
+  private transient SSRFSerialIndex serialIndex;
+
+  /**
+   * Get a serial number index of the datasets in this SSRF instance.
+   * <p>
+   * During {@link SSRFUtility#postLoad(SSRF)} this returns the index shared by
+   * all postLoad() methods. Otherwise a new index reflecting the current
+   * dataset lists is built on each call.
    * <p>
+   * @return a serial number index of this SSRF instance
    * @since 3.1.0
    */
-  private void assemble() {
-    if (ssrfProperties != null) {
-      SSRFUtility.setProperties(ssrfProperties, this);
-    }
-    SSRFUtility.prepare(this);
+  public SSRFSerialIndex getSerialIndex() {
+    return serialIndex != null ? serialIndex : new SSRFSerialIndex(this);
   }
 
+  /**
+   * Set (or clear) the shared serial number index. Called by
+   * {@link SSRFUtility#postLoad(SSRF)}.
+   * <p>
+   * @param serialIndex the serial number index. Null to clear.
+   */
+  void setSerialIndex(SSRFSerialIndex serialIndex) {
+    this.serialIndex = serialIndex;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Export to XML">
   /**
    * Export this SSRF source instance as an XML document.
    * <p>
@@ -178,12 +200,142 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @since 3.1.0
    */
   public String toXML() throws Exception {
-    if (isValid()) {
-      assemble();
-      SSRFUtility.validate(this);
-      return SSRFUtility.marshal(this);
-    } else {
-      throw new Exception("Invalid SSRF configuration. Evaluate for details.");
+    StringWriter stringWriter = new StringWriter();
+    toXML(stringWriter, true);
+    return stringWriter.toString();
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to a character stream.
+   * <p>
+   * The SSRF instance is prepared and validated as described in
+   * {@link #toXML()}. Nothing is written if the instance does not validate. The
+   * writer is flushed but NOT closed.
+   * <p>
+   * @param writer    the output character stream
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toXML(Writer writer, boolean formatted) throws Exception {
+    toXML(writer, formatted, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to a character stream
+   * using the indicated XML binding engine.
+   * <p>
+   * See {@link #toXML(Writer, boolean)}. The engine applies to this call only.
+   * <p>
+   * @param writer    the output character stream
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @param binding   the XML binding engine
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toXML(Writer writer, boolean formatted, EXmlBinding binding) throws Exception {
+    exportPrepare();
+    SSRFUtility.marshal(this, writer, formatted, binding);
+  }
+
+  /**
+   * Export this SSRF source instance as a UTF-8 encoded XML document to a byte
+   * stream.
+   * <p>
+   * The SSRF instance is prepared and validated as described in
+   * {@link #toXML()}. Nothing is written if the instance does not validate. The
+   * output stream is flushed but NOT closed.
+   * <p>
+   * @param outputStream the output byte stream
+   * @param formatted    TRUE to add newlines and indentation to the output
+   *                     (pretty print). FALSE for a compact output.
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toXML(OutputStream outputStream, boolean formatted) throws Exception {
+    toXML(outputStream, formatted, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Export this SSRF source instance as a UTF-8 encoded XML document to a byte
+   * stream using the indicated XML binding engine.
+   * <p>
+   * See {@link #toXML(OutputStream, boolean)}. The engine applies to this call
+   * only.
+   * <p>
+   * @param outputStream the output byte stream
+   * @param formatted    TRUE to add newlines and indentation to the output
+   *                     (pretty print). FALSE for a compact output.
+   * @param binding      the XML binding engine
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toXML(OutputStream outputStream, boolean formatted, EXmlBinding binding) throws Exception {
+    exportPrepare();
+    SSRFUtility.marshal(this, outputStream, formatted, binding);
+  }
+
+  /**
+   * Export this SSRF source instance as a UTF-8 encoded XML document to a byte
+   * channel (e.g. a {@link java.nio.channels.FileChannel}).
+   * <p>
+   * The SSRF instance is prepared and validated as described in
+   * {@link #toXML()}. Nothing is written if the instance does not validate. The
+   * channel is NOT closed.
+   * <p>
+   * @param channel   the output byte channel
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toXML(WritableByteChannel channel, boolean formatted) throws Exception {
+    exportPrepare();
+    SSRFUtility.marshal(this, channel, formatted);
+  }
+
+  /**
+   * Export this SSRF source instance as a UTF-8 encoded XML document file.
+   * <p>
+   * The SSRF instance is prepared and validated as described in
+   * {@link #toXML()}. The file is not created if the instance does not
+   * validate; otherwise the file is created or truncated.
+   * <p>
+   * @param path      the output file path
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toXML(Path path, boolean formatted) throws Exception {
+    exportPrepare();
+    SSRFUtility.marshal(this, path, formatted);
+  }
+
+  /**
+   * Internal method to prepare and validate this SSRF instance for export.
+   * <p>
+   * Properties, prepare() and validation are applied in a single traversal of
+   * the SSRF class tree (see {@link SSRFUtility#assemble(SSRF, SSRFProperties)}).
+   * This completes before anything is written, so an invalid configuration
+   * produces no output.
+   * <p>
+   * @throws Exception If this SSRF configuration fails to validate. The
+   *                   validation error is attached as the cause.
+   */
+  private void exportPrepare() throws Exception {
+    try {
+      SSRFUtility.assemble(this, ssrfProperties);
+    } catch (Exception exception) {
+      throw new Exception("Invalid SSRF configuration. Evaluate for details.", exception);
     }
   }
 
@@ -198,25 +350,16 @@ public class SSRF extends SchemaRoot<SSRF> {
    * It is expected that this method will only be called on the top-level SSRF
    * class. However it will just as easily validate any SSRF data type.
    * <p>
-   * If the object instance is NOT valid then call {@link #evaluate(Object)} to
-   * re-inspect the SSRF object instance and retrieve a list of specific
-   * validation errors.
+   * Validation stops at the first error and does not throw. If the object
+   * instance is NOT valid then call {@link #evaluate(SSRFValidationResult)} to
+   * retrieve the specific validation errors. To re-validate only the datasets
+   * changed since a previous validation use a {@link SSRFChangeTracker}.
    * <p>
    * @return TRUE the object instance validates OK; otherwise FALSE.
    * @since 3.1.0
    */
   public boolean isValid() {
-    try {
-      /**
-       * Call assemble() twice to add parameters and then to add metadata (if
-       * configured) to those parameters.
-       */
-      assemble();
-      SSRFUtility.validate(this);
-      return true;
-    } catch (Exception exception) {
-      return false;
-    }
+    return SSRFUtility.assemble(this, ssrfProperties, new SSRFValidationResult(EValidationMode.FAIL_FAST, 1)).isValid();
   }
 
   /**
@@ -239,8 +382,67 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @since 3.1.0
    */
   public Set<String> evaluate() {
-    assemble();
+    SSRFUtility.assembleOnly(this, ssrfProperties);
     return SSRFUtility.evaluate(this);
+  }
+
+  /**
+   * Evaluate a SSRF Object instance; record each configuration error in a
+   * structured validation result.
+   * <p>
+   * The SSRF instance is assembled (properties applied and prepared) and
+   * validated in a single traversal, as for {@link #isValid()}. No Exception is
+   * thrown; the violations are recorded in the validation result according to
+   * its mode (see {@link SSRFValidationResult}).
+   * <p>
+   * @param result the validation result to record violations into
+   * @return the validation result, to support method chaining
+   * @since 3.1.0
+   */
+  public SSRFValidationResult evaluate(SSRFValidationResult result) {
+    return SSRFUtility.assemble(this, ssrfProperties, result);
+  }
+
+  /**
+   * Evaluate a SSRF Object instance in parallel; record each configuration
+   * error in a structured validation result.
+   * <p>
+   * The SSRF instance is first assembled (properties applied and prepared) on
+   * the calling thread, by the same traversal as
+   * {@link #evaluate(SSRFValidationResult)} but without validation, then the
+   * top-level datasets are validated in parallel on the indicated executor
+   * (see {@link SSRFParallelValidator}). The violations are merged in
+   * traversal order.
+   * <p>
+   * @param result   the validation result to record violations into
+   * @param executor the executor on which to validate the datasets. Null to
+   *                 use the shared fork/join pool of the
+   *                 {@link SSRFParallelValidator}.
+   * @return the validation result, to support method chaining
+   * @since 3.1.0
+   */
+  public SSRFValidationResult evaluate(SSRFValidationResult result, Executor executor) {
+    SSRFUtility.assembleOnly(this, ssrfProperties);
+    return executor != null
+           ? SSRFParallelValidator.evaluate(this, result, executor)
+           : SSRFParallelValidator.evaluate(this, result);
+  }
+
+  /**
+   * Validate a SSRF Object instance in parallel.
+   * <p>
+   * This method is equivalent to {@link #isValid()} but validates the
+   * top-level datasets in parallel on the indicated executor. Validation stops
+   * at the first error and does not throw.
+   * <p>
+   * @param executor the executor on which to validate the datasets. Null to
+   *                 use the shared fork/join pool of the
+   *                 {@link SSRFParallelValidator}.
+   * @return TRUE the object instance validates OK; otherwise FALSE.
+   * @since 3.1.0
+   */
+  public boolean isValid(Executor executor) {
+    return evaluate(new SSRFValidationResult(EValidationMode.FAIL_FAST, 1), executor).isValid();
   }//</editor-fold>
 
   //<editor-fold defaultstate="collapsed" desc="Import from XML">
@@ -278,6 +480,205 @@ public class SSRF extends SchemaRoot<SSRF> {
     SSRF ssrf = SSRFUtility.unmarshal(xml, SSRF.class);
     SSRFUtility.postLoad(ssrf);
     return ssrf;
+  }
+
+  /**
+   * Standard method to get a fully qualified class instance from an XML byte
+   * stream.
+   * <p>
+   * This is a shortcut to {@link #fromXml(InputStream)}
+   * <p>
+   * @param inputStream A SSRF XML document byte stream
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF getInstance(InputStream inputStream) throws Exception {
+    return fromXml(inputStream);
+  }
+
+  /**
+   * Standard method to get a fully qualified class instance from an XML file.
+   * <p>
+   * This is a shortcut to {@link #fromXml(Path)}
+   * <p>
+   * @param path A SSRF XML document file path
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF getInstance(Path path) throws Exception {
+    return fromXml(path);
+  }
+
+  /**
+   * Parse an import an XML character stream into a SSRF object hierarchy.
+   * <p>
+   * See {@link #fromXml(String)}. The reader is NOT closed.
+   * <p>
+   * @param reader A SSRF XML document character stream
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(Reader reader) throws Exception {
+    return fromXml(reader, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Parse an import an XML character stream into a SSRF object hierarchy using
+   * the indicated XML binding engine.
+   * <p>
+   * See {@link #fromXml(String)}. The engine applies to this call only. The
+   * reader is NOT closed.
+   * <p>
+   * @param reader  A SSRF XML document character stream
+   * @param binding the XML binding engine
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(Reader reader, EXmlBinding binding) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(reader, SSRF.class, binding));
+  }
+
+  /**
+   * Parse an import an XML byte stream into a SSRF object hierarchy. The
+   * character encoding is determined from the XML declaration.
+   * <p>
+   * See {@link #fromXml(String)}. The input stream is NOT closed.
+   * <p>
+   * @param inputStream A SSRF XML document byte stream
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(InputStream inputStream) throws Exception {
+    return fromXml(inputStream, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Parse an import an XML byte stream into a SSRF object hierarchy using the
+   * indicated XML binding engine. The character encoding is determined from the
+   * XML declaration.
+   * <p>
+   * See {@link #fromXml(String)}. The engine applies to this call only. The
+   * input stream is NOT closed.
+   * <p>
+   * @param inputStream A SSRF XML document byte stream
+   * @param binding     the XML binding engine
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(InputStream inputStream, EXmlBinding binding) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(inputStream, SSRF.class, binding));
+  }
+
+  /**
+   * Parse an import an XML byte channel (e.g. a
+   * {@link java.nio.channels.FileChannel}) into a SSRF object hierarchy.
+   * <p>
+   * See {@link #fromXml(String)}. The channel is NOT closed.
+   * <p>
+   * @param channel A SSRF XML document byte channel
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(ReadableByteChannel channel) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(channel, SSRF.class));
+  }
+
+  /**
+   * Parse an import an XML file into a SSRF object hierarchy. The file is
+   * streamed directly to the parser.
+   * <p>
+   * See {@link #fromXml(String)}.
+   * <p>
+   * @param path A SSRF XML document file path
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(Path path) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(path, SSRF.class));
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Binary Import and Export">
+  /**
+   * Export this SSRF source instance in the compact binary format.
+   * <p>
+   * The SSRF instance is prepared and validated exactly as described in
+   * {@link #toXML()}. The binary form is typically several times smaller and
+   * faster to read and write than XML and is intended for caching and
+   * service-to-service transfer. See {@link SSRFBinaryCodec}.
+   * <p>
+   * @return This SSRF instance as a binary encoded byte array
+   * @throws Exception If this SSRF configuration fails to validate
+   * @since 3.1.0
+   */
+  public byte[] toBinary() throws Exception {
+    exportPrepare();
+    return SSRFBinaryCodec.encode(this);
+  }
+
+  /**
+   * Export this SSRF source instance in the compact binary format to a byte
+   * stream.
+   * <p>
+   * The SSRF instance is prepared and validated as described in
+   * {@link #toXML()}. Nothing is written if the instance does not validate. The
+   * output stream is flushed but NOT closed.
+   * <p>
+   * @param outputStream the output byte stream
+   * @throws Exception If this SSRF configuration fails to validate or cannot be
+   *                   written
+   * @since 3.1.0
+   */
+  public void toBinary(OutputStream outputStream) throws Exception {
+    exportPrepare();
+    SSRFBinaryCodec.encode(this, outputStream);
+  }
+
+  /**
+   * Import a binary encoded SSRF object hierarchy.
+   * <p>
+   * The SSRF software instance is post-loaded exactly as described in
+   * {@link #fromXml(String)}.
+   * <p>
+   * @param bytes A binary encoded SSRF instance, as produced by
+   *              {@link #toBinary()}
+   * @return A SSRF software object instance
+   * @throws Exception If the data is not a binary encoded SSRF instance or was
+   *                   written by an incompatible format version
+   * @since 3.1.0
+   */
+  public static SSRF fromBinary(byte[] bytes) throws Exception {
+    return SSRFUtility.postLoad(SSRFBinaryCodec.decode(bytes, SSRF.class));
+  }
+
+  /**
+   * Import a binary encoded SSRF object hierarchy from a byte stream.
+   * <p>
+   * See {@link #fromBinary(byte[])}. The input stream is NOT closed.
+   * <p>
+   * @param inputStream A binary encoded SSRF instance byte stream
+   * @return A SSRF software object instance
+   * @throws Exception If the data is not a binary encoded SSRF instance or was
+   *                   written by an incompatible format version
+   * @since 3.1.0
+   */
+  public static SSRF fromBinary(InputStream inputStream) throws Exception {
+    return SSRFUtility.postLoad(SSRFBinaryCodec.decode(inputStream, SSRF.class));
   }//</editor-fold>
 
 }
@@ -0,0 +1,581 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import us.gov.dod.standard.ssrf._3_0.BandApplication;
+import us.gov.dod.standard.ssrf._3_0.BandUser;
+import us.gov.dod.standard.ssrf._3_0.TOA;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+import us.gov.dod.standard.ssrf._3_0.toa.Allocation;
+import us.gov.dod.standard.ssrf._3_0.toa.Footnote;
+import us.gov.dod.standard.ssrf._3_0.toa.FreqBand;
+
+/**
+ * A compiled, immutable Table of Allocations (TOA) lookup.
+ * <p>
+ * Assignment screening repeatedly asks "which allocations are in force at
+ * frequency f on date d?". The TOA model answers this with nested lists
+ * (TOA / FreqBand / Allocation) that must be scanned for every lookup, and with
+ * footnote, band application and band user references that must be resolved
+ * by index. An allocation table instead compiles the TOA datasets of one
+ * administration into:
+ * <ul>
+ * <li>the sorted, distinct band boundary frequencies. The frequency axis is
+ * divided into elementary segments: each boundary frequency and each open
+ * range between two consecutive boundaries. A frequency is located by binary
+ * search.</li>
+ * <li>for each segment, the sorted dates on which any of its allocations
+ * becomes effective or expires, and the (pre-computed, shared) list of
+ * allocations in force between each pair of consecutive dates. A date is
+ * located by binary search.</li>
+ * </ul>
+ * A lookup therefore performs two binary searches and returns a shared list;
+ * it does not allocate.
+ * <p>
+ * Each {@link Entry} of a lookup result carries its band and allocation
+ * together with the resolved Footnote, BandApplication and BandUser instances
+ * referenced (by idx) from the allocation and its band.
+ * <p>
+ * Developer note: An allocation is in force from the later of its own and its
+ * TOA effective date (inclusive) until the earlier of its own and its TOA
+ * expiration date (exclusive). A missing date is unbounded. A band with no
+ * FreqMax covers the single frequency FreqMin, and a frequency on the boundary
+ * of two bands is in both. The table is a snapshot of the TOA datasets: it
+ * must be compiled again after they are modified. Tables are immutable and may
+ * be shared by threads.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public final class SSRFAllocationTable {
+
+  /**
+   * The administration of the compiled TOA datasets. May be null.
+   */
+  private final String administration;
+  /**
+   * The sorted, distinct band boundary frequencies (MHz).
+   */
+  private final double[] bounds;
+  /**
+   * The dates (milliseconds) on which the allocations of each segment change.
+   * Segment 2i is the frequency bounds[i]; segment 2i+1 is the open range
+   * (bounds[i], bounds[i+1]).
+   */
+  private final long[][] changes;
+  /**
+   * The allocations of each segment in force between each pair of consecutive
+   * change dates. Slice 0 is before the first change date.
+   */
+  private final List<Entry>[][] slices;
+  /**
+   * All allocations of each segment, regardless of date.
+   */
+  private final List<Entry>[] entries;
+
+  /**
+   * Compile the TOA datasets of an administration into a new allocation
+   * table.
+   * <p>
+   * @param administration the administration. May be null.
+   * @param toas           the TOA datasets of the administration
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public SSRFAllocationTable(String administration, Collection<TOA> toas) {
+    this.administration = administration;
+    /**
+     * Read the allocations and the band boundaries.
+     */
+    List<Entry> list = new ArrayList<>();
+    TreeSet<Double> boundarySet = new TreeSet<>();
+    for (TOA toa : toas) {
+      read(toa, list);
+    }
+    for (Entry entry : list) {
+      boundarySet.add(entry.freqMin);
+      boundarySet.add(entry.freqMax);
+    }
+    bounds = new double[boundarySet.size()];
+    int i = 0;
+    for (Double bound : boundarySet) {
+      bounds[i++] = bound;
+    }
+    /**
+     * Add each allocation to every segment of its band, in document order.
+     */
+    int segmentCount = Math.max(0, 2 * bounds.length - 1);
+    List<Entry>[] segments = new List[segmentCount];
+    for (Entry entry : list) {
+      int last = 2 * Arrays.binarySearch(bounds, entry.freqMax);
+      for (int segment = 2 * Arrays.binarySearch(bounds, entry.freqMin); segment <= last; segment++) {
+        if (segments[segment] == null) {
+          segments[segment] = new ArrayList<>();
+        }
+        segments[segment].add(entry);
+      }
+    }
+    /**
+     * Resolve the as-of view of each segment.
+     */
+    changes = new long[segmentCount][];
+    slices = new List[segmentCount][];
+    entries = new List[segmentCount];
+    for (int segment = 0; segment < segmentCount; segment++) {
+      List<Entry> segmentEntries = segments[segment] != null ? segments[segment] : Collections.<Entry>emptyList();
+      entries[segment] = Collections.unmodifiableList(segmentEntries);
+      TreeSet<Long> dates = new TreeSet<>();
+      for (Entry entry : segmentEntries) {
+        if (entry.effective != Long.MIN_VALUE) {
+          dates.add(entry.effective);
+        }
+        if (entry.expiration != Long.MAX_VALUE) {
+          dates.add(entry.expiration);
+        }
+      }
+      changes[segment] = new long[dates.size()];
+      slices[segment] = new List[dates.size() + 1];
+      slices[segment][0] = inForce(segmentEntries, Long.MIN_VALUE);
+      int slice = 0;
+      for (Long date : dates) {
+        changes[segment][slice++] = date;
+        slices[segment][slice] = inForce(segmentEntries, date);
+      }
+    }
+  }
+
+  /**
+   * Compile the TOA datasets of a SSRF instance into an allocation table per
+   * administration.
+   * <p>
+   * @param ssrf the SSRF instance
+   * @return a non-null map of allocation tables keyed by administration, in
+   *         order of first appearance. TOA datasets with no administration are
+   *         keyed by null.
+   */
+  public static Map<String, SSRFAllocationTable> compile(SSRF ssrf) {
+    Map<String, List<TOA>> byAdministration = new LinkedHashMap<>();
+    for (TOA toa : ssrf.getTOA()) {
+      String key = toa.isSetAdministration() ? toa.getAdministration().getValue() : null;
+      List<TOA> toas = byAdministration.get(key);
+      if (toas == null) {
+        toas = new ArrayList<>();
+        byAdministration.put(key, toas);
+      }
+      toas.add(toa);
+    }
+    Map<String, SSRFAllocationTable> tables = new LinkedHashMap<>();
+    for (Map.Entry<String, List<TOA>> entry : byAdministration.entrySet()) {
+      tables.put(entry.getKey(), new SSRFAllocationTable(entry.getKey(), entry.getValue()));
+    }
+    return tables;
+  }
+
+  /**
+   * An allocation in a frequency band, with its references resolved.
+   */
+  public static final class Entry {
+
+    /**
+     * The TOA dataset.
+     */
+    private final TOA toa;
+    /**
+     * The frequency band.
+     */
+    private final FreqBand freqBand;
+    /**
+     * The allocation.
+     */
+    private final Allocation allocation;
+    /**
+     * The band minimum frequency (MHz).
+     */
+    private final double freqMin;
+    /**
+     * The band maximum frequency (MHz).
+     */
+    private final double freqMax;
+    /**
+     * The effective date (milliseconds, inclusive).
+     */
+    private final long effective;
+    /**
+     * The expiration date (milliseconds, exclusive).
+     */
+    private final long expiration;
+    /**
+     * The allocation footnotes.
+     */
+    private final List<Footnote> footnotes;
+    /**
+     * The frequency band footnotes.
+     */
+    private final List<Footnote> bandFootnotes;
+    /**
+     * The allocation band applications.
+     */
+    private final List<BandApplication> bandApplications;
+    /**
+     * The allocation band users.
+     */
+    private final List<BandUser> bandUsers;
+
+    private Entry(TOA toa,
+                  FreqBand freqBand,
+                  Allocation allocation,
+                  double freqMin,
+                  double freqMax,
+                  long effective,
+                  long expiration,
+                  List<Footnote> footnotes,
+                  List<Footnote> bandFootnotes,
+                  List<BandApplication> bandApplications,
+                  List<BandUser> bandUsers) {
+      this.toa = toa;
+      this.freqBand = freqBand;
+      this.allocation = allocation;
+      this.freqMin = freqMin;
+      this.freqMax = freqMax;
+      this.effective = effective;
+      this.expiration = expiration;
+      this.footnotes = footnotes;
+      this.bandFootnotes = bandFootnotes;
+      this.bandApplications = bandApplications;
+      this.bandUsers = bandUsers;
+    }
+
+    /**
+     * Get the TOA dataset containing the allocation.
+     * <p>
+     * @return the TOA dataset
+     */
+    public TOA getTOA() {
+      return toa;
+    }
+
+    /**
+     * Get the frequency band containing the allocation.
+     * <p>
+     * @return the frequency band
+     */
+    public FreqBand getFreqBand() {
+      return freqBand;
+    }
+
+    /**
+     * Get the allocation.
+     * <p>
+     * @return the allocation
+     */
+    public Allocation getAllocation() {
+      return allocation;
+    }
+
+    /**
+     * Get the band minimum frequency.
+     * <p>
+     * @return the minimum frequency (MHz)
+     */
+    public double getFreqMin() {
+      return freqMin;
+    }
+
+    /**
+     * Get the band maximum frequency.
+     * <p>
+     * @return the maximum frequency (MHz)
+     */
+    public double getFreqMax() {
+      return freqMax;
+    }
+
+    /**
+     * Get the date the allocation comes into force.
+     * <p>
+     * @return the effective date (milliseconds), or Long.MIN_VALUE if
+     *         unbounded
+     */
+    public long getEffective() {
+      return effective;
+    }
+
+    /**
+     * Get the date the allocation expires.
+     * <p>
+     * @return the expiration date (milliseconds), or Long.MAX_VALUE if
+     *         unbounded
+     */
+    public long getExpiration() {
+      return expiration;
+    }
+
+    /**
+     * Get the footnotes referenced by the allocation.
+     * <p>
+     * @return a non-null, unmodifiable list of footnotes
+     */
+    public List<Footnote> getFootnotes() {
+      return footnotes;
+    }
+
+    /**
+     * Get the footnotes referenced by the frequency band.
+     * <p>
+     * @return a non-null, unmodifiable list of footnotes
+     */
+    public List<Footnote> getBandFootnotes() {
+      return bandFootnotes;
+    }
+
+    /**
+     * Get the band applications referenced by the allocation.
+     * <p>
+     * @return a non-null, unmodifiable list of band applications
+     */
+    public List<BandApplication> getBandApplications() {
+      return bandApplications;
+    }
+
+    /**
+     * Get the band users referenced by the allocation.
+     * <p>
+     * @return a non-null, unmodifiable list of band users
+     */
+    public List<BandUser> getBandUsers() {
+      return bandUsers;
+    }
+
+    /**
+     * Determine if the allocation is in force on a date.
+     * <p>
+     * @param time the date (milliseconds)
+     * @return TRUE if the allocation is in force
+     */
+    public boolean isInForce(long time) {
+      return effective <= time && time < expiration;
+    }
+
+    @Override
+    public String toString() {
+      return "[" + freqMin + ", " + freqMax + "] " + allocation.getAllocatedService();
+    }
+  }
+
+  /**
+   * Get the administration of the compiled TOA datasets.
+   * <p>
+   * @return the administration. May be null.
+   */
+  public String getAdministration() {
+    return administration;
+  }
+
+  /**
+   * Find the allocations in force at a frequency on a date.
+   * <p>
+   * @param frequency the frequency (MHz)
+   * @param time      the date (milliseconds)
+   * @return a non-null, unmodifiable (shared) list of allocations, in
+   *         document order
+   */
+  public List<Entry> find(double frequency, long time) {
+    int segment = findSegment(frequency);
+    if (segment < 0) {
+      return Collections.emptyList();
+    }
+    long[] segmentChanges = changes[segment];
+    /**
+     * Find the number of change dates at or before the time: that is the
+     * slice index.
+     */
+    int low = 0, high = segmentChanges.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (segmentChanges[mid] <= time) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return slices[segment][low];
+  }
+
+  /**
+   * Find the allocations in force at a frequency on a date.
+   * <p>
+   * @param frequency the frequency (MHz)
+   * @param date      the date
+   * @return a non-null, unmodifiable (shared) list of allocations, in
+   *         document order
+   */
+  public List<Entry> find(double frequency, Date date) {
+    return find(frequency, date.getTime());
+  }
+
+  /**
+   * Find all allocations at a frequency, regardless of date.
+   * <p>
+   * @param frequency the frequency (MHz)
+   * @return a non-null, unmodifiable (shared) list of allocations, in
+   *         document order
+   */
+  public List<Entry> find(double frequency) {
+    int segment = findSegment(frequency);
+    return segment < 0 ? Collections.<Entry>emptyList() : entries[segment];
+  }
+
+  /**
+   * Internal method to locate the segment containing a frequency.
+   * <p>
+   * @param frequency the frequency
+   * @return the segment index, or -1 if the frequency is outside every band
+   */
+  private int findSegment(double frequency) {
+    int index = Arrays.binarySearch(bounds, frequency);
+    if (index >= 0) {
+      return 2 * index;
+    }
+    int insertion = -index - 1;
+    if (insertion == 0 || insertion == bounds.length) {
+      return -1;
+    }
+    return 2 * insertion - 1;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Compile">
+  /**
+   * Internal method to read the allocations of a TOA dataset.
+   * <p>
+   * @param toa  the TOA dataset
+   * @param list the list to add the allocations to
+   */
+  private static void read(TOA toa, List<Entry> list) {
+    if (!toa.isSetFreqBand()) {
+      return;
+    }
+    /**
+     * Index the footnotes, band applications and band users by idx.
+     */
+    Map<BigInteger, Footnote> footnoteMap = new HashMap<>();
+    if (toa.isSetFootnote()) {
+      for (Footnote footnote : toa.getFootnote()) {
+        footnoteMap.put(footnote.getIdx(), footnote);
+      }
+    }
+    Map<BigInteger, BandApplication> bandApplicationMap = new HashMap<>();
+    if (toa.isSetBandApplication()) {
+      for (BandApplication bandApplication : toa.getBandApplication()) {
+        bandApplicationMap.put(bandApplication.getIdx(), bandApplication);
+      }
+    }
+    Map<BigInteger, BandUser> bandUserMap = new HashMap<>();
+    if (toa.isSetBandUser()) {
+      for (BandUser bandUser : toa.getBandUser()) {
+        bandUserMap.put(bandUser.getIdx(), bandUser);
+      }
+    }
+    long toaEffective = toMillis(toa.getEffectiveDate(), Long.MIN_VALUE);
+    long toaExpiration = toMillis(toa.getExpirationDate(), Long.MAX_VALUE);
+    for (FreqBand freqBand : toa.getFreqBand()) {
+      if (!freqBand.isSetFreqMin() || !freqBand.isSetAllocation()) {
+        continue;
+      }
+      double freqMin = freqBand.getFreqMin().doubleValue();
+      double freqMax = freqBand.isSetFreqMax() ? freqBand.getFreqMax().doubleValue() : freqMin;
+      if (freqMax < freqMin) {
+        double swap = freqMin;
+        freqMin = freqMax;
+        freqMax = swap;
+      }
+      List<Footnote> bandFootnotes = freqBand.isSetFootnotes()
+                                     ? resolve(freqBand.getFootnotes(), footnoteMap)
+                                     : Collections.<Footnote>emptyList();
+      for (Allocation allocation : freqBand.getAllocation()) {
+        list.add(new Entry(toa,
+                           freqBand,
+                           allocation,
+                           freqMin,
+                           freqMax,
+                           Math.max(toaEffective, toMillis(allocation.getEffectiveDate(), Long.MIN_VALUE)),
+                           Math.min(toaExpiration, toMillis(allocation.getExpirationDate(), Long.MAX_VALUE)),
+                           allocation.isSetFootnotes() ? resolve(allocation.getFootnotes(), footnoteMap) : Collections.<Footnote>emptyList(),
+                           bandFootnotes,
+                           allocation.isSetBandApps() ? resolve(allocation.getBandApps(), bandApplicationMap) : Collections.<BandApplication>emptyList(),
+                           allocation.isSetBandUsers() ? resolve(allocation.getBandUsers(), bandUserMap) : Collections.<BandUser>emptyList()));
+      }
+    }
+  }
+
+  /**
+   * Internal method to resolve a list of idx references. Unresolved
+   * references are skipped.
+   * <p>
+   * @param <T>        the referenced type
+   * @param references the idx references
+   * @param map        the referenced instances keyed by idx
+   * @return a non-null, unmodifiable list of referenced instances
+   */
+  private static <T> List<T> resolve(List<BigInteger> references, Map<BigInteger, T> map) {
+    List<T> list = new ArrayList<>(references.size());
+    for (BigInteger reference : references) {
+      T instance = map.get(reference);
+      if (instance != null) {
+        list.add(instance);
+      }
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * Internal method to build the list of allocations in force on a date.
+   * <p>
+   * @param list the segment allocations
+   * @param time the date (milliseconds)
+   * @return a non-null, unmodifiable list of allocations
+   */
+  private static List<Entry> inForce(List<Entry> list, long time) {
+    List<Entry> inForce = new ArrayList<>(list.size());
+    for (Entry entry : list) {
+      if (entry.isInForce(time)) {
+        inForce.add(entry);
+      }
+    }
+    return inForce.isEmpty() ? Collections.<Entry>emptyList() : Collections.unmodifiableList(inForce);
+  }
+
+  /**
+   * Internal method to read a date.
+   * <p>
+   * @param calendar   the date. May be null.
+   * @param otherwise  the value if the date is not set
+   * @return the date (milliseconds)
+   */
+  private static long toMillis(TCalendar calendar, long otherwise) {
+    return calendar != null && calendar.isSetValue() ? calendar.getValue().getTimeInMillis() : otherwise;
+  }//</editor-fold>
+}
@@ -0,0 +1,751 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.annotation.XmlTransient;
+import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
+
+/**
+ * A compact, schema-driven binary codec for SSRF object graphs.
+ * <p>
+ * The binary form carries exactly the state that is bound to XML: every
+ * non-static field of each SSRF data type that is not annotated
+ * {@link XmlTransient}. This includes the {@code value} and all metadata
+ * attributes of the TString, TDecimal, TInteger, TDouble, TSerial and TCalendar
+ * field types. Transient cross-references (e.g. TSerial components and
+ * resolved Role references) are rebuilt by {@link SSRFUtility#postLoad(SSRF)}
+ * exactly as after an XML import.
+ * <p>
+ * The stream is self-describing. Each class, field name and string value is
+ * written in full on first use and thereafter referenced by a table index.
+ * Enumerated values (e.g. the metadata.lists code lists) are written as
+ * ordinals; the constant names of each enum type are written once with the
+ * type descriptor so that a blob written by one library version is decoded by
+ * name (not by ordinal) in another. Fields and enum constants that no longer
+ * exist are ignored on decode. Null fields are not written.
+ * <p>
+ * Stream layout:
+ * <pre>
+ * header  := MAGIC ("SSRB") FORMAT_VERSION (varint)
+ * value   := NULL | STRING ref | DOUBLE 8-bytes | INTEGER bigint
+ *          | DECIMAL scale bigint | CALENDAR millis zone-ref
+ *          | ENUM type-ref ordinal | LIST count value* | SET count value*
+ *          | OBJECT type-ref (field-index+1 value)* 0
+ * ref     := 0 definition | table-index+1
+ * </pre>
+ * <p>
+ * Example:
+ * <pre>
+ * byte[] blob = SSRFBinaryCodec.encode(ssrf);
+ * SSRF copy = SSRFUtility.postLoad(SSRFBinaryCodec.decode(blob, SSRF.class));
+ * </pre>
+ * For SSRF instances prefer {@link SSRF#toBinary()} and
+ * {@link SSRF#fromBinary(byte[])}, which also prepare and post-load the
+ * instance.
+ * <p>
+ * Codec instances are not shared; the static methods are thread-safe.
+ * <p>
+ * Developer note: A blob may come from an untrusted cache or peer, so the
+ * decoder only creates enum constants and instances of classes in the SSRF
+ * package; any other class name is rejected. Counts and lengths read from the
+ * stream are not trusted for allocation: collections and byte arrays grow
+ * only as their content is actually read, so a corrupt or truncated stream
+ * ends with an {@link EOFException}. Values may be nested at most
+ * {@value #MAX_DEPTH} levels deep.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFBinaryCodec {
+
+  /**
+   * "SSRB". The binary stream magic number.
+   */
+  private static final byte[] MAGIC = {'S', 'S', 'R', 'B'};
+  /**
+   * The binary format version written by this codec. Streams with a higher
+   * version are rejected.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  /**
+   * Value tags.
+   */
+  private static final int NULL = 0;
+  private static final int STRING = 1;
+  private static final int DOUBLE = 2;
+  private static final int INTEGER = 3;
+  private static final int DECIMAL = 4;
+  private static final int CALENDAR = 5;
+  private static final int ENUM = 6;
+  private static final int LIST = 7;
+  private static final int SET = 8;
+  private static final int OBJECT = 9;
+
+  /**
+   * 8 KB. The stream buffer size.
+   */
+  private static final int BUFFER_SIZE = 8192;
+  /**
+   * 256. The maximum nesting depth of decoded values.
+   */
+  private static final int MAX_DEPTH = 256;
+  /**
+   * 1,024. The maximum initial capacity allocated for a decoded collection.
+   */
+  private static final int MAX_INITIAL_CAPACITY = 1024;
+  /**
+   * "us.gov.dod.standard.ssrf.". The package prefix of the SSRF object types.
+   */
+  private static final String PACKAGE_PREFIX = SSRFBinaryCodec.class.getPackage().getName() + ".";
+
+  /**
+   * The bound (encoded) fields of each class, in a stable order: superclass
+   * fields first, then declared fields.
+   */
+  private static final ConcurrentMap<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+
+  /**
+   * The string table. Maps each string (value, class or field name) to its
+   * index on encode; lists the strings on decode.
+   */
+  private final Map<String, Integer> stringIndex = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+  /**
+   * The type table. Maps each class to its index on encode; lists the type
+   * descriptors on decode.
+   */
+  private final Map<Class<?>, Integer> typeIndex = new HashMap<>();
+  private final List<TypeDescriptor> types = new ArrayList<>();
+  /**
+   * The data stream. One of these is null.
+   */
+  private final DataOutputStream out;
+  private final DataInputStream in;
+  /**
+   * The nesting depth of the value being decoded.
+   */
+  private int depth;
+
+  /**
+   * Construct a new encoder.
+   * <p>
+   * @param out the data output stream
+   */
+  private SSRFBinaryCodec(DataOutputStream out) {
+    this.out = out;
+    this.in = null;
+  }
+
+  /**
+   * Construct a new decoder.
+   * <p>
+   * @param in the data input stream
+   */
+  private SSRFBinaryCodec(DataInputStream in) {
+    this.out = null;
+    this.in = in;
+  }
+
+  /**
+   * Encode a SSRF object graph to a byte array.
+   * <p>
+   * @param instance the SSRF object instance (typically a {@link SSRF} or
+   *                 {@link us.gov.dod.standard.ssrf._3_0.Common} instance)
+   * @return the binary encoded object graph
+   * @throws IOException if the object graph contains an unsupported type
+   */
+  public static byte[] encode(Object instance) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+    encode(instance, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Encode a SSRF object graph to an output stream. The output stream is
+   * flushed but NOT closed.
+   * <p>
+   * @param instance     the SSRF object instance
+   * @param outputStream the output byte stream
+   * @throws IOException if the output cannot be written or the object graph
+   *                     contains an unsupported type
+   */
+  public static void encode(Object instance, OutputStream outputStream) throws IOException {
+    DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+    dataOutputStream.write(MAGIC);
+    writeVarLong(dataOutputStream, FORMAT_VERSION);
+    new SSRFBinaryCodec(dataOutputStream).writeValue(instance);
+    dataOutputStream.flush();
+  }
+
+  /**
+   * Decode a SSRF object graph from a byte array.
+   * <p>
+   * Note that this method does NOT post-load the object graph. See
+   * {@link SSRF#fromBinary(byte[])}.
+   * <p>
+   * @param <T>   the object type
+   * @param bytes the binary encoded object graph
+   * @param clazz the expected object class type
+   * @return the decoded object instance
+   * @throws IOException if the data is not a valid binary SSRF object graph of
+   *                     the expected type
+   */
+  public static <T> T decode(byte[] bytes, Class<T> clazz) throws IOException {
+    return decode(new ByteArrayInputStream(bytes), clazz);
+  }
+
+  /**
+   * Decode a SSRF object graph from an input stream. The input stream is NOT
+   * closed.
+   * <p>
+   * Note that this method does NOT post-load the object graph. See
+   * {@link SSRF#fromBinary(InputStream)}.
+   * <p>
+   * @param <T>         the object type
+   * @param inputStream the input byte stream
+   * @param clazz       the expected object class type
+   * @return the decoded object instance
+   * @throws IOException if the data is not a valid binary SSRF object graph of
+   *                     the expected type
+   */
+  public static <T> T decode(InputStream inputStream, Class<T> clazz) throws IOException {
+    DataInputStream dataInputStream = new DataInputStream(inputStream instanceof ByteArrayInputStream
+                                                          ? inputStream
+                                                          : new BufferedInputStream(inputStream, BUFFER_SIZE));
+    byte[] magic = new byte[MAGIC.length];
+    dataInputStream.readFully(magic);
+    if (!Arrays.equals(MAGIC, magic)) {
+      throw new IOException("Not a binary SSRF stream.");
+    }
+    long version = readVarLong(dataInputStream);
+    if (version < 1 || version > FORMAT_VERSION) {
+      throw new IOException("Unsupported binary SSRF format version " + version + ". This library supports version " + FORMAT_VERSION + ".");
+    }
+    Object instance = new SSRFBinaryCodec(dataInputStream).readValue();
+    if (!clazz.isInstance(instance)) {
+      throw new IOException("Binary SSRF stream contains " + (instance == null ? "null" : instance.getClass().getSimpleName()) + ", not " + clazz.getSimpleName() + ".");
+    }
+    return clazz.cast(instance);
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Encoder">
+  /**
+   * Write a value.
+   * <p>
+   * @param value the value
+   * @throws IOException if the value cannot be written
+   */
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      out.write(NULL);
+    } else if (value instanceof String) {
+      out.write(STRING);
+      writeString((String) value);
+    } else if (value instanceof Enum) {
+      out.write(ENUM);
+      writeType(((Enum<?>) value).getDeclaringClass());
+      writeVarLong(out, ((Enum<?>) value).ordinal());
+    } else if (value instanceof BigInteger) {
+      out.write(INTEGER);
+      writeBigInteger((BigInteger) value);
+    } else if (value instanceof BigDecimal) {
+      out.write(DECIMAL);
+      writeVarLong(out, zigzag(((BigDecimal) value).scale()));
+      writeBigInteger(((BigDecimal) value).unscaledValue());
+    } else if (value instanceof Double) {
+      out.write(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Calendar) {
+      out.write(CALENDAR);
+      writeVarLong(out, zigzag(((Calendar) value).getTimeInMillis()));
+      writeString(((Calendar) value).getTimeZone().getID());
+    } else if (value instanceof Collection) {
+      Collection<?> collection = (Collection<?>) value;
+      out.write(value instanceof Set ? SET : LIST);
+      writeVarLong(out, collection.size());
+      for (Object object : collection) {
+        writeValue(object);
+      }
+    } else if (value.getClass().getName().startsWith(PACKAGE_PREFIX)) {
+      out.write(OBJECT);
+      Field[] fields = writeType(value.getClass()).fields;
+      for (int i = 0; i < fields.length; i++) {
+        Object fieldValue;
+        try {
+          fieldValue = fields[i].get(value);
+        } catch (IllegalAccessException exception) {
+          throw new IOException(exception);
+        }
+        if (fieldValue != null) {
+          writeVarLong(out, i + 1);
+          writeValue(fieldValue);
+        }
+      }
+      out.write(0);
+    } else {
+      throw new IOException("Unsupported type " + value.getClass().getName() + ".");
+    }
+  }
+
+  /**
+   * Write a string table reference, defining the string on first use.
+   * <p>
+   * @param value the string
+   * @throws IOException if the string cannot be written
+   */
+  private void writeString(String value) throws IOException {
+    Integer index = stringIndex.get(value);
+    if (index != null) {
+      writeVarLong(out, index + 1);
+      return;
+    }
+    stringIndex.put(value, stringIndex.size());
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.write(0);
+    writeVarLong(out, bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Write a type table reference, defining the type on first use. An object
+   * type definition lists its field names; an enum type definition lists its
+   * constant names.
+   * <p>
+   * @param clazz the class type
+   * @return the type descriptor
+   * @throws IOException if the type cannot be written
+   */
+  private TypeDescriptor writeType(Class<?> clazz) throws IOException {
+    Integer index = typeIndex.get(clazz);
+    if (index != null) {
+      writeVarLong(out, index + 1);
+      return types.get(index);
+    }
+    TypeDescriptor descriptor = new TypeDescriptor(clazz, clazz.isEnum() ? null : getFields(clazz), null);
+    typeIndex.put(clazz, types.size());
+    types.add(descriptor);
+    out.write(0);
+    writeString(clazz.getName());
+    if (clazz.isEnum()) {
+      Object[] constants = clazz.getEnumConstants();
+      writeVarLong(out, constants.length);
+      for (Object constant : constants) {
+        writeString(((Enum<?>) constant).name());
+      }
+    } else {
+      writeVarLong(out, descriptor.fields.length);
+      for (Field field : descriptor.fields) {
+        writeString(field.getName());
+      }
+    }
+    return descriptor;
+  }
+
+  /**
+   * Write a BigInteger. Values that fit in a long are written as a zigzag
+   * variable-length integer; larger values as two's-complement bytes.
+   * <p>
+   * @param value the value
+   * @throws IOException if the value cannot be written
+   */
+  private void writeBigInteger(BigInteger value) throws IOException {
+    if (value.bitLength() < 64) {
+      out.write(0);
+      writeVarLong(out, zigzag(value.longValue()));
+    } else {
+      byte[] bytes = value.toByteArray();
+      writeVarLong(out, bytes.length);
+      out.write(bytes);
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Decoder">
+  /**
+   * Read a value.
+   * <p>
+   * @return the value. Null if the value is null or its type no longer exists.
+   * @throws IOException if the stream is invalid
+   */
+  private Object readValue() throws IOException {
+    if (++depth > MAX_DEPTH) {
+      throw new IOException("Invalid binary SSRF stream: values nested more than " + MAX_DEPTH + " levels deep.");
+    }
+    try {
+      return readValue(in.readUnsignedByte());
+    } finally {
+      depth--;
+    }
+  }
+
+  /**
+   * Read the content of a value.
+   * <p>
+   * @param tag the value tag
+   * @return the value. Null if the value is null or its type no longer exists.
+   * @throws IOException if the stream is invalid
+   */
+  private Object readValue(int tag) throws IOException {
+    switch (tag) {
+      case NULL:
+        return null;
+      case STRING:
+        return readString();
+      case DOUBLE:
+        return in.readDouble();
+      case INTEGER:
+        return readBigInteger();
+      case DECIMAL:
+        int scale = (int) unzigzag(readVarLong(in));
+        return new BigDecimal(readBigInteger(), scale);
+      case CALENDAR:
+        long millis = unzigzag(readVarLong(in));
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(readString()));
+        calendar.setTimeInMillis(millis);
+        return calendar;
+      case ENUM:
+        Object[] constants = readType().constants;
+        int ordinal = readCount();
+        return constants != null && ordinal < constants.length ? constants[ordinal] : null;
+      case LIST:
+      case SET:
+        int count = readCount();
+        Collection<Object> collection = tag == SET ? new HashSet<>() : new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; i++) {
+          collection.add(readValue());
+        }
+        return collection;
+      case OBJECT:
+        TypeDescriptor descriptor = readType();
+        if (descriptor.fields == null) {
+          throw new IOException("Invalid binary SSRF stream: enum type " + descriptor.clazz.getName() + " used as an object.");
+        }
+        return readObject(descriptor);
+      default:
+        throw new IOException("Invalid binary SSRF stream: unknown value tag " + tag + ".");
+    }
+  }
+
+  /**
+   * Read an object. Field values for fields that no longer exist or whose type
+   * has changed are discarded.
+   * <p>
+   * @param descriptor the object type descriptor
+   * @return the object instance. Null if the type no longer exists.
+   * @throws IOException if the stream is invalid or the object cannot be
+   *                     created
+   */
+  private Object readObject(TypeDescriptor descriptor) throws IOException {
+    Object instance = null;
+    if (descriptor.constructor != null) {
+      try {
+        instance = descriptor.constructor.newInstance();
+      } catch (ReflectiveOperationException exception) {
+        throw new IOException("Failed to create " + descriptor.clazz.getName() + ": " + exception.getMessage(), exception);
+      }
+    }
+    for (int index = readCount(); index != 0; index = readCount()) {
+      if (index > descriptor.fields.length) {
+        throw new IOException("Invalid binary SSRF stream: field index " + index + " out of range.");
+      }
+      Object value = readValue();
+      Field field = descriptor.fields[index - 1];
+      if (instance != null && field != null && field.getType().isInstance(value)) {
+        try {
+          field.set(instance, value);
+        } catch (IllegalAccessException exception) {
+          throw new IOException(exception);
+        }
+      }
+    }
+    if (instance instanceof AMetadata) {
+      ((AMetadata<?>) instance).intern();
+    }
+    return instance;
+  }
+
+  /**
+   * Read a string table reference.
+   * <p>
+   * @return the string
+   * @throws IOException if the stream is invalid
+   */
+  private String readString() throws IOException {
+    int index = readCount();
+    if (index > 0) {
+      if (index > strings.size()) {
+        throw new IOException("Invalid binary SSRF stream: string index " + index + " out of range.");
+      }
+      return strings.get(index - 1);
+    }
+    String value = new String(readBytes(readCount()), StandardCharsets.UTF_8);
+    strings.add(value);
+    return value;
+  }
+
+  /**
+   * Read a type table reference. Types, fields and enum constants are resolved
+   * by name against the current class path.
+   * <p>
+   * @return the type descriptor
+   * @throws IOException if the stream is invalid
+   */
+  private TypeDescriptor readType() throws IOException {
+    int index = readCount();
+    if (index > 0) {
+      if (index > types.size()) {
+        throw new IOException("Invalid binary SSRF stream: type index " + index + " out of range.");
+      }
+      return types.get(index - 1);
+    }
+    String className = readString();
+    int count = readCount();
+    List<String> nameList = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+    for (int i = 0; i < count; i++) {
+      nameList.add(readString());
+    }
+    String[] names = nameList.toArray(new String[nameList.size()]);
+    Class<?> clazz;
+    try {
+      clazz = Class.forName(className, false, SSRFBinaryCodec.class.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError exception) {
+      clazz = null;
+    }
+    /**
+     * Only SSRF types are created. Enum types are safe to resolve as only
+     * their existing constants are returned.
+     */
+    if (clazz != null && !clazz.isEnum() && !clazz.getName().startsWith(PACKAGE_PREFIX)) {
+      throw new IOException("Invalid binary SSRF stream: " + className + " is not a SSRF type.");
+    }
+    TypeDescriptor descriptor;
+    if (clazz != null && clazz.isEnum()) {
+      /**
+       * Map the encoded ordinals to the current constants by name.
+       */
+      Object[] constants = new Object[names.length];
+      for (Object constant : clazz.getEnumConstants()) {
+        int i = Arrays.asList(names).indexOf(((Enum<?>) constant).name());
+        if (i >= 0) {
+          constants[i] = constant;
+        }
+      }
+      descriptor = new TypeDescriptor(clazz, null, constants);
+    } else {
+      Field[] fields = new Field[names.length];
+      if (clazz != null) {
+        Map<String, Field> fieldMap = new HashMap<>();
+        for (Field field : getFields(clazz)) {
+          fieldMap.put(field.getName(), field);
+        }
+        for (int i = 0; i < names.length; i++) {
+          fields[i] = fieldMap.get(names[i]);
+        }
+      }
+      descriptor = new TypeDescriptor(clazz, fields, null);
+    }
+    types.add(descriptor);
+    return descriptor;
+  }
+
+  /**
+   * Read a BigInteger.
+   * <p>
+   * @return the value
+   * @throws IOException if the stream is invalid
+   */
+  private BigInteger readBigInteger() throws IOException {
+    int length = readCount();
+    if (length == 0) {
+      return BigInteger.valueOf(unzigzag(readVarLong(in)));
+    }
+    return new BigInteger(readBytes(length));
+  }
+
+  /**
+   * Read a byte array. A long array is read in blocks so that the memory
+   * allocated never exceeds the data actually present in the stream.
+   * <p>
+   * @param length the array length
+   * @return the bytes
+   * @throws IOException if the stream ends before the array is read
+   */
+  private byte[] readBytes(int length) throws IOException {
+    if (length <= BUFFER_SIZE) {
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return bytes;
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+    byte[] buffer = new byte[BUFFER_SIZE];
+    for (int remaining = length; remaining > 0; remaining -= buffer.length) {
+      int block = Math.min(remaining, buffer.length);
+      in.readFully(buffer, 0, block);
+      outputStream.write(buffer, 0, block);
+    }
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Read a non-negative count or index.
+   * <p>
+   * @return the value
+   * @throws IOException if the stream is invalid
+   */
+  private int readCount() throws IOException {
+    long value = readVarLong(in);
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new IOException("Invalid binary SSRF stream: count " + value + " out of range.");
+    }
+    return (int) value;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Static Utilities">
+  /**
+   * Get the bound fields of a class type: all non-static, non-transient fields
+   * not annotated {@link XmlTransient}, superclass fields first. The fields are
+   * made accessible.
+   * <p>
+   * @param clazz the class type
+   * @return the bound fields
+   */
+  private static Field[] getFields(Class<?> clazz) {
+    Field[] fields = FIELDS.get(clazz);
+    if (fields == null) {
+      Deque<Class<?>> hierarchy = new ArrayDeque<>();
+      for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+        hierarchy.push(type);
+      }
+      List<Field> fieldList = new ArrayList<>();
+      for (Class<?> type : hierarchy) {
+        for (Field field : type.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())
+            && !Modifier.isTransient(field.getModifiers())
+            && !field.isSynthetic()
+            && !field.isAnnotationPresent(XmlTransient.class)) {
+            field.setAccessible(true);
+            fieldList.add(field);
+          }
+        }
+      }
+      fields = fieldList.toArray(new Field[fieldList.size()]);
+      FIELDS.putIfAbsent(clazz, fields);
+    }
+    return fields;
+  }
+
+  /**
+   * Write an unsigned variable-length integer (7 bits per byte, least
+   * significant group first).
+   * <p>
+   * @param out   the output stream
+   * @param value the value, treated as unsigned
+   * @throws IOException if the value cannot be written
+   */
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  /**
+   * Read an unsigned variable-length integer.
+   * <p>
+   * @param in the input stream
+   * @return the value
+   * @throws IOException if the stream is invalid
+   */
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Invalid binary SSRF stream: malformed variable-length integer.");
+  }
+
+  /**
+   * ZigZag encode a signed value so that small magnitudes encode compactly.
+   */
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * ZigZag decode a signed value.
+   */
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }//</editor-fold>
+
+  /**
+   * A type table entry.
+   */
+  private static class TypeDescriptor {
+
+    /**
+     * The class type. Null on decode if the class no longer exists.
+     */
+    private final Class<?> clazz;
+    /**
+     * The object fields in encoded order. Null for enum types. On decode an
+     * element is null if the field no longer exists.
+     */
+    private final Field[] fields;
+    /**
+     * The enum constants in encoded ordinal order. Decode only.
+     */
+    private final Object[] constants;
+    /**
+     * The no-argument constructor. Decode only; null if the class no longer
+     * exists.
+     */
+    private final Constructor<?> constructor;
+
+    public TypeDescriptor(Class<?> clazz, Field[] fields, Object[] constants) throws IOException {
+      this.clazz = clazz;
+      this.fields = fields;
+      this.constants = constants;
+      Constructor<?> noArgConstructor = null;
+      if (clazz != null && fields != null && !Modifier.isAbstract(clazz.getModifiers())) {
+        try {
+          noArgConstructor = clazz.getDeclaredConstructor();
+          noArgConstructor.setAccessible(true);
+        } catch (NoSuchMethodException exception) {
+          throw new IOException(clazz.getName() + " has no zero argument constructor.", exception);
+        }
+      }
+      this.constructor = noArgConstructor;
+    }
+  }
+
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf.SSRFParallelValidator.Unit;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * An incremental SSRF validator.
+ * <p>
+ * Validating a large SSRF instance after each small edit re-validates every
+ * dataset. A change tracker instead retains the validation result of each
+ * top-level dataset (Assignment, Transmitter, Location, etc.) and only
+ * re-validates the datasets that have changed since the previous evaluation.
+ * The cached and fresh dataset results are merged in traversal order, so the
+ * result is identical to
+ * {@link SSRFUtility#evaluate(Object, SSRFValidationResult)}.
+ * <p>
+ * Changes are detected through the model setters: every {@code set},
+ * {@code unset} and {@code with} method calls {@link #touch(Object)}, which
+ * marks the dataset containing the modified instance as changed in each active
+ * tracker. Touch is a no-op when no tracker is active.
+ * <p>
+ * Example:
+ * <pre>
+ * try (SSRFChangeTracker tracker = SSRFChangeTracker.track(ssrf)) {
+ *   tracker.evaluate(new SSRFValidationResult());  // validates all datasets
+ *   ssrf.getLocation().get(0).setName(new TString("Hill 12"));
+ *   tracker.evaluate(new SSRFValidationResult());  // re-validates one Location
+ * }
+ * </pre>
+ * <p>
+ * Developer note: Collections returned by the model getters are live.
+ * Modifying them directly (e.g. {@code getPoint().add(point)}) bypasses the
+ * setters and is NOT detected; call {@link #invalidate(Object)} with the
+ * modified instance after such a change. The tracker validates the instance
+ * as-is: unlike {@link SSRF#isValid()} it does not assemble (apply properties
+ * and prepare) the instance. A tracker retains the tracked instance and should
+ * be closed when no longer needed; active trackers are held weakly, so a
+ * tracker that is dropped without being closed stops receiving notifications
+ * once it is garbage collected.
+ * <p>
+ * Notifications do not lock the tracker: the ownership of each instance is
+ * read from a concurrent map, so setters are not blocked while a long
+ * {@link #evaluate(SSRFValidationResult)} is running. A change made during an
+ * evaluation is detected by the next evaluation.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFChangeTracker implements AutoCloseable {
+
+  /**
+   * The active trackers, held weakly. Replaced (copy on write) when a tracker
+   * is opened or closed so that {@link #touch(Object)} reads it without
+   * locking.
+   */
+  private static volatile Registration[] trackers = new Registration[0];
+
+  /**
+   * The owner of instances that are shared by more than one dataset. A change
+   * to a shared instance invalidates all datasets.
+   */
+  private static final Object SHARED = new Object();
+
+  /**
+   * The tracked (root) instance.
+   */
+  private final Object rootInstance;
+  /**
+   * The top-level dataset (unit value) containing each visited instance. Read
+   * without locking by {@link #invalidate(Object)}.
+   */
+  private final ConcurrentMap<Key, Object> owners;
+  /**
+   * The cached validation result of each top-level dataset (unit value).
+   */
+  private final Map<Object, Entry> cache;
+  /**
+   * The top-level datasets (unit values) changed since they were validated.
+   * Updated without locking by {@link #invalidate(Object)}.
+   */
+  private final Set<Key> dirty;
+  /**
+   * Indicator that an instance shared by more than one dataset has changed, so
+   * that all cached results must be discarded before the next evaluation.
+   */
+  private volatile boolean stale;
+  /**
+   * The validation mode of the cached results.
+   */
+  private EValidationMode mode;
+  /**
+   * The maximum number of violations of the cached results.
+   */
+  private int maxViolations;
+  /**
+   * The root classification when the results were cached.
+   */
+  private ListCCL cls;
+  /**
+   * The root serial when the results were cached.
+   */
+  private Object serial;
+
+  /**
+   * The cached validation result of a top-level dataset.
+   */
+  private static class Entry {
+
+    /**
+     * The root field containing the dataset.
+     */
+    private final FieldDescriptor field;
+    /**
+     * The dataset collection entry index, or -1 for a single-valued field.
+     */
+    private final int index;
+    /**
+     * The (compacted) validation result of the dataset.
+     */
+    private final SSRFValidationResult fork;
+    /**
+     * The instances visited when validating the dataset.
+     */
+    private final List<Object> visited;
+
+    public Entry(FieldDescriptor field, int index, SSRFValidationResult fork, List<Object> visited) {
+      this.field = field;
+      this.index = index;
+      this.fork = fork;
+      this.visited = visited;
+    }
+  }
+
+  /**
+   * An active tracker registration.
+   */
+  private static final class Registration extends WeakReference<SSRFChangeTracker> {
+
+    private Registration(SSRFChangeTracker tracker) {
+      super(tracker);
+    }
+  }
+
+  /**
+   * An identity map key. {@code IdentityHashMap} is not thread safe, so the
+   * maps read without locking are concurrent maps of identity keys.
+   */
+  private static final class Key {
+
+    /**
+     * The key instance.
+     */
+    private final Object instance;
+
+    private Key(Object instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(instance);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Key && ((Key) obj).instance == instance;
+    }
+  }
+
+  /**
+   * Construct a new change tracker. Use {@link #track(Object)}.
+   * <p>
+   * @param rootInstance the tracked instance
+   */
+  private SSRFChangeTracker(Object rootInstance) {
+    this.rootInstance = rootInstance;
+    this.owners = new ConcurrentHashMap<>();
+    this.cache = new IdentityHashMap<>();
+    this.dirty = Collections.newSetFromMap(new ConcurrentHashMap<Key, Boolean>());
+  }
+
+  /**
+   * Start tracking changes to a SSRF Object instance.
+   * <p>
+   * @param rootInstance the object instance to track (typically a SSRF
+   *                     instance)
+   * @return a new, active change tracker. The tracker should be closed when
+   *         no longer needed.
+   */
+  public static SSRFChangeTracker track(Object rootInstance) {
+    SSRFChangeTracker tracker = new SSRFChangeTracker(Objects.requireNonNull(rootInstance, "Tracked instance is required."));
+    register(new Registration(tracker), null);
+    return tracker;
+  }
+
+  /**
+   * Stop tracking changes and release the cached validation results.
+   */
+  @Override
+  public void close() {
+    register(null, this);
+    invalidateAll();
+  }
+
+  /**
+   * Notify the active trackers and the open {@link SSRFValidityIndex} indexes
+   * that an SSRF object instance has been modified. Called by the model
+   * setters.
+   * <p>
+   * @param instance the modified instance
+   */
+  public static void touch(Object instance) {
+    boolean cleared = false;
+    for (Registration registration : trackers) {
+      SSRFChangeTracker tracker = registration.get();
+      if (tracker != null) {
+        tracker.invalidate(instance);
+      } else {
+        cleared = true;
+      }
+    }
+    if (cleared) {
+      register(null, null);
+    }
+    SSRFValidityIndex.touch(instance);
+  }
+
+  /**
+   * Internal method to update the active trackers. Trackers that have been
+   * garbage collected are also removed.
+   * <p>
+   * @param registration the registration to add. May be null.
+   * @param tracker      the tracker to remove. May be null.
+   */
+  private static synchronized void register(Registration registration, SSRFChangeTracker tracker) {
+    List<Registration> active = new ArrayList<>(trackers.length + 1);
+    for (Registration existing : trackers) {
+      SSRFChangeTracker referent = existing.get();
+      if (referent != null && referent != tracker) {
+        active.add(existing);
+      }
+    }
+    if (registration != null) {
+      active.add(registration);
+    }
+    trackers = active.toArray(new Registration[active.size()]);
+  }
+
+  /**
+   * Discard the cached validation result of the top-level dataset containing
+   * an instance. The instance is ignored if it has not been validated by this
+   * tracker.
+   * <p>
+   * This method does not lock the tracker and may be called while an
+   * evaluation is running.
+   * <p>
+   * @param instance a modified instance
+   */
+  public void invalidate(Object instance) {
+    if (owners.isEmpty()) {
+      return;
+    }
+    Object owner = owners.get(new Key(instance));
+    if (owner == SHARED) {
+      stale = true;
+    } else if (owner != null) {
+      dirty.add(new Key(owner));
+    }
+  }
+
+  /**
+   * Discard all cached validation results.
+   */
+  public synchronized void invalidateAll() {
+    stale = false;
+    owners.clear();
+    cache.clear();
+    dirty.clear();
+  }
+
+  /**
+   * Determine if the tracked instance is valid. Only the datasets changed since
+   * the previous evaluation are validated.
+   * <p>
+   * @return TRUE if the tracked instance validates OK; otherwise FALSE.
+   */
+  public boolean isValid() {
+    return evaluate(new SSRFValidationResult(EValidationMode.FAIL_FAST, 1)).isValid();
+  }
+
+  /**
+   * Evaluate the tracked instance. Only the datasets changed since the previous
+   * evaluation are validated; the results of the unchanged datasets are
+   * reused.
+   * <p>
+   * @param result the validation result to record violations into
+   * @return the validation result, to support method chaining
+   */
+  public synchronized SSRFValidationResult evaluate(SSRFValidationResult result) {
+    result.begin(rootInstance);
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(rootInstance);
+    if (!descriptor.isInspectable()) {
+      return result;
+    }
+    /**
+     * Set up the root exactly as the sequential traversal does (see
+     * SSRFParallelValidator).
+     */
+    Object rootSerial = descriptor.getSerialField() != null ? descriptor.getSerialField().get(rootInstance) : null;
+    result.setSerial(rootSerial);
+    ListCCL rootCls = null;
+    for (FieldDescriptor field : descriptor.getClsFields()) {
+      rootCls = (ListCCL) field.get(rootInstance);
+    }
+    /**
+     * The cached results depend upon the validation settings and upon the root
+     * classification and serial. Discard them if any has changed, or if a shared
+     * instance has changed.
+     */
+    if (stale
+        || !result.getMode().equals(mode)
+        || result.getMaxViolations() != maxViolations
+        || rootCls != cls
+        || !Objects.equals(rootSerial, serial)) {
+      invalidateAll();
+      mode = result.getMode();
+      maxViolations = result.getMaxViolations();
+      cls = rootCls;
+      serial = rootSerial;
+    }
+    /**
+     * Validate each unit in traversal order, reusing the cached result of each
+     * unchanged dataset.
+     */
+    Set<Object> present = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    for (Unit unit : SSRFParallelValidator.listUnits(rootInstance, descriptor)) {
+      if (result.isComplete()) {
+        break;
+      }
+      if (unit.value == null) {
+        SSRFUtility.inspect(unit.field, null, unit.index, rootCls, result);
+        continue;
+      }
+      present.add(unit.value);
+      Entry entry = cache.get(unit.value);
+      if (entry == null || entry.field != unit.field || entry.index != unit.index || dirty.contains(new Key(unit.value))) {
+        entry = inspect(unit, rootCls, result);
+      }
+      result.merge(entry.fork);
+    }
+    /**
+     * Release the datasets that are no longer present. Datasets not reached in
+     * FAIL_FAST mode are retained.
+     */
+    if (!result.isComplete()) {
+      for (Iterator<Map.Entry<Object, Entry>> iterator = cache.entrySet().iterator(); iterator.hasNext();) {
+        Map.Entry<Object, Entry> cached = iterator.next();
+        if (!present.contains(cached.getKey())) {
+          release(cached.getKey(), cached.getValue());
+          dirty.remove(new Key(cached.getKey()));
+          iterator.remove();
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Internal method to validate a unit into a new cached entry, recording the
+   * instances it contains.
+   * <p>
+   * @param unit   the unit of work
+   * @param cls    the root classification
+   * @param result the validation result (not modified)
+   * @return the new cache entry
+   */
+  private Entry inspect(Unit unit, ListCCL cls, SSRFValidationResult result) {
+    Entry previous = cache.get(unit.value);
+    if (previous != null) {
+      release(unit.value, previous);
+    }
+    /**
+     * Clear the dirty mark before validating so that a change made during the
+     * validation marks the dataset again.
+     */
+    dirty.remove(new Key(unit.value));
+    List<Object> visited = new ArrayList<>();
+    SSRFValidationResult fork = result.fork();
+    fork.setVisited(visited);
+    SSRFUtility.inspect(unit.field, unit.value, unit.index, cls, fork);
+    fork.compact();
+    for (Object instance : visited) {
+      Key key = new Key(instance);
+      Object owner = owners.get(key);
+      owners.put(key, owner == null || owner == unit.value ? unit.value : SHARED);
+    }
+    Entry entry = new Entry(unit.field, unit.index, fork, visited);
+    cache.put(unit.value, entry);
+    return entry;
+  }
+
+  /**
+   * Internal method to forget the owner of the instances recorded for a
+   * dataset.
+   * <p>
+   * @param owner the dataset (unit value)
+   * @param entry the dataset cache entry
+   */
+  private void release(Object owner, Entry entry) {
+    for (Object instance : entry.visited) {
+      Key key = new Key(instance);
+      if (owners.get(key) == owner) {
+        owners.remove(key);
+      }
+    }
+  }
+}
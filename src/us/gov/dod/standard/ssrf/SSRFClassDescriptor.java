@@ -0,0 +1,759 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_0.adapter.XmlAdapterRegistry;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * Cached reflection metadata for a SSRF class type.
+ * <p>
+ * The {@link SSRFUtility} traversals (validate, evaluate, prepare, postLoad and
+ * setProperties) visit every node of a SSRF object tree. Inspecting each node
+ * class with reflection on every visit allocates a new set of Field objects,
+ * repeats the access checks and re-scans the field annotations. This class
+ * performs that inspection once per class and retains the result for the life
+ * of the class (via {@link ClassValue}), so that a full-document traversal
+ * allocates no reflection objects.
+ * <p>
+ * A descriptor holds:
+ * <ul>
+ * <li>the instance (non-static, non-transient) fields of the class,
+ * superclass fields first, each with MethodHandle getter and setter, its
+ * "required" flag, collection flag, WITH setter and (if annotated) the shared
+ * XmlAdapter instance;</li>
+ * <li>the no-argument constructor MethodHandle, if the class has one;</li>
+ * <li>the {@link ListCCL} classification field(s);</li>
+ * <li>the dataset serial number field, if any;</li>
+ * <li>the prepare() and postLoad() MethodHandles, if the class implements
+ * them.</li>
+ * </ul>
+ * <p>
+ * If a compile-time generated {@link SSRFVisitor} exists for the class then
+ * field values are read and written, instances are created and prepare() /
+ * postLoad() are called through it.
+ * Otherwise the reflective MethodHandles are used.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+class SSRFClassDescriptor {
+
+  /**
+   * "us.gov.dod.standard.ssrf". The SSRF top level package.
+   */
+  private static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
+
+  /**
+   * The descriptor cache. The JVM associates each computed descriptor with its
+   * class, so entries are released with the class loader.
+   */
+  private static final ClassValue<SSRFClassDescriptor> DESCRIPTORS = new ClassValue<SSRFClassDescriptor>() {
+
+    @Override
+    protected SSRFClassDescriptor computeValue(Class<?> type) {
+      return new SSRFClassDescriptor(type);
+    }
+  };
+
+  /**
+   * The generic (Object) -&gt; Object getter type.
+   */
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  /**
+   * The generic (Object, Object) -&gt; void setter type.
+   */
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  /**
+   * The generic () -&gt; Object constructor type.
+   */
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+  /**
+   * The generic (Object) -&gt; void prepare()/postLoad() type.
+   */
+  private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, Object.class);
+  /**
+   * The generic (Object, SSRF) -&gt; void postLoad(SSRF) type.
+   */
+  private static final MethodType INVOKE_ROOT_TYPE = MethodType.methodType(void.class, Object.class, SSRF.class);
+
+  /**
+   * The described class type.
+   */
+  private final Class<?> clazz;
+  /**
+   * Indicator that the class should be inspected: it is within the SSRF
+   * package and is not an enumerated type.
+   */
+  private final boolean inspectable;
+  /**
+   * The instance fields, superclass fields first.
+   */
+  private final FieldDescriptor[] fields;
+  /**
+   * The classification (ListCCL) fields.
+   */
+  private final FieldDescriptor[] clsFields;
+  /**
+   * The dataset serial number (TSerial "serial") field. Null if the class is
+   * not a dataset.
+   */
+  private final FieldDescriptor serialField;
+  /**
+   * The public prepare() method. Null if the class is not preparable.
+   */
+  private final MethodHandle prepare;
+  /**
+   * The public postLoad(SSRF) or postLoad() method. Null if the class is not
+   * loadable.
+   */
+  private final MethodHandle postLoad;
+  /**
+   * Indicator that {@link #postLoad} accepts the SSRF root instance.
+   */
+  private final boolean postLoadRoot;
+  /**
+   * The no-argument constructor (of any visibility). Null if the class is
+   * abstract or has no such constructor.
+   */
+  private final MethodHandle constructor;
+  /**
+   * The compile-time generated visitor for this class. Null if none was
+   * generated, in which case fields and methods are accessed reflectively.
+   */
+  private final SSRFVisitor<Object> visitor;
+
+  /**
+   * Inspect a class type.
+   * <p>
+   * @param clazz the class type
+   */
+  private SSRFClassDescriptor(Class<?> clazz) {
+    this.clazz = clazz;
+    String className = clazz.getName();
+    this.inspectable = !clazz.isEnum() && className.startsWith(SSRF_PACKAGE);
+    List<FieldDescriptor> fieldList = new ArrayList<>();
+    List<FieldDescriptor> clsFieldList = new ArrayList<>();
+    FieldDescriptor serialFieldDescriptor = null;
+    if (inspectable) {
+      List<Method> methods = findDeclaredAndInheritedMethods(clazz);
+      List<Class<?>> hierarchy = new ArrayList<>();
+      for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+        /**
+         * Fields declared by a JDK superclass (e.g. the Hashtable fields of
+         * SSRFProperties) are not SSRF data and may not be accessible.
+         */
+        if (type.getName().startsWith(SSRF_PACKAGE)) {
+          hierarchy.add(0, type);
+        }
+      }
+      for (Class<?> type : hierarchy) {
+        for (Field field : type.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+            continue;
+          }
+          FieldDescriptor fieldDescriptor = new FieldDescriptor(field, methods);
+          fieldList.add(fieldDescriptor);
+          if (field.getType().equals(ListCCL.class)) {
+            clsFieldList.add(fieldDescriptor);
+          } else if (field.getType().equals(TSerial.class) && "serial".equals(field.getName())) {
+            serialFieldDescriptor = fieldDescriptor;
+          }
+        }
+      }
+    }
+    /**
+     * Bind each field to the generated visitor, if present. If the visitor does
+     * not cover every field (e.g. it is stale) then it is not used.
+     */
+    SSRFVisitor<Object> classVisitor = inspectable ? SSRFVisitor.forClass(clazz) : null;
+    if (classVisitor != null) {
+      Map<String, Integer> visitorIndex = new HashMap<>();
+      String[] fieldKeys = classVisitor.getFieldKeys();
+      for (int i = 0; i < fieldKeys.length; i++) {
+        visitorIndex.put(fieldKeys[i], i);
+      }
+      for (FieldDescriptor fieldDescriptor : fieldList) {
+        Integer index = visitorIndex.get(SSRFVisitor.getFieldKey(fieldDescriptor.field));
+        if (index == null) {
+          classVisitor = null;
+          break;
+        }
+        fieldDescriptor.visitorIndex = index;
+      }
+      for (FieldDescriptor fieldDescriptor : fieldList) {
+        fieldDescriptor.visitor = classVisitor;
+      }
+    }
+    this.visitor = classVisitor;
+    this.fields = fieldList.toArray(new FieldDescriptor[fieldList.size()]);
+    this.clsFields = clsFieldList.toArray(new FieldDescriptor[clsFieldList.size()]);
+    this.serialField = serialFieldDescriptor;
+    /**
+     * Only SSRF classes are preparable, but ignore ADAPTER and METADATA helpers.
+     * Only SSRF classes are loadable, but ignore ADAPTER and LIST helpers.
+     */
+    boolean helper = className.contains(".adapter.");
+    this.prepare = inspectable && !helper && !className.contains(".metadata.")
+                   ? findPublicMethod(clazz, "prepare", INVOKE_TYPE)
+                   : null;
+    MethodHandle postLoadHandle = null;
+    if (inspectable && !helper && !className.contains(".metadata.lists")) {
+      postLoadHandle = findPublicMethod(clazz, "postLoad", INVOKE_ROOT_TYPE, SSRF.class);
+      if (postLoadHandle == null) {
+        postLoadHandle = findPublicMethod(clazz, "postLoad", INVOKE_TYPE);
+      }
+    }
+    this.postLoad = postLoadHandle;
+    this.postLoadRoot = postLoadHandle != null && postLoadHandle.type().equals(INVOKE_ROOT_TYPE);
+    this.constructor = inspectable ? findConstructor(clazz) : null;
+  }
+
+  /**
+   * Get the descriptor for a class type.
+   * <p>
+   * @param clazz the class type
+   * @return the (cached) class descriptor
+   */
+  static SSRFClassDescriptor forClass(Class<?> clazz) {
+    return DESCRIPTORS.get(clazz);
+  }
+
+  /**
+   * Get the descriptor for an object instance class type.
+   * <p>
+   * @param instance the object instance
+   * @return the (cached) class descriptor
+   */
+  static SSRFClassDescriptor forInstance(Object instance) {
+    return DESCRIPTORS.get(instance.getClass());
+  }
+
+  /**
+   * Get the described class type.
+   * <p>
+   * @return the class type
+   */
+  Class<?> getClazz() {
+    return clazz;
+  }
+
+  /**
+   * Determine if the class should be inspected: NO NOT inspect classes that are
+   * not within the SSRF package. Also and equally important: DO NOT inspect or
+   * try to validate enumerated classes.
+   * <p>
+   * @return TRUE if the class fields should be traversed
+   */
+  boolean isInspectable() {
+    return inspectable;
+  }
+
+  /**
+   * Get the instance fields. The returned array must not be modified.
+   * <p>
+   * @return the instance fields, superclass fields first
+   */
+  FieldDescriptor[] getFields() {
+    return fields;
+  }
+
+  /**
+   * Get the classification (ListCCL) fields. The returned array must not be
+   * modified.
+   * <p>
+   * @return the classification fields
+   */
+  FieldDescriptor[] getClsFields() {
+    return clsFields;
+  }
+
+  /**
+   * Get the dataset serial number field.
+   * <p>
+   * @return the serial field, or null if the class is not a dataset
+   */
+  FieldDescriptor getSerialField() {
+    return serialField;
+  }
+
+  /**
+   * Create a new instance of this class with its no-argument constructor. As
+   * with JAXB the constructor need not be public.
+   * <p>
+   * @return a new instance of this class
+   * @throws IllegalStateException if the class cannot be instantiated (e.g. it
+   *                               is abstract or has no no-argument
+   *                               constructor)
+   */
+  Object newInstance() {
+    try {
+      if (visitor != null) {
+        Object instance = visitor.newInstance();
+        if (instance != null) {
+          return instance;
+        }
+      }
+      if (constructor == null) {
+        throw new IllegalStateException("Class " + clazz.getName() + " cannot be instantiated.");
+      }
+      return (Object) constructor.invokeExact();
+    } catch (RuntimeException | Error exception) {
+      throw exception;
+    } catch (Throwable throwable) {
+      throw new IllegalStateException(throwable);
+    }
+  }
+
+  /**
+   * Determine if the class implements the public prepare() method.
+   * <p>
+   * @return TRUE if the class is preparable
+   */
+  boolean implementsPrepare() {
+    return prepare != null;
+  }
+
+  /**
+   * Invoke the prepare() method on an instance of this class. Exceptions thrown
+   * by the prepare() method are ignored.
+   * <p>
+   * @param instance the object instance
+   */
+  void invokePrepare(Object instance) {
+    if (prepare != null) {
+      try {
+        if (visitor != null && visitor.implementsPrepare()) {
+          visitor.prepare(instance);
+        } else {
+          prepare.invokeExact(instance);
+        }
+      } catch (Error error) {
+        throw error;
+      } catch (Throwable throwable) {
+        /**
+         * Fail gracefully.
+         */
+      }
+    }
+  }
+
+  /**
+   * Determine if the class implements the public postLoad(SSRF) or postLoad()
+   * method.
+   * <p>
+   * @return TRUE if the class is loadable
+   */
+  boolean implementsPostLoad() {
+    return postLoad != null;
+  }
+
+  /**
+   * Invoke the postLoad(SSRF) or postLoad() method on an instance of this
+   * class. Exceptions thrown by the postLoad() method are ignored.
+   * <p>
+   * @param instance     the object instance
+   * @param rootInstance the SSRF root instance
+   */
+  void invokePostLoad(Object instance, SSRF rootInstance) {
+    if (postLoad != null) {
+      try {
+        if (visitor != null && visitor.implementsPostLoad()) {
+          visitor.postLoad(instance, rootInstance);
+        } else if (postLoadRoot) {
+          postLoad.invokeExact(instance, rootInstance);
+        } else {
+          postLoad.invokeExact(instance);
+        }
+      } catch (Error error) {
+        throw error;
+      } catch (Throwable throwable) {
+        /**
+         * Fail gracefully.
+         */
+      }
+    }
+  }
+
+  /**
+   * Find a public (declared or inherited) method and adapt it to a generic
+   * method type.
+   * <p>
+   * @param clazz          the class type
+   * @param name           the method name
+   * @param type           the generic method type
+   * @param parameterTypes the method parameter types
+   * @return the method handle, or null if the method is not found
+   */
+  private static MethodHandle findPublicMethod(Class<?> clazz, String name, MethodType type, Class<?>... parameterTypes) {
+    try {
+      Method method = clazz.getMethod(name, parameterTypes);
+      method.setAccessible(true);
+      return MethodHandles.lookup().unreflect(method).asType(type);
+    } catch (NoSuchMethodException | SecurityException | IllegalAccessException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Find the no-argument constructor (of any visibility) of a class type and
+   * adapt it to a generic constructor type.
+   * <p>
+   * @param clazz the class type
+   * @return the constructor handle, or null if the class is abstract or has no
+   *         no-argument constructor
+   */
+  private static MethodHandle findConstructor(Class<?> clazz) {
+    if (Modifier.isAbstract(clazz.getModifiers()) || clazz.isInterface()) {
+      return null;
+    }
+    try {
+      Constructor<?> constructor = clazz.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (NoSuchMethodException | SecurityException | IllegalAccessException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Get all declared and inherited methods from a class type, subclass methods
+   * first.
+   * <p>
+   * @param clazz the class type to inspect
+   * @return a non-null list of Methods
+   */
+  private static List<Method> findDeclaredAndInheritedMethods(Class<?> clazz) {
+    List<Method> methodList = new ArrayList<>();
+    for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+      for (Method method : type.getDeclaredMethods()) {
+        methodList.add(method);
+      }
+    }
+    return methodList;
+  }
+
+  /**
+   * Cached reflection metadata for a class field.
+   */
+  static class FieldDescriptor {
+
+    /**
+     * The field.
+     */
+    private final Field field;
+    /**
+     * The field getter, adapted to (Object) -&gt; Object.
+     */
+    private final MethodHandle getter;
+    /**
+     * The field setter, adapted to (Object, Object) -&gt; void. Null if the
+     * field cannot be written (e.g. it is final).
+     */
+    private final MethodHandle setter;
+    /**
+     * Indicator that the field XML annotation is marked REQUIRED.
+     */
+    private final boolean required;
+    /**
+     * Indicator that the field type is a Collection.
+     */
+    private final boolean collection;
+    /**
+     * Indicator that the field type is a super type of Collection (e.g.
+     * Object) and may hold a Collection.
+     */
+    private final boolean maybeCollection;
+    /**
+     * Indicator that the field is annotated XmlTransient. In the SSRF model
+     * such fields hold object references to other (top-level) datasets.
+     */
+    private final boolean xmlTransient;
+    /**
+     * The XmlJavaTypeAdapter instance, if annotated.
+     */
+    private final XmlAdapter<Object, Object> adapter;
+    /**
+     * The WITH setter, if present.
+     */
+    private final Method withMethod;
+    /**
+     * The WITH setter (single) parameter type. Null if the setter is not
+     * present or takes no parameter.
+     */
+    private final Class<?> withParameterType;
+    /**
+     * The generated class visitor. Null if the field is read reflectively.
+     */
+    private SSRFVisitor<Object> visitor;
+    /**
+     * The field index within the generated class visitor.
+     */
+    private int visitorIndex;
+
+    /**
+     * Inspect a field.
+     * <p>
+     * @param field   the field
+     * @param methods the declared and inherited methods of the class
+     */
+    @SuppressWarnings("unchecked")
+    private FieldDescriptor(Field field, List<Method> methods) {
+      this.field = field;
+      field.setAccessible(true);
+      try {
+        this.getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+      } catch (IllegalAccessException exception) {
+        throw new IllegalStateException("Field " + field + " is not accessible.", exception);
+      }
+      MethodHandle fieldSetter;
+      try {
+        fieldSetter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+      } catch (IllegalAccessException exception) {
+        fieldSetter = null;
+      }
+      this.setter = fieldSetter;
+      this.required = isRequired(field);
+      this.collection = Collection.class.isAssignableFrom(field.getType());
+      this.maybeCollection = !collection && field.getType().isAssignableFrom(Collection.class);
+      this.xmlTransient = field.isAnnotationPresent(XmlTransient.class);
+      /**
+       * If an XmlJavaTypeAdapter annotation is found then get the shared
+       * instance of the XmlAdapter class referred to in the "value" field.
+       */
+      XmlAdapter<Object, Object> xmlAdapter = null;
+      XmlJavaTypeAdapter xmlJavaTypeAdapter = field.getAnnotation(XmlJavaTypeAdapter.class);
+      if (xmlJavaTypeAdapter != null) {
+        try {
+          xmlAdapter = (XmlAdapter<Object, Object>) XmlAdapterRegistry.getInstance(xmlJavaTypeAdapter.value());
+        } catch (IllegalArgumentException ex) {
+          System.err.println("XmlValidator failed to instantiate: " + ex.getMessage());
+          Logger.getLogger(SSRFClassDescriptor.class.getName()).log(Level.SEVERE, null, ex);
+        }
+      }
+      this.adapter = xmlAdapter;
+      this.withMethod = findWithMethod(field, methods);
+      this.withParameterType = withMethod != null && withMethod.getParameterTypes().length != 0
+                               ? withMethod.getParameterTypes()[0]
+                               : null;
+    }
+
+    /**
+     * Get the field.
+     * <p>
+     * @return the field
+     */
+    Field getField() {
+      return field;
+    }
+
+    /**
+     * Get the field name.
+     * <p>
+     * @return the field name
+     */
+    String getName() {
+      return field.getName();
+    }
+
+    /**
+     * Get the field value from an object instance.
+     * <p>
+     * @param instance the object instance
+     * @return the field value
+     */
+    Object get(Object instance) {
+      try {
+        if (visitor != null) {
+          return visitor.get(instance, visitorIndex);
+        }
+        return (Object) getter.invokeExact(instance);
+      } catch (RuntimeException | Error exception) {
+        throw exception;
+      } catch (Throwable throwable) {
+        throw new IllegalStateException(throwable);
+      }
+    }
+
+    /**
+     * Set the field value on an object instance.
+     * <p>
+     * @param instance the object instance
+     * @param value    the field value
+     * @throws ClassCastException    if the value is not of the field type
+     * @throws IllegalStateException if the field cannot be written
+     */
+    void set(Object instance, Object value) {
+      try {
+        if (visitor != null) {
+          visitor.set(instance, visitorIndex, value);
+        } else if (setter != null) {
+          setter.invokeExact(instance, value);
+        } else {
+          throw new IllegalStateException("Field " + field + " is not writable.");
+        }
+      } catch (RuntimeException | Error exception) {
+        throw exception;
+      } catch (Throwable throwable) {
+        throw new IllegalStateException(throwable);
+      }
+    }
+
+    /**
+     * Determine if the field XML annotation is marked REQUIRED.
+     * <p>
+     * @return TRUE if the field is required
+     */
+    boolean isRequired() {
+      return required;
+    }
+
+    /**
+     * Determine if a value of this field is a Collection.
+     * <p>
+     * @param fieldValue the field value
+     * @return TRUE if the field value is a collection
+     */
+    boolean isCollection(Object fieldValue) {
+      return collection || (maybeCollection && fieldValue instanceof Collection);
+    }
+
+    /**
+     * Determine if the field is annotated XmlTransient.
+     * <p>
+     * @return TRUE if the field is not mapped to XML
+     */
+    boolean isXmlTransient() {
+      return xmlTransient;
+    }
+
+    /**
+     * Get the XmlJavaTypeAdapter instance, if annotated.
+     * <p>
+     * @return the adapter instance, or null if the field is not annotated
+     */
+    XmlAdapter<Object, Object> getAdapter() {
+      return adapter;
+    }
+
+    /**
+     * Get the WITH setter for this field.
+     * <p>
+     * @return the WITH setter, or null if none is present
+     */
+    Method getWithMethod() {
+      return withMethod;
+    }
+
+    /**
+     * Get the WITH setter parameter type for this field.
+     * <p>
+     * @return the (first) WITH setter parameter type, or null if the setter is
+     *         not present or takes no parameter
+     */
+    Class<?> getWithParameterType() {
+      return withParameterType;
+    }
+
+    /**
+     * Inspect a class field and determine if it is required.
+     * <p>
+     * This method looks for and inspects {@link XmlAttribute},
+     * {@link XmlElement} and {@link XmlElementRef} field annotation types
+     * marked as REQUIRED.
+     * <p>
+     * @param field the field to inspect
+     * @return TRUE if and only if the XML annotation is marked "required =
+     *         true"
+     */
+    private static boolean isRequired(Field field) {
+      for (Annotation annotation : field.getAnnotations()) {
+        if (annotation instanceof XmlAttribute) {
+          return ((XmlAttribute) annotation).required();
+        } else if (annotation instanceof XmlElement) {
+          return ((XmlElement) annotation).required();
+        } else if (annotation instanceof XmlElementRef) {
+          return ((XmlElementRef) annotation).required();
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Find the first declared or inherited WITH setter method for a field. The
+     * search is case-insensitive. A setter named exactly for the field (e.g.
+     * {@code withState}) is preferred to one whose name merely contains it
+     * (e.g. {@code withStateCounty}), and among setters of equal rank a
+     * single-argument setter accepting a String or enumerated value (the types
+     * assigned from a properties file) is preferred.
+     * <p>
+     * Developer note: This deliberately differs from the original
+     * SSRFUtility.findWithMethod, which returned the first name match. The
+     * order of {@link Class#getDeclaredMethods()} is unspecified, so where a
+     * field has several WITH setters (e.g. TSerial {@code withSerial(Long)}
+     * and {@code withSerial(String)}, or Location {@code withState} and
+     * {@code withStateCounty}) the original could pick a setter that cannot
+     * accept the property value or that sets a different field, depending
+     * upon the JVM. Where only one setter matches the result is unchanged.
+     * <p>
+     * @param field   the field to look for
+     * @param methods the declared and inherited methods of the class
+     * @return a WITH setter method, if present
+     */
+    private static Method findWithMethod(Field field, List<Method> methods) {
+      String withName = "with" + field.getName().toLowerCase();
+      Method bestMatch = null;
+      int bestRank = -1;
+      for (Method method : methods) {
+        String methodName = method.getName().toLowerCase();
+        if (methodName.contains(withName)) {
+          Class<?>[] parameterTypes = method.getParameterTypes();
+          int rank = (methodName.equals(withName) ? 2 : 0)
+                     + (parameterTypes.length == 1 && (parameterTypes[0].equals(String.class) || parameterTypes[0].isEnum()) ? 1 : 0);
+          if (rank > bestRank) {
+            bestMatch = method;
+            bestRank = rank;
+          }
+        }
+      }
+      return bestMatch;
+    }
+  }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf._3_0.adapter.XmlAdapterRegistry;
+
+/**
+ * A shared, thread-safe JAXBContext registry.
+ * <p>
+ * Creating a JAXBContext requires the JAXB provider to introspect every
+ * annotated class reachable from the root class. For a SSRF message this is
+ * several hundred classes, which makes context creation far more expensive than
+ * the actual marshal or unmarshal operation. JAXBContext instances are
+ * thread-safe and are therefore created once per root class and shared for the
+ * life of the class loader.
+ * <p>
+ * Marshaller and Unmarshaller instances are NOT thread-safe but are cheap to
+ * reuse. Each registered context keeps a bounded pool of idle instances. A
+ * caller borrows an instance with {@link #acquireMarshaller()} or
+ * {@link #acquireUnmarshaller()} and MUST return it with
+ * {@link #release(Marshaller)} or {@link #release(Unmarshaller)} when
+ * finished, typically in a finally block. If the pool is empty a new instance
+ * is created; if the pool is full a returned instance is simply discarded.
+ * <p>
+ * Each new Marshaller and Unmarshaller is registered with the shared XmlAdapter
+ * instances referenced by the root class (see {@link XmlAdapterRegistry}) so
+ * that the JAXB provider does not create its own adapter instances.
+ * <p>
+ * Example:
+ * <pre>
+ * SSRFContext context = SSRFContext.getInstance(SSRF.class);
+ * Marshaller marshaller = context.acquireMarshaller();
+ * try {
+ *   marshaller.marshal(ssrf, outputStream);
+ * } finally {
+ *   context.release(marshaller);
+ * }
+ * </pre>
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFContext {
+
+  /**
+   * The maximum number of idle Marshaller and Unmarshaller instances retained
+   * in each pool. This is twice the number of available processors, which is
+   * sufficient to serve all threads of a typical worker pool without
+   * contention.
+   */
+  private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+  /**
+   * The process-wide context registry, keyed by root class.
+   */
+  private static final ConcurrentMap<Class<?>, SSRFContext> REGISTRY = new ConcurrentHashMap<>();
+
+  /**
+   * The (thread-safe) JAXBContext shared by all pooled instances.
+   */
+  private final JAXBContext jaxbContext;
+  /**
+   * Idle Marshaller instances.
+   */
+  private final BlockingQueue<Marshaller> marshallers;
+  /**
+   * Idle Unmarshaller instances.
+   */
+  private final BlockingQueue<Unmarshaller> unmarshallers;
+  /**
+   * The shared XmlAdapter instances registered with each new Marshaller and
+   * Unmarshaller.
+   */
+  private final List<XmlAdapter<?, ?>> adapters;
+
+  /**
+   * Construct a new context registry entry.
+   * <p>
+   * @param jaxbContext the JAXBContext to share
+   * @param adapters    the shared XmlAdapter instances to register
+   * @param poolSize    the maximum number of idle instances to retain
+   */
+  private SSRFContext(JAXBContext jaxbContext, List<XmlAdapter<?, ?>> adapters, int poolSize) {
+    this.jaxbContext = jaxbContext;
+    this.adapters = adapters;
+    this.marshallers = new ArrayBlockingQueue<>(poolSize);
+    this.unmarshallers = new ArrayBlockingQueue<>(poolSize);
+  }
+
+  /**
+   * Get the shared context for the indicated root class type.
+   * <p>
+   * The JAXBContext is created on first use and then shared by all subsequent
+   * callers.
+   * <p>
+   * @param clazz the root class type (e.g. {@link SSRF})
+   * @return the shared context for the class type
+   * @throws JAXBException if the JAXBContext cannot be created
+   */
+  public static SSRFContext getInstance(Class<?> clazz) throws JAXBException {
+    SSRFContext context = REGISTRY.get(clazz);
+    if (context == null) {
+      /**
+       * Synchronize the (rare) creation step so that concurrent first callers
+       * do not each introspect the full class tree.
+       */
+      synchronized (REGISTRY) {
+        context = REGISTRY.get(clazz);
+        if (context == null) {
+          context = new SSRFContext(JAXBContext.newInstance(clazz), XmlAdapterRegistry.getInstances(clazz), POOL_SIZE);
+          REGISTRY.put(clazz, context);
+        }
+      }
+    }
+    return context;
+  }
+
+  /**
+   * Get the shared JAXBContext. The JAXBContext is thread-safe.
+   * <p>
+   * @return the shared JAXBContext instance
+   */
+  public JAXBContext getJAXBContext() {
+    return jaxbContext;
+  }
+
+  /**
+   * Borrow a Marshaller from the pool. The returned instance is configured with
+   * the JAXB default properties.
+   * <p>
+   * The Marshaller must be returned with {@link #release(Marshaller)}.
+   * <p>
+   * @return a Marshaller instance for the exclusive use of the current thread
+   * @throws JAXBException if a new Marshaller cannot be created
+   */
+  public Marshaller acquireMarshaller() throws JAXBException {
+    Marshaller marshaller = marshallers.poll();
+    if (marshaller == null) {
+      marshaller = jaxbContext.createMarshaller();
+      for (XmlAdapter<?, ?> adapter : adapters) {
+        marshaller.setAdapter(adapter);
+      }
+    }
+    return marshaller;
+  }
+
+  /**
+   * Return a Marshaller to the pool.
+   * <p>
+   * The standard Marshaller properties are reset to their defaults so that the
+   * next borrower receives a clean instance. The Marshaller is discarded if it
+   * cannot be reset or if the pool is full.
+   * <p>
+   * @param marshaller the Marshaller instance to return. Ignored if null.
+   */
+  public void release(Marshaller marshaller) {
+    if (marshaller == null) {
+      return;
+    }
+    try {
+      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+      marshaller.setProperty(Marshaller.JAXB_FRAGMENT, false);
+      marshaller.setSchema(null);
+      marshaller.setEventHandler(null);
+      marshaller.setListener(null);
+    } catch (JAXBException exception) {
+      return;
+    }
+    marshallers.offer(marshaller);
+  }
+
+  /**
+   * Borrow an Unmarshaller from the pool. The returned instance is configured
+   * with the JAXB default properties.
+   * <p>
+   * The Unmarshaller must be returned with {@link #release(Unmarshaller)}.
+   * <p>
+   * @return an Unmarshaller instance for the exclusive use of the current
+   *         thread
+   * @throws JAXBException if a new Unmarshaller cannot be created
+   */
+  public Unmarshaller acquireUnmarshaller() throws JAXBException {
+    Unmarshaller unmarshaller = unmarshallers.poll();
+    if (unmarshaller == null) {
+      unmarshaller = jaxbContext.createUnmarshaller();
+      for (XmlAdapter<?, ?> adapter : adapters) {
+        unmarshaller.setAdapter(adapter);
+      }
+    }
+    return unmarshaller;
+  }
+
+  /**
+   * Return an Unmarshaller to the pool.
+   * <p>
+   * The Unmarshaller schema, event handler and listener are cleared so that the
+   * next borrower receives a clean instance. The Unmarshaller is discarded if
+   * it cannot be reset or if the pool is full.
+   * <p>
+   * @param unmarshaller the Unmarshaller instance to return. Ignored if null.
+   */
+  public void release(Unmarshaller unmarshaller) {
+    if (unmarshaller == null) {
+      return;
+    }
+    try {
+      unmarshaller.setSchema(null);
+      unmarshaller.setEventHandler(null);
+      unmarshaller.setListener(null);
+    } catch (JAXBException exception) {
+      return;
+    }
+    unmarshallers.offer(unmarshaller);
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf._3_0.Common;
+import us.gov.dod.standard.ssrf._3_0.SchemaRoot;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+
+/**
+ * Collects the datasets discovered within a SSRF class tree into the root
+ * dataset lists.
+ * <p>
+ * Datasets (classes extending {@link Common}) may be referenced from within
+ * other datasets, but are exported from the root lists of the SSRF message.
+ * During prepare and assembly every dataset found in the class tree is passed
+ * to {@link #add(Object)}, which adds it to its root list (see
+ * {@link SchemaRoot#addDataset(Common)}) exactly once: a dataset already
+ * present, either the same instance or another instance with the same serial,
+ * is skipped. Both checks are constant time.
+ * <p>
+ * A collector is created for each prepare or assembly pass and seeded with the
+ * datasets already in the root lists.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+class SSRFDatasetCollector {
+
+  /**
+   * The root instance.
+   */
+  private final SchemaRoot<?> rootInstance;
+  /**
+   * The datasets seen, by identity.
+   */
+  private final Set<Object> instances;
+  /**
+   * The serials of the datasets in the root lists.
+   */
+  private final Set<TSerial> serials;
+
+  /**
+   * Construct a new dataset collector for a root instance.
+   * <p>
+   * @param rootInstance the root instance
+   */
+  public SSRFDatasetCollector(SchemaRoot<?> rootInstance) {
+    this.rootInstance = rootInstance;
+    this.instances = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    this.serials = new HashSet<>();
+    /**
+     * Seed with the datasets already in the root lists. The fields are read
+     * directly so that unset root lists are not created.
+     */
+    for (FieldDescriptor field : SSRFClassDescriptor.forInstance(rootInstance).getFields()) {
+      Object fieldValue = field.get(rootInstance);
+      if (fieldValue instanceof Collection) {
+        for (Object entry : (Collection<?>) fieldValue) {
+          if (entry instanceof Common && instances.add(entry) && ((Common<?>) entry).getSerial() != null) {
+            serials.add(((Common<?>) entry).getSerial());
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Add an object instance to its root list if it is a dataset not already
+   * present. Other object instances are ignored.
+   * <p>
+   * @param instance an object instance found in the SSRF class tree
+   */
+  public void add(Object instance) {
+    if (!(instance instanceof Common) || !instances.add(instance)) {
+      return;
+    }
+    Common<?> dataset = (Common<?>) instance;
+    if (EDatasetType.fromInstance(dataset.getClass()) == null
+        || (dataset.getSerial() != null && !serials.add(dataset.getSerial()))) {
+      return;
+    }
+    rootInstance.addDataset(dataset);
+  }
+}
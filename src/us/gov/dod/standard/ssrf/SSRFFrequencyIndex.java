@@ -0,0 +1,718 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import us.gov.dod.standard.ssrf._3_0.Allotment;
+import us.gov.dod.standard.ssrf._3_0.AsgnFreqBase;
+import us.gov.dod.standard.ssrf._3_0.Assignment;
+import us.gov.dod.standard.ssrf._3_0.Common;
+import us.gov.dod.standard.ssrf._3_0.JRFL;
+import us.gov.dod.standard.ssrf._3_0.TOA;
+import us.gov.dod.standard.ssrf._3_0.allotment.AllotFreq;
+import us.gov.dod.standard.ssrf._3_0.assignment.Assigned;
+import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
+import us.gov.dod.standard.ssrf._3_0.assignment.Link;
+import us.gov.dod.standard.ssrf._3_0.jrfl.JRFLEntry;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TDecimal;
+import us.gov.dod.standard.ssrf._3_0.multiple.ConfigFreq;
+import us.gov.dod.standard.ssrf._3_0.toa.FreqBand;
+
+/**
+ * A frequency interval index of the datasets in a SSRF instance.
+ * <p>
+ * The most common SSRF query is "which records use frequencies overlapping [f1,
+ * f2]?". Answering it from the model means walking every dataset and comparing
+ * TDecimal values one by one. The index instead records the frequency range
+ * (FreqMin to FreqMax, in MHz) of each of the following elements as an
+ * {@link Interval}:
+ * <ul>
+ * <li>Assignment / Configuration / ConfigFreq</li>
+ * <li>Assignment / Link / Assigned / Freq and FreqOld</li>
+ * <li>Allotment / AllotFreq</li>
+ * <li>JRFL / JRFLEntry</li>
+ * <li>TOA / FreqBand</li>
+ * </ul>
+ * The intervals are held in an augmented interval tree: an array sorted by
+ * minimum frequency, implicitly arranged as a balanced binary tree, where each
+ * node also records the greatest maximum frequency of its subtree. Overlap and
+ * containment queries visit O(log n + k) nodes for k results.
+ * <p>
+ * The index is incremental: {@link #add(Common)} and {@link #remove(Common)}
+ * update the intervals of a single dataset without re-reading the SSRF
+ * instance. Changes are buffered and merged into the tree once the buffer
+ * exceeds a fraction of the index size.
+ * <p>
+ * Developer note: The index is a snapshot of the frequency values when each
+ * dataset was added; a modified dataset must be added again. An element with
+ * no FreqMin is not indexed and an element with no FreqMax is indexed as the
+ * single frequency FreqMin. Queries may be called concurrently, but not while
+ * the index is being modified.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFFrequencyIndex {
+
+  /**
+   * 32. The minimum number of buffered changes before they are merged into the
+   * tree.
+   */
+  private static final int MIN_BUFFER_SIZE = 32;
+
+  /**
+   * Sort intervals by minimum then maximum frequency.
+   */
+  private static final Comparator<Interval> BY_MIN = new Comparator<Interval>() {
+
+    @Override
+    public int compare(Interval o1, Interval o2) {
+      int compare = Double.compare(o1.min, o2.min);
+      return compare != 0 ? compare : Double.compare(o1.max, o2.max);
+    }
+  };
+
+  /**
+   * Sort intervals by maximum frequency.
+   */
+  private static final Comparator<Interval> BY_MAX = new Comparator<Interval>() {
+
+    @Override
+    public int compare(Interval o1, Interval o2) {
+      return Double.compare(o1.max, o2.max);
+    }
+  };
+
+  /**
+   * The indexed intervals of each dataset.
+   */
+  private final Map<Common<?>, List<Interval>> datasets;
+  /**
+   * The tree intervals, sorted by minimum frequency.
+   */
+  private Interval[] intervals;
+  /**
+   * The minimum frequency of each tree interval.
+   */
+  private double[] mins;
+  /**
+   * The greatest maximum frequency in the subtree rooted at each tree
+   * interval.
+   */
+  private double[] maxEnds;
+  /**
+   * The tree intervals, sorted by maximum frequency. Used by nearest-neighbour
+   * queries.
+   */
+  private Interval[] intervalsByMax;
+  /**
+   * The maximum frequency of each interval in {@link #intervalsByMax}.
+   */
+  private double[] maxes;
+  /**
+   * Intervals added since the tree was built.
+   */
+  private final List<Interval> added;
+  /**
+   * Tree intervals removed since the tree was built.
+   */
+  private final Set<Interval> removed;
+
+  /**
+   * Construct a new, empty frequency index.
+   */
+  public SSRFFrequencyIndex() {
+    this.datasets = new IdentityHashMap<>();
+    this.added = new ArrayList<>();
+    this.removed = Collections.newSetFromMap(new IdentityHashMap<Interval, Boolean>());
+    build(new Interval[0]);
+  }
+
+  /**
+   * Construct a new frequency index of the datasets in a SSRF instance.
+   * <p>
+   * @param ssrf the SSRF instance to index
+   */
+  public SSRFFrequencyIndex(SSRF ssrf) {
+    this();
+    List<Interval> list = new ArrayList<>();
+    for (Assignment assignment : ssrf.getAssignment()) {
+      list.addAll(index(assignment));
+    }
+    for (Allotment allotment : ssrf.getAllotment()) {
+      list.addAll(index(allotment));
+    }
+    for (JRFL jrfl : ssrf.getJRFL()) {
+      list.addAll(index(jrfl));
+    }
+    for (TOA toa : ssrf.getTOA()) {
+      list.addAll(index(toa));
+    }
+    build(list.toArray(new Interval[list.size()]));
+  }
+
+  /**
+   * A frequency range of a SSRF element.
+   */
+  public static final class Interval {
+
+    /**
+     * The minimum frequency (MHz).
+     */
+    private final double min;
+    /**
+     * The maximum frequency (MHz).
+     */
+    private final double max;
+    /**
+     * The top-level dataset containing the element.
+     */
+    private final Common<?> dataset;
+    /**
+     * The element declaring the frequency range. e.g. a ConfigFreq instance.
+     */
+    private final Object element;
+
+    private Interval(double min, double max, Common<?> dataset, Object element) {
+      this.min = min;
+      this.max = max;
+      this.dataset = dataset;
+      this.element = element;
+    }
+
+    /**
+     * Get the minimum frequency.
+     * <p>
+     * @return the minimum frequency (MHz)
+     */
+    public double getMin() {
+      return min;
+    }
+
+    /**
+     * Get the maximum frequency.
+     * <p>
+     * @return the maximum frequency (MHz). Equal to the minimum frequency if
+     *         the element has no FreqMax.
+     */
+    public double getMax() {
+      return max;
+    }
+
+    /**
+     * Get the top-level dataset containing the element.
+     * <p>
+     * @return the dataset. e.g. an Assignment instance.
+     */
+    public Common<?> getDataset() {
+      return dataset;
+    }
+
+    /**
+     * Get the element declaring the frequency range.
+     * <p>
+     * @return the element. One of ConfigFreq, Freq, FreqOld, AllotFreq,
+     *         JRFLEntry or FreqBand.
+     */
+    public Object getElement() {
+      return element;
+    }
+
+    /**
+     * Get the distance from this interval to a frequency.
+     * <p>
+     * @param frequency the frequency (MHz)
+     * @return the distance (MHz), zero if the interval contains the frequency
+     */
+    public double distance(double frequency) {
+      return frequency < min ? min - frequency : (frequency > max ? frequency - max : 0);
+    }
+
+    @Override
+    public String toString() {
+      return "[" + min + ", " + max + "] " + element.getClass().getSimpleName() + " " + dataset.getSerial();
+    }
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Update">
+  /**
+   * Add (or replace) the frequency intervals of a dataset. Assignment,
+   * Allotment, JRFL and TOA datasets are indexed; other dataset types are
+   * ignored.
+   * <p>
+   * @param dataset the dataset to index
+   */
+  public void add(Common<?> dataset) {
+    remove(dataset);
+    added.addAll(index(dataset));
+    compactIfNeeded();
+  }
+
+  /**
+   * Remove the frequency intervals of a dataset.
+   * <p>
+   * @param dataset the dataset to remove
+   * @return TRUE if the dataset was indexed
+   */
+  public boolean remove(Common<?> dataset) {
+    List<Interval> list = datasets.remove(dataset);
+    if (list == null) {
+      return false;
+    }
+    for (Interval interval : list) {
+      if (!removeAdded(interval)) {
+        removed.add(interval);
+      }
+    }
+    compactIfNeeded();
+    return true;
+  }
+
+  /**
+   * Get the number of indexed intervals.
+   * <p>
+   * @return the number of intervals
+   */
+  public int size() {
+    return intervals.length - removed.size() + added.size();
+  }
+
+  /**
+   * Internal method to remove an interval from the buffered additions.
+   * <p>
+   * @param interval the interval
+   * @return TRUE if the interval was a buffered addition
+   */
+  private boolean removeAdded(Interval interval) {
+    for (int i = 0; i < added.size(); i++) {
+      if (added.get(i) == interval) {
+        added.remove(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Internal method to merge the buffered changes into the tree once there
+   * are enough of them to make the (linear) buffer scan noticeable.
+   */
+  private void compactIfNeeded() {
+    if (added.size() + removed.size() <= Math.max(MIN_BUFFER_SIZE, intervals.length >> 3)) {
+      return;
+    }
+    /**
+     * The tree intervals are already sorted: merge in the sorted additions.
+     */
+    Interval[] sortedAdded = added.toArray(new Interval[added.size()]);
+    Arrays.sort(sortedAdded, BY_MIN);
+    Interval[] merged = new Interval[size()];
+    int i = 0, j = 0, k = 0;
+    while (i < intervals.length || j < sortedAdded.length) {
+      if (i < intervals.length && removed.contains(intervals[i])) {
+        i++;
+      } else if (j >= sortedAdded.length || (i < intervals.length && BY_MIN.compare(intervals[i], sortedAdded[j]) <= 0)) {
+        merged[k++] = intervals[i++];
+      } else {
+        merged[k++] = sortedAdded[j++];
+      }
+    }
+    added.clear();
+    removed.clear();
+    build(merged);
+  }
+
+  /**
+   * Internal method to (re)build the tree from intervals.
+   * <p>
+   * @param sorted the intervals. Sorted by minimum frequency if already
+   *               indexed.
+   */
+  private void build(Interval[] sorted) {
+    Arrays.sort(sorted, BY_MIN);
+    intervals = sorted;
+    mins = new double[sorted.length];
+    maxEnds = new double[sorted.length];
+    for (int i = 0; i < sorted.length; i++) {
+      mins[i] = sorted[i].min;
+    }
+    buildMaxEnds(0, sorted.length);
+    intervalsByMax = sorted.clone();
+    Arrays.sort(intervalsByMax, BY_MAX);
+    maxes = new double[sorted.length];
+    for (int i = 0; i < sorted.length; i++) {
+      maxes[i] = intervalsByMax[i].max;
+    }
+  }
+
+  /**
+   * Internal method to compute the greatest maximum frequency of each subtree.
+   * The subtree of the range [from, to) is rooted at its midpoint.
+   * <p>
+   * @param from the first index (inclusive)
+   * @param to   the last index (exclusive)
+   * @return the greatest maximum frequency in the range
+   */
+  private double buildMaxEnds(int from, int to) {
+    if (from >= to) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    int mid = (from + to) >>> 1;
+    double maxEnd = Math.max(intervals[mid].max, Math.max(buildMaxEnds(from, mid), buildMaxEnds(mid + 1, to)));
+    maxEnds[mid] = maxEnd;
+    return maxEnd;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Query">
+  /**
+   * Find the intervals overlapping a frequency range.
+   * <p>
+   * @param min the minimum frequency (MHz)
+   * @param max the maximum frequency (MHz)
+   * @return the intervals with any frequency in [min, max], sorted by minimum
+   *         frequency
+   */
+  public List<Interval> findOverlapping(double min, double max) {
+    List<Interval> result = new ArrayList<>();
+    search(0, intervals.length, min, max, result);
+    for (Interval interval : added) {
+      if (interval.min <= max && interval.max >= min) {
+        result.add(interval);
+      }
+    }
+    return sort(result);
+  }
+
+  /**
+   * Find the intervals containing a frequency.
+   * <p>
+   * @param frequency the frequency (MHz)
+   * @return the intervals containing the frequency, sorted by minimum
+   *         frequency
+   */
+  public List<Interval> findContaining(double frequency) {
+    return findOverlapping(frequency, frequency);
+  }
+
+  /**
+   * Find the intervals containing an entire frequency range.
+   * <p>
+   * @param min the minimum frequency (MHz)
+   * @param max the maximum frequency (MHz)
+   * @return the intervals containing [min, max], sorted by minimum frequency
+   */
+  public List<Interval> findContaining(double min, double max) {
+    List<Interval> result = new ArrayList<>();
+    /**
+     * A containing interval begins at or before min and ends at or after max,
+     * so search for the intervals overlapping [max, min] and keep those that
+     * also satisfy the opposite bounds.
+     */
+    List<Interval> candidates = new ArrayList<>();
+    search(0, intervals.length, max, min, candidates);
+    for (Interval interval : candidates) {
+      if (interval.min <= min && interval.max >= max) {
+        result.add(interval);
+      }
+    }
+    for (Interval interval : added) {
+      if (interval.min <= min && interval.max >= max) {
+        result.add(interval);
+      }
+    }
+    return sort(result);
+  }
+
+  /**
+   * Find the intervals lying entirely within a frequency range.
+   * <p>
+   * @param min the minimum frequency (MHz)
+   * @param max the maximum frequency (MHz)
+   * @return the intervals within [min, max], sorted by minimum frequency
+   */
+  public List<Interval> findWithin(double min, double max) {
+    List<Interval> result = new ArrayList<>();
+    for (int i = lowerBound(mins, min); i < intervals.length && mins[i] <= max; i++) {
+      if (intervals[i].max <= max && !removed.contains(intervals[i])) {
+        result.add(intervals[i]);
+      }
+    }
+    for (Interval interval : added) {
+      if (interval.min >= min && interval.max <= max) {
+        result.add(interval);
+      }
+    }
+    return sort(result);
+  }
+
+  /**
+   * Find the datasets of a type with a frequency range overlapping a frequency
+   * range.
+   * <p>
+   * @param <T>   the dataset class type
+   * @param clazz the dataset class type. e.g. Assignment.class
+   * @param min   the minimum frequency (MHz)
+   * @param max   the maximum frequency (MHz)
+   * @return the distinct matching datasets, in order of their lowest
+   *         overlapping frequency
+   */
+  public <T extends Common<?>> List<T> findDatasets(Class<T> clazz, double min, double max) {
+    Set<Common<?>> seen = Collections.newSetFromMap(new IdentityHashMap<Common<?>, Boolean>());
+    List<T> result = new ArrayList<>();
+    for (Interval interval : findOverlapping(min, max)) {
+      if (clazz.isInstance(interval.dataset) && seen.add(interval.dataset)) {
+        result.add(clazz.cast(interval.dataset));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Find the interval nearest to a frequency.
+   * <p>
+   * @param frequency the frequency (MHz)
+   * @return an interval containing the frequency if there is one, otherwise
+   *         the interval with the nearest minimum or maximum frequency. Null if
+   *         the index is empty.
+   */
+  public Interval findNearest(double frequency) {
+    List<Interval> containing = new ArrayList<>(1);
+    search(0, intervals.length, frequency, frequency, containing);
+    if (!containing.isEmpty()) {
+      return containing.get(0);
+    }
+    Interval nearest = null;
+    /**
+     * The nearest interval below ends last before the frequency; the nearest
+     * interval above begins first after it.
+     */
+    for (int i = lowerBound(maxes, frequency) - 1; i >= 0; i--) {
+      if (!removed.contains(intervalsByMax[i])) {
+        nearest = intervalsByMax[i];
+        break;
+      }
+    }
+    for (int i = upperBound(mins, frequency); i < intervals.length; i++) {
+      if (!removed.contains(intervals[i])) {
+        nearest = nearer(nearest, intervals[i], frequency);
+        break;
+      }
+    }
+    for (Interval interval : added) {
+      nearest = nearer(nearest, interval, frequency);
+    }
+    return nearest;
+  }
+
+  /**
+   * Internal method to search the subtree of the range [from, to) for the
+   * intervals overlapping [min, max].
+   * <p>
+   * @param from   the first index (inclusive)
+   * @param to     the last index (exclusive)
+   * @param min    the minimum frequency
+   * @param max    the maximum frequency
+   * @param result the list to add the overlapping intervals to
+   */
+  private void search(int from, int to, double min, double max, List<Interval> result) {
+    while (from < to) {
+      int mid = (from + to) >>> 1;
+      /**
+       * No interval in this subtree ends at or after min.
+       */
+      if (maxEnds[mid] < min) {
+        return;
+      }
+      search(from, mid, min, max, result);
+      /**
+       * This and every following interval begins after max.
+       */
+      if (mins[mid] > max) {
+        return;
+      }
+      Interval interval = intervals[mid];
+      if (interval.max >= min && !removed.contains(interval)) {
+        result.add(interval);
+      }
+      from = mid + 1;
+    }
+  }
+
+  /**
+   * Internal method to sort a query result if it contains buffered additions.
+   * The tree search already returns intervals in order.
+   * <p>
+   * @param result the query result
+   * @return the sorted query result
+   */
+  private List<Interval> sort(List<Interval> result) {
+    if (!added.isEmpty()) {
+      Collections.sort(result, BY_MIN);
+    }
+    return result;
+  }
+
+  /**
+   * Internal method to choose the interval nearer to a frequency.
+   * <p>
+   * @param current   the current nearest interval. May be null.
+   * @param candidate the candidate interval
+   * @param frequency the frequency
+   * @return the nearer interval. The current interval is retained on a tie.
+   */
+  private static Interval nearer(Interval current, Interval candidate, double frequency) {
+    return current == null || candidate.distance(frequency) < current.distance(frequency) ? candidate : current;
+  }
+
+  /**
+   * Internal method to find the first index of a sorted array with a value
+   * greater than or equal to the key.
+   * <p>
+   * @param values the sorted array
+   * @param key    the key
+   * @return the index, or the array length if all values are less than the key
+   */
+  private static int lowerBound(double[] values, double key) {
+    int low = 0, high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Internal method to find the first index of a sorted array with a value
+   * greater than the key.
+   * <p>
+   * @param values the sorted array
+   * @param key    the key
+   * @return the index, or the array length if no value is greater than the key
+   */
+  private static int upperBound(double[] values, double key) {
+    int low = 0, high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] <= key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Dataset Intervals">
+  /**
+   * Internal method to read and record the frequency intervals of a dataset.
+   * <p>
+   * @param dataset the dataset
+   * @return the dataset intervals. Empty if the dataset type is not indexed or
+   *         the dataset is already indexed.
+   */
+  private List<Interval> index(Common<?> dataset) {
+    List<Interval> list = new ArrayList<>();
+    if (datasets.containsKey(dataset)) {
+      return list;
+    }
+    if (dataset instanceof Assignment) {
+      Assignment assignment = (Assignment) dataset;
+      if (assignment.isSetConfiguration()) {
+        for (Configuration configuration : assignment.getConfiguration()) {
+          if (configuration.isSetConfigFreq()) {
+            for (ConfigFreq configFreq : configuration.getConfigFreq()) {
+              addInterval(list, dataset, configFreq, configFreq.getFreqMin(), configFreq.getFreqMax());
+            }
+          }
+        }
+      }
+      if (assignment.isSetLink()) {
+        for (Link link : assignment.getLink()) {
+          if (link.isSetAssigned()) {
+            for (Assigned assigned : link.getAssigned()) {
+              if (assigned.isSetFreq()) {
+                for (AsgnFreqBase freq : assigned.getFreq()) {
+                  addInterval(list, dataset, freq, freq.getFreqMin(), freq.getFreqMax());
+                }
+              }
+              if (assigned.isSetFreqOld()) {
+                for (AsgnFreqBase freq : assigned.getFreqOld()) {
+                  addInterval(list, dataset, freq, freq.getFreqMin(), freq.getFreqMax());
+                }
+              }
+            }
+          }
+        }
+      }
+    } else if (dataset instanceof Allotment) {
+      Allotment allotment = (Allotment) dataset;
+      if (allotment.isSetAllotFreq()) {
+        for (AllotFreq allotFreq : allotment.getAllotFreq()) {
+          addInterval(list, dataset, allotFreq, allotFreq.getFreqMin(), allotFreq.getFreqMax());
+        }
+      }
+    } else if (dataset instanceof JRFL) {
+      JRFL jrfl = (JRFL) dataset;
+      if (jrfl.isSetJRFLEntry()) {
+        for (JRFLEntry jrflEntry : jrfl.getJRFLEntry()) {
+          addInterval(list, dataset, jrflEntry, jrflEntry.getFreqMin(), jrflEntry.getFreqMax());
+        }
+      }
+    } else if (dataset instanceof TOA) {
+      TOA toa = (TOA) dataset;
+      if (toa.isSetFreqBand()) {
+        for (FreqBand freqBand : toa.getFreqBand()) {
+          addInterval(list, dataset, freqBand, freqBand.getFreqMin(), freqBand.getFreqMax());
+        }
+      }
+    }
+    if (!list.isEmpty()) {
+      datasets.put(dataset, list);
+    }
+    return list;
+  }
+
+  /**
+   * Internal method to add the frequency interval of an element to a list. The
+   * element is skipped if it has no minimum frequency.
+   * <p>
+   * @param list    the dataset interval list
+   * @param dataset the dataset
+   * @param element the element declaring the frequency range
+   * @param freqMin the minimum frequency
+   * @param freqMax the maximum frequency. May be null.
+   */
+  private static void addInterval(List<Interval> list, Common<?> dataset, Object element, TDecimal freqMin, TDecimal freqMax) {
+    if (freqMin == null || !freqMin.isSetValue()) {
+      return;
+    }
+    double min = freqMin.doubleValue();
+    double max = freqMax != null && freqMax.isSetValue() ? freqMax.doubleValue() : min;
+    list.add(new Interval(Math.min(min, max), Math.max(min, max), dataset, element));
+  }//</editor-fold>
+}
@@ -0,0 +1,943 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.location.Polygon;
+import us.gov.dod.standard.ssrf._3_0.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TDecimal;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
+
+/**
+ * A geospatial index of the Location datasets in a SSRF instance.
+ * <p>
+ * Location coordinates are TString values in the degrees, minutes, seconds
+ * format enforced by XmlAdapterLAT and XmlAdapterLON (e.g. "384512.5N" and
+ * "0770230W"). Rather than re-parsing these strings for every spatial
+ * question the index parses each Point, Polygon and Ellipse once into
+ * primitive radians, pre-computes its bounding box and loads the boxes into a
+ * static R-tree (Sort-Tile-Recursive leaf packing, 16 entries per node).
+ * Queries return the serial numbers of the matching Location datasets in
+ * document order:
+ * <ul>
+ * <li>{@link #findIntersecting(double, double, double, double)}: Locations with
+ * a shape whose bounding box intersects a bounding box;</li>
+ * <li>{@link #findNear(double, double, double)}: Locations with a shape within
+ * a distance of a point;</li>
+ * <li>{@link #findContaining(double, double)}: Locations whose area (Polygon
+ * and Ellipse shapes) contains a point.</li>
+ * </ul>
+ * Each query also has a form restricted to an altitude band. A shape matches
+ * only if its AltitudeMin / AltitudeMax band overlaps the query band; an unset
+ * altitude bound is unbounded.
+ * <p>
+ * Shapes marked Excluded are removed from the area of their Location: a point
+ * inside an excluded Polygon or Ellipse is not contained by the Location.
+ * Excluded shapes are ignored by the intersecting and near queries, which
+ * match on the included shapes only.
+ * <p>
+ * Developer note: Latitudes and longitudes are in radians (see
+ * {@link Math#toRadians(double)}) and distances in kilometers on a spherical
+ * earth. Polygon and Ellipse tests use a local equirectangular projection,
+ * which is accurate for shapes and distances of up to a few hundred
+ * kilometers. The near query enlarges an Ellipse by the distance along both
+ * axes, which slightly over-estimates the Ellipse off its axes. Shapes with an
+ * unknown ("X") or invalid coordinate are not indexed. The index is an
+ * immutable snapshot of the Location datasets and may be shared by threads.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public final class SSRFLocationIndex {
+
+  /**
+   * 6,371.0088 km. The mean earth radius.
+   */
+  public static final double EARTH_RADIUS = 6371.0088;
+  /**
+   * 16. The number of entries in each R-tree node.
+   */
+  private static final int NODE_SIZE = 16;
+
+  /**
+   * The indexed Location datasets, in document order.
+   */
+  private final Location[] locations;
+  /**
+   * The R-tree levels. Level 0 contains the shape bounding boxes; the children
+   * of node i at level L + 1 are the items [i * NODE_SIZE, (i + 1) *
+   * NODE_SIZE) at level L.
+   */
+  private final List<Boxes> levels;
+  /**
+   * The shape of each level 0 item. A shape crossing the antimeridian has two
+   * items.
+   */
+  private final Shape[] shapes;
+
+  /**
+   * Construct a new geospatial index of the Location datasets in a SSRF
+   * instance.
+   * <p>
+   * @param ssrf the SSRF instance to index
+   */
+  public SSRFLocationIndex(SSRF ssrf) {
+    this(ssrf.getLocation());
+  }
+
+  /**
+   * Construct a new geospatial index of Location datasets.
+   * <p>
+   * @param locations the Location datasets to index
+   */
+  public SSRFLocationIndex(List<Location> locations) {
+    this.locations = locations.toArray(new Location[locations.size()]);
+    /**
+     * Parse the shapes and their bounding boxes.
+     */
+    List<Shape> shapeList = new ArrayList<>();
+    Boxes boxes = new Boxes(16);
+    for (int i = 0; i < this.locations.length; i++) {
+      read(i, this.locations[i], shapeList, boxes);
+    }
+    /**
+     * Pack the R-tree bottom up. The shapes are sorted into STR order; each
+     * parent level then encloses consecutive runs of NODE_SIZE items, which
+     * are spatially close.
+     */
+    Boxes level = boxes.trim();
+    int[] order = sortTileRecursive(level);
+    level = level.permute(order);
+    Shape[] shapeArray = new Shape[order.length];
+    for (int i = 0; i < order.length; i++) {
+      shapeArray[i] = shapeList.get(order[i]);
+    }
+    levels = new ArrayList<>();
+    levels.add(level);
+    while (level.size > NODE_SIZE) {
+      level = level.group();
+      levels.add(level);
+    }
+    this.shapes = shapeArray;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Query">
+  /**
+   * Find the Locations with a shape whose bounding box intersects a bounding
+   * box.
+   * <p>
+   * @param minLat the minimum latitude (radians)
+   * @param maxLat the maximum latitude (radians)
+   * @param minLon the western longitude (radians)
+   * @param maxLon the eastern longitude (radians). Less than the western
+   *               longitude if the box crosses the antimeridian.
+   * @return the matching Location serial numbers, in document order
+   */
+  public List<TSerial> findIntersecting(double minLat, double maxLat, double minLon, double maxLon) {
+    return findIntersecting(minLat, maxLat, minLon, maxLon, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Find the Locations with a shape in an altitude band whose bounding box
+   * intersects a bounding box.
+   * <p>
+   * @param minLat      the minimum latitude (radians)
+   * @param maxLat      the maximum latitude (radians)
+   * @param minLon      the western longitude (radians)
+   * @param maxLon      the eastern longitude (radians). Less than the western
+   *                    longitude if the box crosses the antimeridian.
+   * @param altitudeMin the minimum altitude (m)
+   * @param altitudeMax the maximum altitude (m)
+   * @return the matching Location serial numbers, in document order
+   */
+  public List<TSerial> findIntersecting(double minLat, double maxLat, double minLon, double maxLon, double altitudeMin, double altitudeMax) {
+    List<Shape> candidates = search(minLat, maxLat, minLon, maxLon);
+    BitSet matches = new BitSet(locations.length);
+    for (Shape shape : candidates) {
+      if (!shape.excluded && shape.isInAltitude(altitudeMin, altitudeMax)) {
+        matches.set(shape.location);
+      }
+    }
+    return toSerials(matches);
+  }
+
+  /**
+   * Find the Locations with a shape within a distance of a point.
+   * <p>
+   * @param lat      the latitude (radians)
+   * @param lon      the longitude (radians)
+   * @param distance the distance (km)
+   * @return the matching Location serial numbers, in document order
+   */
+  public List<TSerial> findNear(double lat, double lon, double distance) {
+    return findNear(lat, lon, distance, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Find the Locations with a shape in an altitude band within a distance of a
+   * point.
+   * <p>
+   * @param lat         the latitude (radians)
+   * @param lon         the longitude (radians)
+   * @param distance    the distance (km)
+   * @param altitudeMin the minimum altitude (m)
+   * @param altitudeMax the maximum altitude (m)
+   * @return the matching Location serial numbers, in document order
+   */
+  public List<TSerial> findNear(double lat, double lon, double distance, double altitudeMin, double altitudeMax) {
+    double[] box = boundingBox(lat, lon, distance);
+    List<Shape> candidates = search(box[0], box[1], box[2], box[3]);
+    BitSet matches = new BitSet(locations.length);
+    for (Shape shape : candidates) {
+      if (!shape.excluded
+          && !matches.get(shape.location)
+          && shape.isInAltitude(altitudeMin, altitudeMax)
+          && shape.isNear(lat, lon, distance)) {
+        matches.set(shape.location);
+      }
+    }
+    return toSerials(matches);
+  }
+
+  /**
+   * Find the Locations whose area contains a point.
+   * <p>
+   * @param lat the latitude (radians)
+   * @param lon the longitude (radians)
+   * @return the matching Location serial numbers, in document order
+   */
+  public List<TSerial> findContaining(double lat, double lon) {
+    return findContaining(lat, lon, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Find the Locations whose area contains a point at an altitude.
+   * <p>
+   * @param lat      the latitude (radians)
+   * @param lon      the longitude (radians)
+   * @param altitude the altitude (m)
+   * @return the matching Location serial numbers, in document order
+   */
+  public List<TSerial> findContaining(double lat, double lon, double altitude) {
+    return findContaining(lat, lon, altitude, altitude);
+  }
+
+  /**
+   * Internal method to find the Locations whose area contains a point in an
+   * altitude band.
+   * <p>
+   * @param lat         the latitude (radians)
+   * @param lon         the longitude (radians)
+   * @param altitudeMin the minimum altitude (m)
+   * @param altitudeMax the maximum altitude (m)
+   * @return the matching Location serial numbers, in document order
+   */
+  private List<TSerial> findContaining(double lat, double lon, double altitudeMin, double altitudeMax) {
+    List<Shape> candidates = search(lat, lat, lon, lon);
+    BitSet included = new BitSet(locations.length);
+    BitSet excluded = new BitSet(locations.length);
+    for (Shape shape : candidates) {
+      if (shape.isInAltitude(altitudeMin, altitudeMax) && shape.contains(lat, lon)) {
+        (shape.excluded ? excluded : included).set(shape.location);
+      }
+    }
+    included.andNot(excluded);
+    return toSerials(included);
+  }
+
+  /**
+   * Internal method to find the shapes whose bounding box intersects a
+   * bounding box.
+   * <p>
+   * @param minLat the minimum latitude
+   * @param maxLat the maximum latitude
+   * @param minLon the western longitude
+   * @param maxLon the eastern longitude
+   * @return the shapes. A shape crossing the antimeridian may be listed twice.
+   */
+  private List<Shape> search(double minLat, double maxLat, double minLon, double maxLon) {
+    List<Shape> result = new ArrayList<>();
+    double west = normalize(minLon);
+    double east = normalize(maxLon);
+    if (maxLon - minLon >= 2 * Math.PI) {
+      west = -Math.PI;
+      east = Math.PI;
+    }
+    int top = levels.size() - 1;
+    for (int i = 0; i < levels.get(top).size; i++) {
+      if (west <= east) {
+        search(top, i, minLat, maxLat, west, east, result);
+      } else {
+        search(top, i, minLat, maxLat, west, Math.PI, result);
+        search(top, i, minLat, maxLat, -Math.PI, east, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Internal method to search an R-tree node.
+   * <p>
+   * @param level  the node level
+   * @param node   the node index
+   * @param minLat the minimum latitude
+   * @param maxLat the maximum latitude
+   * @param minLon the western longitude
+   * @param maxLon the eastern longitude
+   * @param result the list to add the intersecting shapes to
+   */
+  private void search(int level, int node, double minLat, double maxLat, double minLon, double maxLon, List<Shape> result) {
+    Boxes boxes = levels.get(level);
+    if (!boxes.intersects(node, minLat, maxLat, minLon, maxLon)) {
+      return;
+    }
+    if (level == 0) {
+      result.add(shapes[node]);
+      return;
+    }
+    int end = Math.min((node + 1) * NODE_SIZE, levels.get(level - 1).size);
+    for (int child = node * NODE_SIZE; child < end; child++) {
+      search(level - 1, child, minLat, maxLat, minLon, maxLon, result);
+    }
+  }
+
+  /**
+   * Internal method to list the serial numbers of the indicated Locations.
+   * <p>
+   * @param matches the Location indices
+   * @return the serial numbers, in document order
+   */
+  private List<TSerial> toSerials(BitSet matches) {
+    if (matches.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<TSerial> serials = new ArrayList<>(matches.cardinality());
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      serials.add(locations[i].getSerial());
+    }
+    return serials;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Coordinates">
+  /**
+   * Parse a SSRF latitude (e.g. "384512.5N").
+   * <p>
+   * @param latitude the latitude in the XmlAdapterLAT format
+   * @return the latitude (radians), or NaN if the latitude is not set, unknown
+   *         ("X") or invalid
+   */
+  public static double parseLatitude(TString latitude) {
+    return parse(latitude, 2, 'N', 'S', 90);
+  }
+
+  /**
+   * Parse a SSRF longitude (e.g. "0770230W").
+   * <p>
+   * @param longitude the longitude in the XmlAdapterLON format
+   * @return the longitude (radians), or NaN if the longitude is not set,
+   *         unknown ("X") or invalid
+   */
+  public static double parseLongitude(TString longitude) {
+    return parse(longitude, 3, 'E', 'W', 180);
+  }
+
+  /**
+   * Internal method to parse a degrees, minutes, seconds and hemisphere value.
+   * <p>
+   * @param value         the value. e.g. "384512.5N"
+   * @param degreeDigits  the number of degree digits
+   * @param positive      the positive hemisphere character
+   * @param negative      the negative hemisphere character
+   * @param maximum       the maximum number of degrees
+   * @return the value (radians), or NaN if invalid
+   */
+  private static double parse(TString value, int degreeDigits, char positive, char negative, int maximum) {
+    String string = value != null ? value.getValue() : null;
+    if (string == null || string.length() < degreeDigits + 5) {
+      return Double.NaN;
+    }
+    char hemisphere = string.charAt(string.length() - 1);
+    if (hemisphere != positive && hemisphere != negative) {
+      return Double.NaN;
+    }
+    int degrees = digits(string, 0, degreeDigits);
+    int minutes = digits(string, degreeDigits, degreeDigits + 2);
+    int wholeSeconds = digits(string, degreeDigits + 2, degreeDigits + 4);
+    if (degrees < 0 || minutes < 0 || minutes >= 60 || wholeSeconds < 0 || wholeSeconds >= 60) {
+      return Double.NaN;
+    }
+    double seconds = wholeSeconds;
+    int end = string.length() - 1;
+    if (end > degreeDigits + 4) {
+      if (string.charAt(degreeDigits + 4) != '.' || end == degreeDigits + 5) {
+        return Double.NaN;
+      }
+      int fraction = digits(string, degreeDigits + 5, end);
+      if (fraction < 0) {
+        return Double.NaN;
+      }
+      seconds += fraction / Math.pow(10, end - degreeDigits - 5);
+    }
+    double decimal = degrees + minutes / 60.0 + seconds / 3600.0;
+    if (decimal > maximum) {
+      return Double.NaN;
+    }
+    return Math.toRadians(hemisphere == negative ? -decimal : decimal);
+  }
+
+  /**
+   * Internal method to parse a run of decimal digits.
+   * <p>
+   * @param string the string
+   * @param from   the first index (inclusive)
+   * @param to     the last index (exclusive)
+   * @return the value, or -1 if a character is not a digit
+   */
+  private static int digits(String string, int from, int to) {
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      char c = string.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  /**
+   * Internal method to normalize a longitude to [-PI, PI].
+   * <p>
+   * @param lon the longitude (radians)
+   * @return the normalized longitude
+   */
+  private static double normalize(double lon) {
+    if (lon >= -Math.PI && lon <= Math.PI) {
+      return lon;
+    }
+    double normalized = lon % (2 * Math.PI);
+    if (normalized > Math.PI) {
+      normalized -= 2 * Math.PI;
+    } else if (normalized < -Math.PI) {
+      normalized += 2 * Math.PI;
+    }
+    return normalized;
+  }
+
+  /**
+   * Internal method to compute the bounding box of a circle.
+   * <p>
+   * @param lat      the center latitude
+   * @param lon      the center longitude
+   * @param distance the radius (km)
+   * @return the box as [minLat, maxLat, minLon, maxLon]
+   */
+  private static double[] boundingBox(double lat, double lon, double distance) {
+    double angle = distance / EARTH_RADIUS;
+    double minLat = lat - angle;
+    double maxLat = lat + angle;
+    if (minLat <= -Math.PI / 2 || maxLat >= Math.PI / 2 || angle >= Math.PI / 2) {
+      return new double[]{Math.max(minLat, -Math.PI / 2), Math.min(maxLat, Math.PI / 2), -Math.PI, Math.PI};
+    }
+    double deltaLon = Math.asin(Math.sin(angle) / Math.cos(lat));
+    return new double[]{minLat, maxLat, lon - deltaLon, lon + deltaLon};
+  }
+
+  /**
+   * Internal method to compute the great circle distance between two points.
+   * <p>
+   * @param lat1 the first latitude
+   * @param lon1 the first longitude
+   * @param lat2 the second latitude
+   * @param lon2 the second longitude
+   * @return the distance (km)
+   */
+  private static double distance(double lat1, double lon1, double lat2, double lon2) {
+    double sinLat = Math.sin((lat2 - lat1) / 2);
+    double sinLon = Math.sin((lon2 - lon1) / 2);
+    double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+    return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Build">
+  /**
+   * Internal method to read the shapes of a Location.
+   * <p>
+   * @param index    the Location index
+   * @param location the Location
+   * @param list     the list to add the shapes to
+   * @param boxes    the shape bounding boxes, one per shape item
+   */
+  private static void read(int index, Location location, List<Shape> list, Boxes boxes) {
+    if (location.isSetPoint()) {
+      for (Point point : location.getPoint()) {
+        double lat = parseLatitude(point.getLat());
+        double lon = parseLongitude(point.getLon());
+        if (!Double.isNaN(lat) && !Double.isNaN(lon)) {
+          add(new PointShape(index, point.getExcluded(), point.getAltitudeMin(), point.getAltitudeMax(), lat, lon),
+              lat, lat, lon, lon, list, boxes);
+        }
+      }
+    }
+    if (location.isSetPolygon()) {
+      for (Polygon polygon : location.getPolygon()) {
+        PolygonShape shape = PolygonShape.read(index, polygon);
+        if (shape != null) {
+          add(shape, shape.minLat, shape.maxLat, shape.minLon, shape.maxLon, list, boxes);
+        }
+      }
+    }
+    if (location.isSetEllipse()) {
+      for (Ellipse ellipse : location.getEllipse()) {
+        double lat = parseLatitude(ellipse.getLat());
+        double lon = parseLongitude(ellipse.getLon());
+        if (Double.isNaN(lat) || Double.isNaN(lon) || !isSet(ellipse.getSemiMajorAxis())) {
+          continue;
+        }
+        double semiMajor = ellipse.getSemiMajorAxis().doubleValue();
+        double semiMinor = isSet(ellipse.getSemiMinorAxis()) ? ellipse.getSemiMinorAxis().doubleValue() : semiMajor;
+        double azimuth = isSet(ellipse.getAzimuth()) ? Math.toRadians(ellipse.getAzimuth().doubleValue()) : 0;
+        double[] box = boundingBox(lat, lon, Math.max(semiMajor, semiMinor));
+        add(new EllipseShape(index, ellipse.getExcluded(), ellipse.getAltitudeMin(), ellipse.getAltitudeMax(), lat, lon, semiMajor, semiMinor, azimuth),
+            box[0], box[1], box[2], box[3], list, boxes);
+      }
+    }
+  }
+
+  /**
+   * Internal method to add a shape and its bounding box. A box crossing the
+   * antimeridian is split in two items referring to the same shape.
+   * <p>
+   * @param shape  the shape
+   * @param minLat the minimum latitude
+   * @param maxLat the maximum latitude
+   * @param minLon the western longitude (may be less than -PI)
+   * @param maxLon the eastern longitude (may be greater than PI)
+   * @param list   the shape list
+   * @param boxes  the shape bounding boxes
+   */
+  private static void add(Shape shape, double minLat, double maxLat, double minLon, double maxLon, List<Shape> list, Boxes boxes) {
+    if (maxLon - minLon >= 2 * Math.PI) {
+      minLon = -Math.PI;
+      maxLon = Math.PI;
+    }
+    if (minLon < -Math.PI) {
+      list.add(shape);
+      boxes.add(minLat, maxLat, minLon + 2 * Math.PI, Math.PI);
+      minLon = -Math.PI;
+    } else if (maxLon > Math.PI) {
+      list.add(shape);
+      boxes.add(minLat, maxLat, -Math.PI, maxLon - 2 * Math.PI);
+      maxLon = Math.PI;
+    }
+    list.add(shape);
+    boxes.add(minLat, maxLat, minLon, maxLon);
+  }
+
+  /**
+   * Internal method to determine if a decimal value is set.
+   * <p>
+   * @param value the value
+   * @return TRUE if the value is set
+   */
+  private static boolean isSet(TDecimal value) {
+    return value != null && value.isSetValue();
+  }
+
+  /**
+   * Internal method to compute the Sort-Tile-Recursive order of the shape
+   * bounding boxes: the boxes are sorted into vertical slices by longitude,
+   * then each slice by latitude.
+   * <p>
+   * @param boxes the shape bounding boxes
+   * @return the box order
+   */
+  private static int[] sortTileRecursive(final Boxes boxes) {
+    Integer[] order = new Integer[boxes.size];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer o1, Integer o2) {
+        return Double.compare(boxes.minLon[o1] + boxes.maxLon[o1], boxes.minLon[o2] + boxes.maxLon[o2]);
+      }
+    });
+    int nodes = (boxes.size + NODE_SIZE - 1) / NODE_SIZE;
+    int sliceSize = (int) Math.ceil(Math.sqrt(nodes)) * NODE_SIZE;
+    Comparator<Integer> byLat = new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer o1, Integer o2) {
+        return Double.compare(boxes.minLat[o1] + boxes.maxLat[o1], boxes.minLat[o2] + boxes.maxLat[o2]);
+      }
+    };
+    for (int from = 0; from < order.length; from += sliceSize) {
+      Arrays.sort(order, from, Math.min(from + sliceSize, order.length), byLat);
+    }
+    int[] result = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      result[i] = order[i];
+    }
+    return result;
+  }
+
+  /**
+   * The bounding boxes of the items of an R-tree level.
+   */
+  private static final class Boxes {
+
+    /**
+     * The minimum latitude of each box.
+     */
+    private double[] minLat;
+    /**
+     * The maximum latitude of each box.
+     */
+    private double[] maxLat;
+    /**
+     * The western longitude of each box.
+     */
+    private double[] minLon;
+    /**
+     * The eastern longitude of each box.
+     */
+    private double[] maxLon;
+    /**
+     * The number of boxes.
+     */
+    private int size;
+
+    public Boxes(int capacity) {
+      minLat = new double[capacity];
+      maxLat = new double[capacity];
+      minLon = new double[capacity];
+      maxLon = new double[capacity];
+    }
+
+    /**
+     * Add a box.
+     */
+    public void add(double minLat, double maxLat, double minLon, double maxLon) {
+      if (size == this.minLat.length) {
+        int capacity = size * 2;
+        this.minLat = Arrays.copyOf(this.minLat, capacity);
+        this.maxLat = Arrays.copyOf(this.maxLat, capacity);
+        this.minLon = Arrays.copyOf(this.minLon, capacity);
+        this.maxLon = Arrays.copyOf(this.maxLon, capacity);
+      }
+      this.minLat[size] = minLat;
+      this.maxLat[size] = maxLat;
+      this.minLon[size] = minLon;
+      this.maxLon[size] = maxLon;
+      size++;
+    }
+
+    /**
+     * Copy the boxes into arrays of their exact size.
+     */
+    public Boxes trim() {
+      Boxes trimmed = new Boxes(size);
+      for (int i = 0; i < size; i++) {
+        trimmed.add(minLat[i], maxLat[i], minLon[i], maxLon[i]);
+      }
+      return trimmed;
+    }
+
+    /**
+     * Copy the boxes in a new order.
+     */
+    public Boxes permute(int[] order) {
+      Boxes permuted = new Boxes(Math.max(1, size));
+      for (int i : order) {
+        permuted.add(minLat[i], maxLat[i], minLon[i], maxLon[i]);
+      }
+      return permuted;
+    }
+
+    /**
+     * Build the parent level: one box enclosing each run of NODE_SIZE boxes.
+     */
+    public Boxes group() {
+      Boxes parents = new Boxes((size + NODE_SIZE - 1) / NODE_SIZE);
+      for (int from = 0; from < size; from += NODE_SIZE) {
+        double south = Double.POSITIVE_INFINITY, north = Double.NEGATIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY, east = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < Math.min(from + NODE_SIZE, size); i++) {
+          south = Math.min(south, minLat[i]);
+          north = Math.max(north, maxLat[i]);
+          west = Math.min(west, minLon[i]);
+          east = Math.max(east, maxLon[i]);
+        }
+        parents.add(south, north, west, east);
+      }
+      return parents;
+    }
+
+    /**
+     * Determine if a box intersects another box. Neither box crosses the
+     * antimeridian.
+     */
+    public boolean intersects(int i, double minLat, double maxLat, double minLon, double maxLon) {
+      return this.minLat[i] <= maxLat && this.maxLat[i] >= minLat && this.minLon[i] <= maxLon && this.maxLon[i] >= minLon;
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Shapes">
+  /**
+   * A parsed Location shape.
+   */
+  private static abstract class Shape {
+
+    /**
+     * The Location index.
+     */
+    protected final int location;
+    /**
+     * TRUE if the shape is excluded from the Location.
+     */
+    protected final boolean excluded;
+    /**
+     * The minimum altitude (m), or negative infinity if unset.
+     */
+    protected final double altitudeMin;
+    /**
+     * The maximum altitude (m), or positive infinity if unset.
+     */
+    protected final double altitudeMax;
+
+    public Shape(int location, TString excluded, TDecimal altitudeMin, TDecimal altitudeMax) {
+      this.location = location;
+      this.excluded = excluded != null && ListCBO.YES.value().equals(excluded.getValue());
+      this.altitudeMin = isSet(altitudeMin) ? altitudeMin.doubleValue() : Double.NEGATIVE_INFINITY;
+      this.altitudeMax = isSet(altitudeMax) ? altitudeMax.doubleValue() : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Determine if the shape altitude band overlaps an altitude band.
+     */
+    public boolean isInAltitude(double min, double max) {
+      return altitudeMin <= max && altitudeMax >= min;
+    }
+
+    /**
+     * Determine if the shape contains a point.
+     */
+    public abstract boolean contains(double lat, double lon);
+
+    /**
+     * Determine if the shape is within a distance (km) of a point.
+     */
+    public abstract boolean isNear(double lat, double lon, double distance);
+  }
+
+  /**
+   * A Point shape. A point has no area.
+   */
+  private static final class PointShape extends Shape {
+
+    private final double lat;
+    private final double lon;
+
+    public PointShape(int location, TString excluded, TDecimal altitudeMin, TDecimal altitudeMax, double lat, double lon) {
+      super(location, excluded, altitudeMin, altitudeMax);
+      this.lat = lat;
+      this.lon = lon;
+    }
+
+    @Override
+    public boolean contains(double lat, double lon) {
+      return false;
+    }
+
+    @Override
+    public boolean isNear(double lat, double lon, double distance) {
+      return distance(this.lat, this.lon, lat, lon) <= distance;
+    }
+  }
+
+  /**
+   * A Polygon shape. The vertex longitudes are unwrapped relative to the first
+   * vertex so that a polygon crossing the antimeridian is continuous.
+   */
+  private static final class PolygonShape extends Shape {
+
+    private final double[] lats;
+    private final double[] lons;
+    private double minLat = Double.POSITIVE_INFINITY;
+    private double maxLat = Double.NEGATIVE_INFINITY;
+    private double minLon = Double.POSITIVE_INFINITY;
+    private double maxLon = Double.NEGATIVE_INFINITY;
+
+    private PolygonShape(int location, Polygon polygon, double[] lats, double[] lons) {
+      super(location, polygon.getExcluded(), polygon.getAltitudeMin(), polygon.getAltitudeMax());
+      this.lats = lats;
+      this.lons = lons;
+      for (int i = 0; i < lats.length; i++) {
+        minLat = Math.min(minLat, lats[i]);
+        maxLat = Math.max(maxLat, lats[i]);
+        minLon = Math.min(minLon, lons[i]);
+        maxLon = Math.max(maxLon, lons[i]);
+      }
+    }
+
+    /**
+     * Parse a Polygon. The vertices are read in sequence order.
+     * <p>
+     * @return the shape, or null if the polygon has fewer than three valid
+     *         vertices
+     */
+    public static PolygonShape read(int location, Polygon polygon) {
+      if (!polygon.isSetPolygonPoint() || polygon.getPolygonPoint().size() < 3) {
+        return null;
+      }
+      List<PolygonPoint> points = new ArrayList<>(polygon.getPolygonPoint());
+      Collections.sort(points, new Comparator<PolygonPoint>() {
+
+        @Override
+        public int compare(PolygonPoint o1, PolygonPoint o2) {
+          BigInteger s1 = o1.getSequence(), s2 = o2.getSequence();
+          return s1 == null ? (s2 == null ? 0 : 1) : (s2 == null ? -1 : s1.compareTo(s2));
+        }
+      });
+      double[] lats = new double[points.size()];
+      double[] lons = new double[points.size()];
+      for (int i = 0; i < lats.length; i++) {
+        lats[i] = parseLatitude(points.get(i).getLat());
+        lons[i] = parseLongitude(points.get(i).getLon());
+        if (Double.isNaN(lats[i]) || Double.isNaN(lons[i])) {
+          return null;
+        }
+        if (i > 0) {
+          lons[i] = lons[i - 1] + normalize(lons[i] - lons[i - 1]);
+        }
+      }
+      return new PolygonShape(location, polygon, lats, lons);
+    }
+
+    /**
+     * Ray casting test in the (unwrapped) latitude / longitude plane.
+     */
+    @Override
+    public boolean contains(double lat, double lon) {
+      double x = unwrap(lon);
+      boolean inside = false;
+      for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+        if ((lats[i] > lat) != (lats[j] > lat)
+            && x < (lons[j] - lons[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lons[i]) {
+          inside = !inside;
+        }
+      }
+      return inside;
+    }
+
+    @Override
+    public boolean isNear(double lat, double lon, double distance) {
+      if (contains(lat, lon)) {
+        return true;
+      }
+      /**
+       * Project the edges onto a plane tangent at the point and find the
+       * nearest edge.
+       */
+      double x0 = unwrap(lon);
+      double scale = EARTH_RADIUS * Math.cos(lat);
+      for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+        double ax = (lons[j] - x0) * scale, ay = (lats[j] - lat) * EARTH_RADIUS;
+        double bx = (lons[i] - x0) * scale, by = (lats[i] - lat) * EARTH_RADIUS;
+        double dx = bx - ax, dy = by - ay;
+        double length = dx * dx + dy * dy;
+        double t = length > 0 ? Math.max(0, Math.min(1, -(ax * dx + ay * dy) / length)) : 0;
+        double px = ax + t * dx, py = ay + t * dy;
+        if (px * px + py * py <= distance * distance) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Express a longitude in the unwrapped longitude range of the polygon.
+     */
+    private double unwrap(double lon) {
+      double center = (minLon + maxLon) / 2;
+      return center + normalize(lon - center);
+    }
+  }
+
+  /**
+   * An Ellipse shape.
+   */
+  private static final class EllipseShape extends Shape {
+
+    private final double lat;
+    private final double lon;
+    private final double semiMajor;
+    private final double semiMinor;
+    private final double sinAzimuth;
+    private final double cosAzimuth;
+
+    public EllipseShape(int location, TString excluded, TDecimal altitudeMin, TDecimal altitudeMax,
+                        double lat, double lon, double semiMajor, double semiMinor, double azimuth) {
+      super(location, excluded, altitudeMin, altitudeMax);
+      this.lat = lat;
+      this.lon = lon;
+      this.semiMajor = semiMajor;
+      this.semiMinor = semiMinor;
+      this.sinAzimuth = Math.sin(azimuth);
+      this.cosAzimuth = Math.cos(azimuth);
+    }
+
+    @Override
+    public boolean contains(double lat, double lon) {
+      return isInside(lat, lon, semiMajor, semiMinor);
+    }
+
+    @Override
+    public boolean isNear(double lat, double lon, double distance) {
+      return isInside(lat, lon, semiMajor + distance, semiMinor + distance);
+    }
+
+    /**
+     * Determine if a point is inside an ellipse with the same center and
+     * azimuth. The azimuth of the major axis is measured clockwise from true
+     * north.
+     */
+    private boolean isInside(double lat, double lon, double major, double minor) {
+      double east = normalize(lon - this.lon) * Math.cos(this.lat) * EARTH_RADIUS;
+      double north = (lat - this.lat) * EARTH_RADIUS;
+      double u = east * sinAzimuth + north * cosAzimuth;
+      double v = east * cosAzimuth - north * sinAzimuth;
+      if (major <= 0 || minor <= 0) {
+        return u == 0 && v == 0;
+      }
+      return (u * u) / (major * major) + (v * v) / (minor * minor) <= 1;
+    }
+  }//</editor-fold>
+}
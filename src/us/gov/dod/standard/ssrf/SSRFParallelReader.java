@@ -0,0 +1,572 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import us.gov.dod.standard.ssrf._3_0.*;
+
+/**
+ * A memory-mapped, parallel SSRF document reader.
+ * <p>
+ * This reader is intended for very large (multi-gigabyte) SSRF archives. The
+ * document file is memory-mapped and a fast byte-level pre-scan locates the
+ * boundaries of each top-level dataset element beneath the &lt;SSRF&gt; root.
+ * The dataset fragments are then unmarshalled in parallel on a
+ * {@link ForkJoinPool}, merged in document order into a single SSRF instance
+ * and finally processed by {@link SSRFUtility#postLoad(SSRF)}. The result is
+ * identical to {@link SSRF#fromXml(Path)}.
+ * <p>
+ * Example:
+ * <pre>
+ * SSRF ssrf = SSRFParallelReader.read(path);
+ * </pre>
+ * <p>
+ * Developer note: The pre-scan operates directly on the encoded bytes and
+ * therefore requires an ASCII-compatible document encoding (e.g. UTF-8, the
+ * default, or ISO-8859-1). Documents declaring a DTD internal subset are not
+ * supported because entity declarations cannot be applied to the individual
+ * fragments.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFParallelReader {
+
+  /**
+   * 1 GB. The size of each memory-mapped file segment. A single
+   * MappedByteBuffer is limited to 2 GB.
+   */
+  private static final int SEGMENT_SHIFT = 30;
+  /**
+   * The segment offset bit mask.
+   */
+  private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+  /**
+   * The number of fork/join leaf tasks to create per available worker thread.
+   * Several tasks per thread allow work-stealing to balance fragments of
+   * uneven size.
+   */
+  private static final int TASKS_PER_THREAD = 8;
+  /**
+   * The XML declaration encoding pattern.
+   */
+  private static final Pattern ENCODING = Pattern.compile("encoding\\s*=\\s*[\"']([A-Za-z0-9._:-]+)[\"']");
+
+  /**
+   * The memory-mapped document segments.
+   */
+  private final MappedByteBuffer[] segments;
+  /**
+   * The document size in bytes.
+   */
+  private final long size;
+  /**
+   * The document character encoding.
+   */
+  private Charset charset = StandardCharsets.UTF_8;
+  /**
+   * The XML declaration and root element start tag, copied verbatim. This is
+   * prefixed to each fragment so that namespace declarations remain in scope.
+   */
+  private byte[] header;
+  /**
+   * The root element end tag, appended to each fragment.
+   */
+  private byte[] footer;
+
+  /**
+   * Construct a new reader and memory-map the indicated file.
+   * <p>
+   * @param path the SSRF XML document file path
+   * @throws IOException if the file cannot be mapped
+   */
+  private SSRFParallelReader(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      this.size = channel.size();
+      this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+      for (int i = 0; i < segments.length; i++) {
+        long position = (long) i << SEGMENT_SHIFT;
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_MASK + 1, size - position));
+      }
+    }
+  }
+
+  /**
+   * Read a SSRF XML document file using all available processors.
+   * <p>
+   * @param path the SSRF XML document file path
+   * @return A SSRF software object instance
+   * @throws IOException        if the file cannot be read or is not a
+   *                            well-formed SSRF document
+   * @throws JAXBException      if a dataset fails to unmarshal
+   * @throws XMLStreamException if a dataset is not well-formed XML
+   */
+  public static SSRF read(Path path) throws IOException, JAXBException, XMLStreamException {
+    ForkJoinPool pool = new ForkJoinPool();
+    try {
+      return read(path, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Read a SSRF XML document file using the indicated fork/join pool.
+   * <p>
+   * Datasets are added to the returned SSRF instance in document order
+   * regardless of the order in which they are unmarshalled.
+   * <p>
+   * @param path the SSRF XML document file path
+   * @param pool the fork/join pool on which to unmarshal the datasets
+   * @return A SSRF software object instance
+   * @throws IOException        if the file cannot be read or is not a
+   *                            well-formed SSRF document
+   * @throws JAXBException      if a dataset fails to unmarshal
+   * @throws XMLStreamException if a dataset is not well-formed XML
+   */
+  public static SSRF read(Path path, ForkJoinPool pool) throws IOException, JAXBException, XMLStreamException {
+    SSRFParallelReader reader = new SSRFParallelReader(path);
+    List<long[]> fragments = reader.scan();
+    Common<?>[] datasets = new Common<?>[fragments.size()];
+    /**
+     * Unmarshal the fragments in parallel. Each task writes only to its own
+     * slots in the result array, which preserves document order.
+     */
+    int threshold = Math.max(1, fragments.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+    try {
+      pool.invoke(reader.new UnmarshalTask(fragments, datasets, 0, fragments.size(), threshold));
+    } catch (FragmentException exception) {
+      if (exception.getCause() instanceof JAXBException) {
+        throw (JAXBException) exception.getCause();
+      } else if (exception.getCause() instanceof XMLStreamException) {
+        throw (XMLStreamException) exception.getCause();
+      }
+      throw new IOException(exception.getCause());
+    }
+    /**
+     * Merge the datasets into a single SSRF instance then post-load.
+     */
+    SSRF ssrf = new SSRF();
+    for (Common<?> dataset : datasets) {
+      ssrf.addDataset(dataset);
+    }
+    return SSRFUtility.postLoad(ssrf);
+  }
+
+  /**
+   * Get the byte at the indicated document position.
+   * <p>
+   * @param position the document position
+   * @return the byte value
+   */
+  private byte byteAt(long position) {
+    return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+  }
+
+  /**
+   * Determine if the document contains the indicated ASCII string at the
+   * indicated position.
+   * <p>
+   * @param position the document position
+   * @param ascii    the ASCII string to match
+   * @return TRUE if the bytes match
+   */
+  private boolean matches(long position, String ascii) {
+    if (position + ascii.length() > size) {
+      return false;
+    }
+    for (int i = 0; i < ascii.length(); i++) {
+      if (byteAt(position + i) != ascii.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Find the position of the first occurrence of an ASCII string at or after
+   * the indicated position.
+   * <p>
+   * @param position the document position from which to search
+   * @param ascii    the ASCII string to find
+   * @return the position of the first byte of the match
+   * @throws IOException if the string is not found
+   */
+  private long find(long position, String ascii) throws IOException {
+    byte first = (byte) ascii.charAt(0);
+    for (long i = position; i < size; i++) {
+      if (byteAt(i) == first && matches(i, ascii)) {
+        return i;
+      }
+    }
+    throw new IOException("Malformed SSRF document: missing \"" + ascii + "\" after byte " + position + ".");
+  }
+
+  /**
+   * Find the end of the tag starting at the indicated position, honoring quoted
+   * attribute values.
+   * <p>
+   * @param position the position of the tag opening '&lt;'
+   * @return the position of the tag closing '&gt;'
+   * @throws IOException if the tag is not terminated
+   */
+  private long findTagEnd(long position) throws IOException {
+    byte quote = 0;
+    for (long i = position + 1; i < size; i++) {
+      byte b = byteAt(i);
+      if (quote != 0) {
+        if (b == quote) {
+          quote = 0;
+        }
+      } else if (b == '"' || b == '\'') {
+        quote = b;
+      } else if (b == '>') {
+        return i;
+      }
+    }
+    throw new IOException("Malformed SSRF document: unterminated tag at byte " + position + ".");
+  }
+
+  /**
+   * Get the element name (excluding any namespace prefix) of the start tag at
+   * the indicated position.
+   * <p>
+   * @param position the position of the tag opening '&lt;'
+   * @return the element local name
+   */
+  private String elementName(long position) {
+    StringBuilder sb = new StringBuilder();
+    for (long i = position + 1; i < size; i++) {
+      byte b = byteAt(i);
+      if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+        break;
+      } else if (b == ':') {
+        sb.setLength(0);
+      } else {
+        sb.append((char) b);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Copy a range of the document into a new byte array.
+   * <p>
+   * @param start the start position (inclusive)
+   * @param end   the end position (exclusive)
+   * @return the document bytes
+   */
+  private byte[] copy(long start, long end) {
+    byte[] bytes = new byte[(int) (end - start)];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = byteAt(start + i);
+    }
+    return bytes;
+  }
+
+  /**
+   * Pre-scan the document to locate the top-level dataset elements.
+   * <p>
+   * This method tracks only element depth; it does not parse attributes or
+   * content. Comments, CDATA sections and processing instructions are skipped.
+   * Top-level elements that are not SSRF datasets are ignored.
+   * <p>
+   * @return a list of {start, end} document positions (end exclusive), one per
+   *         dataset, in document order
+   * @throws IOException if the document is not a well-formed SSRF document
+   */
+  private List<long[]> scan() throws IOException {
+    List<long[]> fragments = new ArrayList<>();
+    /**
+     * Locate the root element start tag, skipping the XML declaration,
+     * comments and processing instructions.
+     */
+    long position = 0;
+    String declaration = "";
+    while (true) {
+      position = find(position, "<");
+      if (matches(position, "<?")) {
+        long end = find(position, "?>") + 2;
+        if (matches(position, "<?xml ")) {
+          declaration = new String(copy(position, end), StandardCharsets.US_ASCII);
+          Matcher matcher = ENCODING.matcher(declaration);
+          if (matcher.find()) {
+            charset = Charset.forName(matcher.group(1));
+          }
+        }
+        position = end;
+      } else if (matches(position, "<!--")) {
+        position = find(position, "-->") + 3;
+      } else if (matches(position, "<!")) {
+        long end = findTagEnd(position);
+        for (long i = position; i < end; i++) {
+          if (byteAt(i) == '[') {
+            throw new IOException("SSRF documents with a DTD internal subset are not supported.");
+          }
+        }
+        position = end + 1;
+      } else {
+        break;
+      }
+    }
+    if (!Arrays.equals("<SSRF>".getBytes(charset), "<SSRF>".getBytes(StandardCharsets.US_ASCII))) {
+      throw new IOException("SSRF document encoding " + charset + " is not ASCII-compatible.");
+    }
+    long rootEnd = findTagEnd(position);
+    String rootName = new String(copy(position + 1, position + 1 + qualifiedNameLength(position)), StandardCharsets.US_ASCII);
+    if (!"SSRF".equals(rootName.substring(rootName.indexOf(':') + 1))) {
+      throw new IOException("Not a SSRF document. Root element is \"" + rootName + "\".");
+    }
+    if (byteAt(rootEnd - 1) == '/') {
+      /**
+       * An empty (self-closing) root element.
+       */
+      return fragments;
+    }
+    header = concat(declaration.getBytes(StandardCharsets.US_ASCII), copy(position, rootEnd + 1));
+    footer = ("</" + rootName + ">").getBytes(StandardCharsets.US_ASCII);
+    /**
+     * Scan the root element content. Depth is one (1) inside the root.
+     */
+    int depth = 1;
+    long fragmentStart = -1;
+    boolean dataset = false;
+    position = rootEnd + 1;
+    while (depth > 0) {
+      position = find(position, "<");
+      if (matches(position, "<!--")) {
+        position = find(position, "-->") + 3;
+      } else if (matches(position, "<![CDATA[")) {
+        position = find(position, "]]>") + 3;
+      } else if (matches(position, "<?")) {
+        position = find(position, "?>") + 2;
+      } else if (matches(position, "</")) {
+        position = findTagEnd(position) + 1;
+        depth--;
+        if (depth == 1 && dataset) {
+          fragments.add(new long[]{fragmentStart, position});
+        }
+      } else {
+        long end = findTagEnd(position);
+        boolean empty = byteAt(end - 1) == '/';
+        if (depth == 1) {
+          fragmentStart = position;
+          dataset = SSRFStreamReader.getDatasetType(elementName(position)) != null;
+          if (empty && dataset) {
+            fragments.add(new long[]{fragmentStart, end + 1});
+          }
+        }
+        if (!empty) {
+          depth++;
+        }
+        position = end + 1;
+      }
+    }
+    return fragments;
+  }
+
+  /**
+   * Get the length of the qualified element name (including any namespace
+   * prefix) of the tag at the indicated position.
+   * <p>
+   * @param position the position of the tag opening '&lt;'
+   * @return the qualified name length
+   */
+  private int qualifiedNameLength(long position) {
+    long i = position + 1;
+    while (i < size) {
+      byte b = byteAt(i);
+      if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+        break;
+      }
+      i++;
+    }
+    return (int) (i - position - 1);
+  }
+
+  /**
+   * Concatenate two byte arrays.
+   * <p>
+   * @param a the first array
+   * @param b the second array
+   * @return a new array containing a followed by b
+   */
+  private static byte[] concat(byte[] a, byte[] b) {
+    byte[] bytes = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, bytes, a.length, b.length);
+    return bytes;
+  }
+
+  /**
+   * Unmarshal a single dataset fragment.
+   * <p>
+   * The fragment is wrapped in the original XML declaration and root element
+   * tags so that the character encoding and all namespace declarations are in
+   * scope.
+   * <p>
+   * @param unmarshaller the unmarshaller to use
+   * @param fragment     the {start, end} document positions
+   * @return the dataset
+   * @throws XMLStreamException if the fragment is not well-formed XML
+   * @throws JAXBException      if the fragment fails to unmarshal
+   */
+  private Common<?> unmarshal(Unmarshaller unmarshaller, long[] fragment) throws XMLStreamException, JAXBException {
+    InputStream inputStream = new SequenceInputStream(new SequenceInputStream(new ByteArrayInputStream(header),
+                                                                              new MappedInputStream(fragment[0], fragment[1])),
+                                                      new ByteArrayInputStream(footer));
+    XMLStreamReader reader = SSRFStreamReader.newXMLInputFactory().createXMLStreamReader(inputStream, charset.name());
+    try {
+      reader.nextTag();
+      reader.nextTag();
+      return unmarshaller.unmarshal(reader, SSRFStreamReader.getDatasetType(reader.getLocalName())).getValue();
+    } finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * An input stream over a range of the memory-mapped document.
+   */
+  private class MappedInputStream extends InputStream {
+
+    /**
+     * The current document position.
+     */
+    private long position;
+    /**
+     * The end document position (exclusive).
+     */
+    private final long end;
+
+    public MappedInputStream(long start, long end) {
+      this.position = start;
+      this.end = end;
+    }
+
+    @Override
+    public int read() {
+      return position < end ? byteAt(position++) & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (position >= end) {
+        return -1;
+      }
+      /**
+       * Copy no further than the end of the current segment. Duplicate the
+       * segment buffer so that concurrent readers do not share a position.
+       */
+      int offset = (int) (position & SEGMENT_MASK);
+      MappedByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+      int count = (int) Math.min(Math.min(len, end - position), segment.limit() - offset);
+      ByteBuffer buffer = segment.duplicate();
+      buffer.position(offset);
+      buffer.get(b, off, count);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return (int) Math.min(Integer.MAX_VALUE, end - position);
+    }
+  }
+
+  /**
+   * A fork/join task to unmarshal a contiguous range of dataset fragments.
+   */
+  private class UnmarshalTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<long[]> fragments;
+    private final Common<?>[] datasets;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    public UnmarshalTask(List<long[]> fragments, Common<?>[] datasets, int from, int to, int threshold) {
+      this.fragments = fragments;
+      this.datasets = datasets;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > threshold) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new UnmarshalTask(fragments, datasets, from, middle, threshold),
+                  new UnmarshalTask(fragments, datasets, middle, to, threshold));
+        return;
+      }
+      /**
+       * Leaf task: borrow one unmarshaller for the whole range.
+       */
+      try {
+        SSRFContext context = SSRFContext.getInstance(SSRF.class);
+        Unmarshaller unmarshaller = context.acquireUnmarshaller();
+        try {
+          for (int i = from; i < to; i++) {
+            datasets[i] = unmarshal(unmarshaller, fragments.get(i));
+          }
+        } finally {
+          context.release(unmarshaller);
+        }
+      } catch (JAXBException | XMLStreamException exception) {
+        throw new FragmentException(exception);
+      }
+    }
+  }
+
+  /**
+   * Unchecked wrapper used to carry a checked exception out of a fork/join
+   * task.
+   */
+  private static class FragmentException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public FragmentException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * A parallel SSRF validator.
+ * <p>
+ * The top-level datasets of a SSRF instance (Assignment, Transmitter, Location,
+ * etc.) are validated independently of each other; only the root
+ * classification is inherited. This validator lists the root fields and
+ * dataset entries in traversal order, splits the list into contiguous ranges
+ * and validates each range on an {@link Executor} (by default a
+ * {@link ForkJoinPool}) into its own forked {@link SSRFValidationResult}. The
+ * forks are then merged in traversal order, so the result is identical to
+ * {@link SSRFUtility#evaluate(Object, SSRFValidationResult)}: the same
+ * violations in the same order, the same counts and, in FAIL_FAST mode, the
+ * same first violation.
+ * <p>
+ * Example:
+ * <pre>
+ * SSRFValidationResult result = SSRFParallelValidator.evaluate(ssrf, new SSRFValidationResult());
+ * </pre>
+ * <p>
+ * Developer note: Validation only reads the SSRF instance. It must not be
+ * modified while it is validated. Assembly (properties and prepare) modifies
+ * the root instance and is therefore not parallelized; see
+ * {@link SSRF#evaluate(SSRFValidationResult, Executor)}.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFParallelValidator {
+
+  /**
+   * The number of tasks to create per available processor. Several tasks per
+   * processor balance datasets of uneven size.
+   */
+  private static final int TASKS_PER_THREAD = 8;
+
+  /**
+   * A unit of validation work: a root field value or a root collection entry.
+   */
+  static class Unit {
+
+    /**
+     * The root field.
+     */
+    final FieldDescriptor field;
+    /**
+     * The field value or collection entry. Null if the field is not set.
+     */
+    final Object value;
+    /**
+     * The collection entry index, or -1 for a single-valued field.
+     */
+    final int index;
+
+    public Unit(FieldDescriptor field, Object value, int index) {
+      this.field = field;
+      this.value = value;
+      this.index = index;
+    }
+  }
+
+  /**
+   * Holder of the shared fork/join pool, created on first use. (The common
+   * pool {@code ForkJoinPool.commonPool()} requires Java 8.)
+   */
+  private static class SharedPool {
+
+    /**
+     * A fork/join pool sized to the available processors. Its worker threads
+     * are daemon threads and are released when idle.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+  }
+
+  private SSRFParallelValidator() {
+  }
+
+  /**
+   * Evaluate a SSRF Object instance using all available processors. The
+   * validation tasks run on a fork/join pool shared by all callers.
+   * <p>
+   * @param instance the object instance to validate
+   * @param result   the validation result to record violations into
+   * @return the validation result, to support method chaining
+   */
+  public static SSRFValidationResult evaluate(Object instance, SSRFValidationResult result) {
+    return evaluate(instance, result, SharedPool.POOL);
+  }
+
+  /**
+   * Evaluate a SSRF Object instance using the indicated executor.
+   * <p>
+   * The calling thread waits for the validation tasks to complete. It must
+   * therefore not be a thread of a bounded executor with no free threads (e.g.
+   * a single thread executor running this method).
+   * <p>
+   * @param instance the object instance to validate
+   * @param result   the validation result to record violations into
+   * @param executor the executor on which to run the validation tasks
+   * @return the validation result, to support method chaining
+   * @throws IllegalStateException if the calling thread is interrupted while
+   *                               waiting
+   */
+  public static SSRFValidationResult evaluate(Object instance, SSRFValidationResult result, Executor executor) {
+    result.begin(instance);
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(instance);
+    if (!descriptor.isInspectable()) {
+      return result;
+    }
+    /**
+     * Set up the root exactly as the sequential traversal does: record the
+     * serial (if any) and take the root classification as the parent
+     * classification of every dataset.
+     */
+    if (descriptor.getSerialField() != null) {
+      result.setSerial(descriptor.getSerialField().get(instance));
+    }
+    ListCCL cls = null;
+    for (FieldDescriptor field : descriptor.getClsFields()) {
+      cls = (ListCCL) field.get(instance);
+    }
+    List<Unit> units = listUnits(instance, descriptor);
+    if (units.isEmpty()) {
+      return result;
+    }
+    /**
+     * Validate contiguous ranges of units in parallel, each into its own fork.
+     * In FAIL_FAST mode a range stops once an earlier range has failed.
+     */
+    int taskCount = Math.min(units.size(), Runtime.getRuntime().availableProcessors() * TASKS_PER_THREAD);
+    AtomicInteger failed = new AtomicInteger(Integer.MAX_VALUE);
+    SSRFValidationResult[] forks = new SSRFValidationResult[taskCount];
+    List<FutureTask<Void>> tasks = new ArrayList<>(taskCount);
+    for (int task = 0; task < taskCount; task++) {
+      forks[task] = result.fork();
+      FutureTask<Void> futureTask = new FutureTask<>(new ValidateTask(units,
+                                                                      task * units.size() / taskCount,
+                                                                      (task + 1) * units.size() / taskCount,
+                                                                      task,
+                                                                      cls,
+                                                                      forks[task],
+                                                                      failed), null);
+      tasks.add(futureTask);
+      executor.execute(futureTask);
+    }
+    try {
+      for (FutureTask<Void> futureTask : tasks) {
+        futureTask.get();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Parallel validation was interrupted.", exception);
+    } catch (ExecutionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw new IllegalStateException(exception.getCause());
+    }
+    /**
+     * Merge the forks in traversal order.
+     */
+    for (SSRFValidationResult fork : forks) {
+      result.merge(fork);
+    }
+    return result;
+  }
+
+  /**
+   * List the units of validation work of an instance: each root field value
+   * and each (non-null) root collection entry, in traversal order.
+   * <p>
+   * @param instance   the root instance
+   * @param descriptor the root instance class descriptor
+   * @return the units of work in traversal order
+   */
+  static List<Unit> listUnits(Object instance, SSRFClassDescriptor descriptor) {
+    List<Unit> units = new ArrayList<>();
+    for (FieldDescriptor field : descriptor.getFields()) {
+      Object fieldValue = field.get(instance);
+      if (fieldValue != null && field.isCollection(fieldValue)) {
+        int index = 0;
+        for (Object entry : (Collection<?>) fieldValue) {
+          if (entry != null) {
+            units.add(new Unit(field, entry, index));
+          }
+          index++;
+        }
+      } else {
+        units.add(new Unit(field, fieldValue, -1));
+      }
+    }
+    return units;
+  }
+
+  /**
+   * Validate a contiguous range of units into a forked validation result.
+   */
+  private static class ValidateTask implements Runnable {
+
+    private final List<Unit> units;
+    private final int from;
+    private final int to;
+    private final int task;
+    private final ListCCL cls;
+    private final SSRFValidationResult fork;
+    private final AtomicInteger failed;
+
+    public ValidateTask(List<Unit> units, int from, int to, int task, ListCCL cls, SSRFValidationResult fork, AtomicInteger failed) {
+      this.units = units;
+      this.from = from;
+      this.to = to;
+      this.task = task;
+      this.cls = cls;
+      this.fork = fork;
+      this.failed = failed;
+    }
+
+    @Override
+    public void run() {
+      for (int i = from; i < to; i++) {
+        /**
+         * FAIL_FAST: the result of this range is not needed if an earlier range
+         * has failed.
+         */
+        if (failed.get() < task) {
+          return;
+        }
+        Unit unit = units.get(i);
+        SSRFUtility.inspect(unit.field, unit.value, unit.index, cls, fork);
+        if (fork.isComplete()) {
+          int current = failed.get();
+          while (task < current && !failed.compareAndSet(current, task)) {
+            current = failed.get();
+          }
+          return;
+        }
+      }
+    }
+  }
+}
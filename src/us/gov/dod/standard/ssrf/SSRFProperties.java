@@ -17,10 +17,14 @@ package us.gov.dod.standard.ssrf;
 
 import java.io.*;
 import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.Calendar;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.InvalidPropertiesFormatException;
 import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -46,6 +50,19 @@ public class SSRFProperties extends Properties {
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * The compiled profile (see {@link #getProfile()}). Discarded when the
+   * properties table is modified.
+   * <p>
+   * Developer note: Only put, putAll, remove and clear discard the profile
+   * directly. Other mutation paths (the Java 8 replace, putIfAbsent, compute,
+   * merge and replaceAll methods, which cannot be overridden from Java 7
+   * source, and removal through the collection views) are detected when the
+   * profile is used: the profile is recompiled if the table size has changed
+   * or if the value of the matched key no longer matches the table.
+   */
+  private transient volatile Profile profile;
+
   /**
    * Get an instance of the default SSRF properties configuration.
    * <p>
@@ -137,22 +154,257 @@ public class SSRFProperties extends Properties {
    */
   public String getProperty(String classPath, String fieldName, String defaultValue) {
     /**
-     * First try a specific match for the full class path PLUS field.
+     * First try a specific match for the full class path PLUS field. If the
+     * matched key has since been changed then recompile the profile and try
+     * again.
      */
-    Pattern p = Pattern.compile(classPath + "\\." + fieldName + "$");
-    for (Map.Entry<Object, Object> entry : entrySet()) {
-      Matcher m = p.matcher((String) entry.getKey());
-      if (m.find()) {
-        return (String) entry.getValue();
-      }
+    Profile compiled = getProfile();
+    Node node = compiled.find(classPath, fieldName);
+    if (node != null && !node.match.equals(get(node.key))) {
+      node = recompile(compiled).find(classPath, fieldName);
+    }
+    if (node != null) {
+      return node.match;
     }
     /**
      * If the specific match failed then try for a global match. If no global
      * value is set then return the user-defined default value.
      */
-    return getProperty(fieldName) != null ? getProperty(fieldName) : defaultValue;
+    String value = getProperty(fieldName);
+    return value != null ? value : defaultValue;
   }
 
+  //<editor-fold defaultstate="collapsed" desc="Compiled Profile">
+  /**
+   * Get the compiled profile of this properties table. The profile is compiled
+   * on first use and discarded when the table is modified or its size no
+   * longer matches the table.
+   * <p>
+   * @return the compiled profile
+   */
+  private Profile getProfile() {
+    Profile compiled = profile;
+    if (compiled == null || compiled.size != size()) {
+      compiled = recompile(compiled);
+    }
+    return compiled;
+  }
+
+  /**
+   * Replace a stale compiled profile. If another thread has already replaced
+   * it then that profile is used.
+   * <p>
+   * @param stale the stale profile. May be null.
+   * @return the compiled profile
+   */
+  private synchronized Profile recompile(Profile stale) {
+    Profile compiled = profile;
+    if (compiled == null || compiled == stale) {
+      compiled = new Profile(this);
+      profile = compiled;
+    }
+    return compiled;
+  }
+
+  @Override
+  public synchronized Object put(Object key, Object value) {
+    profile = null;
+    return super.put(key, value);
+  }
+
+  @Override
+  public synchronized void putAll(Map<?, ?> t) {
+    profile = null;
+    super.putAll(t);
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    profile = null;
+    return super.remove(key);
+  }
+
+  @Override
+  public synchronized void clear() {
+    profile = null;
+    super.clear();
+  }
+
+  /**
+   * An immutable, compiled SSRF properties profile.
+   * <p>
+   * Property keys are dot-delimited class paths ending with a field name (e.g.
+   * "SSRF.Contact.TSerial.organisation" or "TSerial.organisation"). A key
+   * matches a class path and field if it ends with the class path plus field.
+   * The keys are compiled into a suffix trie: the first level is keyed by
+   * field name and each subsequent level by the preceding class name. A lookup
+   * therefore walks the class path backwards, one node per class name, instead
+   * of matching every key.
+   */
+  private static final class Profile {
+
+    /**
+     * The trie root node for each field name.
+     */
+    private final Map<String, Node> fields;
+    /**
+     * The size of the properties table when the profile was compiled.
+     */
+    private final int size;
+
+    public Profile(Properties properties) {
+      this.size = properties.size();
+      Map<String, NodeBuilder> builders = new HashMap<>();
+      for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+        if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof String)) {
+          continue;
+        }
+        String[] names = ((String) entry.getKey()).split("\\.");
+        NodeBuilder builder = builders.get(names[names.length - 1]);
+        if (builder == null) {
+          builder = new NodeBuilder();
+          builders.put(names[names.length - 1], builder);
+        }
+        for (int i = names.length - 2; i >= 0; i--) {
+          builder = builder.child(names[i]);
+        }
+        builder.key = (String) entry.getKey();
+        builder.value = (String) entry.getValue();
+      }
+      this.fields = new HashMap<>(builders.size() * 2);
+      for (Map.Entry<String, NodeBuilder> entry : builders.entrySet()) {
+        fields.put(entry.getKey(), entry.getValue().build());
+      }
+    }
+
+    /**
+     * Find the key ending with the indicated class path plus field. If several
+     * keys match the shortest is used.
+     * <p>
+     * @param classPath the dot-delimited class path. A leading dot is ignored.
+     * @param fieldName the field name
+     * @return the node of the matching key, if present; otherwise NULL.
+     */
+    public Node find(String classPath, String fieldName) {
+      Node node = fields.get(fieldName);
+      int end = classPath.length();
+      while (node != null && end > 0) {
+        int start = classPath.lastIndexOf('.', end - 1) + 1;
+        if (start == end) {
+          /**
+           * Skip the empty name preceding a leading (or doubled) dot.
+           */
+          end = start - 1;
+          continue;
+        }
+        node = node.child(classPath, start, end - start);
+        end = start - 1;
+      }
+      return node != null && node.match != null ? node : null;
+    }
+  }
+
+  /**
+   * An immutable suffix trie node.
+   */
+  private static final class Node {
+
+    /**
+     * The child node class names.
+     */
+    private final String[] names;
+    /**
+     * The child nodes, in the same order as the names.
+     */
+    private final Node[] children;
+    /**
+     * The shortest key ending with the suffix of this node.
+     */
+    private final String key;
+    /**
+     * The value of the shortest key ending with the suffix of this node.
+     */
+    private final String match;
+
+    public Node(String[] names, Node[] children, String key, String match) {
+      this.names = names;
+      this.children = children;
+      this.key = key;
+      this.match = match;
+    }
+
+    /**
+     * Get the child node for a class name. The name is compared in place.
+     * <p>
+     * @param classPath the class path containing the name
+     * @param offset    the name offset in the class path
+     * @param length    the name length
+     * @return the child node, if present; otherwise NULL.
+     */
+    public Node child(String classPath, int offset, int length) {
+      for (int i = 0; i < names.length; i++) {
+        if (names[i].length() == length && classPath.regionMatches(offset, names[i], 0, length)) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * A mutable suffix trie node, used while compiling a profile.
+   */
+  private static final class NodeBuilder {
+
+    private final Map<String, NodeBuilder> children = new TreeMap<>();
+    private String key;
+    private String value;
+
+    private NodeBuilder child(String name) {
+      NodeBuilder builder = children.get(name);
+      if (builder == null) {
+        builder = new NodeBuilder();
+        children.put(name, builder);
+      }
+      return builder;
+    }
+
+    /**
+     * Build the immutable node. The node match is its own value, or else the
+     * match of the child nearest a value (the shortest matching key).
+     */
+    private Node build() {
+      String[] names = new String[children.size()];
+      Node[] nodes = new Node[children.size()];
+      int i = 0;
+      for (Map.Entry<String, NodeBuilder> entry : children.entrySet()) {
+        names[i] = entry.getKey();
+        nodes[i] = entry.getValue().build();
+        i++;
+      }
+      NodeBuilder shortest = value != null ? this : findShortest();
+      return shortest != null
+             ? new Node(names, nodes, shortest.key, shortest.value)
+             : new Node(names, nodes, null, null);
+    }
+
+    /**
+     * Find the node of the shortest key below this node (breadth first, in
+     * name order).
+     */
+    private NodeBuilder findShortest() {
+      Deque<NodeBuilder> queue = new ArrayDeque<>(children.values());
+      while (!queue.isEmpty()) {
+        NodeBuilder builder = queue.poll();
+        if (builder.value != null) {
+          return builder;
+        }
+        queue.addAll(builder.children.values());
+      }
+      return null;
+    }
+  }//</editor-fold>
+
   /**
    * Read a property list (key and element pairs) from the input propertie file.
    * <p>
@@ -0,0 +1,761 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import us.gov.dod.standard.ssrf._3_0.ITimeFrame;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TInteger;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
+
+/**
+ * A compiled SSRF TimeFrame schedule.
+ * <p>
+ * Assignment, FEDeployment, JRFL and JRFLEntry describe recurring activity
+ * with the cron-like TimeFrame fields (see {@link ITimeFrame}). Each field is a
+ * comma separated list of values ("5"), ranges ("9-17"), stepped ranges
+ * ("3-12/3") and steps ("*&#47;10"). A schedule compiles the fields once into
+ * bit masks, then answers {@link #isActive(long)},
+ * {@link #nextActivation(long)} and {@link #overlaps(SSRFSchedule, long, long)}
+ * with calendar arithmetic on the masks; queries do not allocate.
+ * <p>
+ * An activity starts (is activated) at every second whose year, month, day,
+ * hour, minute and second match the fields, and lasts for Duration minutes.
+ * The fields are interpreted as follows:
+ * <ul>
+ * <li>Times are UTC.</li>
+ * <li>An unset field coarser than the finest set field matches every value.
+ * An unset field finer than the finest set field matches only its first value
+ * (e.g. Hours "8" activates at 08:00:00).</li>
+ * <li>If Duration is not set the activity lasts for one unit of the finest set
+ * field (e.g. Hours "9-17" is active from 09:00:00 until 18:00:00).</li>
+ * <li>If both DaysOfMonth and DaysOfWeek are set a day matches either (as
+ * cron). DaysOfWeek 0 and 7 are Sunday.</li>
+ * <li>A schedule whose DaysOfMonth all fall beyond the length of every
+ * selected month (e.g. DaysOfMonth "30" and Months "2") never activates.</li>
+ * <li>Only the years 1900 to 2100 are scheduled. Other valid Years values
+ * (1000 to 2999) are ignored, so a schedule whose years all fall outside that
+ * range never activates.</li>
+ * </ul>
+ * <p>
+ * Example:
+ * <pre>
+ * SSRFSchedule schedule = SSRFSchedule.compile(assignment);
+ * if (schedule != null &amp;&amp; schedule.isActive(System.currentTimeMillis())) {
+ *   ...
+ * }
+ * </pre>
+ * <p>
+ * Developer note: Compiled schedules are immutable and are cached by their
+ * field values, so records with identical TimeFrame fields share one schedule
+ * and a modified record compiles to a new one. Time instants are UTC
+ * milliseconds, truncated to the second.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public final class SSRFSchedule {
+
+  /**
+   * Long.MIN_VALUE. The activation returned when there is none.
+   */
+  public static final long NONE = Long.MIN_VALUE;
+  /**
+   * 1900. The first scheduled year.
+   */
+  public static final int MIN_YEAR = 1900;
+  /**
+   * 2100. The last scheduled year.
+   */
+  public static final int MAX_YEAR = 2100;
+  /**
+   * 1000. The first valid Years value (see XmlAdapterYEARS).
+   */
+  private static final int MIN_YEAR_VALUE = 1000;
+  /**
+   * 2999. The last valid Years value (see XmlAdapterYEARS).
+   */
+  private static final int MAX_YEAR_VALUE = 2999;
+  /**
+   * 4,096. The maximum number of cached schedules.
+   */
+  private static final int MAX_CACHE_SIZE = 4096;
+
+  private static final int SECOND = 0;
+  private static final int MINUTE = 1;
+  private static final int HOUR = 2;
+  private static final int DAY = 3;
+  private static final int MONTH = 4;
+  private static final int YEAR = 5;
+
+  private static final long SECONDS_PER_DAY = 86400;
+  /**
+   * The maximum length of each month (index 1-12), February in a leap year.
+   */
+  private static final int[] MAX_MONTH_LENGTH = {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  /**
+   * The compiled schedules keyed by their field values.
+   */
+  private static final ConcurrentMap<String, SSRFSchedule> CACHE = new ConcurrentHashMap<>();
+
+  /**
+   * The matching seconds of minute (bits 0-59).
+   */
+  private final long seconds;
+  /**
+   * The matching minutes of hour (bits 0-59).
+   */
+  private final long minutes;
+  /**
+   * The matching hours of day (bits 0-23).
+   */
+  private final long hours;
+  /**
+   * The matching days of month (bits 1-31).
+   */
+  private final long daysOfMonth;
+  /**
+   * The matching months of year (bits 1-12).
+   */
+  private final long months;
+  /**
+   * The matching days of week (bits 0-6, Sunday is 0).
+   */
+  private final long daysOfWeek;
+  /**
+   * The matching years (bit i is year MIN_YEAR + i).
+   */
+  private final long[] years;
+  /**
+   * TRUE if both the days of month and the days of week are restricted, in
+   * which case a day matches either.
+   */
+  private final boolean eitherDay;
+  /**
+   * The activity duration (milliseconds), or zero for one unit of the finest
+   * field.
+   */
+  private final long duration;
+  /**
+   * The finest set field (SECOND to YEAR).
+   */
+  private final int unit;
+  /**
+   * TRUE if no day of any selected month matches, in which case the activity
+   * never starts.
+   */
+  private final boolean never;
+
+  private SSRFSchedule(long seconds, long minutes, long hours, long daysOfMonth, long months, long daysOfWeek,
+                       long[] years, boolean eitherDay, long duration, int unit) {
+    this.seconds = seconds;
+    this.minutes = minutes;
+    this.hours = hours;
+    this.daysOfMonth = daysOfMonth;
+    this.months = months;
+    this.daysOfWeek = daysOfWeek;
+    this.years = years;
+    this.eitherDay = eitherDay;
+    this.duration = duration;
+    this.unit = unit;
+    /**
+     * Without DaysOfWeek a day must match the DaysOfMonth. Detect days of
+     * month that no selected month reaches (e.g. February 30) once so that
+     * the queries need not search every year for them.
+     */
+    boolean reachable = eitherDay;
+    int firstDay = nextBit(daysOfMonth, 1);
+    for (int month = nextBit(months, 1); month > 0 && !reachable; month = nextBit(months, month + 1)) {
+      reachable = firstDay > 0 && firstDay <= MAX_MONTH_LENGTH[month];
+    }
+    this.never = !reachable;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Compile">
+  /**
+   * Compile the TimeFrame fields of a SSRF record.
+   * <p>
+   * @param timeFrame the record (e.g. an Assignment)
+   * @return the (cached) schedule, or null if none of the Seconds, Minutes,
+   *         Hours, DaysOfMonth, Months, DaysOfWeek or Years fields is set
+   * @throws IllegalArgumentException if a field is invalid
+   */
+  public static SSRFSchedule compile(ITimeFrame timeFrame) {
+    return compile(value(timeFrame.getSeconds()),
+                   value(timeFrame.getMinutes()),
+                   value(timeFrame.getHours()),
+                   value(timeFrame.getDaysOfMonth()),
+                   value(timeFrame.getMonths()),
+                   value(timeFrame.getDaysOfWeek()),
+                   value(timeFrame.getYears()),
+                   timeFrame.getDuration());
+  }
+
+  /**
+   * Compile TimeFrame field values.
+   * <p>
+   * @param seconds     the Seconds value. May be null.
+   * @param minutes     the Minutes value. May be null.
+   * @param hours       the Hours value. May be null.
+   * @param daysOfMonth the DaysOfMonth value. May be null.
+   * @param months      the Months value. May be null.
+   * @param daysOfWeek  the DaysOfWeek value. May be null.
+   * @param years       the Years value. May be null.
+   * @param duration    the Duration (minutes). May be null.
+   * @return the (cached) schedule, or null if no field other than the duration
+   *         is set
+   * @throws IllegalArgumentException if a field is invalid
+   */
+  public static SSRFSchedule compile(String seconds, String minutes, String hours, String daysOfMonth,
+                                     String months, String daysOfWeek, String years, TInteger duration) {
+    long durationMinutes = duration != null && duration.isSetValue() ? Math.max(0, duration.longValue()) : 0;
+    String key = seconds + '|' + minutes + '|' + hours + '|' + daysOfMonth + '|' + months + '|' + daysOfWeek + '|' + years + '|' + durationMinutes;
+    SSRFSchedule schedule = CACHE.get(key);
+    if (schedule == null) {
+      schedule = build(seconds, minutes, hours, daysOfMonth, months, daysOfWeek, years, durationMinutes);
+      if (schedule != null && CACHE.size() < MAX_CACHE_SIZE) {
+        CACHE.putIfAbsent(key, schedule);
+      }
+    }
+    return schedule;
+  }
+
+  /**
+   * Internal method to compile TimeFrame field values.
+   * <p>
+   * @return the schedule, or null if no field is set
+   */
+  private static SSRFSchedule build(String seconds, String minutes, String hours, String daysOfMonth,
+                                    String months, String daysOfWeek, String years, long durationMinutes) {
+    String[] fields = {seconds, minutes, hours, daysOfMonth != null ? daysOfMonth : daysOfWeek, months, years};
+    int unit = -1;
+    for (int i = 0; i < fields.length && unit < 0; i++) {
+      if (fields[i] != null) {
+        unit = i;
+      }
+    }
+    if (unit < 0) {
+      return null;
+    }
+    /**
+     * Unset fields finer than the finest set field match their first value so
+     * that an activity starts at the beginning of the finest unit.
+     */
+    long secondMask = parse("Seconds", seconds, 0, 59, unit > SECOND);
+    long minuteMask = parse("Minutes", minutes, 0, 59, unit > MINUTE);
+    long hourMask = parse("Hours", hours, 0, 23, unit > HOUR);
+    long monthMask = parse("Months", months, 1, 12, unit > MONTH);
+    long dayOfMonthMask = parse("DaysOfMonth", daysOfMonth, 1, 31, unit > DAY);
+    long dayOfWeekMask = parse("DaysOfWeek", daysOfWeek, 0, 7, false);
+    if ((dayOfWeekMask & (1L << 7)) != 0) {
+      dayOfWeekMask = (dayOfWeekMask | 1L) & ~(1L << 7);
+    }
+    long[] yearMask = new long[(MAX_YEAR - MIN_YEAR) / 64 + 1];
+    if (years == null) {
+      for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+        yearMask[(year - MIN_YEAR) >>> 6] |= 1L << (year - MIN_YEAR);
+      }
+    } else {
+      /**
+       * Years accepts any four digit year starting with 1 or 2, but only the
+       * scheduled years are kept; years outside MIN_YEAR to MAX_YEAR are
+       * ignored rather than rejected. A step ("*&#47;10") counts from MIN_YEAR.
+       */
+      for (String token : years.split(",")) {
+        token = token.trim();
+        int[] range = token.startsWith("*")
+                      ? parseToken("Years", token, MIN_YEAR, MAX_YEAR)
+                      : parseToken("Years", token, MIN_YEAR_VALUE, MAX_YEAR_VALUE);
+        for (int year = range[0]; year <= Math.min(range[1], MAX_YEAR); year += range[2]) {
+          if (year >= MIN_YEAR) {
+            yearMask[(year - MIN_YEAR) >>> 6] |= 1L << (year - MIN_YEAR);
+          }
+        }
+      }
+    }
+    return new SSRFSchedule(secondMask, minuteMask, hourMask, dayOfMonthMask, monthMask, dayOfWeekMask,
+                            yearMask, daysOfMonth != null && daysOfWeek != null, durationMinutes * 60000, unit);
+  }
+
+  /**
+   * Internal method to parse a field into a bit mask.
+   * <p>
+   * @param name  the field name
+   * @param value the field value. May be null.
+   * @param min   the minimum field value
+   * @param max   the maximum field value
+   * @param first if the value is null: TRUE to match the minimum value only,
+   *              FALSE to match every value
+   * @return the bit mask
+   * @throws IllegalArgumentException if the value is invalid
+   */
+  private static long parse(String name, String value, int min, int max, boolean first) {
+    if (value == null) {
+      return first ? 1L << min : (-1L >>> (63 - max)) & (-1L << min);
+    }
+    long mask = 0;
+    for (String token : value.split(",")) {
+      int[] range = parseToken(name, token.trim(), min, max);
+      for (int i = range[0]; i <= range[1]; i += range[2]) {
+        mask |= 1L << i;
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Internal method to parse a value ("5"), range ("9-17"), stepped range
+   * ("3-12/3") or step ("*&#47;10") token.
+   * <p>
+   * @param name  the field name
+   * @param token the token
+   * @param min   the minimum field value
+   * @param max   the maximum field value
+   * @return the first value, last value and step
+   * @throws IllegalArgumentException if the token is invalid
+   */
+  private static int[] parseToken(String name, String token, int min, int max) {
+    try {
+      int step = 1;
+      int slash = token.indexOf('/');
+      if (slash >= 0) {
+        step = Integer.parseInt(token.substring(slash + 1));
+        token = token.substring(0, slash);
+      }
+      int from, to;
+      if ("*".equals(token)) {
+        from = min;
+        to = max;
+      } else {
+        int dash = token.indexOf('-');
+        from = Integer.parseInt(dash < 0 ? token : token.substring(0, dash));
+        to = dash < 0 ? (slash >= 0 ? max : from) : Integer.parseInt(token.substring(dash + 1));
+      }
+      if (step > 0 && min <= from && from <= to && to <= max) {
+        /**
+         * A step longer than the range matches the first value only. Limit it
+         * so that stepping past the last value cannot overflow.
+         */
+        return new int[]{from, to, Math.min(step, max - min + 1)};
+      }
+    } catch (NumberFormatException exception) {
+      // fall through
+    }
+    throw new IllegalArgumentException(name + " format error [" + min + "-" + max + "] for \"" + token + "\".");
+  }
+
+  /**
+   * Internal method to read a field value.
+   * <p>
+   * @param value the field
+   * @return the trimmed field value, or null if not set
+   */
+  private static String value(TString value) {
+    return value != null && value.isSetValue() && !value.getValue().trim().isEmpty() ? value.getValue().trim() : null;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Query">
+  /**
+   * Determine if the activity is active at an instant.
+   * <p>
+   * @param instant the instant (UTC milliseconds)
+   * @return TRUE if an activity started at or before the instant and has not
+   *         ended
+   */
+  public boolean isActive(long instant) {
+    long activation = previousActivation(instant);
+    return activation != NONE && instant < getEnd(activation);
+  }
+
+  /**
+   * Find the first activation after an instant.
+   * <p>
+   * @param after the instant (UTC milliseconds)
+   * @return the first activation (UTC milliseconds) strictly after the
+   *         instant, or {@link #NONE}
+   */
+  public long nextActivation(long after) {
+    if (never) {
+      return NONE;
+    }
+    long second = floorDiv(after, 1000) + 1;
+    while (true) {
+      long day = floorDiv(second, SECONDS_PER_DAY);
+      int secondOfDay = (int) (second - day * SECONDS_PER_DAY);
+      long date = civil(day);
+      int year = year(date), month = month(date);
+      if (year > MAX_YEAR) {
+        return NONE;
+      }
+      if (year < MIN_YEAR || !isYear(year)) {
+        int next = nextYear(Math.max(year + 1, MIN_YEAR));
+        if (next < 0) {
+          return NONE;
+        }
+        second = days(next, 1, 1) * SECONDS_PER_DAY;
+        continue;
+      }
+      if (!isSet(months, month)) {
+        int next = nextBit(months, month + 1);
+        second = (next < 0 ? days(year + 1, 1, 1) : days(year, next, 1)) * SECONDS_PER_DAY;
+        continue;
+      }
+      if (!isDay(day, dayOfMonth(date))) {
+        /**
+         * Unless a day of week may match, skip to the next matching day of
+         * month, or to the next month if none remains in this month.
+         */
+        int next = eitherDay ? dayOfMonth(date) + 1 : nextBit(daysOfMonth, dayOfMonth(date) + 1);
+        if (next < 0 || next > lengthOfMonth(year, month)) {
+          second = (month == 12 ? days(year + 1, 1, 1) : days(year, month + 1, 1)) * SECONDS_PER_DAY;
+        } else {
+          second = days(year, month, next) * SECONDS_PER_DAY;
+        }
+        continue;
+      }
+      long start = day * SECONDS_PER_DAY;
+      int hour = secondOfDay / 3600, minute = secondOfDay / 60 % 60, sec = secondOfDay % 60;
+      if (!isSet(hours, hour)) {
+        int next = nextBit(hours, hour + 1);
+        second = next < 0 ? start + SECONDS_PER_DAY : start + next * 3600;
+        continue;
+      }
+      start += hour * 3600;
+      if (!isSet(minutes, minute)) {
+        int next = nextBit(minutes, minute + 1);
+        second = next < 0 ? start + 3600 : start + next * 60;
+        continue;
+      }
+      start += minute * 60;
+      if (!isSet(seconds, sec)) {
+        int next = nextBit(seconds, sec + 1);
+        second = next < 0 ? start + 60 : start + next;
+        continue;
+      }
+      return second * 1000;
+    }
+  }
+
+  /**
+   * Find the last activation at or before an instant.
+   * <p>
+   * @param atOrBefore the instant (UTC milliseconds)
+   * @return the last activation (UTC milliseconds) at or before the instant,
+   *         or {@link #NONE}
+   */
+  public long previousActivation(long atOrBefore) {
+    if (never) {
+      return NONE;
+    }
+    long second = floorDiv(atOrBefore, 1000);
+    while (true) {
+      long day = floorDiv(second, SECONDS_PER_DAY);
+      int secondOfDay = (int) (second - day * SECONDS_PER_DAY);
+      long date = civil(day);
+      int year = year(date), month = month(date);
+      if (year < MIN_YEAR) {
+        return NONE;
+      }
+      if (year > MAX_YEAR || !isYear(year)) {
+        int previous = previousYear(Math.min(year - 1, MAX_YEAR));
+        if (previous < 0) {
+          return NONE;
+        }
+        second = days(previous + 1, 1, 1) * SECONDS_PER_DAY - 1;
+        continue;
+      }
+      if (!isSet(months, month)) {
+        int previous = previousBit(months, month - 1);
+        if (previous < 0) {
+          second = days(year, 1, 1) * SECONDS_PER_DAY - 1;
+        } else {
+          second = (previous == 12 ? days(year + 1, 1, 1) : days(year, previous + 1, 1)) * SECONDS_PER_DAY - 1;
+        }
+        continue;
+      }
+      if (!isDay(day, dayOfMonth(date))) {
+        /**
+         * Unless a day of week may match, skip back to the previous matching
+         * day of month, or to the previous month if none remains in this
+         * month.
+         */
+        int previous = eitherDay ? dayOfMonth(date) - 1 : previousBit(daysOfMonth, dayOfMonth(date) - 1);
+        second = (previous < 1 ? days(year, month, 1) : days(year, month, previous) + 1) * SECONDS_PER_DAY - 1;
+        continue;
+      }
+      long start = day * SECONDS_PER_DAY;
+      int hour = secondOfDay / 3600, minute = secondOfDay / 60 % 60, sec = secondOfDay % 60;
+      if (!isSet(hours, hour)) {
+        int previous = previousBit(hours, hour - 1);
+        second = previous < 0 ? start - 1 : start + previous * 3600 + 3599;
+        continue;
+      }
+      start += hour * 3600;
+      if (!isSet(minutes, minute)) {
+        int previous = previousBit(minutes, minute - 1);
+        second = previous < 0 ? start - 1 : start + previous * 60 + 59;
+        continue;
+      }
+      start += minute * 60;
+      if (!isSet(seconds, sec)) {
+        int previous = previousBit(seconds, sec - 1);
+        second = previous < 0 ? start - 1 : start + previous;
+        continue;
+      }
+      return second * 1000;
+    }
+  }
+
+  /**
+   * Get the end of the activity started at an activation.
+   * <p>
+   * @param activation the activation (UTC milliseconds)
+   * @return the end of the activity (UTC milliseconds, exclusive)
+   */
+  public long getEnd(long activation) {
+    if (duration > 0) {
+      return activation + duration;
+    }
+    switch (unit) {
+      case SECOND:
+        return activation + 1000;
+      case MINUTE:
+        return activation + 60000;
+      case HOUR:
+        return activation + 3600000;
+      case DAY:
+        return activation + SECONDS_PER_DAY * 1000;
+      case MONTH: {
+        long date = civil(floorDiv(activation, SECONDS_PER_DAY * 1000));
+        int month = month(date);
+        return (month == 12 ? days(year(date) + 1, 1, 1) : days(year(date), month + 1, 1)) * SECONDS_PER_DAY * 1000;
+      }
+      default:
+        return days(year(civil(floorDiv(activation, SECONDS_PER_DAY * 1000))) + 1, 1, 1) * SECONDS_PER_DAY * 1000;
+    }
+  }
+
+  /**
+   * Determine if this activity and another activity are both active at some
+   * instant within a time window.
+   * <p>
+   * @param other the other schedule
+   * @param from  the window start (UTC milliseconds, inclusive)
+   * @param to    the window end (UTC milliseconds, exclusive)
+   * @return TRUE if the activities overlap within the window
+   */
+  public boolean overlaps(SSRFSchedule other, long from, long to) {
+    long instant = from;
+    while (instant < to) {
+      long start = getPeriodStart(instant);
+      long otherStart = other.getPeriodStart(instant);
+      if (start == NONE || otherStart == NONE || start >= to || otherStart >= to) {
+        return false;
+      }
+      long end = getEnd(start);
+      long otherEnd = other.getEnd(otherStart);
+      long overlap = Math.max(start, otherStart);
+      if (overlap < end && overlap < otherEnd) {
+        return true;
+      }
+      /**
+       * The activity ending first cannot overlap the other: skip past it.
+       */
+      instant = Math.min(end, otherEnd);
+    }
+    return false;
+  }
+
+  /**
+   * Internal method to find the first activity ending after an instant.
+   * <p>
+   * @param instant the instant
+   * @return the activation of the activity, or NONE
+   */
+  private long getPeriodStart(long instant) {
+    long previous = previousActivation(instant);
+    if (previous != NONE && getEnd(previous) > instant) {
+      return previous;
+    }
+    return nextActivation(instant);
+  }
+
+  /**
+   * Internal method to determine if a day matches the days of month and days
+   * of week.
+   * <p>
+   * @param day        the epoch day
+   * @param dayOfMonth the day of month
+   * @return TRUE if the day matches
+   */
+  private boolean isDay(long day, int dayOfMonth) {
+    boolean domMatch = isSet(daysOfMonth, dayOfMonth);
+    boolean dowMatch = isSet(daysOfWeek, (int) floorMod(day + 4, 7));
+    return eitherDay ? domMatch || dowMatch : domMatch && dowMatch;
+  }
+
+  /**
+   * Internal method to determine if a year matches.
+   * <p>
+   * @param year the year
+   * @return TRUE if the year matches
+   */
+  private boolean isYear(int year) {
+    int index = year - MIN_YEAR;
+    return (years[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Internal method to find the first matching year at or after a year.
+   * <p>
+   * @param year the year
+   * @return the year, or -1 if none
+   */
+  private int nextYear(int year) {
+    for (int y = year; y <= MAX_YEAR; y++) {
+      if (isYear(y)) {
+        return y;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Internal method to find the last matching year at or before a year.
+   * <p>
+   * @param year the year
+   * @return the year, or -1 if none
+   */
+  private int previousYear(int year) {
+    for (int y = year; y >= MIN_YEAR; y--) {
+      if (isYear(y)) {
+        return y;
+      }
+    }
+    return -1;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Arithmetic">
+  /**
+   * Internal method to test a mask bit.
+   */
+  private static boolean isSet(long mask, int bit) {
+    return (mask & (1L << bit)) != 0;
+  }
+
+  /**
+   * Internal method to find the lowest set bit at or above a bit.
+   * <p>
+   * @return the bit, or -1 if none
+   */
+  private static int nextBit(long mask, int bit) {
+    if (bit > 63) {
+      return -1;
+    }
+    long masked = mask & (-1L << bit);
+    return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+  }
+
+  /**
+   * Internal method to find the highest set bit at or below a bit.
+   * <p>
+   * @return the bit, or -1 if none
+   */
+  private static int previousBit(long mask, int bit) {
+    if (bit < 0) {
+      return -1;
+    }
+    long masked = bit >= 63 ? mask : mask & ((1L << (bit + 1)) - 1);
+    return masked == 0 ? -1 : 63 - Long.numberOfLeadingZeros(masked);
+  }
+
+  /**
+   * Internal method to divide, rounding toward negative infinity.
+   */
+  private static long floorDiv(long x, long y) {
+    long q = x / y;
+    return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+  }
+
+  /**
+   * Internal method to compute the modulus with the sign of the divisor.
+   */
+  private static long floorMod(long x, long y) {
+    return x - floorDiv(x, y) * y;
+  }
+
+  /**
+   * Internal method to convert a year, month and day into an epoch day.
+   * <p>
+   * @param year  the year
+   * @param month the month [1-12]
+   * @param day   the day of month [1-31]
+   * @return the number of days since 1970-01-01
+   */
+  private static long days(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = floorDiv(y, 400);
+    long yearOfEra = y - era * 400;
+    long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+
+  /**
+   * Internal method to convert an epoch day into a packed year, month and day:
+   * year * 512 + month * 32 + day.
+   * <p>
+   * @param epochDay the number of days since 1970-01-01
+   * @return the packed date
+   */
+  private static long civil(long epochDay) {
+    long z = epochDay + 719468;
+    long era = floorDiv(z, 146097);
+    long dayOfEra = z - era * 146097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long mp = (5 * dayOfYear + 2) / 153;
+    long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+    long month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    return year * 512 + month * 32 + day;
+  }
+
+  /**
+   * Internal method to get the number of days in a month.
+   * <p>
+   * @param year  the year
+   * @param month the month [1-12]
+   * @return the number of days [28-31]
+   */
+  private static int lengthOfMonth(int year, int month) {
+    return (int) ((month == 12 ? days(year + 1, 1, 1) : days(year, month + 1, 1)) - days(year, month, 1));
+  }
+
+  private static int year(long date) {
+    return (int) floorDiv(date, 512);
+  }
+
+  private static int month(long date) {
+    return (int) (floorMod(date, 512) >> 5);
+  }
+
+  private static int dayOfMonth(long date) {
+    return (int) (date & 31);
+  }//</editor-fold>
+}
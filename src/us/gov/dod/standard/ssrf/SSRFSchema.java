@@ -0,0 +1,271 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import org.xml.sax.*;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+/**
+ * Compiled SSRF XML Schema (XSD) validation.
+ * <p>
+ * The official SSRF 3.0.0 schema ({@code ssrf30.xsd}, {@code domains30.xsd}
+ * and {@code lists30.xsd}) is copied from {@code docs/SSRF v3.0/xsd} by the
+ * build and packaged under {@code META-INF/xsd}. It is compiled once, on first
+ * use, into a thread-safe {@link Schema} that is shared for the life of the
+ * class loader.
+ * <p>
+ * The validate and evaluate methods check an XML byte stream against the
+ * schema while it is being read. Only the SAX parser state is held in memory:
+ * no object graph is built. This is far cheaper than
+ * {@link SSRF#fromXml(InputStream)} followed by {@link SSRF#isValid()} and is
+ * intended as a gatekeeper for bulk feeds before the (expensive) unmarshal
+ * step. Example:
+ * <pre>
+ * try (InputStream inputStream = Files.newInputStream(path)) {
+ *   SSRFSchema.validate(inputStream);
+ * }
+ * SSRF ssrf = SSRF.fromXml(path);
+ * </pre>
+ * <p>
+ * Developer note: The XSD declares the target namespace
+ * {@value #NAMESPACE} while documents written by this library are not
+ * namespace qualified. Elements in no namespace are therefore read as if they
+ * were in the SSRF namespace, so both forms validate.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFSchema {
+
+  /**
+   * "urn:us:gov:dod:standard:ssrf:3.0.0". The SSRF XSD target namespace.
+   */
+  public static final String NAMESPACE = "urn:us:gov:dod:standard:ssrf:3.0.0";
+  /**
+   * "META-INF/xsd/ssrf30.xsd". The SSRF XSD class path resource. The domains
+   * and lists XSD files are included from the same location.
+   */
+  private static final String XSD_RESOURCE = "META-INF/xsd/ssrf30.xsd";
+
+  /**
+   * Get the compiled SSRF schema.
+   * <p>
+   * The schema is compiled on first use. The returned instance is immutable
+   * and thread-safe and may also be set on a JAXB Marshaller or Unmarshaller.
+   * <p>
+   * @return the compiled SSRF schema
+   * @throws IllegalStateException if the packaged XSD cannot be read or
+   *                               compiled
+   */
+  public static Schema getSchema() {
+    return SchemaHolder.SCHEMA;
+  }
+
+  /**
+   * Validate a SSRF XML document byte stream against the SSRF schema. The
+   * character encoding is determined from the XML declaration.
+   * <p>
+   * Validation stops at the first error. Use {@link #evaluate(InputStream)} to
+   * collect all errors. The input stream is NOT closed.
+   * <p>
+   * @param inputStream a SSRF XML document byte stream
+   * @throws SAXParseException if the document is not well-formed or does not
+   *                           conform to the SSRF schema. The exception
+   *                           reports the line and column of the error.
+   * @throws SAXException      if the validator cannot be configured
+   * @throws IOException       if the stream cannot be read
+   */
+  public static void validate(InputStream inputStream) throws SAXException, IOException {
+    validate(inputStream, null);
+  }
+
+  /**
+   * Validate a SSRF XML document file against the SSRF schema.
+   * <p>
+   * See {@link #validate(InputStream)}.
+   * <p>
+   * @param path a SSRF XML document file path
+   * @throws SAXParseException if the document is not well-formed or does not
+   *                           conform to the SSRF schema
+   * @throws SAXException      if the validator cannot be configured
+   * @throws IOException       if the file cannot be read
+   */
+  public static void validate(Path path) throws SAXException, IOException {
+    try (InputStream inputStream = Files.newInputStream(path)) {
+      validate(inputStream);
+    }
+  }
+
+  /**
+   * Evaluate a SSRF XML document byte stream against the SSRF schema; record
+   * and report all schema errors.
+   * <p>
+   * The entire document is read. Validation continues past schema errors but
+   * stops if the document is not well-formed. The input stream is NOT closed.
+   * <p>
+   * @param inputStream a SSRF XML document byte stream
+   * @return a non-null list of error messages, each prefixed with the line and
+   *         column number. The list is EMPTY if the document is valid.
+   * @throws SAXException if the validator cannot be configured
+   * @throws IOException  if the stream cannot be read
+   */
+  public static List<String> evaluate(InputStream inputStream) throws SAXException, IOException {
+    final List<String> errors = new ArrayList<>();
+    try {
+      validate(inputStream, new ErrorHandler() {
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+          errors.add(format(exception));
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+          throw exception;
+        }
+      });
+    } catch (SAXParseException exception) {
+      /**
+       * Not well-formed: report the fatal error and stop.
+       */
+      errors.add(format(exception));
+    }
+    return errors;
+  }
+
+  /**
+   * Evaluate a SSRF XML document file against the SSRF schema.
+   * <p>
+   * See {@link #evaluate(InputStream)}.
+   * <p>
+   * @param path a SSRF XML document file path
+   * @return a non-null list of error messages. The list is EMPTY if the
+   *         document is valid.
+   * @throws SAXException if the validator cannot be configured
+   * @throws IOException  if the file cannot be read
+   */
+  public static List<String> evaluate(Path path) throws SAXException, IOException {
+    try (InputStream inputStream = Files.newInputStream(path)) {
+      return evaluate(inputStream);
+    }
+  }
+
+  /**
+   * Internal method to stream-validate a document.
+   * <p>
+   * @param inputStream  the XML document byte stream
+   * @param errorHandler the validation error handler. If null the first error
+   *                     is thrown.
+   * @throws SAXException if the document is not valid or the validator cannot
+   *                      be configured
+   * @throws IOException  if the stream cannot be read
+   */
+  private static void validate(InputStream inputStream, ErrorHandler errorHandler) throws SAXException, IOException {
+    /**
+     * Validator instances are not thread-safe but are cheap to create from the
+     * compiled schema.
+     */
+    Validator validator = getSchema().newValidator();
+    validator.setErrorHandler(errorHandler);
+    XMLReader xmlReader;
+    try {
+      SAXParserFactory factory = SAXParserFactory.newInstance();
+      factory.setNamespaceAware(true);
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+      factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+      xmlReader = factory.newSAXParser().getXMLReader();
+    } catch (ParserConfigurationException exception) {
+      throw new SAXException(exception);
+    }
+    validator.validate(new SAXSource(new NamespaceFilter(xmlReader), new InputSource(inputStream)));
+  }
+
+  /**
+   * Internal method to format a validation error message.
+   * <p>
+   * @param exception the validation error
+   * @return the error message prefixed with the line and column number
+   */
+  private static String format(SAXParseException exception) {
+    return "[" + exception.getLineNumber() + ":" + exception.getColumnNumber() + "] " + exception.getMessage();
+  }
+
+  /**
+   * A SAX filter that places unqualified elements in the SSRF namespace.
+   */
+  private static class NamespaceFilter extends XMLFilterImpl {
+
+    public NamespaceFilter(XMLReader parent) {
+      super(parent);
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+      super.startElement(uri.isEmpty() ? NAMESPACE : uri, localName, qName, atts);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+      super.endElement(uri.isEmpty() ? NAMESPACE : uri, localName, qName);
+    }
+  }
+
+  /**
+   * Lazy holder for the compiled schema. The schema is compiled when this class
+   * is first initialized, which the JVM guarantees to happen exactly once.
+   */
+  private static class SchemaHolder {
+
+    private static final Schema SCHEMA;
+
+    static {
+      URL url = SSRFSchema.class.getClassLoader().getResource(XSD_RESOURCE);
+      if (url == null) {
+        throw new IllegalStateException("SSRF schema resource " + XSD_RESOURCE + " not found.");
+      }
+      try {
+        /**
+         * Compile from the resource URL so that the included XSD files are
+         * resolved relative to it (including from within a jar).
+         */
+        SCHEMA = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(url);
+      } catch (SAXException exception) {
+        throw new IllegalStateException("Failed to compile SSRF schema: " + exception.getMessage(), exception);
+      }
+    }
+  }
+
+}
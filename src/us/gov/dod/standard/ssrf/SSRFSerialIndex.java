@@ -0,0 +1,218 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import us.gov.dod.standard.ssrf._3_0.Common;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+
+/**
+ * A serial number index of the top-level datasets in a SSRF instance.
+ * <p>
+ * SSRF datasets refer to one another by serial number (e.g. an Assignment
+ * refers to its Location by the Location serial). The postLoad() methods
+ * resolve these references into object instances. Rather than scanning the
+ * SSRF dataset lists for every reference the index maps each serial number to
+ * its dataset, with one map per dataset type, so that each reference is
+ * resolved in constant time.
+ * <p>
+ * The index is a snapshot: it is built from the SSRF dataset lists on
+ * construction and does not follow later changes to those lists. An index is
+ * built once per {@link SSRFUtility#postLoad(SSRF)} call and is available to
+ * the postLoad() methods via {@link SSRF#getSerialIndex()}.
+ * <p>
+ * Developer note: Lookups follow the {@link TSerial#equals(Object)} contract.
+ * A reference first matches a dataset with the identical serial number value,
+ * and otherwise a dataset with the same serial identifier component (the last
+ * part of the serial number). If several datasets of the same type share a
+ * serial number the first in document order is returned.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFSerialIndex {
+
+  /**
+   * The datasets keyed by dataset class type then by serial number value. The
+   * class types are held in the (fixed) order in which they are indexed.
+   */
+  private final Map<Class<?>, Map<String, Common<?>>> valueIndex;
+  /**
+   * The datasets keyed by dataset class type then by serial identifier
+   * component.
+   */
+  private final Map<Class<?>, Map<String, Common<?>>> serialIndex;
+
+  /**
+   * Construct a new serial number index of the datasets in a SSRF instance.
+   * <p>
+   * @param ssrf the SSRF instance to index
+   */
+  public SSRFSerialIndex(SSRF ssrf) {
+    this.valueIndex = new LinkedHashMap<>();
+    this.serialIndex = new LinkedHashMap<>();
+    index(ssrf.getAdministrative());
+    index(ssrf.getAllotment());
+    index(ssrf.getAntenna());
+    index(ssrf.getAssignment());
+    index(ssrf.getChannelPlan());
+    index(ssrf.getContact());
+    index(ssrf.getExternalReference());
+    index(ssrf.getFEDeployment());
+    index(ssrf.getForceElement());
+    index(ssrf.getIntfReport());
+    index(ssrf.getJRFL());
+    index(ssrf.getLocation());
+    index(ssrf.getNote());
+    index(ssrf.getOrganisation());
+    index(ssrf.getRFSystem());
+    index(ssrf.getReceiver());
+    index(ssrf.getRole());
+    index(ssrf.getSSReply());
+    index(ssrf.getSSRequest());
+    index(ssrf.getSatellite());
+    index(ssrf.getTOA());
+    index(ssrf.getTransmitter());
+  }
+
+  /**
+   * Internal method to add a list of datasets to the index.
+   * <p>
+   * @param datasets a SSRF dataset list
+   */
+  private void index(List<? extends Common<?>> datasets) {
+    for (Common<?> dataset : datasets) {
+      TSerial serial = dataset.getSerial();
+      if (serial == null) {
+        continue;
+      }
+      if (serial.getValue() != null) {
+        putIfAbsent(valueIndex, dataset.getClass(), serial.getValue(), dataset);
+      }
+      if (serial.getSerial() != null) {
+        putIfAbsent(serialIndex, dataset.getClass(), serial.getSerial(), dataset);
+      }
+    }
+  }
+
+  /**
+   * Internal method to add a dataset to an index map. The first dataset for a
+   * key is retained.
+   * <p>
+   * @param index   the index map
+   * @param clazz   the dataset class type
+   * @param key     the dataset key
+   * @param dataset the dataset
+   */
+  private static void putIfAbsent(Map<Class<?>, Map<String, Common<?>>> index,
+                                  Class<?> clazz,
+                                  String key,
+                                  Common<?> dataset) {
+    Map<String, Common<?>> map = index.get(clazz);
+    if (map == null) {
+      map = new HashMap<>();
+      index.put(clazz, map);
+    }
+    if (!map.containsKey(key)) {
+      map.put(key, dataset);
+    }
+  }
+
+  /**
+   * Find a dataset of the indicated type by serial number.
+   * <p>
+   * @param <T>    the dataset class type
+   * @param clazz  the dataset class type. e.g. Location.class
+   * @param serial the serial number reference
+   * @return the matching dataset, null if not found
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Common<?>> T find(Class<T> clazz, TSerial serial) {
+    return (T) find(serial, clazz);
+  }
+
+  /**
+   * Find a dataset of any of the indicated types by serial number. The types
+   * are searched in order and the first matching dataset is returned.
+   * <p>
+   * @param serial  the serial number reference
+   * @param classes the candidate dataset class types
+   * @return the matching dataset, null if not found
+   */
+  public Common<?> find(TSerial serial, Class<?>... classes) {
+    if (serial == null) {
+      return null;
+    }
+    for (Class<?> clazz : classes) {
+      Common<?> dataset = lookup(valueIndex, clazz, serial.getValue());
+      if (dataset == null) {
+        dataset = lookup(serialIndex, clazz, serial.getSerial());
+      }
+      if (dataset != null) {
+        return dataset;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Find a dataset of any type by serial number. If datasets of more than one
+   * type match, the first in SchemaRoot order (Administrative, Allotment,
+   * Antenna, ...) is returned.
+   * <p>
+   * @param serial the serial number reference
+   * @return the matching dataset, null if not found
+   */
+  public Common<?> findAny(TSerial serial) {
+    if (serial == null) {
+      return null;
+    }
+    for (Map<String, Common<?>> map : valueIndex.values()) {
+      Common<?> dataset = map.get(serial.getValue());
+      if (dataset != null) {
+        return dataset;
+      }
+    }
+    for (Map<String, Common<?>> map : serialIndex.values()) {
+      Common<?> dataset = map.get(serial.getSerial());
+      if (dataset != null) {
+        return dataset;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Internal method to read an index map.
+   * <p>
+   * @param index the index map
+   * @param clazz the dataset class type
+   * @param key   the dataset key
+   * @return the dataset, null if not found
+   */
+  private static Common<?> lookup(Map<Class<?>, Map<String, Common<?>>> index, Class<?> clazz, String key) {
+    if (key == null) {
+      return null;
+    }
+    Map<String, Common<?>> map = index.get(clazz);
+    return map == null ? null : map.get(key);
+  }
+
+}
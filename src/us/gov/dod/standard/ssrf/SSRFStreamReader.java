@@ -0,0 +1,347 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import us.gov.dod.standard.ssrf._3_0.Common;
+
+/**
+ * A streaming SSRF document reader.
+ * <p>
+ * This reader walks a SSRF XML document with StAX and unmarshals each
+ * top-level dataset (i.e. each child of the &lt;SSRF&gt; root element such as
+ * Assignment, Location, Transmitter, etc.) individually. Only the current
+ * dataset is held in memory, so arbitrarily large documents may be processed
+ * with bounded heap.
+ * <p>
+ * SSRFStreamReader is a single-use {@link Iterator} (and {@link Iterable} for
+ * convenience in a for-each loop). It must be closed when no longer needed.
+ * Example:
+ * <pre>
+ * try (SSRFStreamReader reader = new SSRFStreamReader(path)) {
+ *   for (Common&lt;?&gt; dataset : reader) {
+ *     ...
+ *   }
+ * }
+ * </pre>
+ * <p>
+ * Developer note: Datasets are returned exactly as read from XML. Because
+ * cross-dataset serial references can only be resolved against the complete
+ * document the {@link SSRFUtility#postLoad(SSRF)} step is NOT applied. To
+ * build a complete, post-loaded SSRF instance use
+ * {@link SSRF#fromXml(String)}.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFStreamReader implements Iterator<Common<?>>, Iterable<Common<?>>, Closeable {
+
+  /**
+   * "SSRF". The SSRF root element name.
+   */
+  private static final String ROOT_ELEMENT = "SSRF";
+
+  /**
+   * The top-level dataset classes, keyed by XML element name. SchemaRoot
+   * dataset elements are named after their class type (e.g. "Assignment").
+   */
+  private static final Map<String, Class<? extends Common<?>>> DATASET_TYPES;
+
+  static {
+    Map<String, Class<? extends Common<?>>> map = new HashMap<>();
+    for (EDatasetType datasetType : EDatasetType.values()) {
+      map.put(datasetType.getClassSimpleName(), datasetType.getClazz());
+    }
+    DATASET_TYPES = Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * The shared JAXB context from which the unmarshaller is borrowed.
+   */
+  private final SSRFContext context;
+  /**
+   * The unmarshaller used for this reader. Returned to the pool (and cleared)
+   * on close.
+   */
+  private Unmarshaller unmarshaller;
+  /**
+   * The StAX cursor.
+   */
+  private final XMLStreamReader reader;
+  /**
+   * The underlying source. Closed with this reader.
+   */
+  private final Closeable source;
+  /**
+   * The class type of the dataset at the current cursor position. This is set
+   * by {@link #hasNext()} and cleared by {@link #next()}.
+   */
+  private Class<? extends Common<?>> nextType;
+  /**
+   * Indicator that the root element end has been reached.
+   */
+  private boolean finished;
+  /**
+   * Indicator that this reader has been closed.
+   */
+  private boolean closed;
+
+  /**
+   * Construct a new streaming reader for the indicated XML byte stream. The
+   * character encoding is determined from the XML declaration.
+   * <p>
+   * @param inputStream a SSRF XML document input stream. The stream is closed
+   *                    when this reader is closed.
+   * @throws XMLStreamException if the document is not a SSRF XML document
+   * @throws JAXBException      if the JAXB context cannot be created
+   */
+  public SSRFStreamReader(InputStream inputStream) throws XMLStreamException, JAXBException {
+    this(newXMLInputFactory().createXMLStreamReader(inputStream), inputStream);
+  }
+
+  /**
+   * Construct a new streaming reader for the indicated XML character stream.
+   * <p>
+   * @param reader a SSRF XML document reader. The reader is closed when this
+   *               reader is closed.
+   * @throws XMLStreamException if the document is not a SSRF XML document
+   * @throws JAXBException      if the JAXB context cannot be created
+   */
+  public SSRFStreamReader(Reader reader) throws XMLStreamException, JAXBException {
+    this(newXMLInputFactory().createXMLStreamReader(reader), reader);
+  }
+
+  /**
+   * Construct a new streaming reader for the indicated XML file.
+   * <p>
+   * @param path the SSRF XML document file path
+   * @throws IOException        if the file cannot be opened
+   * @throws XMLStreamException if the document is not a SSRF XML document
+   * @throws JAXBException      if the JAXB context cannot be created
+   */
+  public SSRFStreamReader(Path path) throws IOException, XMLStreamException, JAXBException {
+    this(Files.newInputStream(path));
+  }
+
+  /**
+   * Internal constructor. Position the cursor inside the SSRF root element.
+   * <p>
+   * @param reader the StAX cursor
+   * @param source the underlying source to close with this reader
+   * @throws XMLStreamException if the document is not a SSRF XML document
+   * @throws JAXBException      if the JAXB context cannot be created
+   */
+  private SSRFStreamReader(XMLStreamReader reader, Closeable source) throws XMLStreamException, JAXBException {
+    this.reader = reader;
+    this.source = source;
+    /**
+     * Advance to the root element and verify that this is a SSRF document.
+     * Close the source if it is not.
+     */
+    try {
+      reader.nextTag();
+      if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+        throw new XMLStreamException("Not a SSRF document. Root element is \"" + reader.getLocalName() + "\".", reader.getLocation());
+      }
+      reader.next();
+    } catch (XMLStreamException exception) {
+      try {
+        source.close();
+      } catch (IOException ioException) {
+        exception.addSuppressed(ioException);
+      }
+      throw exception;
+    }
+    this.context = SSRFContext.getInstance(SSRF.class);
+    this.unmarshaller = context.acquireUnmarshaller();
+  }
+
+  /**
+   * Create a new StAX input factory. External entity and DTD support are
+   * disabled.
+   * <p>
+   * @return a new XMLInputFactory instance
+   */
+  static XMLInputFactory newXMLInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Get the top-level dataset class type for an XML element name.
+   * <p>
+   * @param elementName the (local) element name. e.g. "Assignment"
+   * @return the dataset class type, or null if the element is not a SSRF
+   *         dataset
+   */
+  static Class<? extends Common<?>> getDatasetType(String elementName) {
+    return DATASET_TYPES.get(elementName);
+  }
+
+  /**
+   * Determine if another dataset is available.
+   * <p>
+   * Elements beneath the root that are not SSRF datasets are skipped.
+   * <p>
+   * @return TRUE if {@link #next()} will return a dataset
+   * @throws IllegalStateException if the underlying document cannot be read
+   */
+  @Override
+  public boolean hasNext() {
+    if (nextType != null) {
+      return true;
+    }
+    if (finished) {
+      return false;
+    }
+    try {
+      while (reader.getEventType() != XMLStreamConstants.END_DOCUMENT) {
+        switch (reader.getEventType()) {
+          case XMLStreamConstants.START_ELEMENT:
+            nextType = DATASET_TYPES.get(reader.getLocalName());
+            if (nextType != null) {
+              return true;
+            }
+            skipElement();
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            /**
+             * The only END_ELEMENT visible at this depth is the root.
+             */
+            finished = true;
+            return false;
+          default:
+            reader.next();
+        }
+      }
+    } catch (XMLStreamException exception) {
+      throw new IllegalStateException("Failed to read SSRF document: " + exception.getMessage(), exception);
+    }
+    finished = true;
+    return false;
+  }
+
+  /**
+   * Read the next dataset.
+   * <p>
+   * @return the next top-level dataset in document order
+   * @throws NoSuchElementException if there are no more datasets
+   * @throws IllegalStateException  if the dataset cannot be unmarshalled
+   */
+  @Override
+  public Common<?> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      /**
+       * On return the cursor is positioned at the event immediately following
+       * the dataset end element.
+       */
+      return unmarshaller.unmarshal(reader, nextType).getValue();
+    } catch (JAXBException exception) {
+      throw new IllegalStateException("Failed to read SSRF " + nextType.getSimpleName() + ": " + exception.getMessage(), exception);
+    } finally {
+      nextType = null;
+    }
+  }
+
+  /**
+   * Not supported.
+   * <p>
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("SSRFStreamReader is read-only.");
+  }
+
+  /**
+   * Get this reader as an Iterable. Note that the returned iterator is this
+   * (single-use) reader.
+   * <p>
+   * @return this reader
+   */
+  @Override
+  public Iterator<Common<?>> iterator() {
+    return this;
+  }
+
+  /**
+   * Close the StAX cursor and underlying source and return the unmarshaller
+   * to the shared pool. Closing a closed reader has no effect.
+   * <p>
+   * @throws IOException if the underlying source cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    finished = true;
+    nextType = null;
+    context.release(unmarshaller);
+    unmarshaller = null;
+    try {
+      reader.close();
+    } catch (XMLStreamException exception) {
+      throw new IOException(exception);
+    } finally {
+      source.close();
+    }
+  }
+
+  /**
+   * Skip the element at the current cursor position, including all of its
+   * content. On return the cursor is positioned at the event immediately
+   * following the element end.
+   * <p>
+   * @throws XMLStreamException if the document cannot be read
+   */
+  private void skipElement() throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+    reader.next();
+  }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import us.gov.dod.standard.ssrf._3_0.Common;
+import us.gov.dod.standard.ssrf._3_0.SchemaRoot;
+
+/**
+ * A streaming SSRF document writer.
+ * <p>
+ * This writer emits the &lt;SSRF&gt; root element header and then accepts
+ * top-level datasets one at a time. Each dataset is marshalled as a JAXB
+ * fragment directly to the output stream, so arbitrarily large documents may be
+ * written with bounded heap. The root element is closed when the writer is
+ * closed.
+ * <p>
+ * Example:
+ * <pre>
+ * try (SSRFStreamWriter writer = new SSRFStreamWriter(path)) {
+ *   writer.write(contact);
+ *   for (Assignment assignment : assignments) {
+ *     writer.write(assignment);
+ *   }
+ * }
+ * </pre>
+ * <p>
+ * The SSRF schema defines the root element as a sequence: all datasets of one
+ * type must be written before any dataset of a type that follows it in the
+ * SchemaRoot sequence (Contact, Role, Organisation, ExternalReference, ...,
+ * Note). This writer rejects datasets presented out of sequence.
+ * <p>
+ * Developer note: Datasets are written as-is. Unlike {@link SSRF#toXML()}
+ * this writer does not apply properties nor call prepare() on the datasets.
+ * Callers that build datasets programmatically should call prepare() on each
+ * dataset before writing it.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFStreamWriter implements Closeable, Flushable {
+
+  /**
+   * "SSRF". The SSRF root element name.
+   */
+  private static final String ROOT_ELEMENT = "SSRF";
+  /**
+   * "UTF-8". The output character encoding.
+   */
+  private static final String ENCODING = "UTF-8";
+
+  /**
+   * The position of each top-level dataset class within the SchemaRoot
+   * sequence.
+   */
+  private static final Map<Class<?>, Integer> SEQUENCE;
+
+  static {
+    Map<Class<?>, Integer> map = new HashMap<>();
+    String[] propOrder = SchemaRoot.class.getAnnotation(XmlType.class).propOrder();
+    for (EDatasetType datasetType : EDatasetType.values()) {
+      for (int i = 0; i < propOrder.length; i++) {
+        try {
+          Field field = SchemaRoot.class.getDeclaredField(propOrder[i]);
+          if (datasetType.getClassSimpleName().equals(field.getAnnotation(XmlElement.class).name())) {
+            map.put(datasetType.getClazz(), i);
+          }
+        } catch (NoSuchFieldException | SecurityException exception) {
+        }
+      }
+    }
+    SEQUENCE = Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * The shared JAXB context from which the marshaller is borrowed.
+   */
+  private final SSRFContext context;
+  /**
+   * The fragment marshaller used for this writer. Returned to the pool on
+   * close.
+   */
+  private final Marshaller marshaller;
+  /**
+   * The StAX writer.
+   */
+  private final XMLStreamWriter writer;
+  /**
+   * The underlying output stream. Closed with this writer.
+   */
+  private final OutputStream outputStream;
+  /**
+   * The SchemaRoot sequence position of the previously written dataset.
+   */
+  private int position;
+  /**
+   * The number of datasets written.
+   */
+  private long count;
+  /**
+   * Indicator that this writer has been closed.
+   */
+  private boolean closed;
+
+  /**
+   * Construct a new streaming writer. The document is written in UTF-8.
+   * <p>
+   * @param outputStream the output stream. The stream is closed when this
+   *                     writer is closed.
+   * @throws XMLStreamException if the document header cannot be written
+   * @throws JAXBException      if the JAXB context cannot be created
+   */
+  public SSRFStreamWriter(OutputStream outputStream) throws XMLStreamException, JAXBException {
+    this.outputStream = outputStream;
+    this.context = SSRFContext.getInstance(SSRF.class);
+    this.marshaller = context.acquireMarshaller();
+    this.marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+    this.marshaller.setProperty(Marshaller.JAXB_ENCODING, ENCODING);
+    this.writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, ENCODING);
+    this.writer.writeStartDocument(ENCODING, "1.0");
+    this.writer.writeStartElement(ROOT_ELEMENT);
+  }
+
+  /**
+   * Construct a new streaming writer to the indicated file. The file is
+   * created or truncated. The document is written in UTF-8.
+   * <p>
+   * @param path the output file path
+   * @throws IOException        if the file cannot be opened
+   * @throws XMLStreamException if the document header cannot be written
+   * @throws JAXBException      if the JAXB context cannot be created
+   */
+  public SSRFStreamWriter(Path path) throws IOException, XMLStreamException, JAXBException {
+    this(new BufferedOutputStream(Files.newOutputStream(path)));
+  }
+
+  /**
+   * Write a top-level dataset.
+   * <p>
+   * The dataset is marshalled as an XML fragment and flushed to the underlying
+   * output stream.
+   * <p>
+   * @param dataset the dataset to write
+   * @return this writer, to support method chaining
+   * @throws IllegalStateException    if this writer is closed
+   * @throws IllegalArgumentException if the dataset is not a top-level SSRF
+   *                                  dataset type or is presented out of
+   *                                  SchemaRoot sequence
+   * @throws JAXBException            if the dataset cannot be marshalled
+   * @throws XMLStreamException       if the dataset cannot be written
+   */
+  @SuppressWarnings("unchecked")
+  public SSRFStreamWriter write(Common<?> dataset) throws JAXBException, XMLStreamException {
+    if (closed) {
+      throw new IllegalStateException("SSRFStreamWriter is closed.");
+    }
+    Class<Object> clazz = (Class<Object>) (Class<?>) dataset.getClass();
+    Integer sequence = SEQUENCE.get(clazz);
+    if (sequence == null) {
+      throw new IllegalArgumentException(clazz.getSimpleName() + " is not a SSRF dataset type.");
+    }
+    if (sequence < position) {
+      throw new IllegalArgumentException(clazz.getSimpleName() + " is out of sequence. Datasets must be written in SchemaRoot order.");
+    }
+    position = sequence;
+    marshaller.marshal(new JAXBElement<>(new QName(clazz.getSimpleName()), clazz, dataset), writer);
+    writer.flush();
+    count++;
+    return this;
+  }
+
+  /**
+   * Write a collection of top-level datasets.
+   * <p>
+   * @param datasets the datasets to write, in SchemaRoot sequence
+   * @return this writer, to support method chaining
+   * @throws JAXBException      if a dataset cannot be marshalled
+   * @throws XMLStreamException if a dataset cannot be written
+   */
+  public SSRFStreamWriter writeAll(Collection<? extends Common<?>> datasets) throws JAXBException, XMLStreamException {
+    for (Common<?> dataset : datasets) {
+      write(dataset);
+    }
+    return this;
+  }
+
+  /**
+   * Get the number of datasets written.
+   * <p>
+   * @return the number of datasets written
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Flush the StAX writer and the underlying output stream.
+   * <p>
+   * @throws IOException if the output cannot be flushed
+   */
+  @Override
+  public void flush() throws IOException {
+    try {
+      writer.flush();
+    } catch (XMLStreamException exception) {
+      throw new IOException(exception);
+    }
+    outputStream.flush();
+  }
+
+  /**
+   * Close the SSRF root element, then close the underlying output stream and
+   * return the marshaller to the shared pool. Subsequent calls have no effect.
+   * <p>
+   * @throws IOException if the document cannot be completed
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    context.release(marshaller);
+    try {
+      writer.writeEndElement();
+      writer.writeEndDocument();
+      writer.close();
+    } catch (XMLStreamException exception) {
+      throw new IOException(exception);
+    } finally {
+      outputStream.close();
+    }
+  }
+
+}
@@ -15,27 +15,25 @@
  */
 package us.gov.dod.standard.ssrf;
 
-import java.io.ByteArrayInputStream;
-import java.io.StringWriter;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
+import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.bind.annotation.XmlAttribute;
-import javax.xml.bind.annotation.XmlElement;
-import javax.xml.bind.annotation.XmlElementRef;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
-import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
-import us.gov.dod.standard.ssrf._3_0.Common;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf._3_0.adapter.IXmlAdapterConstraint;
 import us.gov.dod.standard.ssrf._3_0.common.ExtReferenceRef;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.location.Ellipse;
@@ -69,9 +67,10 @@ public class SSRFUtility {
   private static final int MAX_STRING_LENGTH = 33;
 
   /**
-   * "us.gov.dod.standard.ssrf". The SSRF top level package.
+   * 64 KB. The buffer size used when reading from or writing to files and
+   * channels.
    */
-  private static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
+  private static final int BUFFER_SIZE = 65536;
 
   /**
    * A randomly seeded AtomicInteger used to provide guaranteed unique index
@@ -131,17 +130,11 @@ public class SSRFUtility {
   }
 
   /**
-   * Validate a SSRF object instance. (internal, recursive)
-   * <p>
-   * This method keeps track of the instance parent instance, plus the field
-   * within that parent instance where the current object instance is set. These
-   * are tracked to help produce a set of legible error messages.
+   * Validate a SSRF object instance.
    * <p>
-   * Developer note: For more information about Java reflection see
-   * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html">The
-   * Reflection API</a> and <a
-   * href="http://tutorials.jenkov.com/java-reflection/index.html">Java
-   * Reflection Tutorial</a>.
+   * Validation stops at the first violation, which is reported as the
+   * Exception message. Use {@link #evaluate(Object, SSRFValidationResult)} to
+   * validate without an Exception and to retrieve structured results.
    * <p>
    * @param instance the object instance to validate
    * @param cls      The parent (maximum) classification. If set all subordinate
@@ -149,99 +142,15 @@ public class SSRFUtility {
    *                 equal to this value.
    * @throws java.lang.Exception if the SSRF instance fails to validate
    */
-  @SuppressWarnings({"AssignmentToMethodParameter"})
   public static void validate(Object instance, ListCCL cls) throws Exception {
+    SSRFValidationResult result = new SSRFValidationResult(EValidationMode.FAIL_FAST, 1);
+    result.begin(instance);
+    inspect(instance, null, null, null, cls, result);
     /**
-     * Assign the class type under study to a local variable for convenience.
-     */
-    Class<?> clazz = instance.getClass();
-    /**
-     * Important: NO NOT inspect classes that are not within the SSRF package.
-     * Also and equally important: DO NOT inspect or try to validate enumerated
-     * classes.
-     */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
-      return;
-    }
-    /**
-     * Test the classification order. SSRF requires that subordinate objects
-     * have a classification less than or equal to their parents.
-     */
-    Set<Field> fields = findDeclaredAndInheritedFields(clazz);
-    if (cls != null) {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          field.setAccessible(true);
-          if (cls.compareTo((ListCCL) field.get(instance)) < 0) {
-            throw new Exception("Field classification \"" + field.get(instance) + "\" is less than parent \"" + cls + "\"");
-          }
-        }
-      }
-    } else {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          field.setAccessible(true);
-          cls = (ListCCL) field.get(instance);
-        }
-      }
-    }
-
-    /**
-     * Iterate through the list of declared fields (public, protected and
-     * private) and inspect each according to its annotated configuration and
-     * state.
+     * Throw (once) with the first violation message.
      */
-    for (Field field : fields) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
-      /**
-       * Get the instance field value. Skip (do not check and fail gracefully)
-       * if the field value is null (e.g. not configured) or (somehow) not
-       * accessible.
-       */
-      Object fieldValue;
-      try {
-        fieldValue = field.get(instance);
-      } catch (IllegalArgumentException | IllegalAccessException ex) {
-//        Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-        continue;
-      }
-      /**
-       * Report an ERROR if the field is required and not configured.
-       */
-      if (isRequired(field) && fieldValue == null) {
-        throw new Exception(field.getName() + " is required.");
-      }
-      /**
-       * If the field value is not required and NULL then DO NOT try to validate
-       * it.
-       */
-      if (fieldValue == null) {
-        continue;
-      }
-      /**
-       * If the field value object is a Collection then iterate through the
-       * collection to recursively validate each entry object instance,
-       * otherwise recurse to validate the field value object instance directly.
-       */
-      if (fieldValue instanceof Collection) {
-        for (Object entry : (Collection) fieldValue) {
-          if (entry != null) {
-            validate(entry, cls);
-          }
-        }
-      } else {
-        validate(fieldValue, cls);
-        /**
-         * After the field validation status is completed try to validate the
-         * object instance configuration against an XmlTypeValidator, if
-         * present.
-         */
-        validateField(field, fieldValue);
-      }
+    if (!result.isValid()) {
+      throw new Exception(result.getViolations().get(0).getMessage());
     }
   }
 
@@ -268,6 +177,26 @@ public class SSRFUtility {
     return evaluate(instance, null, null, null, null);
   }
 
+  /**
+   * Evaluate a SSRF Object instance; record each configuration error in a
+   * structured validation result.
+   * <p>
+   * This method performs the same checks as {@link #validate(Object)} but does
+   * not throw: each violation is recorded (or, beyond the result maximum,
+   * counted) with its rule code, field path and dataset serial. In FAIL_FAST
+   * mode the evaluation stops at the first violation.
+   * <p>
+   * @param instance the object instance to validate
+   * @param result   the validation result to record violations into
+   * @return the validation result, to support method chaining
+   * @since 3.1.0
+   */
+  public static SSRFValidationResult evaluate(Object instance, SSRFValidationResult result) {
+    result.begin(instance);
+    inspect(instance, null, null, null, null, result);
+    return result;
+  }
+
   /**
    * Internal method to recursively validate an object instance.
    * <p>
@@ -289,7 +218,7 @@ public class SSRFUtility {
    *         the object instance validates OK.
    */
   @SuppressWarnings({"AssignmentToMethodParameter"})
-  private static Set<String> evaluate(Object instance, ListCCL cls, Object parentInstance, Field parentField, Set<String> messages) {
+  private static Set<String> evaluate(Object instance, ListCCL cls, Object parentInstance, FieldDescriptor parentField, Set<String> messages) {
     /**
      * Initialize the messages collection if required. Use a TreeSet to
      * eliminate duplicates and provide a pretty-print output.
@@ -298,47 +227,31 @@ public class SSRFUtility {
       messages = new TreeSet<>();
     }
     /**
-     * Assign the class type under study to a local variable for convenience.
+     * Get the (cached) class descriptor of the class type under study.
      */
-    Class<?> clazz = instance.getClass();
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(instance);
     /**
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    if (!descriptor.isInspectable()) {
       return messages;
     }
     /**
      * Test the classification order. SSRF requires that subordinate objects
      * have a classification less than or equal to their parents.
      */
-    Set<Field> fields = findDeclaredAndInheritedFields(clazz);
     if (cls != null) {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          try {
-            field.setAccessible(true);
-            if (cls.compareTo((ListCCL) field.get(instance)) < 0) {
-              messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + "." + field.getName() + " classification \"" + field.get(instance) + "\" is less restrictive than parent classification \"" + cls + "\"");
-            }
-          } catch (SecurityException | IllegalArgumentException | IllegalAccessException exception) {
-            System.err.println("DEBUG SSRFUtility.evaluate: FAILED to compare CLS for " + instance.getClass().getSimpleName());
-            Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, exception);
-          }
+      for (FieldDescriptor field : descriptor.getClsFields()) {
+        ListCCL fieldCls = (ListCCL) field.get(instance);
+        if (cls.compareTo(fieldCls) < 0) {
+          messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + "." + field.getName() + " classification \"" + fieldCls + "\" is less restrictive than parent classification \"" + cls + "\"");
         }
       }
     } else {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          try {
-            field.setAccessible(true);
-            cls = (ListCCL) field.get(instance);
-          } catch (SecurityException | IllegalArgumentException | IllegalAccessException exception) {
-            System.err.println("DEBUG SSRFUtility.evaluate: FAILED to set CLS for " + instance.getClass().getSimpleName());
-            Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, exception);
-          }
-        }
+      for (FieldDescriptor field : descriptor.getClsFields()) {
+        cls = (ListCCL) field.get(instance);
       }
     }
 
@@ -347,29 +260,16 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : fields) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (FieldDescriptor field : descriptor.getFields()) {
       /**
-       * Get the instance field value. Skip (do not check and fail gracefully)
-       * if the field value is null (e.g. not configured) or (somehow) not
-       * accessible.
+       * Get the instance field value.
        */
-      Object fieldValue;
-      try {
-        fieldValue = field.get(instance);
-      } catch (IllegalArgumentException | IllegalAccessException ex) {
-//        Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-        continue;
-      }
+      Object fieldValue = field.get(instance);
       /**
        * Report an ERROR if the field is required and not configured.
        */
-      if (isRequired(field) && fieldValue == null) {
-        messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + " " + getErrorLabel(parentField, parentInstance) + " requires (" + field.getType().getSimpleName() + ") " + field.getName());
+      if (field.isRequired() && fieldValue == null) {
+        messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + " " + getErrorLabel(parentField, parentInstance) + " requires (" + field.getField().getType().getSimpleName() + ") " + field.getName());
       }
       /**
        * If the field value is not required and NULL then DO NOT try to validate
@@ -383,7 +283,7 @@ public class SSRFUtility {
        * collection to recursively validate each entry object instance,
        * otherwise recurse to validate the field value object instance directly.
        */
-      if (fieldValue instanceof Collection) {
+      if (field.isCollection(fieldValue)) {
         for (Object entry : (Collection) fieldValue) {
           if (entry != null) {
             evaluate(entry, cls, instance, field, messages);
@@ -396,11 +296,8 @@ public class SSRFUtility {
          * object instance configuration against an XmlTypeValidator, if
          * present.
          */
-        try {
-          validateField(field, fieldValue);
-        } catch (Exception exception) {
-//          System.err.println(instance.getClass().getSimpleName() + "." + field.getName() + " " + exception.getMessage());
-          messages.add(clazz.getSimpleName() + "." + field.getName() + " " + exception.getMessage());
+        if (!isValidField(field, fieldValue)) {
+          messages.add(descriptor.getClazz().getSimpleName() + "." + field.getName() + " " + SSRFValidationResult.getFormatMessage(field.getAdapter(), fieldValue));
         }
       }
     }
@@ -410,45 +307,31 @@ public class SSRFUtility {
   /**
    * Validate a field setting.
    * <p>
-   * This method inspects the field annotation for an XmlTypeValidator. If found
-   * then the XmlTypeValidator is instantiated and called against the provided
-   * field value.
-   * <p>
-   * If no XmlTypeValidator annotation is found then the field value is assumed
-   * to be valid.
-   * <p>
-   * If the field value is null then NO VALIDATION is done.
+   * This method inspects the field descriptor for an XmlAdapter. If found then
+   * the (shared) XmlAdapter constraints are checked against the provided field
+   * value. This does not throw: SSRF adapters implement
+   * {@link IXmlAdapterConstraint}, other adapters are tried with marshal().
    * <p>
+   * If no XmlAdapter annotation is found then the field value is assumed to be
+   * valid.
    * <p>
-   * @param field      the class field
+   * @param field      the class field descriptor
    * @param fieldValue the class field configured value
-   * @throws Exception the XmlTypeValidator marshal error, thrown ONLY if the
-   *                   field value is not valid
+   * @return TRUE if the field value is null or valid
    */
-  private static void validateField(Field field, Object fieldValue) throws Exception {
-    if (fieldValue == null) {
-      return;
+  static boolean isValidField(FieldDescriptor field, Object fieldValue) {
+    XmlAdapter<Object, Object> adapter = field.getAdapter();
+    if (fieldValue == null || adapter == null) {
+      return true;
     }
-    /**
-     * Scan the field annotations, looking for an XmlJavaTypeAdapter instance.
-     */
-    for (Annotation annotation : field.getAnnotations()) {
-      if (annotation instanceof XmlJavaTypeAdapter) {
-        /**
-         * If an XmlJavaTypeAdapter annotation is found then instantiate the
-         * XmlAdapter class referred to in the "value" field and attempt to
-         * marshal the field value. This action will complete silently if the
-         * field value is valid and throw an exception if the field value is not
-         * valid.
-         */
-        try {
-          XmlAdapter<Object, Object> anInstance = ((XmlJavaTypeAdapter) annotation).value().getConstructor().newInstance();
-          anInstance.marshal(fieldValue);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException ex) {
-          System.err.println("XmlValidator failed to instantiate: " + ex.getMessage());
-          Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-        }
-      }
+    if (adapter instanceof IXmlAdapterConstraint) {
+      return ((IXmlAdapterConstraint) adapter).isValid(fieldValue);
+    }
+    try {
+      adapter.marshal(fieldValue);
+      return true;
+    } catch (Exception exception) {
+      return false;
     }
   }
 
@@ -459,90 +342,23 @@ public class SSRFUtility {
    * is returned. Otherwise if the field is an object type then the work
    * "instance" is returned.
    * <p>
-   * @param field    the field to get the value from
+   * @param field    the field descriptor to get the value from
    * @param instance the object instance to query
    * @return either the field value or the string "instance"
    */
-  private static String getErrorLabel(Field field, Object instance) {
-    try {
-      field.setAccessible(true);
-      Object fieldValue = field.get(instance);
-      /**
-       * If the object instance is a String or a "metaData.domain" instance then
-       * get the value. Else return the word "instance" to indicate a
-       * class-level instance.
-       */
-      if (fieldValue.getClass().getName().contains("metadata.domains") || fieldValue.getClass().getName().equals("java.lang.String")) {
-        return "\"" + trimString(fieldValue.toString(), MAX_STRING_LENGTH) + "\"";
-      }
-    } catch (IllegalArgumentException | IllegalAccessException ex) {
-      Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
+  private static String getErrorLabel(FieldDescriptor field, Object instance) {
+    Object fieldValue = field.get(instance);
+    /**
+     * If the object instance is a String or a "metaData.domain" instance then
+     * get the value. Else return the word "instance" to indicate a class-level
+     * instance.
+     */
+    if (fieldValue.getClass().getName().contains("metadata.domains") || fieldValue.getClass().getName().equals("java.lang.String")) {
+      return "\"" + trimString(fieldValue.toString(), MAX_STRING_LENGTH) + "\"";
     }
     return "instance";
   }
 
-  /**
-   * Get all declared and inherited fields from a class type.
-   * <p>
-   * Reflection does not expose inherited fields. This method implements a
-   * recursive search (up to but not including the base Object) of the Class
-   * inheritance tree and returns all declared fields.
-   * <p>
-   * @param clazz the class type to inspect
-   * @return a non-null {@link HashSet} instance of Fields
-   */
-  private static Set<Field> findDeclaredAndInheritedFields(Class<?> clazz) {
-    Set<Field> fieldSet = new HashSet<>();
-    Class<?> clazzType = clazz;
-    while (clazzType != null && clazzType != Object.class) {
-      fieldSet.addAll(Arrays.asList(clazzType.getDeclaredFields()));
-      clazzType = clazzType.getSuperclass();
-    }
-    return fieldSet;
-  }
-
-  /**
-   * Get all declared and inherited methods from a class type.
-   * <p>
-   * Reflection does not expose inherited fields. This method implements a
-   * recursive search (up to but not including the base Object) of the Class
-   * inheritance tree and returns all declared methods.
-   * <p>
-   * @param clazz the class type to inspect
-   * @return a non-null {@link HashSet} instance of Methods
-   */
-  private static Set<Method> findDeclaredAndInheritedMethods(Class<?> clazz) {
-    Set<Method> methodSet = new HashSet<>();
-    Class<?> clazzType = clazz;
-    while (clazzType != null && clazzType != Object.class) {
-      methodSet.addAll(Arrays.asList(clazzType.getDeclaredMethods()));
-      clazzType = clazzType.getSuperclass();
-    }
-    return methodSet;
-  }
-
-  /**
-   * Inspect a class field and determine if it is required.
-   * <p>
-   * This method looks for and inspects {@link XmlAttribute}, {@link XmlElement}
-   * and {@link XmlElementRef} field annotation types marked as REQUIRED.
-   * <p>
-   * @param field the field to inspect
-   * @return TRUE if and only if the XML annotation is marked "required = true"
-   */
-  private static boolean isRequired(Field field) {
-    for (Annotation annotation : field.getAnnotations()) {
-      if (annotation instanceof XmlAttribute) {
-        return ((XmlAttribute) annotation).required();
-      } else if (annotation instanceof XmlElement) {
-        return ((XmlElement) annotation).required();
-      } else if (annotation instanceof XmlElementRef) {
-        return ((XmlElementRef) annotation).required();
-      }
-    }
-    return false;
-  }
-
   /**
    * Trim a string to the desired maximum length.
    * <p>
@@ -568,7 +384,7 @@ public class SSRFUtility {
    *         returned to support method chaining.
    */
   public static SSRF prepare(SSRF ssrf) {
-    prepare(ssrf, null);
+    prepare(ssrf, new SSRFDatasetCollector(ssrf));
     return ssrf;
   }
 
@@ -580,30 +396,26 @@ public class SSRFUtility {
    * export.
    * <p>
    * @param sourceInstance the SSRF working copy
-   * @param rootInstance   the root SSRF instance into which the components are
-   *                       copied into their proper destination
+   * @param collector      the dataset collector of the root SSRF instance into
+   *                       which the components are copied
    */
-  @SuppressWarnings("AssignmentToMethodParameter")
-  private static void prepare(Object sourceInstance, Object rootInstance) {
+  private static void prepare(Object sourceInstance, SSRFDatasetCollector collector) {
     /**
-     * Return immediately if the source instance is null. Instantiate a new
-     * destination instance if none is provided.
+     * Return immediately if the source instance is null.
      */
     if (sourceInstance == null) {
       return;
-    } else if (rootInstance == null) {
-      rootInstance = sourceInstance;
     }
     /**
-     * Assign the class type under study to a local variable for convenience.
+     * Get the (cached) class descriptor of the class type under study.
      */
-    Class<?> clazz = sourceInstance.getClass();
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(sourceInstance);
     /**
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    if (!descriptor.isInspectable()) {
       return;
     }
     /**
@@ -611,23 +423,11 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : findDeclaredAndInheritedFields(clazz)) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (FieldDescriptor field : descriptor.getFields()) {
       /**
-       * Get the instance field value. Skip (do not check and fail gracefully)
-       * if the field value is null (e.g. not configured) or (somehow) not
-       * accessible.
+       * Get the instance field value.
        */
-      Object fieldValue;
-      try {
-        fieldValue = field.get(sourceInstance);
-      } catch (IllegalArgumentException | IllegalAccessException ex) {
-        continue;
-      }
+      Object fieldValue = field.get(sourceInstance);
       /**
        * If the field value is not required and NULL then DO NOT try to validate
        * it.
@@ -640,16 +440,18 @@ public class SSRFUtility {
        * collection to recursively validate each entry object instance,
        * otherwise recurse to validate the field value object instance directly.
        */
-      if (fieldValue instanceof Collection) {
+      if (field.isCollection(fieldValue)) {
         /**
          * To avoid a ConcurrentModificationException create a temporary list of
          * objects that are preparable then invoke prepare() on each instance in
-         * turn.
+         * turn. Entries are de-duplicated by identity: distinct datasets may
+         * be equal (e.g. two new datasets without a serial).
          * <p>
          * If the instance does NOT implement prepare() then recurse into that
          * object, then try to add it to the SSRF ROOT.
          */
-        Set<Object> preparablObjects = new HashSet<>();
+        List<Object> preparablObjects = new ArrayList<>();
+        Set<Object> preparableIdentities = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
         for (Object entryCandidate : (Collection) fieldValue) {
           /**
            * The fluent "WITH" setters tend to add null entries to various
@@ -664,10 +466,12 @@ public class SSRFUtility {
            * its components and try to add the candidate to the root instance.
            */
           if (implementsPrepare(entryCandidate)) {
-            preparablObjects.add(entryCandidate);
+            if (preparableIdentities.add(entryCandidate)) {
+              preparablObjects.add(entryCandidate);
+            }
           } else {
-            prepare(entryCandidate, rootInstance);
-            addValueToDestinationInstance(entryCandidate, rootInstance);
+            prepare(entryCandidate, collector);
+            collector.add(entryCandidate);
           }
         }
         /**
@@ -684,12 +488,12 @@ public class SSRFUtility {
           /**
            * Recurse into the class instance.
            */
-          prepare(preparableObject, rootInstance);
+          prepare(preparableObject, collector);
           /**
            * After recursion try adding the value to the destination (root SSRF)
            * instance.
            */
-          addValueToDestinationInstance(preparableObject, rootInstance);
+          collector.add(preparableObject);
         }
       } else {
         /**
@@ -699,8 +503,8 @@ public class SSRFUtility {
         if (implementsPrepare(fieldValue)) {
           invokePrepare(fieldValue);
         }
-        prepare(fieldValue, rootInstance);
-        addValueToDestinationInstance(fieldValue, rootInstance);
+        prepare(fieldValue, collector);
+        collector.add(fieldValue);
       }
     }
     /**
@@ -708,37 +512,6 @@ public class SSRFUtility {
      */
   }
 
-  /**
-   * Try to add the source object instance to the destination object instance.
-   * <p>
-   * This method tries to find a "with" setter in the destination instance that
-   * accepts the source object instance class type. If found the source object
-   * instance is added to the destination object instance.
-   * <p>
-   * @param sourceInstance      the source object instance to add to the
-   *                            destination object instance
-   * @param destinationInstance the destination object instance to which the
-   *                            source object instance is to be added
-   */
-  private static void addValueToDestinationInstance(Object sourceInstance, Object destinationInstance) {
-    /**
-     * SchemaRoot only contains sets of object instances that extend Common.
-     * Simplify and speed up processing by only trying to add SSRF object
-     * instances to the ROOT instance (the SSRF message) that extend Common.
-     * <p>
-     * Important - This method should fail gracefully and silently: Catch a
-     * NullPointerException here just in case the sourceInstance is null.
-     */
-    try {
-      if (Common.class.equals(sourceInstance.getClass().getSuperclass())) {
-        Method method = destinationInstance.getClass().getMethod("with" + sourceInstance.getClass().getSimpleName(), Set.class);
-        method.invoke(destinationInstance, new HashSet<>(Arrays.asList(new Object[]{sourceInstance})));
-      }
-    } catch (NullPointerException | NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-      //      Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex );
-    }
-  }
-
   /**
    * Test if the object instance class is preparable; that is, whether an
    * attempt to invoke the prepare() method should be made.
@@ -747,26 +520,7 @@ public class SSRFUtility {
    * @return true if the object class implements the prepare() method.
    */
   private static boolean implementsPrepare(Object instance) {
-    if (instance == null) {
-      return false;
-    }
-    String className = instance.getClass().getName();
-    /**
-     * Only inspect SSRF classes, but ignore ADAPTER and METADATA helpers.
-     */
-    if (className.startsWith(SSRF_PACKAGE)
-      && !className.contains(".adapter.")
-      && !className.contains(".metadata.")) {
-      try {
-        return instance.getClass().getMethod("prepare") != null;
-      } catch (NoSuchMethodException | SecurityException ex) {
-        /**
-         * Does not implement prepare().
-         */
-//      Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-      }
-    }
-    return false;
+    return instance != null && SSRFClassDescriptor.forInstance(instance).implementsPrepare();
   }
 
   /**
@@ -783,17 +537,7 @@ public class SSRFUtility {
      * Try to invoke the prepare() method. Fail gracefully if the instance class
      * does not implement the prepare() method.
      */
-    try {
-      instance.getClass().getMethod("prepare").invoke(instance);
-    } catch (NoSuchMethodException | SecurityException ex) {
-      /**
-       * Does not implement prepare().
-       */
-    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-      /**
-       * prepare() is not accessible (e.g. private).
-       */
-    }
+    SSRFClassDescriptor.forInstance(instance).invokePrepare(instance);
   }
 
   /**
@@ -808,7 +552,16 @@ public class SSRFUtility {
    *         returned to support method chaining.
    */
   public static SSRF postLoad(SSRF ssrf) {
-    postLoad(ssrf, ssrf);
+    /**
+     * Index all datasets by serial number once so that each postLoad() method
+     * resolves its references in constant time.
+     */
+    ssrf.setSerialIndex(new SSRFSerialIndex(ssrf));
+    try {
+      postLoad(ssrf, ssrf);
+    } finally {
+      ssrf.setSerialIndex(null);
+    }
     return ssrf;
   }
 
@@ -832,15 +585,15 @@ public class SSRFUtility {
       return;
     }
     /**
-     * Assign the class type under study to a local variable for convenience.
+     * Get the (cached) class descriptor of the class type under study.
      */
-    Class<?> clazz = sourceInstance.getClass();
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(sourceInstance);
     /**
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    if (!descriptor.isInspectable()) {
       return;
     }
     /**
@@ -848,28 +601,18 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : findDeclaredAndInheritedFields(clazz)) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (FieldDescriptor field : descriptor.getFields()) {
       /**
-       * Get the instance field value. Skip (do not check and fail gracefully)
-       * if the field value is null (e.g. not configured) or (somehow) not
-       * accessible.
+       * Get the instance field value.
        */
-      Object fieldValue;
-      try {
-        fieldValue = field.get(sourceInstance);
-      } catch (IllegalArgumentException | IllegalAccessException ex) {
-//        Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-        continue;
-      }
+      Object fieldValue = field.get(sourceInstance);
       /**
-       * If the field value is not set then DO NOT try to test it.
+       * If the field value is not set then DO NOT try to test it. Also DO NOT
+       * follow XmlTransient fields: these are the dataset references being
+       * resolved by postLoad and the referenced datasets are visited directly
+       * from the SSRF root.
        */
-      if (fieldValue == null) {
+      if (fieldValue == null || field.isXmlTransient()) {
         continue;
       }
       /**
@@ -877,14 +620,17 @@ public class SSRFUtility {
        * collection to recursively test each entry object instance, otherwise
        * recurse to test the field value object instance directly.
        */
-      if (fieldValue instanceof Collection) {
+      if (field.isCollection(fieldValue)) {
         /**
          * To avoid a ConcurrentModificationException create a temporary list of
-         * objects that are loadable then proceed to call each in turn.
+         * objects that are loadable then proceed to call each in turn. Entries
+         * are de-duplicated by identity: distinct entries may be equal (e.g.
+         * two datasets without a serial) and each must be loaded.
          */
-        Set<Object> loadableObjects = new HashSet<>();
+        List<Object> loadableObjects = new ArrayList<>();
+        Set<Object> loadableIdentities = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
         for (Object entryCandidate : (Collection) fieldValue) {
-          if (implementsPostLoad(entryCandidate)) {
+          if (implementsPostLoad(entryCandidate) && loadableIdentities.add(entryCandidate)) {
             loadableObjects.add(entryCandidate);
           }
         }
@@ -931,26 +677,7 @@ public class SSRFUtility {
    *         postLoad() method.
    */
   private static boolean implementsPostLoad(Object instance) {
-    if (instance == null) {
-      return false;
-    }
-    String className = instance.getClass().getName();
-    /**
-     * Only inspect SSRF classes, but ignore ADAPTER and LIST helpers.
-     */
-    if (className.startsWith(SSRF_PACKAGE)
-      && !className.contains(".adapter.")
-      && !className.contains(".metadata.lists")) {
-      try {
-        return instance.getClass().getMethod("postLoad", SSRF.class) != null;
-      } catch (NoSuchMethodException | SecurityException ex) {
-        try {
-          return instance.getClass().getMethod("postLoad") != null;
-        } catch (NoSuchMethodException | SecurityException ex1) {
-        }
-      }
-    }
-    return false;
+    return instance != null && SSRFClassDescriptor.forInstance(instance).implementsPostLoad();
   }
 
   /**
@@ -965,18 +692,9 @@ public class SSRFUtility {
     }
     /**
      * Try to invoke the postLoad(SSRF) or postLoad() methods. Fail gracefully
-     * if the instance class does not implement the prepare() method.
+     * if the instance class does not implement the postLoad() method.
      */
-    try {
-      instance.getClass().getMethod("postLoad", SSRF.class).invoke(instance, rootInstance);
-    } catch (NoSuchMethodException | SecurityException ex) {
-      try {
-        instance.getClass().getMethod("postLoad").invoke(instance);
-      } catch (NoSuchMethodException | SecurityException ex1) {
-      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex1) {
-      }
-    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-    }
+    SSRFClassDescriptor.forInstance(instance).invokePostLoad(instance, rootInstance);
   }
 
   /**
@@ -1010,155 +728,349 @@ public class SSRFUtility {
       return;
     }
     /**
-     * Assign the class type under study to a local variable for convenience.
-     */
-    Class<?> clazz = instance.getClass();
-    /**
-     * Append the object instance to the classPath.
+     * Get the (cached) class descriptor of the class type under study.
      */
-    String classPathInternal = classPath + "." + clazz.getSimpleName();
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(instance);
     /**
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    if (!descriptor.isInspectable()) {
       return;
     }
+    /**
+     * Append the object instance to the classPath and set the instance fields.
+     */
+    String classPathInternal = classPath + "." + descriptor.getClazz().getSimpleName();
+    applyProperties(properties, instance, descriptor, classPathInternal);
     /**
      * Iterate through the list of declared fields (public, protected and
-     * private) and inspect each according to its annotated configuration and
-     * state.
+     * private) and recurse into each configured field value. Values just
+     * created from a property are included, so their own properties (e.g.
+     * metadata) are set in the same pass.
      */
-    for (Field field : findDeclaredAndInheritedFields(clazz)) {
+    for (FieldDescriptor field : descriptor.getFields()) {
+      Object fieldValue = field.get(instance);
+      if (fieldValue == null) {
+        continue;
+      }
       /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
+       * If the field value object is a Collection then iterate through the
+       * collection to recursively set each entry object instance, otherwise
+       * recurse to set the field value object instance directly.
        */
-      field.setAccessible(true);
+      if (field.isCollection(fieldValue)) {
+        for (Object entry : (Collection) fieldValue) {
+          setProperties(properties, entry, classPathInternal);
+        }
+      } else {
+        setProperties(properties, fieldValue, classPathInternal);
+      }
+    }
+  }
+
+  /**
+   * Assign a SSRF Properties configuration to the fields of a single SSRF
+   * object instance. This method does not recurse.
+   * <p>
+   * Only fields that are not set are assigned. Special condition: Default
+   * values may be overwritten (only) in class type TSerial.
+   * <p>
+   * @param properties a SSRF properties configuration
+   * @param instance   a SSRF object instance
+   * @param descriptor the object instance class descriptor
+   * @param classPath  the dot-delimited classPath of this object instance,
+   *                   including the object instance class name
+   */
+  private static void applyProperties(SSRFProperties properties, Object instance, SSRFClassDescriptor descriptor, String classPath) {
+    Class<?> clazz = descriptor.getClazz();
+    boolean overwrite = clazz.getSimpleName().equals("TSerial");
+    for (FieldDescriptor field : descriptor.getFields()) {
+      if (!overwrite && field.get(instance) != null) {
+        continue;
+      }
       /**
-       * Try to recurse into the configured field value. Get the instance field
-       * value. Skip (do not check and fail gracefully) if the field value is
-       * null (e.g. not configured) or (somehow) not accessible.
+       * First try to get the most specific property value possible (e.g.
+       * "SSRF.Contact.TSerial.organisation"). If none is found then look for a
+       * less specific, class level value (e.g. "TSerial.organisation"). If a
+       * configured property is found for the classPath (or class) and the
+       * current field try to set the value using the WITH setter.
        */
-      Object fieldValue;
-      try {
-        fieldValue = field.get(instance);
-      } catch (IllegalArgumentException | IllegalAccessException ex) {
+      String propertyValue = properties.getProperty(classPath, field.getName());
+      if (propertyValue == null) {
+        propertyValue = properties.getProperty(clazz, field.getField());
+      }
+      if (propertyValue == null) {
         continue;
       }
       /**
-       * If the field value is not set then inspect the properties to determine
-       * if a user-defined setting exists for this field.
-       * <p>
-       * Special condition: Default values may be overwritten (only) in class
-       * type TSerial.
+       * Get the (cached) WITH setter.
        */
-      if (fieldValue == null || clazz.getSimpleName().equals("TSerial")) {
+      Method method = field.getWithMethod();
+      Class<?> paramType = field.getWithParameterType();
+      if (paramType != null) {
         /**
-         * First try to get the most specific property value possible (e.g.
-         * "SSRF.Contact.TSerial.organisation"). If none is found then look for
-         * a less specific, class level value (e.g. "TSerial.organisation"). If
-         * a configured property is found for the classPath (or class) and the
-         * current field try to set the value using the WITH setter.
+         * Handle the case where the object instance is an enumerated type.
          */
-        String propertyValue = properties.getProperty(classPathInternal.replaceFirst("\\.", ""), field.getName());
-        if (propertyValue == null) {
-          propertyValue = properties.getProperty(clazz, field);
-        }
-        if (propertyValue != null) {
-          /**
-           * Get the WITH setter.
-           */
-          Method method = findWithMethod(clazz, field);
-//          if (method == null) {            method = findSetMethod(clazz, field);          }
-          if (method != null && method.getParameterTypes().length != 0) {
-            Class<?> paramType = method.getParameterTypes()[0];
-            /**
-             * Handle the case where the object instance is an enumerated type.
-             */
-            Object objectValue;
-            if (paramType.isEnum()) {
-              objectValue = Enum.valueOf((Class<Enum>) paramType, propertyValue);
-            } else {
-              objectValue = propertyValue;
-            }
-            /**
-             * Try to invoke the WITH setter with the user-defined properties
-             * configuration (either an ENUM or String). Ignore all errors to
-             * fail gracefully.
-             */
-            try {
-              method.invoke(instance, objectValue);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-              Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-            }
-          }
+        Object objectValue;
+        if (paramType.isEnum()) {
+          objectValue = Enum.valueOf((Class<Enum>) paramType, propertyValue);
         } else {
-          /**
-           * If the field is null and the no SSRF Property is configured for
-           * this field then skip it.
-           */
-          continue;
+          objectValue = propertyValue;
         }
-      }
-      /**
-       * If the field value object is a Collection then iterate through the
-       * collection to recursively set each entry object instance, otherwise
-       * recurse to set the field value object instance directly.
-       */
-      if (fieldValue instanceof Collection) {
-        for (Object entry : (Collection) fieldValue) {
-          setProperties(properties, entry, classPathInternal);
+        /**
+         * Try to invoke the WITH setter with the user-defined properties
+         * configuration (either an ENUM or String). Ignore all errors to fail
+         * gracefully.
+         */
+        try {
+          method.invoke(instance, objectValue);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+          Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
         }
-      } else {
-        setProperties(properties, fieldValue, classPathInternal);
       }
     }
   }
 
   /**
-   * Internal helper method supporting the
-   * {@link #setProperties(SSRFProperties, java.lang.Object)} method. This
-   * method inspects the indicated Class to find the first declared or inherited
-   * WITH setter method for the indicated field type.
+   * Assemble and validate a SSRF instance for export in a single traversal.
+   * <p>
+   * This method is equivalent to {@link #setProperties(SSRFProperties, Object)}
+   * followed by {@link #prepare(SSRF)} and {@link #validate(Object)}, but visits
+   * each object in the SSRF class tree only once: at each object the
+   * properties are applied, prepare() is invoked and the object fields are
+   * validated before recursing into them.
+   * <p>
+   * Validation errors are reported exactly as by {@link #validate(Object)}.
+   * Nothing is written, so a SSRF instance that fails here is rejected before
+   * any output is produced.
+   * <p>
+   * @param ssrf       the SSRF instance to assemble
+   * @param properties a SSRF properties configuration. Null if none.
+   * @return The input SSRF instance after assembly. The live object is
+   *         returned to support method chaining.
+   * @throws Exception if the SSRF instance fails to validate
+   * @since 3.1.0
+   */
+  public static SSRF assemble(SSRF ssrf, SSRFProperties properties) throws Exception {
+    SSRFValidationResult result = assemble(ssrf, properties, new SSRFValidationResult(EValidationMode.FAIL_FAST, 1));
+    if (!result.isValid()) {
+      throw new Exception(result.getViolations().get(0).getMessage());
+    }
+    return ssrf;
+  }
+
+  /**
+   * Assemble and validate a SSRF instance for export in a single traversal,
+   * recording validation errors in a structured validation result.
+   * <p>
+   * This method is equivalent to {@link #assemble(SSRF, SSRFProperties)} but
+   * does not throw. In FAIL_FAST mode the traversal (and therefore assembly)
+   * stops at the first violation.
+   * <p>
+   * @param ssrf       the SSRF instance to assemble
+   * @param properties a SSRF properties configuration. Null if none.
+   * @param result     the validation result to record violations into
+   * @return the validation result, to support method chaining
+   * @since 3.1.0
+   */
+  public static SSRFValidationResult assemble(SSRF ssrf, SSRFProperties properties, SSRFValidationResult result) {
+    result.begin(ssrf);
+    inspect(ssrf, new SSRFDatasetCollector(ssrf), properties, "", null, result);
+    return result;
+  }
+
+  /**
+   * Assemble a SSRF instance for export without validating it (internal).
    * <p>
-   * @param clazz the class type to inspect
-   * @param field the field to look for
-   * @return a WITH setter method, if present
+   * This is the same traversal as
+   * {@link #assemble(SSRF, SSRFProperties, SSRFValidationResult)}: properties,
+   * prepare() and dataset collection are applied to each instance in the same
+   * order, but the validation checks are skipped and the whole instance is
+   * assembled. Used when the assembled instance is validated separately (see
+   * {@link SSRF#evaluate(SSRFValidationResult, java.util.concurrent.Executor)}).
+   * <p>
+   * @param ssrf       the SSRF instance to assemble
+   * @param properties a SSRF properties configuration. Null if none.
    */
-  private static Method findWithMethod(Class<?> clazz, Field field) {
+  static void assembleOnly(SSRF ssrf, SSRFProperties properties) {
+    assemble(ssrf, properties, SSRFValidationResult.assembling());
+  }
+
+  /**
+   * Validate and (optionally) assemble a SSRF object instance (recursive,
+   * internal).
+   * <p>
+   * This is the single validation traversal behind {@link #validate(Object)},
+   * {@link #evaluate(Object, SSRFValidationResult)} and
+   * {@link #assemble(SSRF, SSRFProperties, SSRFValidationResult)}. No
+   * Exception is thrown or caught: each violation is reported to the
+   * validation result, which indicates when the traversal should stop.
+   * <p>
+   * @param instance     the object instance to validate
+   * @param collector    the dataset collector of the root SSRF instance into
+   *                     which the components are copied. Null to validate
+   *                     only (no properties, prepare or copy).
+   * @param properties   a SSRF properties configuration. Null if none.
+   * @param classPath    the current dot-delimited classPath going into this
+   *                     object instance. Ignored if the collector is null.
+   * @param cls          The parent (maximum) classification. If set all
+   *                     subordinate classifications in the class tree must be
+   *                     less than or equal to this value.
+   * @param result       the validation result
+   */
+  @SuppressWarnings({"AssignmentToMethodParameter"})
+  static void inspect(Object instance, SSRFDatasetCollector collector, SSRFProperties properties, String classPath, ListCCL cls, SSRFValidationResult result) {
     /**
-     * Push all names to lower case to perform a case-insensitive search.
+     * Get the (cached) class descriptor of the class type under study.
      */
-    for (Method method : findDeclaredAndInheritedMethods(clazz)) {
-      if (method.getName().toLowerCase().contains("with" + field.getName().toLowerCase())) {
-        return method;
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(instance);
+    /**
+     * Important: NO NOT inspect classes that are not within the SSRF package.
+     * Also and equally important: DO NOT inspect or try to validate enumerated
+     * classes.
+     */
+    if (!descriptor.isInspectable()) {
+      return;
+    }
+    result.visit(instance);
+    /**
+     * If assembling then set the properties and prepare this instance so that
+     * its fields are complete before they are validated.
+     */
+    String classPathInternal = null;
+    if (collector != null) {
+      classPathInternal = classPath + "." + descriptor.getClazz().getSimpleName();
+      if (properties != null) {
+        applyProperties(properties, instance, descriptor, classPathInternal);
+      }
+      if (descriptor.implementsPrepare()) {
+        descriptor.invokePrepare(instance);
+      }
+    }
+    /**
+     * Record the dataset serial so that violations within the dataset can be
+     * traced to it.
+     */
+    if (descriptor.getSerialField() != null) {
+      result.setSerial(descriptor.getSerialField().get(instance));
+    }
+    /**
+     * Test the classification order. SSRF requires that subordinate objects
+     * have a classification less than or equal to their parents. A missing
+     * classification is reported by the REQUIRED rule below.
+     */
+    if (cls != null) {
+      for (FieldDescriptor field : descriptor.getClsFields()) {
+        ListCCL fieldCls = (ListCCL) field.get(instance);
+        if (fieldCls != null && cls.compareTo(fieldCls) < 0
+            && result.report(EValidationRule.CLASSIFICATION, field.getName(), fieldCls, cls)) {
+          return;
+        }
+      }
+    } else {
+      for (FieldDescriptor field : descriptor.getClsFields()) {
+        cls = (ListCCL) field.get(instance);
+      }
+    }
+    /**
+     * Iterate through the list of declared fields (public, protected and
+     * private) and inspect each according to its annotated configuration and
+     * state.
+     */
+    for (FieldDescriptor field : descriptor.getFields()) {
+      Object fieldValue = field.get(instance);
+      /**
+       * Report an ERROR if the field is required and not configured. If the
+       * field value is not required and NULL then DO NOT try to validate it.
+       */
+      if (fieldValue == null) {
+        if (field.isRequired() && result.report(EValidationRule.REQUIRED, field.getName(), null, null)) {
+          return;
+        }
+        continue;
+      }
+      /**
+       * If the field value object is a Collection then recurse into each entry.
+       * When assembling, iterate over a copy to avoid a
+       * ConcurrentModificationException should an entry prepare() method
+       * modify the collection.
+       */
+      if (field.isCollection(fieldValue)) {
+        Collection<?> entries = collector != null
+                                ? new ArrayList<>((Collection<?>) fieldValue)
+                                : (Collection<?>) fieldValue;
+        int index = 0;
+        for (Object entry : entries) {
+          /**
+           * The fluent "WITH" setters tend to add null entries to various
+           * collections. Skip and ignore all null collection entries.
+           */
+          if (entry != null) {
+            result.enter(field.getName(), index);
+            inspect(entry, collector, properties, classPathInternal, cls, result);
+            result.exit();
+            if (collector != null) {
+              collector.add(entry);
+            }
+            if (result.isComplete()) {
+              return;
+            }
+          }
+          index++;
+        }
+      } else {
+        result.enter(field.getName(), -1);
+        inspect(fieldValue, collector, properties, classPathInternal, cls, result);
+        result.exit();
+        if (collector != null) {
+          collector.add(fieldValue);
+        }
+        if (result.isComplete()) {
+          return;
+        }
+        /**
+         * After the field validation status is completed try to validate the
+         * object instance configuration against its XmlAdapter, if present.
+         */
+        if (result.isValidating()
+            && !isValidField(field, fieldValue)
+            && result.report(EValidationRule.FORMAT, field.getName(), fieldValue, field.getAdapter())) {
+          return;
+        }
       }
     }
-    return null;
   }
 
   /**
-   * Internal helper method supporting the
-   * {@link #setProperties(SSRFProperties, java.lang.Object)} method. This
-   * method inspects the indicated Class to find the first declared or inherited
-   * SET setter method for the indicated field type.
+   * Validate a single field value or collection entry of an object instance
+   * (internal). This performs the same checks as one iteration of the field
+   * loop of {@link #inspect(Object, SSRF, SSRFProperties, String, ListCCL, SSRFValidationResult)}
+   * and is used to validate the root fields of an instance independently (see
+   * {@link SSRFParallelValidator}).
    * <p>
-   * @param clazz the class type to inspect
-   * @param field the field to look for
-   * @return a SET setter method, if present
+   * @param field      the field descriptor
+   * @param fieldValue the field value, or a collection entry. Null if the field
+   *                   is not set.
+   * @param index      the collection entry index, or -1 for a single-valued
+   *                   field
+   * @param cls        the parent (maximum) classification
+   * @param result     the validation result
    */
-  private static Method findSetMethod(Class<?> clazz, Field field) {
-    /**
-     * Push all names to lower case to perform a case-insensitive search.
-     */
-    for (Method method : findDeclaredAndInheritedMethods(clazz)) {
-      if (method.getName().toLowerCase().contains("set" + field.getName().toLowerCase())) {
-        return method;
+  static void inspect(FieldDescriptor field, Object fieldValue, int index, ListCCL cls, SSRFValidationResult result) {
+    if (fieldValue == null) {
+      if (field.isRequired()) {
+        result.report(EValidationRule.REQUIRED, field.getName(), null, null);
       }
+      return;
+    }
+    result.enter(field.getName(), index);
+    inspect(fieldValue, null, null, null, cls, result);
+    result.exit();
+    if (index < 0 && !result.isComplete() && !isValidField(field, fieldValue)) {
+      result.report(EValidationRule.FORMAT, field.getName(), fieldValue, field.getAdapter());
     }
-    return null;
   }
 
   /**
@@ -1167,28 +1079,185 @@ public class SSRFUtility {
    * The output of this method is typically either written to a file or sent via
    * a SOAP communication link.
    * <p/>
+   * The JAXBContext and Marshaller are obtained from the shared
+   * {@link SSRFContext} registry. To write with the {@link SSRFXmlBinding}
+   * StAX engine instead see
+   * {@link #marshal(Object, Writer, boolean, EXmlBinding)}.
+   * <p/>
    * @param <T>   the entity class type
    * @param clazz the entity class to be written
    * @return the entity class serialized into XML form
    * @throws JAXBException if the entity class cannot be marshaled (serialized)
    */
   public static <T> String marshal(T clazz) throws JAXBException {
-    JAXBContext jaxbContext = JAXBContext.newInstance(clazz.getClass());
-    Marshaller marshaller = jaxbContext.createMarshaller();
-    /**
-     * Add newlines to the output. This helps visually inspect the output.
-     */
-    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+    return marshal(clazz, true);
+  }
+
+  /**
+   * Marshal an entity class into a XML String representation.
+   * <p/>
+   * @param <T>       the entity class type
+   * @param clazz     the entity class to be written
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @return the entity class serialized into XML form
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @since 3.1.0
+   */
+  public static <T> String marshal(T clazz, boolean formatted) throws JAXBException {
     StringWriter stringWriter = new StringWriter();
-    marshaller.marshal(clazz, stringWriter);
+    marshal(clazz, stringWriter, formatted);
     return stringWriter.toString();
   }
 
+  /**
+   * Marshal an entity class directly to a character stream.
+   * <p/>
+   * The writer is flushed but NOT closed.
+   * <p/>
+   * @param <T>       the entity class type
+   * @param clazz     the entity class to be written
+   * @param writer    the output character stream
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @since 3.1.0
+   */
+  public static <T> void marshal(T clazz, Writer writer, boolean formatted) throws JAXBException {
+    marshal(clazz, writer, formatted, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Marshal an entity class directly to a character stream using the indicated
+   * XML binding engine.
+   * <p/>
+   * The writer is flushed but NOT closed.
+   * <p/>
+   * @param <T>       the entity class type
+   * @param clazz     the entity class to be written
+   * @param writer    the output character stream
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @param binding   the XML binding engine
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @since 3.1.0
+   */
+  public static <T> void marshal(T clazz, Writer writer, boolean formatted, EXmlBinding binding) throws JAXBException {
+    if (binding == EXmlBinding.STAX) {
+      SSRFXmlBinding.marshal(clazz, writer, formatted);
+      return;
+    }
+    SSRFContext context = SSRFContext.getInstance(clazz.getClass());
+    Marshaller marshaller = context.acquireMarshaller();
+    try {
+      /**
+       * Optionally add newlines to the output. This helps visually inspect the
+       * output.
+       */
+      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatted);
+      marshaller.marshal(clazz, writer);
+    } finally {
+      context.release(marshaller);
+    }
+  }
+
+  /**
+   * Marshal an entity class directly to a byte stream. The output is encoded in
+   * UTF-8.
+   * <p/>
+   * The output stream is flushed but NOT closed.
+   * <p/>
+   * @param <T>          the entity class type
+   * @param clazz        the entity class to be written
+   * @param outputStream the output byte stream
+   * @param formatted    TRUE to add newlines and indentation to the output
+   *                     (pretty print). FALSE for a compact output.
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @since 3.1.0
+   */
+  public static <T> void marshal(T clazz, OutputStream outputStream, boolean formatted) throws JAXBException {
+    marshal(clazz, outputStream, formatted, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Marshal an entity class directly to a byte stream using the indicated XML
+   * binding engine. The output is encoded in UTF-8.
+   * <p/>
+   * The output stream is flushed but NOT closed.
+   * <p/>
+   * @param <T>          the entity class type
+   * @param clazz        the entity class to be written
+   * @param outputStream the output byte stream
+   * @param formatted    TRUE to add newlines and indentation to the output
+   *                     (pretty print). FALSE for a compact output.
+   * @param binding      the XML binding engine
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @since 3.1.0
+   */
+  public static <T> void marshal(T clazz, OutputStream outputStream, boolean formatted, EXmlBinding binding) throws JAXBException {
+    if (binding == EXmlBinding.STAX) {
+      SSRFXmlBinding.marshal(clazz, outputStream, formatted);
+      return;
+    }
+    SSRFContext context = SSRFContext.getInstance(clazz.getClass());
+    Marshaller marshaller = context.acquireMarshaller();
+    try {
+      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatted);
+      marshaller.marshal(clazz, outputStream);
+    } finally {
+      context.release(marshaller);
+    }
+  }
+
+  /**
+   * Marshal an entity class directly to a byte channel (e.g. a
+   * {@link java.nio.channels.FileChannel}). The output is encoded in UTF-8.
+   * <p/>
+   * The channel is NOT closed.
+   * <p/>
+   * @param <T>       the entity class type
+   * @param clazz     the entity class to be written
+   * @param channel   the output channel
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @throws IOException   if the channel cannot be written
+   * @since 3.1.0
+   */
+  public static <T> void marshal(T clazz, WritableByteChannel channel, boolean formatted) throws JAXBException, IOException {
+    OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    marshal(clazz, outputStream, formatted);
+    outputStream.flush();
+  }
+
+  /**
+   * Marshal an entity class directly to a file. The file is created or
+   * truncated and the output is encoded in UTF-8.
+   * <p/>
+   * @param <T>       the entity class type
+   * @param clazz     the entity class to be written
+   * @param path      the output file path
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @throws IOException   if the file cannot be written
+   * @since 3.1.0
+   */
+  public static <T> void marshal(T clazz, Path path, boolean formatted) throws JAXBException, IOException {
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)) {
+      marshal(clazz, outputStream, formatted);
+    }
+  }
+
   /**
    * Parse an XML file into a container class. This method calls the JAXB
    * un-marshaler and returns a class containing all of the content defined in
    * the XML file.
    * <p/>
+   * The JAXBContext and Unmarshaller are obtained from the shared
+   * {@link SSRFContext} registry. To read with the {@link SSRFXmlBinding} StAX
+   * engine instead see {@link #unmarshal(Reader, Class, EXmlBinding)}.
+   * <p/>
    * @param <T>   the class type to be returned
    * @param xml   the XML source content
    * @param clazz the parsed and populated class type; this is the same as the
@@ -1198,8 +1267,135 @@ public class SSRFUtility {
    *                       type
    */
   public static <T> T unmarshal(String xml, Class<T> clazz) throws JAXBException {
-    Unmarshaller unmarshaller = JAXBContext.newInstance(clazz).createUnmarshaller();
-    return clazz.cast(unmarshaller.unmarshal(new ByteArrayInputStream(xml.getBytes())));
+    return unmarshal(new StringReader(xml), clazz);
+  }
+
+  /**
+   * Parse an XML character stream into a container class.
+   * <p/>
+   * The reader is NOT closed.
+   * <p/>
+   * @param <T>    the class type to be returned
+   * @param reader the XML source character stream
+   * @param clazz  the parsed and populated class type; this is the same as the
+   *               class type that is returned
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class type
+   * @since 3.1.0
+   */
+  public static <T> T unmarshal(Reader reader, Class<T> clazz) throws JAXBException {
+    return unmarshal(reader, clazz, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Parse an XML character stream into a container class using the indicated
+   * XML binding engine.
+   * <p/>
+   * The reader is NOT closed.
+   * <p/>
+   * @param <T>     the class type to be returned
+   * @param reader  the XML source character stream
+   * @param clazz   the parsed and populated class type; this is the same as the
+   *                class type that is returned
+   * @param binding the XML binding engine
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class type
+   * @since 3.1.0
+   */
+  public static <T> T unmarshal(Reader reader, Class<T> clazz, EXmlBinding binding) throws JAXBException {
+    if (binding == EXmlBinding.STAX) {
+      return SSRFXmlBinding.unmarshal(reader, clazz);
+    }
+    SSRFContext context = SSRFContext.getInstance(clazz);
+    Unmarshaller unmarshaller = context.acquireUnmarshaller();
+    try {
+      return clazz.cast(unmarshaller.unmarshal(reader));
+    } finally {
+      context.release(unmarshaller);
+    }
+  }
+
+  /**
+   * Parse an XML byte stream into a container class. The character encoding is
+   * determined by the parser from the XML declaration.
+   * <p/>
+   * The input stream is NOT closed.
+   * <p/>
+   * @param <T>         the class type to be returned
+   * @param inputStream the XML source byte stream
+   * @param clazz       the parsed and populated class type; this is the same as
+   *                    the class type that is returned
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class type
+   * @since 3.1.0
+   */
+  public static <T> T unmarshal(InputStream inputStream, Class<T> clazz) throws JAXBException {
+    return unmarshal(inputStream, clazz, EXmlBinding.JAXB);
+  }
+
+  /**
+   * Parse an XML byte stream into a container class using the indicated XML
+   * binding engine. The character encoding is determined by the parser from
+   * the XML declaration.
+   * <p/>
+   * The input stream is NOT closed.
+   * <p/>
+   * @param <T>         the class type to be returned
+   * @param inputStream the XML source byte stream
+   * @param clazz       the parsed and populated class type; this is the same as
+   *                    the class type that is returned
+   * @param binding     the XML binding engine
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class type
+   * @since 3.1.0
+   */
+  public static <T> T unmarshal(InputStream inputStream, Class<T> clazz, EXmlBinding binding) throws JAXBException {
+    if (binding == EXmlBinding.STAX) {
+      return SSRFXmlBinding.unmarshal(inputStream, clazz);
+    }
+    SSRFContext context = SSRFContext.getInstance(clazz);
+    Unmarshaller unmarshaller = context.acquireUnmarshaller();
+    try {
+      return clazz.cast(unmarshaller.unmarshal(inputStream));
+    } finally {
+      context.release(unmarshaller);
+    }
+  }
+
+  /**
+   * Parse an XML byte channel (e.g. a {@link java.nio.channels.FileChannel})
+   * into a container class.
+   * <p/>
+   * The channel is NOT closed.
+   * <p/>
+   * @param <T>     the class type to be returned
+   * @param channel the XML source byte channel
+   * @param clazz   the parsed and populated class type; this is the same as the
+   *                class type that is returned
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class type
+   * @since 3.1.0
+   */
+  public static <T> T unmarshal(ReadableByteChannel channel, Class<T> clazz) throws JAXBException {
+    return unmarshal(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE), clazz);
+  }
+
+  /**
+   * Parse an XML file into a container class.
+   * <p/>
+   * @param <T>   the class type to be returned
+   * @param path  the XML source file path
+   * @param clazz the parsed and populated class type; this is the same as the
+   *              class type that is returned
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class type
+   * @throws IOException   if the file cannot be read
+   * @since 3.1.0
+   */
+  public static <T> T unmarshal(Path path, Class<T> clazz) throws JAXBException, IOException {
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)) {
+      return unmarshal(inputStream, clazz);
+    }
   }
 
 }
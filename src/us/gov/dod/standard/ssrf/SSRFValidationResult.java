@@ -0,0 +1,601 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf._3_0.adapter.IXmlAdapterConstraint;
+import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
+
+/**
+ * A structured SSRF validation result.
+ * <p>
+ * A validation result is created by the caller, configured with a
+ * {@link EValidationMode} and a maximum number of recorded violations, and
+ * passed to {@link SSRFUtility#evaluate(Object, SSRFValidationResult)} or
+ * {@link SSRFUtility#assemble(SSRF, SSRFProperties, SSRFValidationResult)}.
+ * Validation does not throw: each violation is recorded as a
+ * {@link Violation} with its numeric rule code, the field path, the serial of
+ * the enclosing dataset and the offending value. The human-readable message is
+ * only built when {@link Violation#getMessage()} is called, so validating a
+ * large, mostly invalid feed costs little more than validating a valid one.
+ * <p>
+ * In {@link EValidationMode#FAIL_FAST} mode validation stops at the first
+ * violation. In {@link EValidationMode#COLLECT_ALL} mode validation continues
+ * through the whole instance; violations beyond the configured maximum are
+ * counted (see {@link #getViolationCount(EValidationRule)}) but not recorded.
+ * <p>
+ * Example:
+ * <pre>
+ * SSRFValidationResult result = new SSRFValidationResult(EValidationMode.COLLECT_ALL, 100);
+ * SSRFUtility.evaluate(ssrf, result);
+ * for (SSRFValidationResult.Violation violation : result.getViolations()) {
+ *   System.out.println(violation);
+ * }
+ * </pre>
+ * <p>
+ * A validation result is NOT thread-safe.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFValidationResult {
+
+  /**
+   * 1,000. The default maximum number of recorded violations.
+   */
+  public static final int DEFAULT_MAX_VIOLATIONS = 1000;
+  /**
+   * The initial field path stack capacity. The SSRF class tree is rarely more
+   * than a dozen levels deep.
+   */
+  private static final int INITIAL_DEPTH = 32;
+
+  /**
+   * The validation mode.
+   */
+  private final EValidationMode mode;
+  /**
+   * The maximum number of recorded violations.
+   */
+  private final int maxViolations;
+  /**
+   * The recorded violations.
+   */
+  private final List<Violation> violations;
+  /**
+   * The number of violations of each rule, indexed by rule ordinal. This
+   * includes violations that were counted but not recorded.
+   */
+  private final int[] counts;
+  /**
+   * The total number of violations.
+   */
+  private int total;
+
+  /**
+   * The simple name of the class at the root of the current traversal.
+   */
+  private String rootName;
+  /**
+   * The field path stack of the current traversal: the field names.
+   */
+  private String[] pathNames;
+  /**
+   * The field path stack of the current traversal: the collection entry
+   * indexes, or -1 for a single-valued field.
+   */
+  private int[] pathIndexes;
+  /**
+   * The serial of the nearest enclosing dataset at each depth of the current
+   * traversal.
+   */
+  private Object[] serials;
+  /**
+   * The current traversal depth.
+   */
+  private int depth;
+  /**
+   * The instances visited by the traversal. Null unless a
+   * {@link SSRFChangeTracker} is recording them.
+   */
+  private List<Object> visited;
+  /**
+   * Indicator that the traversal assembles only: violations are ignored and
+   * the traversal never stops early. See {@link #assembling()}.
+   */
+  private boolean assembling;
+
+  /**
+   * Construct a new COLLECT_ALL validation result recording up to
+   * {@value #DEFAULT_MAX_VIOLATIONS} violations.
+   */
+  public SSRFValidationResult() {
+    this(EValidationMode.COLLECT_ALL, DEFAULT_MAX_VIOLATIONS);
+  }
+
+  /**
+   * Construct a new validation result.
+   * <p>
+   * @param mode          the validation mode
+   * @param maxViolations the maximum number of violations to record. Ignored
+   *                      in FAIL_FAST mode, which records only the first.
+   * @throws IllegalArgumentException if the mode is null or the maximum is
+   *                                  less than one
+   */
+  public SSRFValidationResult(EValidationMode mode, int maxViolations) {
+    if (mode == null) {
+      throw new IllegalArgumentException("Validation mode is required.");
+    }
+    if (maxViolations < 1) {
+      throw new IllegalArgumentException("Maximum violations must be at least one.");
+    }
+    this.mode = mode;
+    this.maxViolations = EValidationMode.FAIL_FAST.equals(mode) ? 1 : maxViolations;
+    this.violations = new ArrayList<>();
+    this.counts = new int[EValidationRule.values().length];
+    this.pathNames = new String[INITIAL_DEPTH];
+    this.pathIndexes = new int[INITIAL_DEPTH];
+    this.serials = new Object[INITIAL_DEPTH];
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Getter Methods">
+  /**
+   * Get the validation mode.
+   * <p>
+   * @return the validation mode
+   */
+  public EValidationMode getMode() {
+    return mode;
+  }
+
+  /**
+   * Get the maximum number of recorded violations.
+   * <p>
+   * @return the maximum number of recorded violations
+   */
+  public int getMaxViolations() {
+    return maxViolations;
+  }
+
+  /**
+   * Determine if no violation was found.
+   * <p>
+   * @return TRUE if the validated instance(s) validate OK
+   */
+  public boolean isValid() {
+    return total == 0;
+  }
+
+  /**
+   * Determine if violations were counted but not recorded because the maximum
+   * was reached. Always FALSE in FAIL_FAST mode.
+   * <p>
+   * @return TRUE if the recorded violations are incomplete
+   */
+  public boolean isTruncated() {
+    return total > violations.size();
+  }
+
+  /**
+   * Get the recorded violations in the order found.
+   * <p>
+   * @return a non-null, unmodifiable list of violations
+   */
+  public List<Violation> getViolations() {
+    return Collections.unmodifiableList(violations);
+  }
+
+  /**
+   * Get the total number of violations, including violations that were
+   * counted but not recorded.
+   * <p>
+   * @return the total number of violations
+   */
+  public int getViolationCount() {
+    return total;
+  }
+
+  /**
+   * Get the number of violations of a rule, including violations that were
+   * counted but not recorded.
+   * <p>
+   * @param rule the validation rule
+   * @return the number of violations of the rule
+   */
+  public int getViolationCount(EValidationRule rule) {
+    return counts[rule.ordinal()];
+  }
+
+  /**
+   * Render the recorded violation messages. This builds every message and is
+   * intended for reporting.
+   * <p>
+   * @return a non-null list of violation messages in the order found
+   */
+  public List<String> getMessages() {
+    List<String> messages = new ArrayList<>(violations.size());
+    for (Violation violation : violations) {
+      messages.add(violation.toString());
+    }
+    return messages;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Traversal Methods">
+  /**
+   * Begin a traversal. Called by {@link SSRFUtility} at the root instance.
+   * Violations recorded by previous traversals are retained.
+   * <p>
+   * @param rootInstance the root instance
+   */
+  void begin(Object rootInstance) {
+    this.rootName = rootInstance.getClass().getSimpleName();
+    this.depth = 0;
+    this.serials[0] = null;
+  }
+
+  /**
+   * Enter a field value during traversal.
+   * <p>
+   * @param fieldName the field name
+   * @param index     the collection entry index, or -1 for a single-valued
+   *                  field
+   */
+  void enter(String fieldName, int index) {
+    if (depth + 1 == serials.length) {
+      int capacity = serials.length * 2;
+      pathNames = Arrays.copyOf(pathNames, capacity);
+      pathIndexes = Arrays.copyOf(pathIndexes, capacity);
+      serials = Arrays.copyOf(serials, capacity);
+    }
+    pathNames[depth] = fieldName;
+    pathIndexes[depth] = index;
+    serials[depth + 1] = serials[depth];
+    depth++;
+  }
+
+  /**
+   * Exit the current field value during traversal.
+   */
+  void exit() {
+    depth--;
+  }
+
+  /**
+   * Set the serial of the dataset at the current traversal depth.
+   * <p>
+   * @param serial the dataset serial. Ignored if null.
+   */
+  void setSerial(Object serial) {
+    if (serial != null) {
+      serials[depth] = serial;
+    }
+  }
+
+  /**
+   * Report a violation at the current traversal depth.
+   * <p>
+   * @param rule      the violated rule
+   * @param fieldName the name of the field in violation
+   * @param value     the offending field value. Null if not applicable.
+   * @param detail    the rule detail: the parent classification for a
+   *                  CLASSIFICATION violation or the field XmlAdapter for a
+   *                  FORMAT violation. Null if not applicable.
+   * @return TRUE if the traversal should stop
+   */
+  boolean report(EValidationRule rule, String fieldName, Object value, Object detail) {
+    if (assembling) {
+      return false;
+    }
+    counts[rule.ordinal()]++;
+    total++;
+    if (violations.size() < maxViolations) {
+      violations.add(new Violation(rule,
+                                   rootName,
+                                   Arrays.copyOf(pathNames, depth),
+                                   Arrays.copyOf(pathIndexes, depth),
+                                   fieldName,
+                                   serials[depth],
+                                   value,
+                                   detail));
+    }
+    return isComplete();
+  }
+
+  /**
+   * Create a result for a traversal that only assembles a SSRF instance (see
+   * {@link SSRFUtility#assemble(SSRF, SSRFProperties, SSRFValidationResult)}).
+   * Violations are ignored, so the whole instance is assembled, and the
+   * traversal skips the checks that do not affect assembly.
+   * <p>
+   * @return a new assembly-only result
+   */
+  static SSRFValidationResult assembling() {
+    SSRFValidationResult result = new SSRFValidationResult(EValidationMode.COLLECT_ALL, 1);
+    result.assembling = true;
+    return result;
+  }
+
+  /**
+   * @return TRUE if this result validates; FALSE if it only assembles
+   */
+  boolean isValidating() {
+    return !assembling;
+  }
+
+  /**
+   * Record the instances visited by subsequent traversals.
+   * <p>
+   * @param visited the list to record into. Null to stop recording.
+   */
+  void setVisited(List<Object> visited) {
+    this.visited = visited;
+  }
+
+  /**
+   * Visit an (inspectable) SSRF instance during traversal. The instance is
+   * recorded if recording.
+   * <p>
+   * @param instance the visited instance
+   */
+  void visit(Object instance) {
+    if (visited != null) {
+      visited.add(instance);
+    }
+  }
+
+  /**
+   * Release the traversal state of a completed fork so that it can be retained
+   * cheaply (see {@link SSRFChangeTracker}). A compacted fork can only be
+   * merged.
+   */
+  void compact() {
+    this.pathNames = null;
+    this.pathIndexes = null;
+    this.serials = null;
+    this.visited = null;
+  }
+
+  /**
+   * Create an empty validation result with the same mode, maximum, root and
+   * current traversal position. Used to validate part of an instance on
+   * another thread; the fork is later combined with {@link #merge}.
+   * <p>
+   * @return a new validation result positioned at the current depth
+   */
+  SSRFValidationResult fork() {
+    SSRFValidationResult fork = new SSRFValidationResult(mode, maxViolations);
+    fork.rootName = rootName;
+    fork.pathNames = pathNames.clone();
+    fork.pathIndexes = pathIndexes.clone();
+    fork.serials = serials.clone();
+    fork.depth = depth;
+    return fork;
+  }
+
+  /**
+   * Append the violations of a forked validation result. Forks must be merged
+   * in traversal order; the merged result is then identical to a sequential
+   * traversal: violations are recorded in order up to the maximum, all
+   * violations are counted and, in FAIL_FAST mode, only the first violation is
+   * kept.
+   * <p>
+   * @param fork a forked validation result
+   */
+  void merge(SSRFValidationResult fork) {
+    if (isComplete()) {
+      return;
+    }
+    for (Violation violation : fork.violations) {
+      if (violations.size() >= maxViolations) {
+        break;
+      }
+      violations.add(violation);
+    }
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += fork.counts[i];
+    }
+    total += fork.total;
+  }
+
+  /**
+   * Determine if the traversal should stop. This is TRUE in FAIL_FAST mode
+   * once a violation is found.
+   * <p>
+   * @return TRUE if the traversal should stop
+   */
+  boolean isComplete() {
+    return total > 0 && EValidationMode.FAIL_FAST.equals(mode);
+  }//</editor-fold>
+
+  /**
+   * Describe why a field value does not satisfy the constraints of its
+   * XmlAdapter.
+   * <p>
+   * @param adapter the field XmlAdapter
+   * @param value   the field value
+   * @return the violation message
+   */
+  @SuppressWarnings("unchecked")
+  static String getFormatMessage(Object adapter, Object value) {
+    String message = null;
+    if (adapter instanceof IXmlAdapterConstraint) {
+      message = ((IXmlAdapterConstraint) adapter).getMessage(value);
+    } else if (adapter instanceof XmlAdapter) {
+      try {
+        ((XmlAdapter<Object, Object>) adapter).marshal(value);
+      } catch (Exception exception) {
+        message = exception.getMessage();
+      }
+    }
+    return message != null ? message : "value is not valid.";
+  }
+
+  /**
+   * A single validation rule violation.
+   * <p>
+   * A violation is immutable. The field path and message are rendered on
+   * demand.
+   */
+  public static final class Violation {
+
+    /**
+     * The violated rule.
+     */
+    private final EValidationRule rule;
+    /**
+     * The simple name of the root class.
+     */
+    private final String rootName;
+    /**
+     * The field names from the root to the instance holding the field.
+     */
+    private final String[] pathNames;
+    /**
+     * The collection entry indexes matching the path names.
+     */
+    private final int[] pathIndexes;
+    /**
+     * The name of the field in violation.
+     */
+    private final String fieldName;
+    /**
+     * The serial of the enclosing dataset. Null if none.
+     */
+    private final Object serial;
+    /**
+     * The offending value. Null if not applicable.
+     */
+    private final Object value;
+    /**
+     * The rule detail. Null if not applicable.
+     */
+    private final Object detail;
+
+    private Violation(EValidationRule rule, String rootName, String[] pathNames, int[] pathIndexes, String fieldName, Object serial, Object value, Object detail) {
+      this.rule = rule;
+      this.rootName = rootName;
+      this.pathNames = pathNames;
+      this.pathIndexes = pathIndexes;
+      this.fieldName = fieldName;
+      this.serial = serial;
+      this.value = value;
+      this.detail = detail;
+    }
+
+    /**
+     * Get the violated rule.
+     * <p>
+     * @return the validation rule
+     */
+    public EValidationRule getRule() {
+      return rule;
+    }
+
+    /**
+     * Get the numeric code of the violated rule.
+     * <p>
+     * @return the rule code
+     */
+    public int getCode() {
+      return rule.getCode();
+    }
+
+    /**
+     * Get the name of the field in violation.
+     * <p>
+     * @return the field name
+     */
+    public String getFieldName() {
+      return fieldName;
+    }
+
+    /**
+     * Get the dot-delimited path from the root instance to the field in
+     * violation. Collection entries are identified by their index; e.g.
+     * {@code SSRF.location[3].point.lat}.
+     * <p>
+     * @return the field path
+     */
+    public String getPath() {
+      StringBuilder sb = new StringBuilder(rootName);
+      for (int i = 0; i < pathNames.length; i++) {
+        sb.append(".").append(pathNames[i]);
+        if (pathIndexes[i] >= 0) {
+          sb.append("[").append(pathIndexes[i]).append("]");
+        }
+      }
+      return sb.append(".").append(fieldName).toString();
+    }
+
+    /**
+     * Get the serial of the dataset enclosing the field in violation.
+     * <p>
+     * @return the serial, or null if the field is not within a dataset (or
+     *         the dataset serial is not set)
+     */
+    public String getSerial() {
+      if (serial instanceof IMetadataType) {
+        Object serialValue = ((IMetadataType) serial).getValue();
+        return serialValue != null ? serialValue.toString() : null;
+      }
+      return serial != null ? serial.toString() : null;
+    }
+
+    /**
+     * Get the offending field value.
+     * <p>
+     * @return the field value, or null if not applicable (e.g. a REQUIRED
+     *         violation)
+     */
+    public Object getValue() {
+      return value;
+    }
+
+    /**
+     * Get the human-readable violation message.
+     * <p>
+     * @return the violation message
+     */
+    public String getMessage() {
+      switch (rule) {
+        case REQUIRED:
+          return getPath() + " is required.";
+        case CLASSIFICATION:
+          return getPath() + " classification \"" + value + "\" is less restrictive than parent classification \"" + detail + "\".";
+        case FORMAT:
+          return getPath() + " " + getFormatMessage(detail, value);
+        default:
+          return getPath() + " violates rule " + rule + ".";
+      }
+    }
+
+    /**
+     * Get the rule code, serial (if known) and message.
+     * <p>
+     * @return a human-readable description of this violation
+     */
+    @Override
+    public String toString() {
+      String serialValue = getSerial();
+      return "[" + rule.getCode() + "] " + (serialValue != null ? serialValue + " " : "") + getMessage();
+    }
+  }
+}
@@ -0,0 +1,846 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import us.gov.dod.standard.ssrf._3_0.*;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+
+/**
+ * A validity window index of the datasets of one type in a SSRF instance.
+ * <p>
+ * Many datasets are valid for a limited time: they are effective from an
+ * EffectiveDate, expire at an ExpirationDate and are due for review at a
+ * ReviewDate. Questions such as "which assignments are active on 2026-11-01?"
+ * or "which locations are due for review this week?" otherwise require a scan
+ * of every dataset comparing TCalendar values. The index instead records the
+ * dates of each dataset in epoch milliseconds and answers:
+ * <ul>
+ * <li>{@link #findActive(long)}: the datasets active at an instant,</li>
+ * <li>{@link #findActive(long, long)}: the datasets active at any time during
+ * a period,</li>
+ * <li>{@link #findExpiring(long, long)}: the datasets expiring during a
+ * period,</li>
+ * <li>{@link #findReviewDue(long, long)}: the datasets due for review during a
+ * period.</li>
+ * </ul>
+ * A dataset is active from its EffectiveDate (inclusive) until its
+ * ExpirationDate (exclusive). A dataset with no EffectiveDate has always been
+ * active and a dataset with no ExpirationDate never expires. A dataset that
+ * expires at or before its EffectiveDate is never active. The validity
+ * windows are held in an augmented interval tree (see
+ * {@link SSRFFrequencyIndex}); the expiration and review dates are held in
+ * sorted arrays.
+ * <p>
+ * The following dataset types are supported: Allotment, Assignment
+ * (EffectiveDateTime, ExpirationDateTime), Contact, JRFL (EffectiveDateTime,
+ * ExpirationDateTime), Location, Note, Organisation, Role, SSReply and TOA.
+ * Note and TOA have no ReviewDate.
+ * <p>
+ * The index is incremental. Changes made through the model setters (e.g.
+ * {@code assignment.setExpirationDateTime(...)} or
+ * {@code location.getReviewDate().setValue(...)}) are reported to each open
+ * index by {@link SSRFChangeTracker#touch(Object)}; the modified datasets are
+ * re-read before the next query. Datasets are added to and removed from the
+ * index with {@link #add(Common)} and {@link #remove(Common)}.
+ * <p>
+ * Example:
+ * <pre>
+ * try (SSRFValidityIndex&lt;Assignment&gt; index = new SSRFValidityIndex&lt;&gt;(ssrf, Assignment.class)) {
+ *   List&lt;Assignment&gt; active = index.findActive(date.getTime());
+ * }
+ * </pre>
+ * <p>
+ * Developer note: An open index retains its datasets and should be closed
+ * when no longer needed. Open indexes are registered for change notifications
+ * by weak reference, so an index that is never closed is released when it is
+ * no longer referenced and is garbage collected; until then it retains its
+ * datasets and continues to receive notifications. Setters of instances that
+ * cannot affect an index (neither a dataset of its type nor a date) do not
+ * lock it. Datasets added to or removed from the SSRF instance are not
+ * detected. Methods are synchronized, as a setter may report a change from any
+ * thread.
+ * <p>
+ * @param <T> the dataset class type
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFValidityIndex<T extends Common<?>> implements AutoCloseable {
+
+  /**
+   * 32. The minimum number of buffered changes before they are merged into the
+   * tree.
+   */
+  private static final int MIN_BUFFER_SIZE = 32;
+
+  /**
+   * The dataset types with validity dates.
+   */
+  private static final Set<Class<?>> TYPES = new HashSet<Class<?>>(Arrays.asList(Allotment.class,
+                                                                                 Assignment.class,
+                                                                                 Contact.class,
+                                                                                 JRFL.class,
+                                                                                 Location.class,
+                                                                                 Note.class,
+                                                                                 Organisation.class,
+                                                                                 Role.class,
+                                                                                 SSReply.class,
+                                                                                 TOA.class));
+
+  /**
+   * The owner of date instances that are shared by more than one dataset. A
+   * change to a shared instance invalidates all datasets.
+   */
+  private static final Object SHARED = new Object();
+
+  /**
+   * The open indexes, held weakly. Replaced (copy on write) when an index is
+   * opened or closed so that {@link #touch(Object)} reads it without locking.
+   */
+  private static volatile Registration[] indexes = new Registration[0];
+
+  /**
+   * Sort windows by effective then expiration date.
+   */
+  private static final Comparator<Window> BY_EFFECTIVE = new Comparator<Window>() {
+
+    @Override
+    public int compare(Window o1, Window o2) {
+      int compare = Long.compare(o1.effective, o2.effective);
+      return compare != 0 ? compare : Long.compare(o1.expiration, o2.expiration);
+    }
+  };
+
+  /**
+   * Sort windows by expiration date.
+   */
+  private static final Comparator<Window> BY_EXPIRATION = new Comparator<Window>() {
+
+    @Override
+    public int compare(Window o1, Window o2) {
+      return Long.compare(o1.expiration, o2.expiration);
+    }
+  };
+
+  /**
+   * Sort windows by review date.
+   */
+  private static final Comparator<Window> BY_REVIEW = new Comparator<Window>() {
+
+    @Override
+    public int compare(Window o1, Window o2) {
+      return Long.compare(o1.review, o2.review);
+    }
+  };
+
+  /**
+   * The indexed dataset class type.
+   */
+  private final Class<T> type;
+  /**
+   * The validity window of each indexed dataset.
+   */
+  private final Map<T, Window> datasets;
+  /**
+   * The indexed dataset owning each dataset and date instance, or SHARED.
+   */
+  private final Map<Object, Object> owners;
+  /**
+   * The indexed datasets modified since they were read.
+   */
+  private final Set<T> dirty;
+  /**
+   * The tree windows, sorted by effective date.
+   */
+  private Window[] windows;
+  /**
+   * The effective date of each tree window.
+   */
+  private long[] effectives;
+  /**
+   * The latest expiration date in the subtree rooted at each tree window.
+   */
+  private long[] maxExpirations;
+  /**
+   * The tree windows with an expiration date, sorted by expiration date.
+   */
+  private Window[] windowsByExpiration;
+  /**
+   * The expiration date of each window in {@link #windowsByExpiration}.
+   */
+  private long[] expirations;
+  /**
+   * The tree windows with a review date, sorted by review date.
+   */
+  private Window[] windowsByReview;
+  /**
+   * The review date of each window in {@link #windowsByReview}.
+   */
+  private long[] reviews;
+  /**
+   * Windows added since the tree was built.
+   */
+  private final List<Window> added;
+  /**
+   * Tree windows removed since the tree was built.
+   */
+  private final Set<Window> removed;
+
+  /**
+   * Construct a new, empty validity index.
+   * <p>
+   * @param type the dataset class type. e.g. Assignment.class
+   * @throws IllegalArgumentException if the dataset type has no validity dates
+   */
+  public SSRFValidityIndex(Class<T> type) {
+    if (!TYPES.contains(type)) {
+      throw new IllegalArgumentException(type.getSimpleName() + " datasets have no validity dates.");
+    }
+    this.type = type;
+    this.datasets = new IdentityHashMap<>();
+    this.owners = new IdentityHashMap<>();
+    this.dirty = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+    this.added = new ArrayList<>();
+    this.removed = Collections.newSetFromMap(new IdentityHashMap<Window, Boolean>());
+    build(new Window[0]);
+    register(new Registration(this), null);
+  }
+
+  /**
+   * Construct a new validity index of the datasets in a collection.
+   * <p>
+   * @param type     the dataset class type. e.g. Assignment.class
+   * @param datasets the datasets to index
+   * @throws IllegalArgumentException if the dataset type has no validity dates
+   */
+  public SSRFValidityIndex(Class<T> type, Collection<? extends T> datasets) {
+    this(type);
+    List<Window> list = new ArrayList<>(datasets.size());
+    for (T dataset : datasets) {
+      if (!this.datasets.containsKey(dataset)) {
+        list.add(index(dataset));
+      }
+    }
+    build(list.toArray(new Window[list.size()]));
+  }
+
+  /**
+   * Construct a new validity index of the datasets of a type in a SSRF
+   * instance.
+   * <p>
+   * @param ssrf the SSRF instance to index
+   * @param type the dataset class type. e.g. Assignment.class
+   * @throws IllegalArgumentException if the dataset type has no validity dates
+   */
+  @SuppressWarnings("unchecked")
+  public SSRFValidityIndex(SSRF ssrf, Class<T> type) {
+    this(type, TYPES.contains(type)
+               ? (List<T>) ssrf.getDatasets(EDatasetType.fromInstance(type))
+               : Collections.<T>emptyList());
+  }
+
+  /**
+   * A weak reference to an open index, registered for change notifications.
+   */
+  private static final class Registration extends WeakReference<SSRFValidityIndex<?>> {
+
+    /**
+     * The indexed dataset class type.
+     */
+    private final Class<?> type;
+
+    private Registration(SSRFValidityIndex<?> index) {
+      super(index);
+      this.type = index.type;
+    }
+  }
+
+  /**
+   * The validity dates of an indexed dataset.
+   */
+  private static final class Window {
+
+    /**
+     * The indexed dataset.
+     */
+    private final Common<?> dataset;
+    /**
+     * The date instances read from the dataset. Effective, expiration and
+     * review date; each may be null.
+     */
+    private final TCalendar[] dates;
+    /**
+     * The effective date (epoch milliseconds), or Long.MIN_VALUE if not set.
+     */
+    private final long effective;
+    /**
+     * The expiration date (epoch milliseconds), or Long.MAX_VALUE if not set.
+     */
+    private final long expiration;
+    /**
+     * The review date (epoch milliseconds), or Long.MIN_VALUE if not set.
+     */
+    private final long review;
+
+    private Window(Common<?> dataset, TCalendar[] dates) {
+      this.dataset = dataset;
+      this.dates = dates;
+      this.effective = millis(dates[0], Long.MIN_VALUE);
+      this.expiration = millis(dates[1], Long.MAX_VALUE);
+      this.review = millis(dates[2], Long.MIN_VALUE);
+    }
+
+    /**
+     * @return TRUE if the window is active at some instant: it expires after
+     *         it becomes effective
+     */
+    private boolean isActive() {
+      return effective < expiration;
+    }
+
+    private boolean isSetExpiration() {
+      return dates[1] != null && dates[1].isSetValue();
+    }
+
+    private boolean isSetReview() {
+      return dates[2] != null && dates[2].isSetValue();
+    }
+
+    @Override
+    public String toString() {
+      return "[" + effective + ", " + expiration + ") " + dataset.getSerial();
+    }
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Update">
+  /**
+   * Notify the open indexes that an SSRF object instance has been modified.
+   * Called by {@link SSRFChangeTracker#touch(Object)}.
+   * <p>
+   * @param instance the modified instance
+   */
+  static void touch(Object instance) {
+    /**
+     * Only a dataset of the indexed type or one of its dates can change an
+     * index, so other instances are skipped without locking the index.
+     */
+    boolean date = instance instanceof TCalendar;
+    boolean cleared = false;
+    for (Registration registration : indexes) {
+      if (date || registration.type.isInstance(instance)) {
+        SSRFValidityIndex<?> index = registration.get();
+        if (index != null) {
+          index.invalidate(instance);
+        } else {
+          cleared = true;
+        }
+      }
+    }
+    if (cleared) {
+      register(null, null);
+    }
+  }
+
+  /**
+   * Internal method to update the open indexes. Indexes that have been garbage
+   * collected are also removed.
+   * <p>
+   * @param registration the registration to add. May be null.
+   * @param index        the index to remove. May be null.
+   */
+  private static synchronized void register(Registration registration, SSRFValidityIndex<?> index) {
+    List<Registration> open = new ArrayList<>(indexes.length + 1);
+    for (Registration existing : indexes) {
+      SSRFValidityIndex<?> referent = existing.get();
+      if (referent != null && referent != index) {
+        open.add(existing);
+      }
+    }
+    if (registration != null) {
+      open.add(registration);
+    }
+    indexes = open.toArray(new Registration[open.size()]);
+  }
+
+  /**
+   * Re-read the dates of the indexed dataset containing an instance before the
+   * next query. The instance is ignored if it is neither an indexed dataset nor
+   * one of its dates.
+   * <p>
+   * @param instance a modified dataset or date instance
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized void invalidate(Object instance) {
+    Object owner = owners.get(instance);
+    if (owner == SHARED) {
+      dirty.addAll(datasets.keySet());
+    } else if (owner != null) {
+      dirty.add((T) owner);
+    }
+  }
+
+  /**
+   * Add (or re-read) the dates of a dataset.
+   * <p>
+   * @param dataset the dataset to index
+   */
+  public synchronized void add(T dataset) {
+    remove(dataset);
+    added.add(index(dataset));
+    compactIfNeeded();
+  }
+
+  /**
+   * Remove a dataset.
+   * <p>
+   * @param dataset the dataset to remove
+   * @return TRUE if the dataset was indexed
+   */
+  public synchronized boolean remove(T dataset) {
+    Window window = datasets.remove(dataset);
+    if (window == null) {
+      return false;
+    }
+    dirty.remove(dataset);
+    owners.remove(dataset);
+    for (TCalendar date : window.dates) {
+      if (date != null && owners.get(date) == dataset) {
+        owners.remove(date);
+      }
+    }
+    if (!added.remove(window)) {
+      removed.add(window);
+    }
+    compactIfNeeded();
+    return true;
+  }
+
+  /**
+   * Get the number of indexed datasets.
+   * <p>
+   * @return the number of datasets
+   */
+  public synchronized int size() {
+    return datasets.size();
+  }
+
+  /**
+   * Stop receiving change notifications and release the indexed datasets.
+   */
+  @Override
+  public void close() {
+    register(null, this);
+    synchronized (this) {
+      datasets.clear();
+      owners.clear();
+      dirty.clear();
+      added.clear();
+      removed.clear();
+      build(new Window[0]);
+    }
+  }
+
+  /**
+   * Internal method to re-read the datasets modified since the previous query.
+   */
+  @SuppressWarnings("unchecked")
+  private void refresh() {
+    if (dirty.isEmpty()) {
+      return;
+    }
+    for (Object dataset : dirty.toArray()) {
+      add((T) dataset);
+    }
+    dirty.clear();
+  }
+
+  /**
+   * Internal method to read the validity window of a dataset and record the
+   * dataset and its date instances as owned by the dataset.
+   * <p>
+   * @param dataset the dataset
+   * @return the validity window
+   */
+  private Window index(T dataset) {
+    Window window = new Window(type.cast(dataset), getDates(dataset));
+    datasets.put(dataset, window);
+    owners.put(dataset, dataset);
+    for (TCalendar date : window.dates) {
+      if (date != null) {
+        Object owner = owners.put(date, dataset);
+        if (owner != null && owner != dataset) {
+          owners.put(date, SHARED);
+        }
+      }
+    }
+    return window;
+  }
+
+  /**
+   * Internal method to merge the buffered changes into the tree once there are
+   * enough of them to make the (linear) buffer scan noticeable.
+   */
+  private void compactIfNeeded() {
+    if (added.size() + removed.size() <= Math.max(MIN_BUFFER_SIZE, windows.length >> 3)) {
+      return;
+    }
+    /**
+     * The tree windows are already sorted: merge in the sorted additions.
+     */
+    Window[] sortedAdded = added.toArray(new Window[added.size()]);
+    Arrays.sort(sortedAdded, BY_EFFECTIVE);
+    Window[] merged = new Window[windows.length - removed.size() + added.size()];
+    int i = 0, j = 0, k = 0;
+    while (i < windows.length || j < sortedAdded.length) {
+      if (i < windows.length && removed.contains(windows[i])) {
+        i++;
+      } else if (j >= sortedAdded.length || (i < windows.length && BY_EFFECTIVE.compare(windows[i], sortedAdded[j]) <= 0)) {
+        merged[k++] = windows[i++];
+      } else {
+        merged[k++] = sortedAdded[j++];
+      }
+    }
+    added.clear();
+    removed.clear();
+    build(merged);
+  }
+
+  /**
+   * Internal method to (re)build the tree and sorted arrays from windows.
+   * <p>
+   * @param sorted the windows. Sorted by effective date if already indexed.
+   */
+  private void build(Window[] sorted) {
+    Arrays.sort(sorted, BY_EFFECTIVE);
+    windows = sorted;
+    effectives = new long[sorted.length];
+    maxExpirations = new long[sorted.length];
+    List<Window> expiring = new ArrayList<>();
+    List<Window> reviewed = new ArrayList<>();
+    for (int i = 0; i < sorted.length; i++) {
+      effectives[i] = sorted[i].effective;
+      if (sorted[i].isSetExpiration()) {
+        expiring.add(sorted[i]);
+      }
+      if (sorted[i].isSetReview()) {
+        reviewed.add(sorted[i]);
+      }
+    }
+    buildMaxExpirations(0, sorted.length);
+    windowsByExpiration = expiring.toArray(new Window[expiring.size()]);
+    Arrays.sort(windowsByExpiration, BY_EXPIRATION);
+    expirations = new long[windowsByExpiration.length];
+    for (int i = 0; i < windowsByExpiration.length; i++) {
+      expirations[i] = windowsByExpiration[i].expiration;
+    }
+    windowsByReview = reviewed.toArray(new Window[reviewed.size()]);
+    Arrays.sort(windowsByReview, BY_REVIEW);
+    reviews = new long[windowsByReview.length];
+    for (int i = 0; i < windowsByReview.length; i++) {
+      reviews[i] = windowsByReview[i].review;
+    }
+  }
+
+  /**
+   * Internal method to compute the latest expiration date of each subtree. The
+   * subtree of the range [from, to) is rooted at its midpoint.
+   * <p>
+   * @param from the first index (inclusive)
+   * @param to   the last index (exclusive)
+   * @return the latest expiration date in the range
+   */
+  private long buildMaxExpirations(int from, int to) {
+    if (from >= to) {
+      return Long.MIN_VALUE;
+    }
+    int mid = (from + to) >>> 1;
+    long maxExpiration = Math.max(windows[mid].expiration, Math.max(buildMaxExpirations(from, mid), buildMaxExpirations(mid + 1, to)));
+    maxExpirations[mid] = maxExpiration;
+    return maxExpiration;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Query">
+  /**
+   * Find the datasets active at an instant.
+   * <p>
+   * @param instant the instant (epoch milliseconds)
+   * @return the datasets effective at or before and expiring after the
+   *         instant, sorted by effective date
+   */
+  public List<T> findActive(long instant) {
+    return instant == Long.MAX_VALUE ? new ArrayList<T>() : findActive(instant, instant + 1);
+  }
+
+  /**
+   * Find the datasets active at an instant.
+   * <p>
+   * @param instant the instant
+   * @return the datasets effective at or before and expiring after the
+   *         instant, sorted by effective date
+   */
+  public List<T> findActive(Date instant) {
+    return findActive(instant.getTime());
+  }
+
+  /**
+   * Find the datasets active at any time during a period.
+   * <p>
+   * @param from the period start (epoch milliseconds, inclusive)
+   * @param to   the period end (epoch milliseconds, exclusive)
+   * @return the datasets effective before the period end and expiring after
+   *         the period start, sorted by effective date
+   */
+  public synchronized List<T> findActive(long from, long to) {
+    refresh();
+    List<Window> result = new ArrayList<>();
+    search(0, windows.length, from, to, result);
+    for (Window window : added) {
+      if (window.effective < to && window.expiration > from && window.isActive()) {
+        result.add(window);
+      }
+    }
+    if (!added.isEmpty()) {
+      Collections.sort(result, BY_EFFECTIVE);
+    }
+    return datasets(result);
+  }
+
+  /**
+   * Find the datasets active at any time during a period.
+   * <p>
+   * @param from the period start (inclusive)
+   * @param to   the period end (exclusive)
+   * @return the datasets effective before the period end and expiring after
+   *         the period start, sorted by effective date
+   */
+  public List<T> findActive(Date from, Date to) {
+    return findActive(from.getTime(), to.getTime());
+  }
+
+  /**
+   * Find the datasets expiring during a period.
+   * <p>
+   * @param from the period start (epoch milliseconds, inclusive)
+   * @param to   the period end (epoch milliseconds, exclusive)
+   * @return the datasets with an expiration date in [from, to), sorted by
+   *         expiration date
+   */
+  public synchronized List<T> findExpiring(long from, long to) {
+    refresh();
+    List<Window> result = new ArrayList<>();
+    for (int i = lowerBound(expirations, from); i < expirations.length && expirations[i] < to; i++) {
+      if (!removed.contains(windowsByExpiration[i])) {
+        result.add(windowsByExpiration[i]);
+      }
+    }
+    for (Window window : added) {
+      if (window.isSetExpiration() && window.expiration >= from && window.expiration < to) {
+        result.add(window);
+      }
+    }
+    if (!added.isEmpty()) {
+      Collections.sort(result, BY_EXPIRATION);
+    }
+    return datasets(result);
+  }
+
+  /**
+   * Find the datasets expiring during a period.
+   * <p>
+   * @param from the period start (inclusive)
+   * @param to   the period end (exclusive)
+   * @return the datasets with an expiration date in [from, to), sorted by
+   *         expiration date
+   */
+  public List<T> findExpiring(Date from, Date to) {
+    return findExpiring(from.getTime(), to.getTime());
+  }
+
+  /**
+   * Find the datasets due for review during a period.
+   * <p>
+   * @param from the period start (epoch milliseconds, inclusive)
+   * @param to   the period end (epoch milliseconds, exclusive)
+   * @return the datasets with a review date in [from, to), sorted by review
+   *         date
+   */
+  public synchronized List<T> findReviewDue(long from, long to) {
+    refresh();
+    List<Window> result = new ArrayList<>();
+    for (int i = lowerBound(reviews, from); i < reviews.length && reviews[i] < to; i++) {
+      if (!removed.contains(windowsByReview[i])) {
+        result.add(windowsByReview[i]);
+      }
+    }
+    for (Window window : added) {
+      if (window.isSetReview() && window.review >= from && window.review < to) {
+        result.add(window);
+      }
+    }
+    if (!added.isEmpty()) {
+      Collections.sort(result, BY_REVIEW);
+    }
+    return datasets(result);
+  }
+
+  /**
+   * Find the datasets due for review during a period.
+   * <p>
+   * @param from the period start (inclusive)
+   * @param to   the period end (exclusive)
+   * @return the datasets with a review date in [from, to), sorted by review
+   *         date
+   */
+  public List<T> findReviewDue(Date from, Date to) {
+    return findReviewDue(from.getTime(), to.getTime());
+  }
+
+  /**
+   * Internal method to search the subtree of the range [from, to) for the
+   * windows overlapping the period [start, end).
+   * <p>
+   * @param from   the first index (inclusive)
+   * @param to     the last index (exclusive)
+   * @param start  the period start
+   * @param end    the period end
+   * @param result the list to add the overlapping windows to
+   */
+  private void search(int from, int to, long start, long end, List<Window> result) {
+    while (from < to) {
+      int mid = (from + to) >>> 1;
+      /**
+       * Every window in this subtree expires at or before the period start.
+       */
+      if (maxExpirations[mid] <= start) {
+        return;
+      }
+      search(from, mid, start, end, result);
+      /**
+       * This and every following window is effective at or after the period
+       * end.
+       */
+      if (effectives[mid] >= end) {
+        return;
+      }
+      Window window = windows[mid];
+      if (window.expiration > start && window.isActive() && !removed.contains(window)) {
+        result.add(window);
+      }
+      from = mid + 1;
+    }
+  }
+
+  /**
+   * Internal method to convert a query result into datasets.
+   * <p>
+   * @param result the matching windows
+   * @return the datasets, in order
+   */
+  private List<T> datasets(List<Window> result) {
+    List<T> list = new ArrayList<>(result.size());
+    for (Window window : result) {
+      list.add(type.cast(window.dataset));
+    }
+    return list;
+  }
+
+  /**
+   * Internal method to find the first index of a sorted array with a value
+   * greater than or equal to the key.
+   * <p>
+   * @param values the sorted array
+   * @param key    the key
+   * @return the index, or the array length if all values are less than the key
+   */
+  private static int lowerBound(long[] values, long key) {
+    int low = 0, high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Dataset Dates">
+  /**
+   * Internal method to read the validity dates of a dataset.
+   * <p>
+   * @param dataset the dataset
+   * @return the effective, expiration and review date instances. Each may be
+   *         null.
+   */
+  private static TCalendar[] getDates(Common<?> dataset) {
+    if (dataset instanceof Assignment) {
+      Assignment assignment = (Assignment) dataset;
+      return new TCalendar[]{assignment.getEffectiveDateTime(), assignment.getExpirationDateTime(), assignment.getReviewDate()};
+    } else if (dataset instanceof JRFL) {
+      JRFL jrfl = (JRFL) dataset;
+      return new TCalendar[]{jrfl.getEffectiveDateTime(), jrfl.getExpirationDateTime(), jrfl.getReviewDate()};
+    } else if (dataset instanceof Allotment) {
+      Allotment allotment = (Allotment) dataset;
+      return new TCalendar[]{allotment.getEffectiveDate(), allotment.getExpirationDate(), allotment.getReviewDate()};
+    } else if (dataset instanceof Contact) {
+      Contact contact = (Contact) dataset;
+      return new TCalendar[]{contact.getEffectiveDate(), contact.getExpirationDate(), contact.getReviewDate()};
+    } else if (dataset instanceof Location) {
+      Location location = (Location) dataset;
+      return new TCalendar[]{location.getEffectiveDate(), location.getExpirationDate(), location.getReviewDate()};
+    } else if (dataset instanceof Organisation) {
+      Organisation organisation = (Organisation) dataset;
+      return new TCalendar[]{organisation.getEffectiveDate(), organisation.getExpirationDate(), organisation.getReviewDate()};
+    } else if (dataset instanceof Role) {
+      Role role = (Role) dataset;
+      return new TCalendar[]{role.getEffectiveDate(), role.getExpirationDate(), role.getReviewDate()};
+    } else if (dataset instanceof SSReply) {
+      SSReply ssReply = (SSReply) dataset;
+      return new TCalendar[]{ssReply.getEffectiveDate(), ssReply.getExpirationDate(), ssReply.getReviewDate()};
+    } else if (dataset instanceof Note) {
+      Note note = (Note) dataset;
+      return new TCalendar[]{note.getEffectiveDate(), note.getExpirationDate(), null};
+    } else if (dataset instanceof TOA) {
+      TOA toa = (TOA) dataset;
+      return new TCalendar[]{toa.getEffectiveDate(), toa.getExpirationDate(), null};
+    }
+    return new TCalendar[3];
+  }
+
+  /**
+   * Internal method to read a date.
+   * <p>
+   * @param date  the date. May be null.
+   * @param unset the value if the date is not set
+   * @return the date in epoch milliseconds
+   */
+  private static long millis(TCalendar date, long unset) {
+    return date != null && date.isSetValue() ? date.getValue().getTimeInMillis() : unset;
+  }//</editor-fold>
+}
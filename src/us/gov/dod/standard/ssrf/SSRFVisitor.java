@@ -0,0 +1,258 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base class for the compile-time generated SSRF class visitors.
+ * <p>
+ * A visitor is generated for each concrete SSRF model class by the
+ * {@link us.gov.dod.standard.ssrf.processor.SSRFVisitorProcessor} annotation
+ * processor during the Ant (NetBeans) build. The generated class is named after
+ * the model class with a {@value #CLASS_NAME_SUFFIX} suffix and is placed in
+ * the same package (e.g. {@code Location_SSRFVisitor}).
+ * <p>
+ * A generated visitor provides:
+ * <ul>
+ * <li>typed read and write access to every instance field of the model class,
+ * including inherited fields, through a switch over {@code static final} field
+ * getters and setters;</li>
+ * <li>direct instantiation of the model class, if it has a public no-argument
+ * constructor;</li>
+ * <li>direct (non-reflective) calls to the model class prepare() and postLoad()
+ * methods, if implemented.</li>
+ * </ul>
+ * <p>
+ * The {@link SSRFUtility} traversals (validate, evaluate, prepare, postLoad and
+ * setProperties) and the {@link SSRFXmlBinding} StAX engine obtain and assign
+ * field values, create instances and invoke prepare() / postLoad() through the
+ * {@link SSRFClassDescriptor}, which dispatches to the generated visitor when
+ * present and falls back to reflection otherwise.
+ * <p>
+ * Developer note: SSRF model fields are private, so a visitor cannot read them
+ * with plain field access. Each field is read through a {@code static final}
+ * MethodHandle constant, which the JIT treats as a direct field read once the
+ * call site is compiled.
+ * <p>
+ * @param <T> the visited SSRF model class type
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public abstract class SSRFVisitor<T> {
+
+  /**
+   * "_SSRFVisitor". The generated visitor class name suffix.
+   */
+  public static final String CLASS_NAME_SUFFIX = "_SSRFVisitor";
+
+  /**
+   * The visited fields in index order. Each key is the declaring class binary
+   * name and the field name separated by a "#" character.
+   */
+  private final String[] fieldKeys;
+  /**
+   * Indicator that the model class implements prepare().
+   */
+  private final boolean prepare;
+  /**
+   * Indicator that the model class implements postLoad(SSRF) or postLoad().
+   */
+  private final boolean postLoad;
+
+  /**
+   * Construct a new visitor.
+   * <p>
+   * @param fieldKeys the visited fields in index order. Each key is the
+   *                  declaring class binary name and the field name separated
+   *                  by a "#" character.
+   * @param prepare   TRUE if the model class implements prepare()
+   * @param postLoad  TRUE if the model class implements postLoad(SSRF) or
+   *                  postLoad()
+   */
+  protected SSRFVisitor(String[] fieldKeys, boolean prepare, boolean postLoad) {
+    this.fieldKeys = fieldKeys;
+    this.prepare = prepare;
+    this.postLoad = postLoad;
+  }
+
+  /**
+   * Get the field value at the indicated index.
+   * <p>
+   * @param instance the model class instance
+   * @param index    the field index
+   * @return the field value
+   * @throws Throwable if the field cannot be read
+   */
+  protected abstract Object get(T instance, int index) throws Throwable;
+
+  /**
+   * Set the field value at the indicated index.
+   * <p>
+   * @param instance the model class instance
+   * @param index    the field index
+   * @param value    the field value
+   * @throws Throwable if the field cannot be written (e.g. the value is not of
+   *                   the field type)
+   */
+  protected abstract void set(T instance, int index, Object value) throws Throwable;
+
+  /**
+   * Create a new model class instance. The default implementation returns
+   * null, indicating that the model class has no public no-argument
+   * constructor.
+   * <p>
+   * @return a new model class instance, or null if not supported
+   */
+  protected T newInstance() {
+    return null;
+  }
+
+  /**
+   * Invoke the model class prepare() method. The default implementation does
+   * nothing.
+   * <p>
+   * @param instance the model class instance
+   * @throws Exception if the prepare() method fails
+   */
+  protected void prepare(T instance) throws Exception {
+  }
+
+  /**
+   * Invoke the model class postLoad(SSRF) or postLoad() method. The default
+   * implementation does nothing.
+   * <p>
+   * @param instance the model class instance
+   * @param root     the SSRF root instance
+   * @throws Exception if the postLoad() method fails
+   */
+  protected void postLoad(T instance, SSRF root) throws Exception {
+  }
+
+  /**
+   * Get the visited fields in index order.
+   * <p>
+   * @return the field keys. Each key is the declaring class binary name and the
+   *         field name separated by a "#" character.
+   */
+  String[] getFieldKeys() {
+    return fieldKeys;
+  }
+
+  /**
+   * Determine if the model class implements prepare().
+   * <p>
+   * @return TRUE if {@link #prepare(Object)} is implemented
+   */
+  boolean implementsPrepare() {
+    return prepare;
+  }
+
+  /**
+   * Determine if the model class implements postLoad(SSRF) or postLoad().
+   * <p>
+   * @return TRUE if {@link #postLoad(Object, SSRF)} is implemented
+   */
+  boolean implementsPostLoad() {
+    return postLoad;
+  }
+
+  /**
+   * Build a field key.
+   * <p>
+   * @param field the field
+   * @return the declaring class binary name and the field name separated by a
+   *         "#" character
+   */
+  static String getFieldKey(Field field) {
+    return field.getDeclaringClass().getName() + "#" + field.getName();
+  }
+
+  /**
+   * Create a field getter. Called from the generated visitor static
+   * initializers.
+   * <p>
+   * @param declaringClass the class declaring the field
+   * @param fieldName      the field name
+   * @return a MethodHandle reading the field
+   * @throws IllegalStateException if the field is not found or is not
+   *                               accessible
+   */
+  protected static MethodHandle getter(Class<?> declaringClass, String fieldName) {
+    try {
+      Field field = declaringClass.getDeclaredField(fieldName);
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectGetter(field);
+    } catch (NoSuchFieldException | IllegalAccessException | SecurityException exception) {
+      throw new IllegalStateException("Field " + declaringClass.getName() + "." + fieldName + " is not accessible.", exception);
+    }
+  }
+
+  /**
+   * Create a field setter. Called from the generated visitor static
+   * initializers.
+   * <p>
+   * @param declaringClass the class declaring the field
+   * @param fieldName      the field name
+   * @return a MethodHandle writing the field
+   * @throws IllegalStateException if the field is not found or is not
+   *                               accessible
+   */
+  protected static MethodHandle setter(Class<?> declaringClass, String fieldName) {
+    try {
+      Field field = declaringClass.getDeclaredField(fieldName);
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectSetter(field);
+    } catch (NoSuchFieldException | IllegalAccessException | SecurityException exception) {
+      throw new IllegalStateException("Field " + declaringClass.getName() + "." + fieldName + " is not accessible.", exception);
+    }
+  }
+
+  /**
+   * Find the generated visitor for a model class.
+   * <p>
+   * @param clazz the model class type
+   * @return a new visitor instance, or null if no visitor was generated for the
+   *         class (e.g. when the annotation processor did not run)
+   */
+  @SuppressWarnings("unchecked")
+  static SSRFVisitor<Object> forClass(Class<?> clazz) {
+    Class<?> visitorClass;
+    try {
+      visitorClass = Class.forName(clazz.getName() + CLASS_NAME_SUFFIX, true, clazz.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError exception) {
+      return null;
+    }
+    if (!SSRFVisitor.class.isAssignableFrom(visitorClass)) {
+      return null;
+    }
+    try {
+      Constructor<?> constructor = visitorClass.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return (SSRFVisitor<Object>) constructor.newInstance();
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError exception) {
+      Logger.getLogger(SSRFVisitor.class.getName()).log(Level.WARNING, "Generated visitor " + visitorClass.getName() + " is not usable.", exception);
+      return null;
+    }
+  }
+
+}
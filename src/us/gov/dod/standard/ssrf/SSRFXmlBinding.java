@@ -0,0 +1,1443 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.*;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import javax.xml.XMLConstants;
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.MarshalException;
+import javax.xml.bind.UnmarshalException;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
+
+/**
+ * A StAX XML binding engine for the SSRF object model.
+ * <p>
+ * This engine reads and writes SSRF XML documents without the JAXB runtime. It
+ * is driven by the same annotations as JAXB: {@link XmlRootElement},
+ * {@link XmlType} (name and propOrder), {@link XmlElement},
+ * {@link XmlAttribute}, {@link XmlValue}, {@link XmlTransient},
+ * {@link XmlEnumValue}, {@link XmlSeeAlso} and
+ * {@link javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter}. The
+ * annotations of each class are compiled once into a binding plan (the
+ * attribute, element and value properties in document order, with their
+ * names, item types and adapters), which is retained for the life of the class
+ * (via {@link ClassValue}). Fields are read and written and instances created
+ * through the {@link SSRFClassDescriptor}, i.e. through the compile-time
+ * generated {@link SSRFVisitor} when present. A document is therefore read or
+ * written in a single pass with no annotation or reflection lookups.
+ * <p>
+ * The output follows the configured (EclipseLink MOXy) JAXB provider
+ * conventions: an XML declaration without the standalone attribute, the root
+ * package {@link XmlNs} namespace declarations on the root element, attributes
+ * in field declaration order (superclass first), elements in propOrder
+ * (superclass first), null fields (other than nillable elements) and empty
+ * attribute lists omitted, and when formatted a three-space indent with
+ * simple-content elements on one line.
+ * <p>
+ * Binding rules:
+ * <ul>
+ * <li>A property value is either simple (String, number, Boolean, Calendar or
+ * an enumerated type, written with its XmlEnumValue) or complex (a class with
+ * attribute, element and/or value properties, e.g. a TString or a
+ * Location).</li>
+ * <li>An XmlAdapter whose bound type accepts the field (item) type is applied
+ * to the field value (e.g. the TCalendar DATE adapters). An XmlAdapter whose
+ * bound type accepts the XmlValue type of the field class is applied to that
+ * value (e.g. the String length adapters on a TString field and the Number
+ * adapters on a TDecimal field). In both cases the attributes of a complex
+ * value are retained. Other adapters are not applied.</li>
+ * <li>A collection value that is not an instance of the declared item class is
+ * written with an xsi:type attribute naming its XmlType. On read xsi:type is
+ * resolved against the declared item class and its XmlSeeAlso classes.</li>
+ * <li>A null nillable element and the null items of a nillable element list
+ * are written as xsi:nil elements.</li>
+ * </ul>
+ * <p>
+ * On read elements and attributes are matched by local name, so documents with
+ * elements qualified in the SSRF namespace are also accepted. Unknown elements
+ * and attributes are ignored. Unknown enumerated values are read as null.
+ * <p>
+ * Example:
+ * <pre>
+ * SSRFXmlBinding.marshal(ssrf, writer, true);
+ * SSRF copy = SSRFUtility.postLoad(SSRFXmlBinding.unmarshal(reader, SSRF.class));
+ * </pre>
+ * For SSRF instances prefer
+ * {@link SSRF#toXML(java.io.Writer, boolean, EXmlBinding)} and
+ * {@link SSRF#fromXml(java.io.Reader, EXmlBinding)} with
+ * {@link EXmlBinding#STAX}, which also prepare and post-load the instance.
+ * <p>
+ * Engine instances are not shared; the static methods are thread-safe.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFXmlBinding {
+
+  /**
+   * "##default". The JAXB annotation default name.
+   */
+  private static final String DEFAULT_NAME = "##default";
+  /**
+   * "xsi". The XML schema instance namespace prefix used when the root package
+   * does not declare one.
+   */
+  private static final String XSI_PREFIX = "xsi";
+  /**
+   * Three spaces. The formatted output indent.
+   */
+  private static final String INDENT = "   ";
+  /**
+   * 64 KB. The output buffer size.
+   */
+  private static final int BUFFER_SIZE = 65536;
+
+  /**
+   * The binding plan cache. The JVM associates each computed plan with its
+   * class, so entries are released with the class loader.
+   */
+  private static final ClassValue<TypeBinding> TYPES = new ClassValue<TypeBinding>() {
+
+    @Override
+    protected TypeBinding computeValue(Class<?> type) {
+      return new TypeBinding(type);
+    }
+  };
+  /**
+   * The enumerated type lexical value cache.
+   */
+  private static final ClassValue<EnumBinding> ENUMS = new ClassValue<EnumBinding>() {
+
+    @Override
+    protected EnumBinding computeValue(Class<?> type) {
+      return new EnumBinding(type);
+    }
+  };
+
+  /**
+   * The output character stream. Null when reading.
+   */
+  private final Writer out;
+  /**
+   * Indicator that the output is formatted (pretty printed).
+   */
+  private final boolean formatted;
+  /**
+   * The xsi namespace prefix declared on the root element. Null if none has
+   * been declared.
+   */
+  private String xsiPrefix;
+  /**
+   * The StAX reader. Null when writing.
+   */
+  private final XMLStreamReader in;
+
+  /**
+   * Construct a new writer.
+   * <p>
+   * @param out       the output character stream
+   * @param formatted TRUE to pretty print
+   */
+  private SSRFXmlBinding(Writer out, boolean formatted) {
+    this.out = out;
+    this.formatted = formatted;
+    this.in = null;
+  }
+
+  /**
+   * Construct a new reader.
+   * <p>
+   * @param in the StAX reader
+   */
+  private SSRFXmlBinding(XMLStreamReader in) {
+    this.out = null;
+    this.formatted = false;
+    this.in = in;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Marshal">
+  /**
+   * Marshal an entity class to a character stream. The writer is flushed but
+   * NOT closed.
+   * <p>
+   * @param instance  the entity class instance. The class must be annotated
+   *                  {@link XmlRootElement}.
+   * @param writer    the output character stream
+   * @param formatted TRUE to add newlines and indentation to the output (pretty
+   *                  print). FALSE for a compact output.
+   * @throws JAXBException if the entity class cannot be marshaled; typically
+   *                       because an XmlAdapter rejects a field value
+   */
+  public static void marshal(Object instance, Writer writer, boolean formatted) throws JAXBException {
+    try {
+      Writer bufferedWriter = new BufferedWriter(writer, BUFFER_SIZE);
+      new SSRFXmlBinding(bufferedWriter, formatted).writeDocument(instance);
+      bufferedWriter.flush();
+    } catch (JAXBException exception) {
+      throw exception;
+    } catch (Exception exception) {
+      throw new MarshalException(exception);
+    }
+  }
+
+  /**
+   * Marshal an entity class to a byte stream. The output is encoded in UTF-8.
+   * The output stream is flushed but NOT closed.
+   * <p>
+   * @param instance     the entity class instance. The class must be annotated
+   *                     {@link XmlRootElement}.
+   * @param outputStream the output byte stream
+   * @param formatted    TRUE to add newlines and indentation to the output
+   *                     (pretty print). FALSE for a compact output.
+   * @throws JAXBException if the entity class cannot be marshaled
+   */
+  public static void marshal(Object instance, OutputStream outputStream, boolean formatted) throws JAXBException {
+    marshal(instance, new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), formatted);
+  }
+
+  /**
+   * Write the XML declaration and the root element.
+   * <p>
+   * @param instance the root element instance
+   * @throws Exception if the instance cannot be written
+   */
+  private void writeDocument(Object instance) throws Exception {
+    TypeBinding binding = TYPES.get(instance.getClass());
+    if (binding.rootName == null) {
+      throw new MarshalException(instance.getClass().getName() + " is not annotated XmlRootElement.");
+    }
+    out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+    newline(0);
+    out.write('<');
+    out.write(binding.rootName);
+    for (XmlNs xmlNs : binding.namespaces) {
+      out.write(xmlNs.prefix().isEmpty() ? " xmlns" : " xmlns:" + xmlNs.prefix());
+      writeAttributeValue(xmlNs.namespaceURI());
+      if (XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(xmlNs.namespaceURI()) && !xmlNs.prefix().isEmpty()) {
+        xsiPrefix = xmlNs.prefix();
+      }
+    }
+    writeContent(binding.rootName, instance, binding, null, 0);
+    if (formatted) {
+      out.write('\n');
+    }
+  }
+
+  /**
+   * Write a property element. The element start tag is opened here.
+   * <p>
+   * @param property the property
+   * @param value    the property value or collection item. May be null only
+   *                 for a nillable property.
+   * @param depth    the element depth
+   * @throws Exception if the element cannot be written
+   */
+  private void writeElement(PropertyBinding property, Object value, int depth) throws Exception {
+    newline(depth);
+    out.write('<');
+    out.write(property.name);
+    if (value == null) {
+      writeXsiAttribute("nil", "true");
+      out.write("/>");
+      return;
+    }
+    if (property.simple) {
+      out.write('>');
+      writeText(printSimple(property, value));
+      out.write("</");
+      out.write(property.name);
+      out.write('>');
+      return;
+    }
+    TypeBinding binding = TYPES.get(value.getClass());
+    if (value.getClass() != property.itemType) {
+      writeXsiAttribute("type", binding.typeName);
+    }
+    writeContent(property.name, value, binding, property, depth);
+  }
+
+  /**
+   * Write the attributes and content of a complex element and close the
+   * element. The element start tag must be open.
+   * <p>
+   * @param name     the element name
+   * @param instance the element instance
+   * @param binding  the element instance binding plan
+   * @param property the property holding the element. Null for the root
+   *                 element.
+   * @param depth    the element depth
+   * @throws Exception if the element cannot be written
+   */
+  private void writeContent(String name, Object instance, TypeBinding binding, PropertyBinding property, int depth) throws Exception {
+    for (PropertyBinding attribute : binding.attributes) {
+      Object value = attribute.field.get(instance);
+      String text = attribute.collection ? printList(attribute, (Collection<?>) value) : value != null ? printSimple(attribute, value) : null;
+      if (text != null) {
+        out.write(' ');
+        out.write(attribute.name);
+        writeAttributeValue(text);
+      }
+    }
+    /**
+     * Simple content.
+     */
+    if (binding.value != null) {
+      String text;
+      if (property != null && property.adaptItem) {
+        text = binding.value.field.get(instance) != null ? toText(property.adapter.marshal(instance)) : null;
+      } else {
+        text = printValue(binding.value, binding.value.field.get(instance), property != null && property.adaptValue ? property.adapter : null);
+      }
+      if (text == null || text.isEmpty()) {
+        out.write("/>");
+      } else {
+        out.write('>');
+        writeText(text);
+        out.write("</");
+        out.write(name);
+        out.write('>');
+      }
+      return;
+    }
+    /**
+     * Element content.
+     */
+    boolean empty = true;
+    for (PropertyBinding element : binding.elements) {
+      Object value = element.field.get(instance);
+      if (value == null) {
+        if (element.nillable && !element.collection) {
+          if (empty) {
+            out.write('>');
+            empty = false;
+          }
+          writeElement(element, null, depth + 1);
+        }
+        continue;
+      }
+      if (element.collection) {
+        for (Object item : (Collection<?>) value) {
+          if (item == null && !element.nillable) {
+            continue;
+          }
+          if (empty) {
+            out.write('>');
+            empty = false;
+          }
+          writeElement(element, item, depth + 1);
+        }
+      } else {
+        if (empty) {
+          out.write('>');
+          empty = false;
+        }
+        writeElement(element, value, depth + 1);
+      }
+    }
+    if (empty) {
+      out.write("/>");
+    } else {
+      newline(depth);
+      out.write("</");
+      out.write(name);
+      out.write('>');
+    }
+  }
+
+  /**
+   * Write an xsi namespace attribute, declaring the xsi namespace on the
+   * current element if it was not declared on the root element.
+   * <p>
+   * @param localName the attribute local name (type or nil)
+   * @param value     the attribute value
+   * @throws IOException if the output cannot be written
+   */
+  private void writeXsiAttribute(String localName, String value) throws IOException {
+    String prefix = xsiPrefix;
+    if (prefix == null) {
+      prefix = XSI_PREFIX;
+      out.write(" xmlns:" + XSI_PREFIX);
+      writeAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+    }
+    out.write(' ');
+    out.write(prefix);
+    out.write(':');
+    out.write(localName);
+    writeAttributeValue(value);
+  }
+
+  /**
+   * Write a newline and indentation if the output is formatted.
+   * <p>
+   * @param depth the element depth
+   * @throws IOException if the output cannot be written
+   */
+  private void newline(int depth) throws IOException {
+    if (formatted) {
+      out.write('\n');
+      for (int i = 0; i < depth; i++) {
+        out.write(INDENT);
+      }
+    }
+  }
+
+  /**
+   * Write an escaped, quoted attribute value. Whitespace characters other than
+   * the space are escaped so that they survive attribute value normalization.
+   * <p>
+   * @param value the attribute value
+   * @throws IOException if the output cannot be written
+   */
+  private void writeAttributeValue(String value) throws IOException {
+    out.write("=\"");
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      String entity;
+      switch (value.charAt(i)) {
+        case '&':
+          entity = "&amp;";
+          break;
+        case '<':
+          entity = "&lt;";
+          break;
+        case '>':
+          entity = "&gt;";
+          break;
+        case '"':
+          entity = "&quot;";
+          break;
+        case '\t':
+          entity = "&#9;";
+          break;
+        case '\n':
+          entity = "&#10;";
+          break;
+        case '\r':
+          entity = "&#13;";
+          break;
+        default:
+          continue;
+      }
+      out.write(value, start, i - start);
+      out.write(entity);
+      start = i + 1;
+    }
+    out.write(value, start, value.length() - start);
+    out.write('"');
+  }
+
+  /**
+   * Write escaped character content.
+   * <p>
+   * @param value the character content
+   * @throws IOException if the output cannot be written
+   */
+  private void writeText(String value) throws IOException {
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      String entity;
+      switch (value.charAt(i)) {
+        case '&':
+          entity = "&amp;";
+          break;
+        case '<':
+          entity = "&lt;";
+          break;
+        case '>':
+          entity = "&gt;";
+          break;
+        case '\r':
+          entity = "&#13;";
+          break;
+        default:
+          continue;
+      }
+      out.write(value, start, i - start);
+      out.write(entity);
+      start = i + 1;
+    }
+    out.write(value, start, value.length() - start);
+  }
+
+  /**
+   * Print the simple content of a complex element.
+   * <p>
+   * @param value   the XmlValue property
+   * @param v       the XmlValue property value
+   * @param adapter the element property XmlAdapter to apply to the value. Null
+   *                for none.
+   * @return the lexical value, null if the value is null
+   * @throws Exception if the adapter rejects the value
+   */
+  private static String printValue(PropertyBinding value, Object v, XmlAdapter<Object, Object> adapter) throws Exception {
+    if (v == null) {
+      return null;
+    }
+    if (adapter != null) {
+      return toText(adapter.marshal(v));
+    }
+    if (value.simple) {
+      return printSimple(value, v);
+    }
+    /**
+     * A complex value (e.g. a TSerial) contributes its own simple content.
+     */
+    TypeBinding binding = TYPES.get(v.getClass());
+    return binding.value != null ? printValue(binding.value, binding.value.field.get(v), null) : null;
+  }
+
+  /**
+   * Convert an XmlAdapter value type instance to text. The SSRF adapters all
+   * use String as the value type.
+   * <p>
+   * @param value the adapter value type instance
+   * @return the text, null if the value is null
+   */
+  private static String toText(Object value) {
+    return value == null || value instanceof String ? (String) value : value.toString();
+  }
+
+  /**
+   * Print a list-valued attribute as a whitespace separated list.
+   * <p>
+   * @param property the attribute property
+   * @param values   the attribute values
+   * @return the lexical value, null if the list is null or empty
+   * @throws Exception if an adapter rejects a value
+   */
+  private static String printList(PropertyBinding property, Collection<?> values) throws Exception {
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Object value : values) {
+      if (value != null) {
+        if (sb.length() > 0) {
+          sb.append(' ');
+        }
+        sb.append(printSimple(property, value));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Print a simple property value.
+   * <p>
+   * @param property the property
+   * @param value    the (non-null) property value or collection item
+   * @return the lexical value
+   * @throws Exception if the property adapter rejects the value
+   */
+  private static String printSimple(PropertyBinding property, Object value) throws Exception {
+    if (property.adaptItem) {
+      return toText(property.adapter.marshal(value));
+    }
+    if (value instanceof String) {
+      return (String) value;
+    } else if (value instanceof Enum) {
+      return ENUMS.get(((Enum<?>) value).getDeclaringClass()).print((Enum<?>) value);
+    } else if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).toPlainString();
+    } else if (value instanceof Double) {
+      return DatatypeConverter.printDouble((Double) value);
+    } else if (value instanceof Float) {
+      return DatatypeConverter.printFloat((Float) value);
+    } else if (value instanceof Calendar) {
+      return DatatypeConverter.printDateTime((Calendar) value);
+    }
+    return value.toString();
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Unmarshal">
+  /**
+   * Parse an XML character stream into a root element class. The reader is NOT
+   * closed.
+   * <p>
+   * Note that this method does NOT post-load the object graph. See
+   * {@link SSRF#fromXml(Reader)}.
+   * <p>
+   * @param <T>    the class type to be returned
+   * @param reader the XML source character stream
+   * @param clazz  the root element class type. The class must be annotated
+   *               {@link XmlRootElement}.
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source cannot be parsed or does not match
+   *                       the class type
+   */
+  public static <T> T unmarshal(Reader reader, Class<T> clazz) throws JAXBException {
+    XMLStreamReader xmlStreamReader;
+    try {
+      xmlStreamReader = SSRFStreamReader.newXMLInputFactory().createXMLStreamReader(reader);
+    } catch (XMLStreamException exception) {
+      throw new UnmarshalException(exception);
+    }
+    return unmarshal(xmlStreamReader, clazz);
+  }
+
+  /**
+   * Parse an XML byte stream into a root element class. The character encoding
+   * is determined by the parser from the XML declaration. The input stream is
+   * NOT closed.
+   * <p>
+   * @param <T>         the class type to be returned
+   * @param inputStream the XML source byte stream
+   * @param clazz       the root element class type
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source cannot be parsed or does not match
+   *                       the class type
+   */
+  public static <T> T unmarshal(InputStream inputStream, Class<T> clazz) throws JAXBException {
+    XMLStreamReader xmlStreamReader;
+    try {
+      xmlStreamReader = SSRFStreamReader.newXMLInputFactory().createXMLStreamReader(inputStream);
+    } catch (XMLStreamException exception) {
+      throw new UnmarshalException(exception);
+    }
+    return unmarshal(xmlStreamReader, clazz);
+  }
+
+  /**
+   * Parse an XML document from a StAX reader into a root element class. The
+   * reader may be positioned at the start of the document or at the root
+   * element start tag. On return the reader is positioned at the root element
+   * end tag. The reader is NOT closed.
+   * <p>
+   * @param <T>    the class type to be returned
+   * @param reader the StAX reader
+   * @param clazz  the root element class type
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source cannot be parsed or does not match
+   *                       the class type
+   */
+  public static <T> T unmarshal(XMLStreamReader reader, Class<T> clazz) throws JAXBException {
+    TypeBinding binding = TYPES.get(clazz);
+    if (binding.rootName == null) {
+      throw new UnmarshalException(clazz.getName() + " is not annotated XmlRootElement.");
+    }
+    SSRFXmlBinding engine = new SSRFXmlBinding(reader);
+    try {
+      while (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+        reader.next();
+      }
+      if (!binding.rootName.equals(reader.getLocalName())) {
+        throw new UnmarshalException("Unexpected element <" + reader.getLocalName() + ">. Expected <" + binding.rootName + ">.");
+      }
+      return clazz.cast(engine.readContent(binding, null));
+    } catch (JAXBException exception) {
+      throw exception;
+    } catch (XMLStreamException exception) {
+      throw new UnmarshalException(exception);
+    } catch (Exception exception) {
+      throw new UnmarshalException(exception.getMessage() + engine.getLocation(), exception);
+    }
+  }
+
+  /**
+   * Read a property element. The reader is positioned at the element start tag
+   * and is left at the element end tag.
+   * <p>
+   * @param property the property
+   * @return the property value or collection item. Null for a nil element.
+   * @throws Exception if the element cannot be read
+   */
+  private Object readElement(PropertyBinding property) throws Exception {
+    TypeBinding binding = null;
+    for (int i = 0; i < in.getAttributeCount(); i++) {
+      if (XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(in.getAttributeNamespace(i))) {
+        String localName = in.getAttributeLocalName(i);
+        if ("nil".equals(localName) && DatatypeConverter.parseBoolean(in.getAttributeValue(i).trim())) {
+          skipElement();
+          return null;
+        }
+        if ("type".equals(localName) && !property.simple) {
+          binding = property.getItemBinding().getSubtype(in.getAttributeValue(i).trim());
+        }
+      }
+    }
+    if (property.simple) {
+      String text = in.getElementText();
+      return property.adaptItem ? property.adapter.unmarshal(text) : parseSimple(property.itemType, text);
+    }
+    return readContent(binding != null ? binding : property.getItemBinding(), property);
+  }
+
+  /**
+   * Read the attributes and content of a complex element. The reader is
+   * positioned at the element start tag and is left at the element end tag.
+   * <p>
+   * @param binding  the element binding plan
+   * @param property the property holding the element. Null for the root
+   *                 element.
+   * @return the element instance
+   * @throws Exception if the element cannot be read
+   */
+  private Object readContent(TypeBinding binding, PropertyBinding property) throws Exception {
+    /**
+     * Parse the attributes first: an adapted element instance is only created
+     * once its simple content has been read.
+     */
+    int attributeCount = in.getAttributeCount();
+    PropertyBinding[] attributes = null;
+    Object[] attributeValues = null;
+    for (int i = 0; i < attributeCount; i++) {
+      String namespace = in.getAttributeNamespace(i);
+      if (namespace != null && !namespace.isEmpty()) {
+        continue;
+      }
+      PropertyBinding attribute = binding.attributesByName.get(in.getAttributeLocalName(i));
+      if (attribute == null) {
+        continue;
+      }
+      if (attributes == null) {
+        attributes = new PropertyBinding[attributeCount];
+        attributeValues = new Object[attributeCount];
+      }
+      attributes[i] = attribute;
+      attributeValues[i] = attribute.collection
+                           ? parseList(attribute, in.getAttributeValue(i))
+                           : parseSimpleProperty(attribute, in.getAttributeValue(i));
+    }
+    Object instance;
+    if (binding.value != null) {
+      /**
+       * Simple content.
+       */
+      String text = in.getElementText();
+      if (property != null && property.adaptItem) {
+        instance = property.adapter.unmarshal(text);
+      } else {
+        instance = binding.newInstance();
+        binding.value.field.set(instance, parseValue(binding.value, text, property != null && property.adaptValue ? property.adapter : null));
+      }
+    } else {
+      /**
+       * Element content. Unknown elements, text and comments are ignored.
+       */
+      instance = binding.newInstance();
+      for (int event = in.next(); event != XMLStreamConstants.END_ELEMENT; event = in.next()) {
+        if (event != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        PropertyBinding element = binding.elementsByName.get(in.getLocalName());
+        if (element == null) {
+          skipElement();
+          continue;
+        }
+        Object value = readElement(element);
+        if (element.collection) {
+          element.getCollection(instance).add(value);
+        } else {
+          element.field.set(instance, value);
+        }
+      }
+    }
+    if (attributes != null) {
+      for (int i = 0; i < attributeCount; i++) {
+        if (attributes[i] != null) {
+          attributes[i].field.set(instance, attributeValues[i]);
+        }
+      }
+      /**
+       * Share the metadata attribute values, as the JAXB afterUnmarshal
+       * callback does.
+       */
+      if (instance instanceof AMetadata) {
+        ((AMetadata<?>) instance).intern();
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Skip the current element and its content. The reader is positioned at the
+   * element start tag and is left at the element end tag.
+   * <p>
+   * @throws XMLStreamException if the document is not well formed
+   */
+  private void skipElement() throws XMLStreamException {
+    int level = 1;
+    while (level > 0) {
+      int event = in.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        level++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        level--;
+      }
+    }
+  }
+
+  /**
+   * Get a description of the current reader location for error messages.
+   * <p>
+   * @return the current line and column, or an empty string if unknown
+   */
+  private String getLocation() {
+    try {
+      return in.getLocation() != null && in.getLocation().getLineNumber() > 0
+             ? " at line " + in.getLocation().getLineNumber() + ", column " + in.getLocation().getColumnNumber()
+             : "";
+    } catch (RuntimeException exception) {
+      return "";
+    }
+  }
+
+  /**
+   * Parse the simple content of a complex element.
+   * <p>
+   * @param value   the XmlValue property
+   * @param text    the lexical value
+   * @param adapter the element property XmlAdapter to apply to the value. Null
+   *                for none.
+   * @return the XmlValue property value
+   * @throws Exception if the lexical value is invalid
+   */
+  private static Object parseValue(PropertyBinding value, String text, XmlAdapter<Object, Object> adapter) throws Exception {
+    if (adapter != null) {
+      return coerce(adapter.unmarshal(text), value.itemType);
+    }
+    if (value.simple) {
+      return parseSimpleProperty(value, text);
+    }
+    /**
+     * A complex value (e.g. a TSerial) is built from its own simple content.
+     */
+    TypeBinding binding = value.getItemBinding();
+    Object instance = binding.newInstance();
+    if (binding.value != null) {
+      binding.value.field.set(instance, parseValue(binding.value, text, null));
+    }
+    return instance;
+  }
+
+  /**
+   * Parse a whitespace separated list-valued attribute.
+   * <p>
+   * @param property the attribute property
+   * @param text     the lexical value
+   * @return a new collection of the field collection type
+   * @throws Exception if a list item is invalid
+   */
+  private static Collection<Object> parseList(PropertyBinding property, String text) throws Exception {
+    Collection<Object> collection = property.newCollection();
+    StringTokenizer tokenizer = new StringTokenizer(text);
+    while (tokenizer.hasMoreTokens()) {
+      Object value = parseSimpleProperty(property, tokenizer.nextToken());
+      if (value != null) {
+        collection.add(value);
+      }
+    }
+    return collection;
+  }
+
+  /**
+   * Parse a simple property value.
+   * <p>
+   * @param property the property
+   * @param text     the lexical value
+   * @return the property value or collection item
+   * @throws Exception if the lexical value is invalid
+   */
+  private static Object parseSimpleProperty(PropertyBinding property, String text) throws Exception {
+    return property.adaptItem ? property.adapter.unmarshal(text) : parseSimple(property.itemType, text);
+  }
+
+  /**
+   * Parse a simple lexical value. Leading and trailing whitespace is ignored
+   * for all types except String.
+   * <p>
+   * @param type the simple value type
+   * @param text the lexical value
+   * @return the value. Null if the type is an enumerated type and the value is
+   *         not a known constant.
+   * @throws IllegalArgumentException if the lexical value is invalid
+   */
+  private static Object parseSimple(Class<?> type, String text) {
+    if (type == String.class || type == Object.class) {
+      return text;
+    }
+    String trimmed = text.trim();
+    if (type.isEnum()) {
+      return ENUMS.get(type).parse(trimmed);
+    } else if (type == BigInteger.class) {
+      return DatatypeConverter.parseInteger(trimmed);
+    } else if (type == BigDecimal.class) {
+      return DatatypeConverter.parseDecimal(trimmed);
+    } else if (type == Double.class) {
+      return DatatypeConverter.parseDouble(trimmed);
+    } else if (type == Float.class) {
+      return DatatypeConverter.parseFloat(trimmed);
+    } else if (type == Integer.class) {
+      return DatatypeConverter.parseInt(trimmed);
+    } else if (type == Long.class) {
+      return DatatypeConverter.parseLong(trimmed);
+    } else if (type == Short.class) {
+      return DatatypeConverter.parseShort(trimmed);
+    } else if (type == Byte.class) {
+      return DatatypeConverter.parseByte(trimmed);
+    } else if (type == Boolean.class) {
+      return DatatypeConverter.parseBoolean(trimmed);
+    } else if (Calendar.class.isAssignableFrom(type)) {
+      return DatatypeConverter.parseDateTime(trimmed);
+    }
+    throw new IllegalArgumentException("Unsupported simple type " + type.getName());
+  }
+
+  /**
+   * Convert an XmlAdapter result to the XmlValue field type. This reconciles
+   * the Number adapters, which return a BigInteger or a BigDecimal depending
+   * upon the lexical value, with the TInteger and TDecimal value types.
+   * <p>
+   * @param value the adapter result
+   * @param type  the XmlValue field type
+   * @return the value as an instance of the field type
+   * @throws ClassCastException if the value cannot be converted
+   */
+  private static Object coerce(Object value, Class<?> type) {
+    if (value == null || type.isInstance(value)) {
+      return value;
+    }
+    if (value instanceof Number) {
+      if (type == BigDecimal.class) {
+        return new BigDecimal(value.toString());
+      } else if (type == BigInteger.class) {
+        return new BigDecimal(value.toString()).toBigInteger();
+      } else if (type == Double.class) {
+        return ((Number) value).doubleValue();
+      }
+    }
+    if (type == String.class) {
+      return value.toString();
+    }
+    throw new ClassCastException(value.getClass().getName() + " cannot be assigned to " + type.getName());
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Binding Plans">
+  /**
+   * Get the XmlType name of a class. If not named the decapitalized simple
+   * class name is used, as JAXB does.
+   * <p>
+   * @param clazz the class type
+   * @return the XmlType name
+   */
+  private static String getTypeName(Class<?> clazz) {
+    XmlType xmlType = clazz.getAnnotation(XmlType.class);
+    return xmlType != null && !DEFAULT_NAME.equals(xmlType.name()) ? xmlType.name() : decapitalize(clazz.getSimpleName());
+  }
+
+  /**
+   * Decapitalize a name following the JavaBeans convention: the first
+   * character is lower-cased unless the first two characters are both upper
+   * case (e.g. "Location" becomes "location" and "SSRF" is unchanged).
+   * <p>
+   * @param name the name
+   * @return the decapitalized name
+   */
+  private static String decapitalize(String name) {
+    if (name.isEmpty() || (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0)))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  /**
+   * Find the XmlValue field type of a class, including inherited fields.
+   * <p>
+   * @param clazz the class type
+   * @return the XmlValue field type (primitive types are boxed), or null if
+   *         the class has no XmlValue field
+   */
+  private static Class<?> findValueType(Class<?> clazz) {
+    for (FieldDescriptor field : SSRFClassDescriptor.forClass(clazz).getFields()) {
+      if (field.getField().isAnnotationPresent(XmlValue.class)) {
+        return box(field.getField().getType());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get the bound (Java) type of an XmlAdapter class, i.e. the second type
+   * argument of {@code XmlAdapter<ValueType, BoundType>}.
+   * <p>
+   * @param adapterClass the XmlAdapter class
+   * @return the bound type, Object if it cannot be determined
+   */
+  private static Class<?> findBoundType(Class<?> adapterClass) {
+    for (Class<?> type = adapterClass; type != null && type != XmlAdapter.class; type = type.getSuperclass()) {
+      Type superclass = type.getGenericSuperclass();
+      if (superclass instanceof ParameterizedType && ((ParameterizedType) superclass).getRawType() == XmlAdapter.class) {
+        return rawType(((ParameterizedType) superclass).getActualTypeArguments()[1]);
+      }
+    }
+    return Object.class;
+  }
+
+  /**
+   * Get the raw class of a (possibly generic) type.
+   * <p>
+   * @param type the type
+   * @return the raw class, Object if the type is not a class or a parameterized
+   *         type
+   */
+  private static Class<?> rawType(Type type) {
+    if (type instanceof Class) {
+      return box((Class<?>) type);
+    } else if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    } else if (type instanceof TypeVariable && ((TypeVariable<?>) type).getBounds().length > 0) {
+      return rawType(((TypeVariable<?>) type).getBounds()[0]);
+    }
+    return Object.class;
+  }
+
+  /**
+   * Get the wrapper class of a primitive type.
+   * <p>
+   * @param type the type
+   * @return the wrapper class if the type is primitive, otherwise the type
+   */
+  private static Class<?> box(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return type;
+    } else if (type == int.class) {
+      return Integer.class;
+    } else if (type == long.class) {
+      return Long.class;
+    } else if (type == double.class) {
+      return Double.class;
+    } else if (type == float.class) {
+      return Float.class;
+    } else if (type == boolean.class) {
+      return Boolean.class;
+    } else if (type == short.class) {
+      return Short.class;
+    } else if (type == byte.class) {
+      return Byte.class;
+    }
+    return Character.class;
+  }
+
+  /**
+   * Determine if a type is bound to a simple (text) value.
+   * <p>
+   * @param type the (boxed) type
+   * @return TRUE for String, Number, Boolean, Calendar and enumerated types
+   */
+  private static boolean isSimple(Class<?> type) {
+    return type == String.class
+           || type == Object.class
+           || type.isEnum()
+           || type == Boolean.class
+           || Calendar.class.isAssignableFrom(type)
+           || (Number.class.isAssignableFrom(type) && type.getName().startsWith("java."));
+  }
+
+  /**
+   * The compiled binding plan of a class.
+   */
+  private static class TypeBinding {
+
+    /**
+     * The class descriptor.
+     */
+    private final SSRFClassDescriptor descriptor;
+    /**
+     * The XmlType name.
+     */
+    private final String typeName;
+    /**
+     * The XmlRootElement name. Null if the class is not a root element.
+     */
+    private final String rootName;
+    /**
+     * The root package namespace declarations.
+     */
+    private final XmlNs[] namespaces;
+    /**
+     * The attribute properties in field declaration order, superclass first.
+     */
+    private final PropertyBinding[] attributes;
+    /**
+     * The element properties in document order, superclass first.
+     */
+    private final PropertyBinding[] elements;
+    /**
+     * The XmlValue (simple content) property. Null if the class has element
+     * content.
+     */
+    private final PropertyBinding value;
+    /**
+     * The attribute properties by attribute name.
+     */
+    private final Map<String, PropertyBinding> attributesByName;
+    /**
+     * The element properties by element name.
+     */
+    private final Map<String, PropertyBinding> elementsByName;
+    /**
+     * This class and its (transitive) XmlSeeAlso classes by XmlType name.
+     */
+    private final Map<String, Class<?>> subtypes;
+
+    /**
+     * Compile the binding plan for a class.
+     * <p>
+     * @param clazz the class type
+     */
+    private TypeBinding(Class<?> clazz) {
+      this.descriptor = SSRFClassDescriptor.forClass(clazz);
+      this.typeName = getTypeName(clazz);
+      XmlRootElement xmlRootElement = clazz.getAnnotation(XmlRootElement.class);
+      this.rootName = xmlRootElement == null
+                      ? null
+                      : DEFAULT_NAME.equals(xmlRootElement.name()) ? decapitalize(clazz.getSimpleName()) : xmlRootElement.name();
+      XmlSchema xmlSchema = clazz.getPackage() != null ? clazz.getPackage().getAnnotation(XmlSchema.class) : null;
+      this.namespaces = xmlSchema != null ? xmlSchema.xmlns() : new XmlNs[0];
+      /**
+       * Collect the properties. Elements are grouped by declaring class
+       * (superclass first) and ordered within each class by its propOrder.
+       */
+      List<PropertyBinding> attributeList = new ArrayList<>();
+      List<PropertyBinding> elementList = new ArrayList<>();
+      PropertyBinding valueProperty = null;
+      if (descriptor.isInspectable()) {
+        Class<?> declaringClass = null;
+        List<PropertyBinding> classElements = new ArrayList<>();
+        for (FieldDescriptor field : descriptor.getFields()) {
+          if (field.isXmlTransient()) {
+            continue;
+          }
+          if (field.getField().getDeclaringClass() != declaringClass) {
+            addInPropOrder(declaringClass, classElements, elementList);
+            declaringClass = field.getField().getDeclaringClass();
+          }
+          XmlAttribute xmlAttribute = field.getField().getAnnotation(XmlAttribute.class);
+          XmlElement xmlElement = field.getField().getAnnotation(XmlElement.class);
+          if (xmlAttribute != null) {
+            attributeList.add(new PropertyBinding(field, xmlAttribute.name(), false));
+          } else if (field.getField().isAnnotationPresent(XmlValue.class)) {
+            valueProperty = new PropertyBinding(field, DEFAULT_NAME, false);
+          } else {
+            classElements.add(new PropertyBinding(field, xmlElement != null ? xmlElement.name() : DEFAULT_NAME, xmlElement != null && xmlElement.nillable()));
+          }
+        }
+        addInPropOrder(declaringClass, classElements, elementList);
+      }
+      this.attributes = attributeList.toArray(new PropertyBinding[attributeList.size()]);
+      this.elements = elementList.toArray(new PropertyBinding[elementList.size()]);
+      this.value = valueProperty;
+      this.attributesByName = new HashMap<>();
+      for (PropertyBinding attribute : attributes) {
+        attributesByName.put(attribute.name, attribute);
+      }
+      this.elementsByName = new HashMap<>();
+      for (PropertyBinding element : elements) {
+        elementsByName.put(element.name, element);
+      }
+      this.subtypes = new HashMap<>();
+      addSubtypes(clazz);
+    }
+
+    /**
+     * Add the element properties of one class to the element list, ordered by
+     * the class propOrder. Properties not named in the propOrder follow in
+     * declaration order.
+     * <p>
+     * @param declaringClass the class declaring the properties. Ignored if
+     *                       null.
+     * @param classElements  the class element properties in declaration order.
+     *                       This list is cleared.
+     * @param elementList    the element list to add to
+     */
+    private static void addInPropOrder(Class<?> declaringClass, List<PropertyBinding> classElements, List<PropertyBinding> elementList) {
+      if (declaringClass == null) {
+        return;
+      }
+      XmlType xmlType = declaringClass.getAnnotation(XmlType.class);
+      if (xmlType != null) {
+        for (String fieldName : xmlType.propOrder()) {
+          for (Iterator<PropertyBinding> iterator = classElements.iterator(); iterator.hasNext();) {
+            PropertyBinding element = iterator.next();
+            if (element.field.getName().equals(fieldName)) {
+              elementList.add(element);
+              iterator.remove();
+            }
+          }
+        }
+      }
+      elementList.addAll(classElements);
+      classElements.clear();
+    }
+
+    /**
+     * Add a class and its transitive XmlSeeAlso classes to the subtype map.
+     * <p>
+     * @param clazz the class type
+     */
+    private void addSubtypes(Class<?> clazz) {
+      String name = getTypeName(clazz);
+      if (subtypes.containsKey(name)) {
+        return;
+      }
+      subtypes.put(name, clazz);
+      XmlSeeAlso xmlSeeAlso = clazz.getAnnotation(XmlSeeAlso.class);
+      if (xmlSeeAlso != null) {
+        for (Class<?> seeAlso : xmlSeeAlso.value()) {
+          addSubtypes(seeAlso);
+        }
+      }
+    }
+
+    /**
+     * Get the binding plan of an xsi:type named subtype.
+     * <p>
+     * @param qualifiedName the xsi:type value, with or without a namespace
+     *                      prefix
+     * @return the subtype binding plan, null if the type is not known
+     */
+    private TypeBinding getSubtype(String qualifiedName) {
+      Class<?> subtype = subtypes.get(qualifiedName.substring(qualifiedName.indexOf(':') + 1));
+      return subtype != null ? TYPES.get(subtype) : null;
+    }
+
+    /**
+     * Create a new instance of the class.
+     * <p>
+     * @return a new instance
+     */
+    private Object newInstance() {
+      return descriptor.newInstance();
+    }
+  }
+
+  /**
+   * The compiled binding of an attribute, element or value property.
+   */
+  private static class PropertyBinding {
+
+    /**
+     * The field descriptor.
+     */
+    private final FieldDescriptor field;
+    /**
+     * The attribute or element name.
+     */
+    private final String name;
+    /**
+     * Indicator that the field type is a Collection.
+     */
+    private final boolean collection;
+    /**
+     * The field type, or the collection item type. Primitive types are boxed.
+     */
+    private final Class<?> itemType;
+    /**
+     * Indicator that the item type is bound to a simple (text) value.
+     */
+    private final boolean simple;
+    /**
+     * Indicator that nil items are written for null collection items.
+     */
+    private final boolean nillable;
+    /**
+     * The field XmlAdapter. Null if not annotated or not applicable.
+     */
+    private final XmlAdapter<Object, Object> adapter;
+    /**
+     * Indicator that the adapter is applied to the item.
+     */
+    private final boolean adaptItem;
+    /**
+     * Indicator that the adapter is applied to the item XmlValue.
+     */
+    private final boolean adaptValue;
+    /**
+     * The item type binding plan. Resolved on first use to support recursive
+     * types.
+     */
+    private TypeBinding itemBinding;
+
+    /**
+     * Compile the binding of a property.
+     * <p>
+     * @param field    the field descriptor
+     * @param name     the annotated attribute or element name. "##default" for
+     *                 the field name.
+     * @param nillable TRUE if the element is nillable
+     */
+    private PropertyBinding(FieldDescriptor field, String name, boolean nillable) {
+      this.field = field;
+      this.name = DEFAULT_NAME.equals(name) ? field.getName() : name;
+      Class<?> fieldType = field.getField().getType();
+      this.collection = Collection.class.isAssignableFrom(fieldType);
+      if (collection) {
+        Type genericType = field.getField().getGenericType();
+        this.itemType = genericType instanceof ParameterizedType
+                        ? rawType(((ParameterizedType) genericType).getActualTypeArguments()[0])
+                        : Object.class;
+      } else {
+        this.itemType = box(fieldType);
+      }
+      this.simple = isSimple(itemType);
+      this.nillable = nillable;
+      /**
+       * Determine how (if at all) the adapter applies.
+       */
+      XmlAdapter<Object, Object> xmlAdapter = field.getAdapter();
+      boolean item = false;
+      boolean itemValue = false;
+      if (xmlAdapter != null) {
+        Class<?> boundType = findBoundType(xmlAdapter.getClass());
+        if (boundType.isAssignableFrom(itemType)) {
+          item = true;
+        } else if (!simple) {
+          Class<?> valueType = findValueType(itemType);
+          itemValue = valueType != null && boundType.isAssignableFrom(valueType);
+        }
+      }
+      this.adaptItem = item;
+      this.adaptValue = itemValue;
+      this.adapter = item || itemValue ? xmlAdapter : null;
+    }
+
+    /**
+     * Get the item type binding plan.
+     * <p>
+     * @return the item type binding plan
+     */
+    private TypeBinding getItemBinding() {
+      if (itemBinding == null) {
+        itemBinding = TYPES.get(itemType);
+      }
+      return itemBinding;
+    }
+
+    /**
+     * Get the collection held by a collection field, creating and setting a
+     * new collection if the field is null.
+     * <p>
+     * @param instance the object instance
+     * @return the field collection
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> getCollection(Object instance) {
+      Collection<Object> values = (Collection<Object>) field.get(instance);
+      if (values == null) {
+        values = newCollection();
+        field.set(instance, values);
+      }
+      return values;
+    }
+
+    /**
+     * Create a new, empty collection assignable to the field.
+     * <p>
+     * @return a new collection
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> newCollection() {
+      Class<?> fieldType = field.getField().getType();
+      if (fieldType.isAssignableFrom(ArrayList.class)) {
+        return new ArrayList<>();
+      } else if (fieldType.isAssignableFrom(HashSet.class)) {
+        return new HashSet<>();
+      } else if (fieldType.isAssignableFrom(TreeSet.class)) {
+        return new TreeSet<>();
+      }
+      try {
+        return (Collection<Object>) fieldType.getConstructor().newInstance();
+      } catch (ReflectiveOperationException exception) {
+        throw new IllegalStateException("Collection type " + fieldType.getName() + " cannot be instantiated.", exception);
+      }
+    }
+  }
+
+  /**
+   * The lexical values of an enumerated type. The XmlEnumValue annotation is
+   * used if present, otherwise the constant name.
+   */
+  private static class EnumBinding {
+
+    /**
+     * The lexical values indexed by ordinal.
+     */
+    private final String[] values;
+    /**
+     * The constants by lexical value.
+     */
+    private final Map<String, Enum<?>> constants;
+
+    /**
+     * Inspect an enumerated type.
+     * <p>
+     * @param type the enumerated type
+     */
+    private EnumBinding(Class<?> type) {
+      Enum<?>[] enumConstants = (Enum<?>[]) type.getEnumConstants();
+      this.values = new String[enumConstants.length];
+      this.constants = new HashMap<>();
+      for (Enum<?> constant : enumConstants) {
+        String value = constant.name();
+        try {
+          XmlEnumValue xmlEnumValue = type.getField(constant.name()).getAnnotation(XmlEnumValue.class);
+          if (xmlEnumValue != null) {
+            value = xmlEnumValue.value();
+          }
+        } catch (NoSuchFieldException | SecurityException exception) {
+        }
+        values[constant.ordinal()] = value;
+        constants.put(value, constant);
+      }
+    }
+
+    /**
+     * Print a constant.
+     * <p>
+     * @param constant the constant
+     * @return the lexical value
+     */
+    private String print(Enum<?> constant) {
+      return values[constant.ordinal()];
+    }
+
+    /**
+     * Parse a lexical value.
+     * <p>
+     * @param value the lexical value
+     * @return the constant, null if not known
+     */
+    private Enum<?> parse(String value) {
+      return constants.get(value);
+    }
+  }//</editor-fold>
+
+}
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.administrative.CodeList;
 import us.gov.dod.standard.ssrf._3_0.administrative.Dataset;
@@ -116,6 +117,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public void setAction(TString value) {
+    SSRFChangeTracker.touch(this);
     this.action = value;
   }
 
@@ -159,6 +161,7 @@ public class Administrative extends Common<Administrative> {
    * Clear the Dataset field. This sets the field to null.
    */
   public void unsetDataset() {
+    SSRFChangeTracker.touch(this);
     this.dataset = null;
   }
 
@@ -191,6 +194,7 @@ public class Administrative extends Common<Administrative> {
    * Clear the CodeList field. This sets the field to null.
    */
   public void unsetCodeList() {
+    SSRFChangeTracker.touch(this);
     this.codeList = null;
   }
 
@@ -218,6 +222,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withDataset(Dataset... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDataset().addAll(Arrays.asList(values));
     }
@@ -235,6 +240,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withDataset(Collection<Dataset> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDataset().addAll(values);
     }
@@ -252,6 +258,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withCodeList(CodeList... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCodeList().addAll(Arrays.asList(values));
     }
@@ -269,6 +276,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withCodeList(Collection<CodeList> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCodeList().addAll(values);
     }
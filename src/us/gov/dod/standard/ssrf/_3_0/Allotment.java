@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -251,6 +253,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.title = value;
   }
 
@@ -286,6 +289,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setUsageType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.usageType = value;
   }
 
@@ -322,6 +326,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setDateResponseRequired(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateResponseRequired = value;
   }
 
@@ -354,6 +359,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -388,6 +394,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -430,6 +437,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -462,6 +470,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setRequirement(TString value) {
+    SSRFChangeTracker.touch(this);
     this.requirement = value;
   }
 
@@ -505,6 +514,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    SSRFChangeTracker.touch(this);
     this.project = null;
   }
 
@@ -537,6 +547,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -571,6 +582,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the LocationRef field. This sets the field to null.
    */
   public void unsetLocationRef() {
+    SSRFChangeTracker.touch(this);
     this.locationRef = null;
   }
 
@@ -603,6 +615,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the Emission field. This sets the field to null.
    */
   public void unsetEmission() {
+    SSRFChangeTracker.touch(this);
     this.emission = null;
   }
 
@@ -635,6 +648,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the AllotFreq field. This sets the field to null.
    */
   public void unsetAllotFreq() {
+    SSRFChangeTracker.touch(this);
     this.allotFreq = null;
   }
 
@@ -799,6 +813,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withProject(Project... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -816,6 +831,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withProject(Collection<Project> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(values);
     }
@@ -833,6 +849,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -850,6 +867,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -869,6 +887,7 @@ public class Allotment extends Common<Allotment> {
    */
   @Deprecated
   public Allotment withLocationRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocationRef().addAll(Arrays.asList(values));
     }
@@ -888,6 +907,7 @@ public class Allotment extends Common<Allotment> {
    */
   @Deprecated
   public Allotment withLocationRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocationRef().addAll(values);
     }
@@ -905,6 +925,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withEmission(Emission... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEmission().addAll(Arrays.asList(values));
     }
@@ -922,6 +943,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withEmission(Collection<Emission> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEmission().addAll(values);
     }
@@ -939,6 +961,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withAllotFreq(AllotFreq... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAllotFreq().addAll(Arrays.asList(values));
     }
@@ -956,6 +979,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withAllotFreq(Collection<AllotFreq> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAllotFreq().addAll(values);
     }
@@ -1060,6 +1084,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withLocation(Collection<Location> values) {
+    SSRFChangeTracker.touch(this);
     getLocation().addAll(values);
     return this;
   }
@@ -1101,9 +1126,11 @@ public class Allotment extends Common<Allotment> {
     if (locationRef == null || locationRef.isEmpty()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.contains(instance.getSerial())) {
-        location.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : locationRef) {
+      Location instance = index.find(Location.class, serialRef);
+      if (instance != null) {
+        getLocation().add(instance);
       }
     }
   }//</editor-fold>
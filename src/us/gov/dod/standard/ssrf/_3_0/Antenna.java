@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_0.antenna.AntHardware;
@@ -387,6 +388,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setGeneric(TString value) {
+    SSRFChangeTracker.touch(this);
     this.generic = value;
   }
 
@@ -418,6 +420,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setAntType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.antType = value;
   }
 
@@ -449,6 +452,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setPhArrayNumMainBeams(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.phArrayNumMainBeams = value;
   }
 
@@ -480,6 +484,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setPhArrayNumElements(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.phArrayNumElements = value;
   }
 
@@ -511,6 +516,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setShape(TString value) {
+    SSRFChangeTracker.touch(this);
     this.shape = value;
   }
 
@@ -544,6 +550,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setDiameter(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.diameter = value;
   }
 
@@ -575,6 +582,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzDimension(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzDimension = value;
   }
 
@@ -606,6 +614,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertDimension(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertDimension = value;
   }
 
@@ -639,6 +648,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setApertureDiameter(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.apertureDiameter = value;
   }
 
@@ -672,6 +682,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzAperture(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzAperture = value;
   }
 
@@ -705,6 +716,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertAperture(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertAperture = value;
   }
 
@@ -739,6 +751,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzSidelobeSuppressed(TString value) {
+    SSRFChangeTracker.touch(this);
     this.horzSidelobeSuppressed = value;
   }
 
@@ -772,6 +785,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzSidelobeAz(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzSidelobeAz = value;
   }
 
@@ -806,6 +820,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzSidelobeAttenuation(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzSidelobeAttenuation = value;
   }
 
@@ -840,6 +855,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertSidelobeSuppressed(TString value) {
+    SSRFChangeTracker.touch(this);
     this.vertSidelobeSuppressed = value;
   }
 
@@ -875,6 +891,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertSidelobeElev(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertSidelobeElev = value;
   }
 
@@ -907,6 +924,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertSidelobeAttenuation(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertSidelobeAttenuation = value;
   }
 
@@ -950,6 +968,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -984,6 +1003,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    SSRFChangeTracker.touch(this);
     this.nomenclature = null;
   }
 
@@ -1016,6 +1036,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the AntHardware field. This sets the field to null.
    */
   public void unsetAntHardware() {
+    SSRFChangeTracker.touch(this);
     this.antHardware = null;
   }
 
@@ -1048,6 +1069,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the AntMode field. This sets the field to null.
    */
   public void unsetAntMode() {
+    SSRFChangeTracker.touch(this);
     this.antMode = null;
   }
 
@@ -1278,6 +1300,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -1295,6 +1318,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -1314,6 +1338,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withNomenclature(Nomenclature... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -1333,6 +1358,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withNomenclature(Collection<Nomenclature> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -1350,6 +1376,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntHardware(AntHardware... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntHardware().addAll(Arrays.asList(values));
     }
@@ -1367,6 +1394,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntHardware(Collection<AntHardware> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntHardware().addAll(values);
     }
@@ -1384,6 +1412,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntMode(AntMode... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntMode().addAll(Arrays.asList(values));
     }
@@ -1401,6 +1430,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntMode(Collection<AntMode> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntMode().addAll(values);
     }
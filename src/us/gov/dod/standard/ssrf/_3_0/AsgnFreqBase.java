@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_0;
 
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Freq;
 import us.gov.dod.standard.ssrf._3_0.assignment.FreqOld;
@@ -74,6 +75,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -105,6 +107,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -136,6 +139,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setRefFreq(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.refFreq = value;
   }
 
@@ -167,6 +171,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setFreqUse(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqUse = value;
   }
 
@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -134,7 +136,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
   "previousAuthorization",
   "recordNote"
 })
-public class Assignment extends Common<Assignment> {
+public class Assignment extends Common<Assignment> implements ITimeFrame {
 
   /**
    * Title - Title (Optional)
@@ -910,6 +912,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.title = value;
   }
 
@@ -945,6 +948,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsageType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.usageType = value;
   }
 
@@ -979,6 +983,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDateResponseRequired(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateResponseRequired = value;
   }
 
@@ -1011,6 +1016,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setEffectiveDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDateTime = value;
   }
 
@@ -1045,6 +1051,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setExpirationDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDateTime = value;
   }
 
@@ -1083,6 +1090,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -1117,6 +1125,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setPeriod(TString value) {
+    SSRFChangeTracker.touch(this);
     this.period = value;
   }
 
@@ -1150,6 +1159,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setSeconds(TString value) {
+    SSRFChangeTracker.touch(this);
     this.seconds = value;
   }
 
@@ -1183,6 +1193,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setMinutes(TString value) {
+    SSRFChangeTracker.touch(this);
     this.minutes = value;
   }
 
@@ -1216,6 +1227,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setHours(TString value) {
+    SSRFChangeTracker.touch(this);
     this.hours = value;
   }
 
@@ -1249,6 +1261,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDaysOfMonth(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfMonth = value;
   }
 
@@ -1282,6 +1295,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setMonths(TString value) {
+    SSRFChangeTracker.touch(this);
     this.months = value;
   }
 
@@ -1315,6 +1329,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDaysOfWeek(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfWeek = value;
   }
 
@@ -1348,6 +1363,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setYears(TString value) {
+    SSRFChangeTracker.touch(this);
     this.years = value;
   }
 
@@ -1425,6 +1441,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDuration(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.duration = value;
   }
 
@@ -1458,6 +1475,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setProcessing(TString value) {
+    SSRFChangeTracker.touch(this);
     this.processing = value;
   }
 
@@ -1489,6 +1507,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setEmergency(TString value) {
+    SSRFChangeTracker.touch(this);
     this.emergency = value;
   }
 
@@ -1520,6 +1539,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAssignmentAuthority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.assignmentAuthority = value;
   }
 
@@ -1561,6 +1581,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setRequirement(TString value) {
+    SSRFChangeTracker.touch(this);
     this.requirement = value;
   }
 
@@ -1592,6 +1613,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setNumSystems(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numSystems = value;
   }
 
@@ -1623,6 +1645,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAgencyActionNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.agencyActionNum = value;
   }
 
@@ -1658,6 +1681,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAgencyComments(TString value) {
+    SSRFChangeTracker.touch(this);
     this.agencyComments = value;
   }
 
@@ -1689,6 +1713,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAgencySerialNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.agencySerialNum = value;
   }
 
@@ -1720,6 +1745,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAssignmentDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.assignmentDate = value;
   }
 
@@ -1758,6 +1784,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setCOCOMGroup(TString value) {
+    SSRFChangeTracker.touch(this);
     this.cocomGroup = value;
   }
 
@@ -1791,6 +1818,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setControlRequestNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.controlRequestNum = value;
   }
 
@@ -1824,6 +1852,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setCoordinationComments(TString value) {
+    SSRFChangeTracker.touch(this);
     this.coordinationComments = value;
   }
 
@@ -1855,6 +1884,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDataSource(TString value) {
+    SSRFChangeTracker.touch(this);
     this.dataSource = value;
   }
 
@@ -1892,6 +1922,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setFCCFileNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fccFileNum = value;
   }
 
@@ -1925,6 +1956,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setFMSCNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fmscNum = value;
   }
 
@@ -1959,6 +1991,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setFrequencyActionOfficer(TString value) {
+    SSRFChangeTracker.touch(this);
     this.frequencyActionOfficer = value;
   }
 
@@ -1996,6 +2029,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setListSerialNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.listSerialNum = value;
   }
 
@@ -2028,6 +2062,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setNATOPooledFrequencyCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.natoPooledFrequencyCode = value;
   }
 
@@ -2062,6 +2097,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setNATOPooledFrequencyNum(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.natoPooledFrequencyNum = value;
   }
 
@@ -2094,6 +2130,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setOriginalAssignmentDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.originalAssignmentDate = value;
   }
 
@@ -2134,6 +2171,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setRoutineAgendaItem(TString value) {
+    SSRFChangeTracker.touch(this);
     this.routineAgendaItem = value;
   }
 
@@ -2177,6 +2215,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setSupplementaryDetails(TString value) {
+    SSRFChangeTracker.touch(this);
     this.supplementaryDetails = value;
   }
 
@@ -2208,6 +2247,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setTypeOfService(TString value) {
+    SSRFChangeTracker.touch(this);
     this.typeOfService = value;
   }
 
@@ -2239,6 +2279,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsageCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.usageCode = value;
   }
 
@@ -2272,6 +2313,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsageFrequency(TString value) {
+    SSRFChangeTracker.touch(this);
     this.usageFrequency = value;
   }
 
@@ -2305,6 +2347,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsagePercentage(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.usagePercentage = value;
   }
 
@@ -2338,6 +2381,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUserNetCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.userNetCode = value;
   }
 
@@ -2381,6 +2425,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    SSRFChangeTracker.touch(this);
     this.project = null;
   }
 
@@ -2413,6 +2458,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -2447,6 +2493,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the SysOfStation field. This sets the field to null.
    */
   public void unsetSysOfStation() {
+    SSRFChangeTracker.touch(this);
     this.sysOfStation = null;
   }
 
@@ -2482,6 +2529,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the RelatedRef field. This sets the field to null.
    */
   public void unsetRelatedRef() {
+    SSRFChangeTracker.touch(this);
     this.relatedRef = null;
   }
 
@@ -2515,6 +2563,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    SSRFChangeTracker.touch(this);
     this.configuration = null;
   }
 
@@ -2547,6 +2596,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Station field. This sets the field to null.
    */
   public void unsetStation() {
+    SSRFChangeTracker.touch(this);
     this.station = null;
   }
 
@@ -2583,6 +2633,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Link field. This sets the field to null.
    */
   public void unsetLink() {
+    SSRFChangeTracker.touch(this);
     this.link = null;
   }
 
@@ -2615,6 +2666,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the StatusLog field. This sets the field to null.
    */
   public void unsetStatusLog() {
+    SSRFChangeTracker.touch(this);
     this.statusLog = null;
   }
 
@@ -2647,6 +2699,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the AsgnAllotOwner field. This sets the field to null.
    */
   public void unsetAsgnAllotOwner() {
+    SSRFChangeTracker.touch(this);
     this.asgnAllotOwner = null;
   }
 
@@ -2680,6 +2733,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the CircuitRemarks field. This sets the field to null.
    */
   public void unsetCircuitRemarks() {
+    SSRFChangeTracker.touch(this);
     this.circuitRemarks = null;
   }
 
@@ -2712,6 +2766,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the CoordinationData field. This sets the field to null.
    */
   public void unsetCoordinationData() {
+    SSRFChangeTracker.touch(this);
     this.coordinationData = null;
   }
 
@@ -2744,6 +2799,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the DocketNum field. This sets the field to null.
    */
   public void unsetDocketNum() {
+    SSRFChangeTracker.touch(this);
     this.docketNum = null;
   }
 
@@ -2776,6 +2832,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the HostDocketNum field. This sets the field to null.
    */
   public void unsetHostDocketNum() {
+    SSRFChangeTracker.touch(this);
     this.hostDocketNum = null;
   }
 
@@ -2809,6 +2866,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the OffTheShelfEquipment field. This sets the field to null.
    */
   public void unsetOffTheShelfEquipment() {
+    SSRFChangeTracker.touch(this);
     this.offTheShelfEquipment = null;
   }
 
@@ -2842,6 +2900,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the PreviousAuthorization field. This sets the field to null.
    */
   public void unsetPreviousAuthorization() {
+    SSRFChangeTracker.touch(this);
     this.previousAuthorization = null;
   }
 
@@ -2874,6 +2933,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the RecordNote field. This sets the field to null.
    */
   public void unsetRecordNote() {
+    SSRFChangeTracker.touch(this);
     this.recordNote = null;
   }
 
@@ -3542,6 +3602,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withProject(Project... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -3559,6 +3620,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withProject(Collection<Project> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(values);
     }
@@ -3576,6 +3638,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -3593,6 +3656,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -3612,6 +3676,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withSysOfStation(SysOfStation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSysOfStation().addAll(Arrays.asList(values));
     }
@@ -3631,6 +3696,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withSysOfStation(Collection<SysOfStation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSysOfStation().addAll(values);
     }
@@ -3651,6 +3717,7 @@ public class Assignment extends Common<Assignment> {
    */
   @Deprecated
   public Assignment withRelatedRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedRef().addAll(Arrays.asList(values));
     }
@@ -3671,6 +3738,7 @@ public class Assignment extends Common<Assignment> {
    */
   @Deprecated
   public Assignment withRelatedRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedRef().addAll(values);
     }
@@ -3689,6 +3757,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withConfiguration(Configuration... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -3707,6 +3776,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withConfiguration(Collection<Configuration> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -3724,6 +3794,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStation(Station... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStation().addAll(Arrays.asList(values));
     }
@@ -3741,6 +3812,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStation(Collection<Station> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStation().addAll(values);
     }
@@ -3762,6 +3834,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withLink(Link... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLink().addAll(Arrays.asList(values));
     }
@@ -3783,6 +3856,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withLink(Collection<Link> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLink().addAll(values);
     }
@@ -3800,6 +3874,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStatusLog(StatusLog... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStatusLog().addAll(Arrays.asList(values));
     }
@@ -3817,6 +3892,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStatusLog(Collection<StatusLog> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStatusLog().addAll(values);
     }
@@ -3834,6 +3910,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withAsgnAllotOwner(AsgnAllotOwner... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAsgnAllotOwner().addAll(Arrays.asList(values));
     }
@@ -3851,6 +3928,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withAsgnAllotOwner(Collection<AsgnAllotOwner> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAsgnAllotOwner().addAll(values);
     }
@@ -3869,6 +3947,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCircuitRemarks(CircuitRemarks... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCircuitRemarks().addAll(Arrays.asList(values));
     }
@@ -3887,6 +3966,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCircuitRemarks(Collection<CircuitRemarks> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCircuitRemarks().addAll(values);
     }
@@ -3904,6 +3984,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCoordinationData(CoordinationData... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCoordinationData().addAll(Arrays.asList(values));
     }
@@ -3921,6 +4002,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCoordinationData(Collection<CoordinationData> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCoordinationData().addAll(values);
     }
@@ -3938,6 +4020,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withDocketNum(DocketNum... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDocketNum().addAll(Arrays.asList(values));
     }
@@ -3955,6 +4038,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withDocketNum(Collection<DocketNum> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDocketNum().addAll(values);
     }
@@ -3972,6 +4056,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withHostDocketNum(HostDocketNum... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getHostDocketNum().addAll(Arrays.asList(values));
     }
@@ -3989,6 +4074,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withHostDocketNum(Collection<HostDocketNum> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getHostDocketNum().addAll(values);
     }
@@ -4007,6 +4093,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withOffTheShelfEquipment(OffTheShelfEquipment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getOffTheShelfEquipment().addAll(Arrays.asList(values));
     }
@@ -4025,6 +4112,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withOffTheShelfEquipment(Collection<OffTheShelfEquipment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getOffTheShelfEquipment().addAll(values);
     }
@@ -4044,6 +4132,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPreviousAuthorization(PreviousAuthorization... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPreviousAuthorization().addAll(Arrays.asList(values));
     }
@@ -4062,6 +4151,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPreviousAuthorization(Collection<PreviousAuthorization> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPreviousAuthorization().addAll(values);
     }
@@ -4079,6 +4169,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withRecordNote(RecordNote... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRecordNote().addAll(Arrays.asList(values));
     }
@@ -4096,6 +4187,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withRecordNote(Collection<RecordNote> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRecordNote().addAll(values);
     }
@@ -4251,6 +4343,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withRelated(Collection<Common<?>> values) {
+    SSRFChangeTracker.touch(this);
     getRelated().addAll(values);
     return this;
   }
@@ -4292,29 +4385,11 @@ public class Assignment extends Common<Assignment> {
     if (relatedRef == null || relatedRef.isEmpty()) {
       return;
     }
-    for (Assignment instance : root.getAssignment()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        related.add(instance);
-      }
-    }
-    for (Allotment instance : root.getAllotment()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        related.add(instance);
-      }
-    }
-    for (SSReply instance : root.getSSReply()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        related.add(instance);
-      }
-    }
-    for (ForceElement instance : root.getForceElement()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        related.add(instance);
-      }
-    }
-    for (FEDeployment instance : root.getFEDeployment()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        related.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : relatedRef) {
+      Common<?> instance = index.find(serialRef, Assignment.class, Allotment.class, SSReply.class, ForceElement.class, FEDeployment.class);
+      if (instance != null) {
+        getRelated().add(instance);
       }
     }
   }//</editor-fold>
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -138,6 +139,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -167,6 +169,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -198,6 +201,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -237,6 +241,7 @@ public class BandApplication {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -267,6 +272,7 @@ public class BandApplication {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -293,6 +299,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -326,6 +333,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -355,6 +363,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -388,6 +397,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -408,6 +418,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -419,6 +430,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -431,6 +443,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -443,6 +456,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -458,6 +472,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -473,6 +488,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -488,6 +504,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -505,6 +522,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -518,6 +536,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -529,6 +548,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -542,6 +562,7 @@ public class BandApplication {
    * @since 3.1.0
    */
   public BandApplication withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
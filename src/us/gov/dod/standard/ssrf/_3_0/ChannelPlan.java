@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.channelplan.Channel;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -101,6 +102,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -141,6 +143,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * Clear the Channel field. This sets the field to null.
    */
   public void unsetChannel() {
+    SSRFChangeTracker.touch(this);
     this.channel = null;
   }
 
@@ -165,6 +168,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   public ChannelPlan withChannel(Channel... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannel().addAll(Arrays.asList(values));
     }
@@ -179,6 +183,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   public ChannelPlan withChannel(Collection<Channel> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannel().addAll(values);
     }
@@ -20,6 +20,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -399,6 +401,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -432,6 +435,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setEntryDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.entryDateTime = value;
   }
 
@@ -470,6 +474,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setEntryBy(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.entryBy = value;
   }
 
@@ -509,6 +514,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setOwner(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.owner = value;
   }
 
@@ -540,6 +546,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setLastChangeDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.lastChangeDateTime = value;
   }
 
@@ -578,6 +585,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setLastChangeBy(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.lastChangeBy = value;
   }
 
@@ -609,6 +617,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setState(TString value) {
+    SSRFChangeTracker.touch(this);
     this.state = value;
   }
 
@@ -646,6 +655,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setSecurityClass(SecurityClass value) {
+    SSRFChangeTracker.touch(this);
     this.securityClass = value;
   }
 
@@ -687,6 +697,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the CaseNum field. This sets the field to null.
    */
   public void unsetCaseNum() {
+    SSRFChangeTracker.touch(this);
     this.caseNum = null;
   }
 
@@ -719,6 +730,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the ExtReferenceRef field. This sets the field to null.
    */
   public void unsetExtReferenceRef() {
+    SSRFChangeTracker.touch(this);
     this.extReferenceRef = null;
   }
 
@@ -749,6 +761,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -771,6 +784,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -813,6 +827,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the Releasability field. This sets the field to null.
    */
   public void unsetReleasability() {
+    SSRFChangeTracker.touch(this);
     this.releasability = null;
   }
 
@@ -842,6 +857,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the AttributeRemarks field. This sets the field to null.
    */
   public void unsetAttributeRemarks() {
+    SSRFChangeTracker.touch(this);
     this.attributeRemarks = null;
   }
 
@@ -872,6 +888,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -898,6 +915,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -931,6 +949,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -960,6 +979,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -1123,6 +1143,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withSecurityClass(SecurityClass value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1137,6 +1158,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withCaseNum(CaseNum... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCaseNum().addAll(Arrays.asList(values));
     }
@@ -1154,6 +1176,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withCaseNum(Collection<CaseNum> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCaseNum().addAll(values);
     }
@@ -1171,6 +1194,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withExtReferenceRef(ExtReferenceRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferenceRef().addAll(Arrays.asList(values));
     }
@@ -1188,6 +1212,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withExtReferenceRef(Collection<ExtReferenceRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferenceRef().addAll(values);
     }
@@ -1203,6 +1228,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withRemarks(Remarks... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -1218,6 +1244,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withRemarks(Collection<Remarks> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -1233,6 +1260,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1248,6 +1276,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withReleasability(ListCCY... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getReleasability().addAll(Arrays.asList(values));
     }
@@ -1266,6 +1295,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withReleasability(Collection<ListCCY> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getReleasability().addAll(values);
     }
@@ -1280,6 +1310,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withAttributeRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAttributeRemarks().addAll(Arrays.asList(values));
     }
@@ -1294,6 +1325,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withAttributeRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAttributeRemarks().addAll(values);
     }
@@ -1309,6 +1341,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -1324,6 +1357,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -1341,6 +1375,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1354,6 +1389,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1365,6 +1401,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public Common withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1480,6 +1517,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withEntryByRole(Role value) {
+    SSRFChangeTracker.touch(this);
     this.entryByRole = value;
     return (T) this;
   }
@@ -1513,6 +1551,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withOwnerRole(Role value) {
+    SSRFChangeTracker.touch(this);
     this.ownerRole = value;
     return (T) this;
   }
@@ -1544,6 +1583,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withLastChangeByRole(Role value) {
+    SSRFChangeTracker.touch(this);
     this.lastChangeByRole = value;
     return (T) this;
   }
@@ -1580,29 +1620,15 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
+    SSRFSerialIndex index = root.getSerialIndex();
     if (entryBy != null && entryBy.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (entryBy.equals(instance.getSerial())) {
-          entryByRole = instance;
-          return;
-        }
-      }
+      entryByRole = index.find(Role.class, entryBy);
     }
     if (owner != null && owner.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (owner.equals(instance.getSerial())) {
-          ownerRole = instance;
-          return;
-        }
-      }
+      ownerRole = index.find(Role.class, owner);
     }
     if (lastChangeBy != null && lastChangeBy.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (lastChangeBy.equals(instance.getSerial())) {
-          lastChangeByRole = instance;
-          return;
-        }
-      }
+      lastChangeByRole = index.find(Role.class, lastChangeBy);
     }
   }//</editor-fold>
 
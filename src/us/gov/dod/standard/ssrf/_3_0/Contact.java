@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.contact.Address;
@@ -192,6 +193,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -226,6 +228,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -268,6 +271,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -300,6 +304,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setTitleRank(TString value) {
+    SSRFChangeTracker.touch(this);
     this.titleRank = value;
   }
 
@@ -331,6 +336,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setFirstName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.firstName = value;
   }
 
@@ -362,6 +368,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setLastName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lastName = value;
   }
 
@@ -405,6 +412,7 @@ public class Contact extends Common<Contact> {
    * Clear the Address field. This sets the field to null.
    */
   public void unsetAddress() {
+    SSRFChangeTracker.touch(this);
     this.address = null;
   }
 
@@ -437,6 +445,7 @@ public class Contact extends Common<Contact> {
    * Clear the TelephoneFax field. This sets the field to null.
    */
   public void unsetTelephoneFax() {
+    SSRFChangeTracker.touch(this);
     this.telephoneFax = null;
   }
 
@@ -468,6 +477,7 @@ public class Contact extends Common<Contact> {
    * Clear the EMail field. This sets the field to null.
    */
   public void unsetEMail() {
+    SSRFChangeTracker.touch(this);
     this.eMail = null;
   }
 
@@ -602,6 +612,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withAddress(Address... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAddress().addAll(Arrays.asList(values));
     }
@@ -619,6 +630,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withAddress(Collection<Address> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAddress().addAll(values);
     }
@@ -636,6 +648,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withTelephoneFax(TelephoneFax... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTelephoneFax().addAll(Arrays.asList(values));
     }
@@ -653,6 +666,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withTelephoneFax(Collection<TelephoneFax> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTelephoneFax().addAll(values);
     }
@@ -669,6 +683,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withEMail(EMail... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEMail().addAll(Arrays.asList(values));
     }
@@ -685,6 +700,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withEMail(Collection<EMail> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEMail().addAll(values);
     }
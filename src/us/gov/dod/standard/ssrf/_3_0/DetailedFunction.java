@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -135,6 +136,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -166,6 +168,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -205,6 +208,7 @@ public class DetailedFunction {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -235,6 +239,7 @@ public class DetailedFunction {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -261,6 +266,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -294,6 +300,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -323,6 +330,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -356,6 +364,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -376,6 +385,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -388,6 +398,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -400,6 +411,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -415,6 +427,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -430,6 +443,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -445,6 +459,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -462,6 +477,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -475,6 +491,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -486,6 +503,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -499,6 +517,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -229,6 +230,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -260,6 +262,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.date = value;
   }
 
@@ -292,6 +295,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setIdentifier(TString value) {
+    SSRFChangeTracker.touch(this);
     this.identifier = value;
   }
 
@@ -323,6 +327,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setAlternateIdentifier(TString value) {
+    SSRFChangeTracker.touch(this);
     this.alternateIdentifier = value;
   }
 
@@ -354,6 +359,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.title = value;
   }
 
@@ -387,6 +393,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setAuthor(TString value) {
+    SSRFChangeTracker.touch(this);
     this.author = value;
   }
 
@@ -420,6 +427,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setOrganisation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.organisation = value;
   }
 
@@ -451,6 +459,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setDocumentCls(TString value) {
+    SSRFChangeTracker.touch(this);
     this.documentCls = value;
   }
 
@@ -486,6 +495,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setResourceLocator(TString value) {
+    SSRFChangeTracker.touch(this);
     this.resourceLocator = value;
   }
 
@@ -519,6 +529,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setIsAttached(TString value) {
+    SSRFChangeTracker.touch(this);
     this.isAttached = value;
   }
 
@@ -550,6 +561,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setIsClassified(TString value) {
+    SSRFChangeTracker.touch(this);
     this.isClassified = value;
   }
 
@@ -581,6 +593,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setReferencedStage(TString value) {
+    SSRFChangeTracker.touch(this);
     this.referencedStage = value;
   }
 
@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
 import us.gov.dod.standard.ssrf._3_0.allotment.Project;
@@ -66,7 +67,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
   "project",
   "atWaypoint"
 })
-public class FEDeployment extends Common<FEDeployment> {
+public class FEDeployment extends Common<FEDeployment> implements ITimeFrame {
 
   /**
    * FERef - Force Element Serial (Required)
@@ -289,6 +290,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setFERef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.feRef = value;
   }
 
@@ -320,6 +322,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -351,6 +354,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setNum(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.num = value;
   }
 
@@ -384,6 +388,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setSeconds(TString value) {
+    SSRFChangeTracker.touch(this);
     this.seconds = value;
   }
 
@@ -417,6 +422,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setMinutes(TString value) {
+    SSRFChangeTracker.touch(this);
     this.minutes = value;
   }
 
@@ -450,6 +456,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setHours(TString value) {
+    SSRFChangeTracker.touch(this);
     this.hours = value;
   }
 
@@ -483,6 +490,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setDaysOfMonth(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfMonth = value;
   }
 
@@ -516,6 +524,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setMonths(TString value) {
+    SSRFChangeTracker.touch(this);
     this.months = value;
   }
 
@@ -549,6 +558,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setDaysOfWeek(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfWeek = value;
   }
 
@@ -582,6 +592,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setYears(TString value) {
+    SSRFChangeTracker.touch(this);
     this.years = value;
   }
 
@@ -659,6 +670,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setDuration(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.duration = value;
   }
 
@@ -690,6 +702,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setLocationRef(TString value) {
+    SSRFChangeTracker.touch(this);
     this.locationRef = value;
   }
 
@@ -733,6 +746,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    SSRFChangeTracker.touch(this);
     this.project = null;
   }
 
@@ -765,6 +779,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * Clear the AtWaypoint field. This sets the field to null.
    */
   public void unsetAtWaypoint() {
+    SSRFChangeTracker.touch(this);
     this.atWaypoint = null;
   }
 
@@ -953,6 +968,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withProject(Project... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -970,6 +986,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withProject(Collection<Project> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(values);
     }
@@ -987,6 +1004,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withAtWaypoint(AtWaypoint... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAtWaypoint().addAll(Arrays.asList(values));
     }
@@ -1004,6 +1022,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withAtWaypoint(Collection<AtWaypoint> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAtWaypoint().addAll(values);
     }
@@ -1092,6 +1111,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withForceElement(ForceElement value) {
+    SSRFChangeTracker.touch(this);
     this.forceElement = value;
     return this;
   }
@@ -1129,12 +1149,7 @@ public class FEDeployment extends Common<FEDeployment> {
     if (feRef == null || !feRef.isSetValue()) {
       return;
     }
-    for (ForceElement instance : root.getForceElement()) {
-      if (feRef.equals(instance.getSerial())) {
-        forceElement = instance;
-        return;
-      }
-    }
+    forceElement = root.getSerialIndex().find(ForceElement.class, feRef);
   }//</editor-fold>
 
 }
@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -252,6 +253,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -284,6 +286,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -319,6 +322,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setUIC(TString value) {
+    SSRFChangeTracker.touch(this);
     this.uic = value;
   }
 
@@ -350,6 +354,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setOwningCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.owningCountry = value;
   }
 
@@ -381,6 +386,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setOwningOrganisationRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.owningOrganisationRef = value;
   }
 
@@ -418,6 +424,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setRole(TString value) {
+    SSRFChangeTracker.touch(this);
     this.role = value;
   }
 
@@ -449,6 +456,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setPlatform(TString value) {
+    SSRFChangeTracker.touch(this);
     this.platform = value;
   }
 
@@ -482,6 +490,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setMissionCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.missionCode = value;
   }
 
@@ -515,6 +524,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setCmdLevel(TString value) {
+    SSRFChangeTracker.touch(this);
     this.cmdLevel = value;
   }
 
@@ -558,6 +568,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -587,6 +598,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the Identifier field. This sets the field to null.
    */
   public void unsetIdentifier() {
+    SSRFChangeTracker.touch(this);
     this.identifier = null;
   }
 
@@ -620,6 +632,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the Assets field. This sets the field to null.
    */
   public void unsetAssets() {
+    SSRFChangeTracker.touch(this);
     this.assets = null;
   }
 
@@ -652,6 +665,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the StockNum field. This sets the field to null.
    */
   public void unsetStockNum() {
+    SSRFChangeTracker.touch(this);
     this.stockNum = null;
   }
 
@@ -804,6 +818,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -821,6 +836,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -835,6 +851,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withIdentifier(Identifier... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getIdentifier().addAll(Arrays.asList(values));
     }
@@ -849,6 +866,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withIdentifier(Collection<Identifier> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getIdentifier().addAll(values);
     }
@@ -867,6 +885,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withAssets(Assets... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAssets().addAll(Arrays.asList(values));
     }
@@ -885,6 +904,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withAssets(Collection<Assets> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAssets().addAll(values);
     }
@@ -902,6 +922,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withStockNum(StockNum... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStockNum().addAll(Arrays.asList(values));
     }
@@ -919,6 +940,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withStockNum(Collection<StockNum> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStockNum().addAll(values);
     }
@@ -997,6 +1019,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withOwningOrganisation(Organisation value) {
+    SSRFChangeTracker.touch(this);
     this.owningOrganisation = value;
     return this;
   }
@@ -1034,12 +1057,7 @@ public class ForceElement extends Common<ForceElement> {
     if (owningOrganisationRef == null || !owningOrganisationRef.isSetValue()) {
       return;
     }
-    for (Organisation instance : root.getOrganisation()) {
-      if (owningOrganisationRef.equals(instance.getSerial())) {
-        owningOrganisation = instance;
-        return;
-      }
-    }
+    owningOrganisation = root.getSerialIndex().find(Organisation.class, owningOrganisationRef);
   }//</editor-fold>
 
 }
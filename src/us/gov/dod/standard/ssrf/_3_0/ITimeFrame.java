@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_0;
+
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TInteger;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
+
+/**
+ * An interface type for SSRF data types containing the TimeFrame attribute
+ * group (Seconds, Minutes, Hours, DaysOfMonth, Months, DaysOfWeek, Years and
+ * Duration). These describe a recurring activity in a cron-like format.
+ * <p>
+ * Implemented by {@link Assignment}, {@link FEDeployment}, {@link JRFL} and
+ * {@link us.gov.dod.standard.ssrf._3_0.jrfl.JRFLEntry}. See
+ * {@link us.gov.dod.standard.ssrf.SSRFSchedule} to interpret the values.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public interface ITimeFrame {
+
+  /**
+   * Get the seconds of minute [0-59].
+   * <p>
+   * @return the Seconds value in a {@link TString} data type
+   */
+  public TString getSeconds();
+
+  /**
+   * Get the minutes of hour [0-59].
+   * <p>
+   * @return the Minutes value in a {@link TString} data type
+   */
+  public TString getMinutes();
+
+  /**
+   * Get the hours of day [0-23] (UTC time).
+   * <p>
+   * @return the Hours value in a {@link TString} data type
+   */
+  public TString getHours();
+
+  /**
+   * Get the days of month [1-31].
+   * <p>
+   * @return the DaysOfMonth value in a {@link TString} data type
+   */
+  public TString getDaysOfMonth();
+
+  /**
+   * Get the months of year [1-12].
+   * <p>
+   * @return the Months value in a {@link TString} data type
+   */
+  public TString getMonths();
+
+  /**
+   * Get the days of week [0-7 where 0 and 7 are for Sunday, 1 for Monday,
+   * etc].
+   * <p>
+   * @return the DaysOfWeek value in a {@link TString} data type
+   */
+  public TString getDaysOfWeek();
+
+  /**
+   * Get the 4-digit years [1900..2100].
+   * <p>
+   * @return the Years value in a {@link TString} data type
+   */
+  public TString getYears();
+
+  /**
+   * Get the number of minutes for which an event will live.
+   * <p>
+   * @return the Duration value in a {@link TInteger} data type
+   */
+  public TInteger getDuration();
+}
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -61,6 +62,7 @@ public class Identifier {
    * @since 3.1.0
    */
   public void setLevel(TString value) {
+    SSRFChangeTracker.touch(this);
     this.level = value;
   }
 
@@ -92,6 +94,7 @@ public class Identifier {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -713,6 +714,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setHelpRequired(TString value) {
+    SSRFChangeTracker.touch(this);
     this.helpRequired = value;
   }
 
@@ -744,6 +746,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfPeriod(TString value) {
+    SSRFChangeTracker.touch(this);
     this.intfPeriod = value;
   }
 
@@ -775,6 +778,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfStartDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.intfStartDateTime = value;
   }
 
@@ -807,6 +811,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfStopDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.intfStopDateTime = value;
   }
 
@@ -843,6 +848,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfDescr(TString value) {
+    SSRFChangeTracker.touch(this);
     this.intfDescr = value;
   }
 
@@ -876,6 +882,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setAffectedEquipment(TString value) {
+    SSRFChangeTracker.touch(this);
     this.affectedEquipment = value;
   }
 
@@ -907,6 +914,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceFieldStrength(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sourceFieldStrength = value;
   }
 
@@ -958,6 +966,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceLon(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sourceLon = value;
   }
 
@@ -1001,6 +1010,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceLat(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sourceLat = value;
   }
 
@@ -1032,6 +1042,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceAz(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sourceAz = value;
   }
 
@@ -1065,6 +1076,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceLocDescr(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sourceLocDescr = value;
   }
 
@@ -1098,6 +1110,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sourceFreqMin = value;
   }
 
@@ -1129,6 +1142,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sourceFreqMax = value;
   }
 
@@ -1286,6 +1300,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceEmsClass(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sourceEmsClass = value;
   }
 
@@ -1317,6 +1332,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceEmsBw(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sourceEmsBw = value;
   }
 
@@ -1364,6 +1380,7 @@ public class IntfReport extends Common<IntfReport> {
    */
   @Deprecated
   public void setVictimAsgnRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.victimAsgnRef = value;
   }
 
@@ -1397,6 +1414,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimSystem(TString value) {
+    SSRFChangeTracker.touch(this);
     this.victimSystem = value;
   }
 
@@ -1428,6 +1446,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.victimCountry = value;
   }
 
@@ -1477,6 +1496,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimLon(TString value) {
+    SSRFChangeTracker.touch(this);
     this.victimLon = value;
   }
 
@@ -1520,6 +1540,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimLat(TString value) {
+    SSRFChangeTracker.touch(this);
     this.victimLat = value;
   }
 
@@ -1553,6 +1574,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimLocDescr(TString value) {
+    SSRFChangeTracker.touch(this);
     this.victimLocDescr = value;
   }
 
@@ -1584,6 +1606,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.victimFreqMin = value;
   }
 
@@ -1617,6 +1640,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.victimFreqMax = value;
   }
 
@@ -1648,6 +1672,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteName = value;
   }
 
@@ -1679,6 +1704,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteChannel(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteChannel = value;
   }
 
@@ -1710,6 +1736,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteUplinkFreq(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteUplinkFreq = value;
   }
 
@@ -1741,6 +1768,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setPerformanceEffects(TString value) {
+    SSRFChangeTracker.touch(this);
     this.performanceEffects = value;
   }
 
@@ -1772,6 +1800,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setEvaluation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.evaluation = value;
   }
 
@@ -1803,6 +1832,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSolution(TString value) {
+    SSRFChangeTracker.touch(this);
     this.solution = value;
   }
 
@@ -1836,6 +1866,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setAffectedCSA(TString value) {
+    SSRFChangeTracker.touch(this);
     this.affectedCSA = value;
   }
 
@@ -1867,6 +1898,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setCharacteristics(TString value) {
+    SSRFChangeTracker.touch(this);
     this.characteristics = value;
   }
 
@@ -1898,6 +1930,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setGPSAffected(TString value) {
+    SSRFChangeTracker.touch(this);
     this.gpsAffected = value;
   }
 
@@ -1929,6 +1962,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setLocalEventID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.localEventID = value;
   }
 
@@ -1960,6 +1994,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setNetCircuitsAffected(TString value) {
+    SSRFChangeTracker.touch(this);
     this.netCircuitsAffected = value;
   }
 
@@ -1991,6 +2026,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setNetsAffected(TString value) {
+    SSRFChangeTracker.touch(this);
     this.netsAffected = value;
   }
 
@@ -2022,6 +2058,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSATCOMPriority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satcomPriority = value;
   }
 
@@ -2053,6 +2090,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteAffected(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteAffected = value;
   }
 
@@ -2086,6 +2124,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteDownlinkPolarisation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteDownlinkPolarisation = value;
   }
 
@@ -2117,6 +2156,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteHemisphere(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteHemisphere = value;
   }
 
@@ -2156,6 +2196,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteLongitude(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteLongitude = value;
   }
 
@@ -2188,6 +2229,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteTransponderID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteTransponderID = value;
   }
 
@@ -2221,6 +2263,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteUplinkPolarisation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.satelliteUplinkPolarisation = value;
   }
 
@@ -2264,6 +2307,7 @@ public class IntfReport extends Common<IntfReport> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -2922,6 +2966,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public IntfReport withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -2939,6 +2984,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public IntfReport withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -3067,6 +3113,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public IntfReport withVictimAssignment(Assignment value) {
+    SSRFChangeTracker.touch(this);
     this.victimAssignment = value;
     return this;
   }
@@ -3104,12 +3151,7 @@ public class IntfReport extends Common<IntfReport> {
     if (victimAsgnRef == null || !victimAsgnRef.isSetValue()) {
       return;
     }
-    for (Assignment instance : root.getAssignment()) {
-      if (victimAsgnRef.equals(instance.getSerial())) {
-        victimAssignment = instance;
-        return;
-      }
-    }
+    victimAssignment = root.getSerialIndex().find(Assignment.class, victimAsgnRef);
   }//</editor-fold>
 
 }
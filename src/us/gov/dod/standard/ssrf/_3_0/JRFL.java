@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.jrfl.JRFLEntry;
@@ -65,7 +66,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
   "duration",
   "jrflEntry"
 })
-public class JRFL extends Common<JRFL> {
+public class JRFL extends Common<JRFL> implements ITimeFrame {
 
   /**
    * EffectiveDateTime - Effective Date/Time (Optional)
@@ -260,6 +261,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setEffectiveDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDateTime = value;
   }
 
@@ -302,6 +304,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setExpirationDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDateTime = value;
   }
 
@@ -336,6 +339,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -368,6 +372,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setSeconds(TString value) {
+    SSRFChangeTracker.touch(this);
     this.seconds = value;
   }
 
@@ -399,6 +404,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setMinutes(TString value) {
+    SSRFChangeTracker.touch(this);
     this.minutes = value;
   }
 
@@ -430,6 +436,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setHours(TString value) {
+    SSRFChangeTracker.touch(this);
     this.hours = value;
   }
 
@@ -461,6 +468,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setDaysOfMonth(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfMonth = value;
   }
 
@@ -492,6 +500,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setMonths(TString value) {
+    SSRFChangeTracker.touch(this);
     this.months = value;
   }
 
@@ -523,6 +532,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setDaysOfWeek(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfWeek = value;
   }
 
@@ -554,6 +564,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setYears(TString value) {
+    SSRFChangeTracker.touch(this);
     this.years = value;
   }
 
@@ -627,6 +638,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setDuration(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.duration = value;
   }
 
@@ -676,6 +688,7 @@ public class JRFL extends Common<JRFL> {
    * Clear the JRFLEntry field. This sets the field to null.
    */
   public void unsetJRFLEntry() {
+    SSRFChangeTracker.touch(this);
     this.jrflEntry = null;
   }
 
@@ -897,6 +910,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public JRFL withJRFLEntry(JRFLEntry... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getJRFLEntry().addAll(Arrays.asList(values));
     }
@@ -920,6 +934,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public JRFL withJRFLEntry(Collection<JRFLEntry> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getJRFLEntry().addAll(values);
     }
@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -315,6 +317,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -349,6 +352,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -391,6 +395,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -423,6 +428,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -454,6 +460,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setStreet(TString value) {
+    SSRFChangeTracker.touch(this);
     this.street = value;
   }
 
@@ -485,6 +492,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setCityArea(TString value) {
+    SSRFChangeTracker.touch(this);
     this.cityArea = value;
   }
 
@@ -516,6 +524,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setStateCounty(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stateCounty = value;
   }
 
@@ -547,6 +556,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setPostCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.postCode = value;
   }
 
@@ -582,6 +592,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.country = value;
   }
 
@@ -625,6 +636,7 @@ public class Location extends Common<Location> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -658,6 +670,7 @@ public class Location extends Common<Location> {
    * Clear the Point field. This sets the field to null.
    */
   public void unsetPoint() {
+    SSRFChangeTracker.touch(this);
     this.point = null;
   }
 
@@ -691,6 +704,7 @@ public class Location extends Common<Location> {
    * Clear the Polygon field. This sets the field to null.
    */
   public void unsetPolygon() {
+    SSRFChangeTracker.touch(this);
     this.polygon = null;
   }
 
@@ -724,6 +738,7 @@ public class Location extends Common<Location> {
    * Clear the Ellipse field. This sets the field to null.
    */
   public void unsetEllipse() {
+    SSRFChangeTracker.touch(this);
     this.ellipse = null;
   }
 
@@ -756,6 +771,7 @@ public class Location extends Common<Location> {
    * Clear the LocationRef field. This sets the field to null.
    */
   public void unsetLocationRef() {
+    SSRFChangeTracker.touch(this);
     this.locationRef = null;
   }
 
@@ -928,6 +944,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -945,6 +962,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -963,6 +981,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPoint(Point... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPoint().addAll(Arrays.asList(values));
     }
@@ -981,6 +1000,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPoint(Collection<Point> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPoint().addAll(values);
     }
@@ -999,6 +1019,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPolygon(Polygon... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPolygon().addAll(Arrays.asList(values));
     }
@@ -1017,6 +1038,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPolygon(Collection<Polygon> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPolygon().addAll(values);
     }
@@ -1035,6 +1057,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withEllipse(Ellipse... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEllipse().addAll(Arrays.asList(values));
     }
@@ -1053,6 +1076,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withEllipse(Collection<Ellipse> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEllipse().addAll(values);
     }
@@ -1070,6 +1094,7 @@ public class Location extends Common<Location> {
    */
   @Deprecated
   public Location withLocationRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocationRef().addAll(Arrays.asList(values));
     }
@@ -1087,6 +1112,7 @@ public class Location extends Common<Location> {
    */
   @Deprecated
   public Location withLocationRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocationRef().addAll(values);
     }
@@ -1189,6 +1215,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withLocation(Collection<Location> values) {
+    SSRFChangeTracker.touch(this);
     getLocation().addAll(values);
     return this;
   }
@@ -1230,9 +1257,11 @@ public class Location extends Common<Location> {
     if (locationRef == null || locationRef.isEmpty()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.contains(instance.getSerial())) {
-        location.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : locationRef) {
+      Location instance = index.find(Location.class, serialRef);
+      if (instance != null) {
+        getLocation().add(instance);
       }
     }
   }//</editor-fold>
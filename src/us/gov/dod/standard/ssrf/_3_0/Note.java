@@ -19,6 +19,7 @@ import java.util.Calendar;
 import java.util.Date;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -134,6 +135,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setAdministration(TString value) {
+    SSRFChangeTracker.touch(this);
     this.administration = value;
   }
 
@@ -165,6 +167,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -196,6 +199,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -228,6 +232,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -260,6 +265,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -291,6 +297,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setSource(TString value) {
+    SSRFChangeTracker.touch(this);
     this.source = value;
   }
 
@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -234,6 +236,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -268,6 +271,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -310,6 +314,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -342,6 +347,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -373,6 +379,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setAlternateName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.alternateName = value;
   }
 
@@ -404,6 +411,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -439,6 +447,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setUIC(TString value) {
+    SSRFChangeTracker.touch(this);
     this.uic = value;
   }
 
@@ -482,6 +491,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the Address field. This sets the field to null.
    */
   public void unsetAddress() {
+    SSRFChangeTracker.touch(this);
     this.address = null;
   }
 
@@ -514,6 +524,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the TelephoneFax field. This sets the field to null.
    */
   public void unsetTelephoneFax() {
+    SSRFChangeTracker.touch(this);
     this.telephoneFax = null;
   }
 
@@ -545,6 +556,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the EMail field. This sets the field to null.
    */
   public void unsetEMail() {
+    SSRFChangeTracker.touch(this);
     this.eMail = null;
   }
 
@@ -579,6 +591,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the RoleRef field. This sets the field to null.
    */
   public void unsetRoleRef() {
+    SSRFChangeTracker.touch(this);
     this.roleRef = null;
   }
 
@@ -612,6 +625,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the RelatedOrganisation field. This sets the field to null.
    */
   public void unsetRelatedOrganisation() {
+    SSRFChangeTracker.touch(this);
     this.relatedOrganisation = null;
   }
 
@@ -760,6 +774,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withAddress(Address... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAddress().addAll(Arrays.asList(values));
     }
@@ -777,6 +792,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withAddress(Collection<Address> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAddress().addAll(values);
     }
@@ -794,6 +810,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withTelephoneFax(TelephoneFax... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTelephoneFax().addAll(Arrays.asList(values));
     }
@@ -811,6 +828,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withTelephoneFax(Collection<TelephoneFax> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTelephoneFax().addAll(values);
     }
@@ -827,6 +845,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withEMail(EMail... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEMail().addAll(Arrays.asList(values));
     }
@@ -843,6 +862,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withEMail(Collection<EMail> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEMail().addAll(values);
     }
@@ -862,6 +882,7 @@ public class Organisation extends Common<Organisation> {
    */
   @Deprecated
   public Organisation withRoleRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRoleRef().addAll(Arrays.asList(values));
     }
@@ -881,6 +902,7 @@ public class Organisation extends Common<Organisation> {
    */
   @Deprecated
   public Organisation withRoleRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRoleRef().addAll(values);
     }
@@ -899,6 +921,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withRelatedOrganisation(RelatedOrganisation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedOrganisation().addAll(Arrays.asList(values));
     }
@@ -917,6 +940,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withRelatedOrganisation(Collection<RelatedOrganisation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedOrganisation().addAll(values);
     }
@@ -1020,6 +1044,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withRole(Collection<Role> values) {
+    SSRFChangeTracker.touch(this);
     getRole().addAll(values);
     return this;
   }
@@ -1061,9 +1086,11 @@ public class Organisation extends Common<Organisation> {
     if (roleRef == null || roleRef.isEmpty()) {
       return;
     }
-    for (Role instance : root.getRole()) {
-      if (roleRef.contains(instance.getSerial())) {
-        role.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : roleRef) {
+      Role instance = index.find(Role.class, serialRef);
+      if (instance != null) {
+        getRole().add(instance);
       }
     }
   }//</editor-fold>
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_0.antenna.Nomenclature;
@@ -210,6 +211,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public void setFieldedStatus(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fieldedStatus = value;
   }
 
@@ -241,6 +243,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public void setEmergency(TString value) {
+    SSRFChangeTracker.touch(this);
     this.emergency = value;
   }
 
@@ -272,6 +275,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public void setInitialCost(TString value) {
+    SSRFChangeTracker.touch(this);
     this.initialCost = value;
   }
 
@@ -315,6 +319,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -349,6 +354,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    SSRFChangeTracker.touch(this);
     this.nomenclature = null;
   }
 
@@ -385,6 +391,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the Deployment field. This sets the field to null.
    */
   public void unsetDeployment() {
+    SSRFChangeTracker.touch(this);
     this.deployment = null;
   }
 
@@ -423,6 +430,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    SSRFChangeTracker.touch(this);
     this.configuration = null;
   }
 
@@ -455,6 +463,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the RelatedSystem field. This sets the field to null.
    */
   public void unsetRelatedSystem() {
+    SSRFChangeTracker.touch(this);
     this.relatedSystem = null;
   }
 
@@ -487,6 +496,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the StockNum field. This sets the field to null.
    */
   public void unsetStockNum() {
+    SSRFChangeTracker.touch(this);
     this.stockNum = null;
   }
 
@@ -537,6 +547,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -554,6 +565,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -573,6 +585,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withNomenclature(Nomenclature... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -592,6 +605,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withNomenclature(Collection<Nomenclature> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -613,6 +627,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withDeployment(Deployment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDeployment().addAll(Arrays.asList(values));
     }
@@ -634,6 +649,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withDeployment(Collection<Deployment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDeployment().addAll(values);
     }
@@ -657,6 +673,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withConfiguration(Configuration... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -680,6 +697,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withConfiguration(Collection<Configuration> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -697,6 +715,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withRelatedSystem(RelatedSystem... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedSystem().addAll(Arrays.asList(values));
     }
@@ -714,6 +733,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withRelatedSystem(Collection<RelatedSystem> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedSystem().addAll(values);
     }
@@ -731,6 +751,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withStockNum(StockNum... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStockNum().addAll(Arrays.asList(values));
     }
@@ -748,6 +769,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withStockNum(Collection<StockNum> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStockNum().addAll(values);
     }
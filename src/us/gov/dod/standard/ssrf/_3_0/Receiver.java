@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_0.antenna.Nomenclature;
@@ -249,6 +250,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setGeneric(TString value) {
+    SSRFChangeTracker.touch(this);
     this.generic = value;
   }
 
@@ -280,6 +282,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setDuplexSep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.duplexSep = value;
   }
 
@@ -313,6 +316,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setDuplexSepType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.duplexSepType = value;
   }
 
@@ -344,6 +348,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setPreselectionType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.preselectionType = value;
   }
 
@@ -377,6 +382,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setConductedEmissions(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.conductedEmissions = value;
   }
 
@@ -410,6 +416,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setFCCAcceptanceNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fccAcceptanceNum = value;
   }
 
@@ -447,6 +454,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setTSPR(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tspr = value;
   }
 
@@ -490,6 +498,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -524,6 +533,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    SSRFChangeTracker.touch(this);
     this.nomenclature = null;
   }
 
@@ -560,6 +570,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the Deployment field. This sets the field to null.
    */
   public void unsetDeployment() {
+    SSRFChangeTracker.touch(this);
     this.deployment = null;
   }
 
@@ -595,6 +606,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the Curve field. This sets the field to null.
    */
   public void unsetCurve() {
+    SSRFChangeTracker.touch(this);
     this.curve = null;
   }
 
@@ -627,6 +639,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the RxMode field. This sets the field to null.
    */
   public void unsetRxMode() {
+    SSRFChangeTracker.touch(this);
     this.rxMode = null;
   }
 
@@ -733,6 +746,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -750,6 +764,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -769,6 +784,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withNomenclature(Nomenclature... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -788,6 +804,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withNomenclature(Collection<Nomenclature> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -809,6 +826,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withDeployment(Deployment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDeployment().addAll(Arrays.asList(values));
     }
@@ -830,6 +848,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withDeployment(Collection<Deployment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDeployment().addAll(values);
     }
@@ -850,6 +869,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withCurve(Curve... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurve().addAll(Arrays.asList(values));
     }
@@ -870,6 +890,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withCurve(Collection<Curve> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurve().addAll(values);
     }
@@ -887,6 +908,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withRxMode(RxMode... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxMode().addAll(Arrays.asList(values));
     }
@@ -904,6 +926,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withRxMode(Collection<RxMode> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxMode().addAll(values);
     }
@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -194,6 +196,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -228,6 +231,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -270,6 +274,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -304,6 +309,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -343,6 +349,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.country = value;
   }
 
@@ -386,6 +393,7 @@ public class Role extends Common<Role> {
    * Clear the Address field. This sets the field to null.
    */
   public void unsetAddress() {
+    SSRFChangeTracker.touch(this);
     this.address = null;
   }
 
@@ -418,6 +426,7 @@ public class Role extends Common<Role> {
    * Clear the TelephoneFax field. This sets the field to null.
    */
   public void unsetTelephoneFax() {
+    SSRFChangeTracker.touch(this);
     this.telephoneFax = null;
   }
 
@@ -449,6 +458,7 @@ public class Role extends Common<Role> {
    * Clear the EMail field. This sets the field to null.
    */
   public void unsetEMail() {
+    SSRFChangeTracker.touch(this);
     this.eMail = null;
   }
 
@@ -483,6 +493,7 @@ public class Role extends Common<Role> {
    * Clear the ContactRef field. This sets the field to null.
    */
   public void unsetContactRef() {
+    SSRFChangeTracker.touch(this);
     this.contactRef = null;
   }
 
@@ -610,6 +621,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withAddress(Address... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAddress().addAll(Arrays.asList(values));
     }
@@ -627,6 +639,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withAddress(Collection<Address> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAddress().addAll(values);
     }
@@ -644,6 +657,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withTelephoneFax(TelephoneFax... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTelephoneFax().addAll(Arrays.asList(values));
     }
@@ -661,6 +675,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withTelephoneFax(Collection<TelephoneFax> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTelephoneFax().addAll(values);
     }
@@ -677,6 +692,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withEMail(EMail... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEMail().addAll(Arrays.asList(values));
     }
@@ -693,6 +709,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withEMail(Collection<EMail> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEMail().addAll(values);
     }
@@ -712,6 +729,7 @@ public class Role extends Common<Role> {
    */
   @Deprecated
   public Role withContactRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getContactRef().addAll(Arrays.asList(values));
     }
@@ -731,6 +749,7 @@ public class Role extends Common<Role> {
    */
   @Deprecated
   public Role withContactRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getContactRef().addAll(values);
     }
@@ -832,6 +851,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withContact(Collection<Contact> values) {
+    SSRFChangeTracker.touch(this);
     getContact().addAll(values);
     return this;
   }
@@ -873,9 +893,11 @@ public class Role extends Common<Role> {
     if (contactRef == null || contactRef.isEmpty()) {
       return;
     }
-    for (Contact instance : root.getContact()) {
-      if (contactRef.contains(instance.getSerial())) {
-        contact.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : contactRef) {
+      Contact instance = index.find(Contact.class, serialRef);
+      if (instance != null) {
+        getContact().add(instance);
       }
     }
   }//</editor-fold>
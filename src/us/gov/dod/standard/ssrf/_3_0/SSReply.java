@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -297,6 +298,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setSSRequestRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.ssRequestRef = value;
   }
 
@@ -328,6 +330,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setReplyingCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.replyingCountry = value;
   }
 
@@ -369,6 +372,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setSupportabilityCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.supportabilityCode = value;
   }
 
@@ -401,6 +405,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setDateReceivedByCountry(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateReceivedByCountry = value;
   }
 
@@ -433,6 +438,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -467,6 +473,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -509,6 +516,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -545,6 +553,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setApprovalSPSNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.approvalSPSNum = value;
   }
 
@@ -582,6 +591,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setERPNumber(TString value) {
+    SSRFChangeTracker.touch(this);
     this.erpNumber = value;
   }
 
@@ -615,6 +625,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setFASNumber(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fasNumber = value;
   }
 
@@ -650,6 +661,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setIRACNumber(TString value) {
+    SSRFChangeTracker.touch(this);
     this.iracNumber = value;
   }
 
@@ -681,6 +693,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setReplyingAuthority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.replyingAuthority = value;
   }
 
@@ -724,6 +737,7 @@ public class SSReply extends Common<SSReply> {
    * Clear the CommentSource field. This sets the field to null.
    */
   public void unsetCommentSource() {
+    SSRFChangeTracker.touch(this);
     this.commentSource = null;
   }
 
@@ -756,6 +770,7 @@ public class SSReply extends Common<SSReply> {
    * Clear the StageLocation field. This sets the field to null.
    */
   public void unsetStageLocation() {
+    SSRFChangeTracker.touch(this);
     this.stageLocation = null;
   }
 
@@ -794,6 +809,7 @@ public class SSReply extends Common<SSReply> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    SSRFChangeTracker.touch(this);
     this.configuration = null;
   }
 
@@ -1025,6 +1041,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withCommentSource(CommentSource... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCommentSource().addAll(Arrays.asList(values));
     }
@@ -1042,6 +1059,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withCommentSource(Collection<CommentSource> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCommentSource().addAll(values);
     }
@@ -1059,6 +1077,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withStageLocation(StageLocation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStageLocation().addAll(Arrays.asList(values));
     }
@@ -1076,6 +1095,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withStageLocation(Collection<StageLocation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStageLocation().addAll(values);
     }
@@ -1099,6 +1119,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withConfiguration(Configuration... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -1122,6 +1143,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withConfiguration(Collection<Configuration> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -1212,6 +1234,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withSsRequest(SSRequest value) {
+    SSRFChangeTracker.touch(this);
     this.ssRequest = value;
     return this;
   }
@@ -1249,12 +1272,7 @@ public class SSReply extends Common<SSReply> {
     if (ssRequestRef == null || !ssRequestRef.isSetValue()) {
       return;
     }
-    for (SSRequest instance : root.getSSRequest()) {
-      if (ssRequestRef.equals(instance.getSerial())) {
-        ssRequest = instance;
-        return;
-      }
-    }
+    ssRequest = root.getSerialIndex().find(SSRequest.class, ssRequestRef);
   }//</editor-fold>
 
 }
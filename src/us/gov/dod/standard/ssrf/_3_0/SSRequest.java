@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
@@ -582,6 +583,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.title = value;
   }
 
@@ -613,6 +615,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setCurrentStage(TString value) {
+    SSRFChangeTracker.touch(this);
     this.currentStage = value;
   }
 
@@ -656,6 +659,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setRequirement(TString value) {
+    SSRFChangeTracker.touch(this);
     this.requirement = value;
   }
 
@@ -687,6 +691,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setEmergency(TString value) {
+    SSRFChangeTracker.touch(this);
     this.emergency = value;
   }
 
@@ -720,6 +725,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNumMobileUnits(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numMobileUnits = value;
   }
 
@@ -771,6 +777,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNumAreaUnits(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numAreaUnits = value;
   }
 
@@ -806,6 +813,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNumCositedUnits(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numCositedUnits = value;
   }
 
@@ -839,6 +847,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setApplicationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.applicationDate = value;
   }
 
@@ -876,6 +885,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setDateResponseRequired(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateResponseRequired = value;
   }
 
@@ -908,6 +918,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setReplacementInfo(TString value) {
+    SSRFChangeTracker.touch(this);
     this.replacementInfo = value;
   }
 
@@ -943,6 +954,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setApplicationSPSNumber(TString value) {
+    SSRFChangeTracker.touch(this);
     this.applicationSPSNumber = value;
   }
 
@@ -984,6 +996,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setCoordinationNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.coordinationNum = value;
   }
 
@@ -1018,6 +1031,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setInfoTransferRequirement(TString value) {
+    SSRFChangeTracker.touch(this);
     this.infoTransferRequirement = value;
   }
 
@@ -1049,6 +1063,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setInitialCost(TString value) {
+    SSRFChangeTracker.touch(this);
     this.initialCost = value;
   }
 
@@ -1082,6 +1097,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setInitialCostDesc(TString value) {
+    SSRFChangeTracker.touch(this);
     this.initialCostDesc = value;
   }
 
@@ -1115,6 +1131,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setITUWaiver(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ituWaiver = value;
   }
 
@@ -1153,6 +1170,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNTIACoordinationRequired(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ntiaCoordinationRequired = value;
   }
 
@@ -1186,6 +1204,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNTIASpaceData(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ntiaSpaceData = value;
   }
 
@@ -1217,6 +1236,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setOperInvIntent(TString value) {
+    SSRFChangeTracker.touch(this);
     this.operInvIntent = value;
   }
 
@@ -1248,6 +1268,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setOriginatingAgency(TString value) {
+    SSRFChangeTracker.touch(this);
     this.originatingAgency = value;
   }
 
@@ -1281,6 +1302,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setRequestType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.requestType = value;
   }
 
@@ -1319,6 +1341,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setRelatedAnalysisAndTestData(TString value) {
+    SSRFChangeTracker.touch(this);
     this.relatedAnalysisAndTestData = value;
   }
 
@@ -1350,6 +1373,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setSysRelationEssential(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sysRelationEssential = value;
   }
 
@@ -1387,6 +1411,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setTSPR(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tspr = value;
   }
 
@@ -1418,6 +1443,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setWartimeUse(TString value) {
+    SSRFChangeTracker.touch(this);
     this.wartimeUse = value;
   }
 
@@ -1461,6 +1487,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    SSRFChangeTracker.touch(this);
     this.project = null;
   }
 
@@ -1490,6 +1517,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Stage field. This sets the field to null.
    */
   public void unsetStage() {
+    SSRFChangeTracker.touch(this);
     this.stage = null;
   }
 
@@ -1524,6 +1552,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    SSRFChangeTracker.touch(this);
     this.nomenclature = null;
   }
 
@@ -1556,6 +1585,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -1588,6 +1618,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the RelatedSupportability field. This sets the field to null.
    */
   public void unsetRelatedSupportability() {
+    SSRFChangeTracker.touch(this);
     this.relatedSupportability = null;
   }
 
@@ -1622,6 +1653,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the HostNation field. This sets the field to null.
    */
   public void unsetHostNation() {
+    SSRFChangeTracker.touch(this);
     this.hostNation = null;
   }
 
@@ -1651,6 +1683,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Time field. This sets the field to null.
    */
   public void unsetTime() {
+    SSRFChangeTracker.touch(this);
     this.time = null;
   }
 
@@ -1683,6 +1716,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the DiagramEndpoint field. This sets the field to null.
    */
   public void unsetDiagramEndpoint() {
+    SSRFChangeTracker.touch(this);
     this.diagramEndpoint = null;
   }
 
@@ -1715,6 +1749,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the DiagramLine field. This sets the field to null.
    */
   public void unsetDiagramLine() {
+    SSRFChangeTracker.touch(this);
     this.diagramLine = null;
   }
 
@@ -1750,6 +1785,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    SSRFChangeTracker.touch(this);
     this.configuration = null;
   }
 
@@ -1782,6 +1818,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the StatusLog field. This sets the field to null.
    */
   public void unsetStatusLog() {
+    SSRFChangeTracker.touch(this);
     this.statusLog = null;
   }
 
@@ -1810,6 +1847,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setTrunking(Trunking value) {
+    SSRFChangeTracker.touch(this);
     this.trunking = value;
   }
 
@@ -2206,6 +2244,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withProject(Project... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -2223,6 +2262,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withProject(Collection<Project> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(values);
     }
@@ -2237,6 +2277,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStage(Stage... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStage().addAll(Arrays.asList(values));
     }
@@ -2251,6 +2292,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStage(Collection<Stage> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStage().addAll(values);
     }
@@ -2270,6 +2312,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withNomenclature(Nomenclature... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -2289,6 +2332,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withNomenclature(Collection<Nomenclature> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -2306,6 +2350,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -2323,6 +2368,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -2341,6 +2387,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withRelatedSupportability(RelatedSupportability... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedSupportability().addAll(Arrays.asList(values));
     }
@@ -2358,6 +2405,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withRelatedSupportability(Collection<RelatedSupportability> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRelatedSupportability().addAll(values);
     }
@@ -2377,6 +2425,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withHostNation(HostNation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getHostNation().addAll(Arrays.asList(values));
     }
@@ -2396,6 +2445,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withHostNation(Collection<HostNation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getHostNation().addAll(values);
     }
@@ -2410,6 +2460,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withTime(Time... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTime().addAll(Arrays.asList(values));
     }
@@ -2424,6 +2475,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withTime(Collection<Time> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTime().addAll(values);
     }
@@ -2441,6 +2493,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramEndpoint(DiagramEndpoint... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDiagramEndpoint().addAll(Arrays.asList(values));
     }
@@ -2458,6 +2511,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramEndpoint(Collection<DiagramEndpoint> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDiagramEndpoint().addAll(values);
     }
@@ -2475,6 +2529,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramLine(DiagramLine... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDiagramLine().addAll(Arrays.asList(values));
     }
@@ -2492,6 +2547,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramLine(Collection<DiagramLine> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDiagramLine().addAll(values);
     }
@@ -2512,6 +2568,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withConfiguration(Configuration... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -2532,6 +2589,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withConfiguration(Collection<Configuration> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -2549,6 +2607,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStatusLog(StatusLog... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStatusLog().addAll(Arrays.asList(values));
     }
@@ -2566,6 +2625,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStatusLog(Collection<StatusLog> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStatusLog().addAll(values);
     }
@@ -2584,6 +2644,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withTrunking(Trunking value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.JAXBElement;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -352,6 +353,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setReviewDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.reviewDate = value;
   }
 
@@ -390,6 +392,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setCallSign(TString value) {
+    SSRFChangeTracker.touch(this);
     this.callSign = value;
   }
 
@@ -421,6 +424,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setOrbitType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.orbitType = value;
   }
 
@@ -452,6 +456,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setLaunchStatus(TString value) {
+    SSRFChangeTracker.touch(this);
     this.launchStatus = value;
   }
 
@@ -491,6 +496,7 @@ public class Satellite extends Common<Satellite> {
    */
   @Deprecated
   public void setLaunchLocRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.launchLocRef = value;
   }
 
@@ -522,6 +528,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setLaunchDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.launchDate = value;
   }
 
@@ -556,6 +563,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setGeoNominalLon(TString value) {
+    SSRFChangeTracker.touch(this);
     this.geoNominalLon = value;
   }
 
@@ -590,6 +598,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setGeoAltitude(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.geoAltitude = value;
   }
 
@@ -621,6 +630,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoPeriod(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.nonGeoPeriod = value;
   }
 
@@ -654,6 +664,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoNumSatellites(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.nonGeoNumSatellites = value;
   }
 
@@ -688,6 +699,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoApogee(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.nonGeoApogee = value;
   }
 
@@ -720,6 +732,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoPerigee(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.nonGeoPerigee = value;
   }
 
@@ -751,6 +764,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoInclination(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.nonGeoInclination = value;
   }
 
@@ -783,6 +797,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setInternationalDesignator(TString value) {
+    SSRFChangeTracker.touch(this);
     this.internationalDesignator = value;
   }
 
@@ -814,6 +829,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setObjectNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.objectNum = value;
   }
 
@@ -845,6 +861,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setAdministration(TString value) {
+    SSRFChangeTracker.touch(this);
     this.administration = value;
   }
 
@@ -876,6 +893,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNetworkName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.networkName = value;
   }
 
@@ -919,6 +937,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the RFSystemRef field. This sets the field to null.
    */
   public void unsetRFSystemRef() {
+    SSRFChangeTracker.touch(this);
     this.rfSystemRef = null;
   }
 
@@ -951,6 +970,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the EarthStation field. This sets the field to null.
    */
   public void unsetEarthStation() {
+    SSRFChangeTracker.touch(this);
     this.earthStation = null;
   }
 
@@ -980,6 +1000,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the Identifier field. This sets the field to null.
    */
   public void unsetIdentifier() {
+    SSRFChangeTracker.touch(this);
     this.identifier = null;
   }
 
@@ -1012,6 +1033,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the ServiceArea field. This sets the field to null.
    */
   public void unsetServiceArea() {
+    SSRFChangeTracker.touch(this);
     this.serviceArea = null;
   }
 
@@ -1150,6 +1172,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withGeoAltitude(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1188,6 +1211,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withNonGeoApogee(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1200,6 +1224,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withNonGeoPerigee(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -1275,6 +1300,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withRFSystemRef(TString... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRFSystemRef().addAll(Arrays.asList(values));
     }
@@ -1292,6 +1318,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withRFSystemRef(Collection<TString> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRFSystemRef().addAll(values);
     }
@@ -1309,6 +1336,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withEarthStation(EarthStation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEarthStation().addAll(Arrays.asList(values));
     }
@@ -1326,6 +1354,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withEarthStation(Collection<EarthStation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEarthStation().addAll(values);
     }
@@ -1340,6 +1369,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withIdentifier(Identifier... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getIdentifier().addAll(Arrays.asList(values));
     }
@@ -1354,6 +1384,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withIdentifier(Collection<Identifier> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getIdentifier().addAll(values);
     }
@@ -1371,6 +1402,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withServiceArea(ServiceArea... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getServiceArea().addAll(Arrays.asList(values));
     }
@@ -1388,6 +1420,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withServiceArea(Collection<ServiceArea> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getServiceArea().addAll(values);
     }
@@ -1484,6 +1517,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withLaunchLoc(Location value) {
+    SSRFChangeTracker.touch(this);
     this.launchLoc = value;
     return this;
   }
@@ -1521,12 +1555,7 @@ public class Satellite extends Common<Satellite> {
     if (launchLocRef == null || !launchLocRef.isSetValue()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (launchLocRef.equals(instance.getSerial())) {
-        launchLoc = instance;
-        return;
-      }
-    }
+    launchLoc = root.getSerialIndex().find(Location.class, launchLocRef);
   }//</editor-fold>
 
 }
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.EDatasetType;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 
 /**
  * SchemaRoot is the root element for any SSRF-XML message. It contains
@@ -159,6 +161,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Contact field. This sets the field to null.
    */
   public void unsetContact() {
+    SSRFChangeTracker.touch(this);
     this.contact = null;
   }
 
@@ -188,6 +191,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Role field. This sets the field to null.
    */
   public void unsetRole() {
+    SSRFChangeTracker.touch(this);
     this.role = null;
   }
 
@@ -217,6 +221,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Organisation field. This sets the field to null.
    */
   public void unsetOrganisation() {
+    SSRFChangeTracker.touch(this);
     this.organisation = null;
   }
 
@@ -246,6 +251,7 @@ public abstract class SchemaRoot<T> {
    * Clear the ExternalReference field. This sets the field to null.
    */
   public void unsetExternalReference() {
+    SSRFChangeTracker.touch(this);
     this.externalReference = null;
   }
 
@@ -275,6 +281,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Administrative field. This sets the field to null.
    */
   public void unsetAdministrative() {
+    SSRFChangeTracker.touch(this);
     this.administrative = null;
   }
 
@@ -304,6 +311,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Location field. This sets the field to null.
    */
   public void unsetLocation() {
+    SSRFChangeTracker.touch(this);
     this.location = null;
   }
 
@@ -333,6 +341,7 @@ public abstract class SchemaRoot<T> {
    * Clear the ChannelPlan field. This sets the field to null.
    */
   public void unsetChannelPlan() {
+    SSRFChangeTracker.touch(this);
     this.channelPlan = null;
   }
 
@@ -362,6 +371,7 @@ public abstract class SchemaRoot<T> {
    * Clear the TOA field. This sets the field to null.
    */
   public void unsetTOA() {
+    SSRFChangeTracker.touch(this);
     this.toa = null;
   }
 
@@ -391,6 +401,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Transmitter field. This sets the field to null.
    */
   public void unsetTransmitter() {
+    SSRFChangeTracker.touch(this);
     this.transmitter = null;
   }
 
@@ -420,6 +431,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Receiver field. This sets the field to null.
    */
   public void unsetReceiver() {
+    SSRFChangeTracker.touch(this);
     this.receiver = null;
   }
 
@@ -449,6 +461,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Antenna field. This sets the field to null.
    */
   public void unsetAntenna() {
+    SSRFChangeTracker.touch(this);
     this.antenna = null;
   }
 
@@ -478,6 +491,7 @@ public abstract class SchemaRoot<T> {
    * Clear the RFSystem field. This sets the field to null.
    */
   public void unsetRFSystem() {
+    SSRFChangeTracker.touch(this);
     this.rfSystem = null;
   }
 
@@ -507,6 +521,7 @@ public abstract class SchemaRoot<T> {
    * Clear the SSRequest field. This sets the field to null.
    */
   public void unsetSSRequest() {
+    SSRFChangeTracker.touch(this);
     this.ssRequest = null;
   }
 
@@ -536,6 +551,7 @@ public abstract class SchemaRoot<T> {
    * Clear the SSReply field. This sets the field to null.
    */
   public void unsetSSReply() {
+    SSRFChangeTracker.touch(this);
     this.ssReply = null;
   }
 
@@ -565,6 +581,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Allotment field. This sets the field to null.
    */
   public void unsetAllotment() {
+    SSRFChangeTracker.touch(this);
     this.allotment = null;
   }
 
@@ -594,6 +611,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Assignment field. This sets the field to null.
    */
   public void unsetAssignment() {
+    SSRFChangeTracker.touch(this);
     this.assignment = null;
   }
 
@@ -623,6 +641,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Satellite field. This sets the field to null.
    */
   public void unsetSatellite() {
+    SSRFChangeTracker.touch(this);
     this.satellite = null;
   }
 
@@ -652,6 +671,7 @@ public abstract class SchemaRoot<T> {
    * Clear the IntfReport field. This sets the field to null.
    */
   public void unsetIntfReport() {
+    SSRFChangeTracker.touch(this);
     this.intfReport = null;
   }
 
@@ -681,6 +701,7 @@ public abstract class SchemaRoot<T> {
    * Clear the JRFL field. This sets the field to null.
    */
   public void unsetJRFL() {
+    SSRFChangeTracker.touch(this);
     this.jrfl = null;
   }
 
@@ -710,6 +731,7 @@ public abstract class SchemaRoot<T> {
    * Clear the ForceElement field. This sets the field to null.
    */
   public void unsetForceElement() {
+    SSRFChangeTracker.touch(this);
     this.forceElement = null;
   }
 
@@ -739,6 +761,7 @@ public abstract class SchemaRoot<T> {
    * Clear the FEDeployment field. This sets the field to null.
    */
   public void unsetFEDeployment() {
+    SSRFChangeTracker.touch(this);
     this.feDeployment = null;
   }
 
@@ -768,6 +791,7 @@ public abstract class SchemaRoot<T> {
    * Clear the Note field. This sets the field to null.
    */
   public void unsetNote() {
+    SSRFChangeTracker.touch(this);
     this.note = null;
   }
 
@@ -779,6 +803,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withContact(Contact... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getContact().addAll(Arrays.asList(values));
     }
@@ -793,6 +818,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withContact(Collection<Contact> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getContact().addAll(values);
     }
@@ -807,6 +833,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withRole(Role... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRole().addAll(Arrays.asList(values));
     }
@@ -821,6 +848,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withRole(Collection<Role> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRole().addAll(values);
     }
@@ -835,6 +863,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withOrganisation(Organisation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getOrganisation().addAll(Arrays.asList(values));
     }
@@ -849,6 +878,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withOrganisation(Collection<Organisation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getOrganisation().addAll(values);
     }
@@ -863,6 +893,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withExternalReference(ExternalReference... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExternalReference().addAll(Arrays.asList(values));
     }
@@ -877,6 +908,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withExternalReference(Collection<ExternalReference> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExternalReference().addAll(values);
     }
@@ -891,6 +923,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAdministrative(Administrative... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAdministrative().addAll(Arrays.asList(values));
     }
@@ -905,6 +938,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAdministrative(Collection<Administrative> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAdministrative().addAll(values);
     }
@@ -919,6 +953,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withLocation(Location... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocation().addAll(Arrays.asList(values));
     }
@@ -933,6 +968,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withLocation(Collection<Location> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocation().addAll(values);
     }
@@ -947,6 +983,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withChannelPlan(ChannelPlan... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelPlan().addAll(Arrays.asList(values));
     }
@@ -961,6 +998,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withChannelPlan(Collection<ChannelPlan> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelPlan().addAll(values);
     }
@@ -975,6 +1013,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withTOA(TOA... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTOA().addAll(Arrays.asList(values));
     }
@@ -989,6 +1028,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withTOA(Collection<TOA> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTOA().addAll(values);
     }
@@ -1003,6 +1043,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withTransmitter(Transmitter... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTransmitter().addAll(Arrays.asList(values));
     }
@@ -1017,6 +1058,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withTransmitter(Collection<Transmitter> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTransmitter().addAll(values);
     }
@@ -1031,6 +1073,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withReceiver(Receiver... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getReceiver().addAll(Arrays.asList(values));
     }
@@ -1045,6 +1088,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withReceiver(Collection<Receiver> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getReceiver().addAll(values);
     }
@@ -1059,6 +1103,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAntenna(Antenna... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntenna().addAll(Arrays.asList(values));
     }
@@ -1073,6 +1118,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAntenna(Collection<Antenna> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntenna().addAll(values);
     }
@@ -1087,6 +1133,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withRFSystem(RFSystem... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRFSystem().addAll(Arrays.asList(values));
     }
@@ -1101,6 +1148,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withRFSystem(Collection<RFSystem> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRFSystem().addAll(values);
     }
@@ -1115,6 +1163,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withSSRequest(SSRequest... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSSRequest().addAll(Arrays.asList(values));
     }
@@ -1129,6 +1178,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withSSRequest(Collection<SSRequest> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSSRequest().addAll(values);
     }
@@ -1143,6 +1193,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withSSReply(SSReply... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSSReply().addAll(Arrays.asList(values));
     }
@@ -1157,6 +1208,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withSSReply(Collection<SSReply> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSSReply().addAll(values);
     }
@@ -1171,6 +1223,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAllotment(Allotment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAllotment().addAll(Arrays.asList(values));
     }
@@ -1185,6 +1238,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAllotment(Collection<Allotment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAllotment().addAll(values);
     }
@@ -1199,6 +1253,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAssignment(Assignment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAssignment().addAll(Arrays.asList(values));
     }
@@ -1213,6 +1268,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withAssignment(Collection<Assignment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAssignment().addAll(values);
     }
@@ -1227,6 +1283,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withSatellite(Satellite... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSatellite().addAll(Arrays.asList(values));
     }
@@ -1241,6 +1298,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withSatellite(Collection<Satellite> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSatellite().addAll(values);
     }
@@ -1255,6 +1313,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withIntfReport(IntfReport... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getIntfReport().addAll(Arrays.asList(values));
     }
@@ -1269,6 +1328,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withIntfReport(Collection<IntfReport> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getIntfReport().addAll(values);
     }
@@ -1283,6 +1343,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withJRFL(JRFL... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getJRFL().addAll(Arrays.asList(values));
     }
@@ -1297,6 +1358,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withJRFL(Collection<JRFL> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getJRFL().addAll(values);
     }
@@ -1311,6 +1373,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withForceElement(ForceElement... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getForceElement().addAll(Arrays.asList(values));
     }
@@ -1325,6 +1388,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withForceElement(Collection<ForceElement> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getForceElement().addAll(values);
     }
@@ -1339,6 +1403,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withFEDeployment(FEDeployment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFEDeployment().addAll(Arrays.asList(values));
     }
@@ -1353,6 +1418,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withFEDeployment(Collection<FEDeployment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFEDeployment().addAll(values);
     }
@@ -1367,6 +1433,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withNote(Note... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNote().addAll(Arrays.asList(values));
     }
@@ -1381,6 +1448,7 @@ public abstract class SchemaRoot<T> {
    * @since 3.1.0
    */
   public T withNote(Collection<Note> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNote().addAll(values);
     }
@@ -1420,6 +1488,86 @@ public abstract class SchemaRoot<T> {
       + "}";
   }
 
+  /**
+   * Get the root list of a dataset type.
+   * <p>
+   * This is the dispatch table used to copy datasets discovered within the
+   * SSRF class tree into their root list (see
+   * {@link us.gov.dod.standard.ssrf.SSRFUtility#prepare(us.gov.dod.standard.ssrf.SSRF)}).
+   * <p>
+   * @param datasetType the dataset type
+   * @return the (live) root list of datasets of the indicated type
+   * @since 3.1.0
+   */
+  public List<? extends Common<?>> getDatasets(EDatasetType datasetType) {
+    switch (datasetType) {
+      case AD:
+        return getAdministrative();
+      case AL:
+        return getAllotment();
+      case AN:
+        return getAntenna();
+      case AS:
+        return getAssignment();
+      case CN:
+        return getContact();
+      case CP:
+        return getChannelPlan();
+      case EX:
+        return getExternalReference();
+      case FD:
+        return getFEDeployment();
+      case FE:
+        return getForceElement();
+      case HD:
+        return getSSReply();
+      case IF:
+        return getIntfReport();
+      case JA:
+        return getRole();
+      case JR:
+        return getJRFL();
+      case LO:
+        return getLocation();
+      case NT:
+        return getNote();
+      case OR:
+        return getOrganisation();
+      case RX:
+        return getReceiver();
+      case SA:
+        return getSatellite();
+      case SR:
+        return getSSRequest();
+      case TA:
+        return getTOA();
+      case TR:
+        return getRFSystem();
+      case TX:
+        return getTransmitter();
+      default:
+        throw new IllegalArgumentException("Unsupported dataset type " + datasetType);
+    }
+  }
+
+  /**
+   * Add a dataset to its root list. The dataset type is determined by the
+   * dataset class. No duplicate check is performed.
+   * <p>
+   * @param dataset the dataset to add
+   * @return TRUE if the dataset was added, FALSE if its class is not a root
+   *         dataset type
+   * @since 3.1.0
+   */
+  public boolean addDataset(Common<?> dataset) {
+    EDatasetType datasetType = EDatasetType.fromInstance(dataset.getClass());
+    if (datasetType == null) {
+      return false;
+    }
+    SSRFChangeTracker.touch(this);
+    return ((List<Common<?>>) getDatasets(datasetType)).add(dataset);
+  }
+
   /**
    * Determine if the required fields in this SSRF data type instance are set.
    * <p>
@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
@@ -186,6 +188,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setAdministration(TString value) {
+    SSRFChangeTracker.touch(this);
     this.administration = value;
   }
 
@@ -217,6 +220,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -251,6 +255,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -283,6 +288,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.title = value;
   }
 
@@ -327,6 +333,7 @@ public class TOA extends Common<TOA> {
    * Clear the Footnote field. This sets the field to null.
    */
   public void unsetFootnote() {
+    SSRFChangeTracker.touch(this);
     this.footnote = null;
   }
 
@@ -361,6 +368,7 @@ public class TOA extends Common<TOA> {
    * Clear the ChannelPlanRef field. This sets the field to null.
    */
   public void unsetChannelPlanRef() {
+    SSRFChangeTracker.touch(this);
     this.channelPlanRef = null;
   }
 
@@ -390,6 +398,7 @@ public class TOA extends Common<TOA> {
    * Clear the BandApplication field. This sets the field to null.
    */
   public void unsetBandApplication() {
+    SSRFChangeTracker.touch(this);
     this.bandApplication = null;
   }
 
@@ -419,6 +428,7 @@ public class TOA extends Common<TOA> {
    * Clear the BandUser field. This sets the field to null.
    */
   public void unsetBandUser() {
+    SSRFChangeTracker.touch(this);
     this.bandUser = null;
   }
 
@@ -451,6 +461,7 @@ public class TOA extends Common<TOA> {
    * Clear the Country field. This sets the field to null.
    */
   public void unsetCountry() {
+    SSRFChangeTracker.touch(this);
     this.country = null;
   }
 
@@ -485,6 +496,7 @@ public class TOA extends Common<TOA> {
    * Clear the FreqBand field. This sets the field to null.
    */
   public void unsetFreqBand() {
+    SSRFChangeTracker.touch(this);
     this.freqBand = null;
   }
 
@@ -575,6 +587,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFootnote(Footnote... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFootnote().addAll(Arrays.asList(values));
     }
@@ -593,6 +606,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFootnote(Collection<Footnote> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFootnote().addAll(values);
     }
@@ -612,6 +626,7 @@ public class TOA extends Common<TOA> {
    */
   @Deprecated
   public TOA withChannelPlanRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelPlanRef().addAll(Arrays.asList(values));
     }
@@ -631,6 +646,7 @@ public class TOA extends Common<TOA> {
    */
   @Deprecated
   public TOA withChannelPlanRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelPlanRef().addAll(values);
     }
@@ -645,6 +661,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withBandApplication(BandApplication... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandApplication().addAll(Arrays.asList(values));
     }
@@ -659,6 +676,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withBandApplication(Collection<BandApplication> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandApplication().addAll(values);
     }
@@ -673,6 +691,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withBandUser(BandUser... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandUser().addAll(Arrays.asList(values));
     }
@@ -687,6 +706,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withBandUser(Collection<BandUser> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandUser().addAll(values);
     }
@@ -704,6 +724,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withCountry(Country... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCountry().addAll(Arrays.asList(values));
     }
@@ -721,6 +742,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withCountry(Collection<Country> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCountry().addAll(values);
     }
@@ -740,6 +762,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFreqBand(FreqBand... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreqBand().addAll(Arrays.asList(values));
     }
@@ -759,6 +782,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFreqBand(Collection<FreqBand> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreqBand().addAll(values);
     }
@@ -861,6 +885,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withChannelPlan(Collection<ChannelPlan> values) {
+    SSRFChangeTracker.touch(this);
     getChannelPlan().addAll(values);
     return this;
   }
@@ -902,9 +927,11 @@ public class TOA extends Common<TOA> {
     if (channelPlanRef == null || channelPlanRef.isEmpty()) {
       return;
     }
-    for (ChannelPlan instance : root.getChannelPlan()) {
-      if (channelPlanRef.contains(instance.getSerial())) {
-        channelPlan.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : channelPlanRef) {
+      ChannelPlan instance = index.find(ChannelPlan.class, serialRef);
+      if (instance != null) {
+        getChannelPlan().add(instance);
       }
     }
   }//</editor-fold>
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_0.antenna.Nomenclature;
@@ -271,6 +272,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setGeneric(TString value) {
+    SSRFChangeTracker.touch(this);
     this.generic = value;
   }
 
@@ -302,6 +304,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setDuplexSep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.duplexSep = value;
   }
 
@@ -335,6 +338,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setDuplexSepType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.duplexSepType = value;
   }
 
@@ -366,6 +370,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setOutputDeviceType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.outputDeviceType = value;
   }
 
@@ -399,6 +404,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setOutputDevice(TString value) {
+    SSRFChangeTracker.touch(this);
     this.outputDevice = value;
   }
 
@@ -430,6 +436,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setFilter(TString value) {
+    SSRFChangeTracker.touch(this);
     this.filter = value;
   }
 
@@ -463,6 +470,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setFCCAcceptanceNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fccAcceptanceNum = value;
   }
 
@@ -500,6 +508,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setTSPR(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tspr = value;
   }
 
@@ -543,6 +552,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -577,6 +587,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    SSRFChangeTracker.touch(this);
     this.nomenclature = null;
   }
 
@@ -613,6 +624,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the Deployment field. This sets the field to null.
    */
   public void unsetDeployment() {
+    SSRFChangeTracker.touch(this);
     this.deployment = null;
   }
 
@@ -648,6 +660,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the Curve field. This sets the field to null.
    */
   public void unsetCurve() {
+    SSRFChangeTracker.touch(this);
     this.curve = null;
   }
 
@@ -680,6 +693,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the TxMode field. This sets the field to null.
    */
   public void unsetTxMode() {
+    SSRFChangeTracker.touch(this);
     this.txMode = null;
   }
 
@@ -798,6 +812,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -815,6 +830,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -834,6 +850,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withNomenclature(Nomenclature... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -853,6 +870,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withNomenclature(Collection<Nomenclature> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -874,6 +892,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withDeployment(Deployment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDeployment().addAll(Arrays.asList(values));
     }
@@ -895,6 +914,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withDeployment(Collection<Deployment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDeployment().addAll(values);
     }
@@ -915,6 +935,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withCurve(Curve... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurve().addAll(Arrays.asList(values));
     }
@@ -935,6 +956,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withCurve(Collection<Curve> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurve().addAll(values);
     }
@@ -952,6 +974,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withTxMode(TxMode... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxMode().addAll(Arrays.asList(values));
     }
@@ -969,6 +992,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withTxMode(Collection<TxMode> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxMode().addAll(values);
     }
@@ -15,7 +15,9 @@
  */
 package us.gov.dod.standard.ssrf._3_0.adapter;
 
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
 
@@ -25,15 +27,44 @@ import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
  * <p>
  * @author Jesse Caulfield
  */
-public abstract class AXmlAdapterTCalendar extends XmlAdapter<String, TCalendar> {
+public abstract class AXmlAdapterTCalendar extends XmlAdapter<String, TCalendar> implements IXmlAdapterConstraint {
 
   /**
    * The date or dateTime conversion pattern.
    */
   private final String PATTERN;
+  /**
+   * The date formatter used to marshal values.
+   * <p>
+   * Developer note: SimpleDateFormat is not thread-safe. Adapter instances are
+   * shared (see {@link XmlAdapterRegistry}) so each thread formats with its own
+   * SimpleDateFormat copy.
+   */
+  private final ThreadLocal<SimpleDateFormat> formatter;
+  /**
+   * The (non-lenient) date formatter used to unmarshal values. This is kept
+   * separate from the marshal formatter, whose time zone is set per value.
+   */
+  private final ThreadLocal<SimpleDateFormat> parser;
 
-  public AXmlAdapterTCalendar(String PATTERN) {
+  public AXmlAdapterTCalendar(final String PATTERN) {
     this.PATTERN = PATTERN;
+    this.formatter = new ThreadLocal<SimpleDateFormat>() {
+
+      @Override
+      protected SimpleDateFormat initialValue() {
+        return new SimpleDateFormat(PATTERN);
+      }
+    };
+    this.parser = new ThreadLocal<SimpleDateFormat>() {
+
+      @Override
+      protected SimpleDateFormat initialValue() {
+        SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
+        sdf.setLenient(false);
+        return sdf;
+      }
+    };
   }
 
   /**
@@ -47,7 +78,7 @@ public abstract class AXmlAdapterTCalendar extends XmlAdapter<String, TCalendar>
     if (v == null) {
       return null;
     }
-    SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
+    SimpleDateFormat sdf = formatter.get();
     sdf.setTimeZone(v.getValue().getTimeZone());
     return sdf.format(v.getValue().getTime());
   }
@@ -55,12 +86,45 @@ public abstract class AXmlAdapterTCalendar extends XmlAdapter<String, TCalendar>
   /**
    * Convert a value type to a bound type.
    * <p>
+   * The value is first parsed with the conversion pattern, so that a value
+   * written by {@link #marshal(TCalendar)} (e.g. a DATETIME with a "+0000" zone
+   * offset) reads back. Values not matching the pattern are parsed as an XML
+   * Schema date or dateTime.
+   * <p>
    * @param v The value to be converted. Must be non-null.
    * @return the converted value
    */
   @Override
   public TCalendar unmarshal(String v) {
+    ParsePosition position = new ParsePosition(0);
+    Date date = parser.get().parse(v.trim(), position);
+    if (date != null && position.getIndex() == v.trim().length()) {
+      return new TCalendar(date);
+    }
     return new TCalendar(javax.xml.bind.DatatypeConverter.parseDate(v));
   }
 
+  /**
+   * Determine if a value satisfies the adapter constraints. Any date or
+   * dateTime value can be formatted, so all values are valid.
+   * <p>
+   * @param value the field value
+   * @return TRUE
+   */
+  @Override
+  public boolean isValid(Object value) {
+    return true;
+  }
+
+  /**
+   * Describe why a value does not satisfy the adapter constraints.
+   * <p>
+   * @param value the field value
+   * @return null; all values are valid
+   */
+  @Override
+  public String getMessage(Object value) {
+    return null;
+  }
+
 }
@@ -54,7 +54,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.domains.TInteger;
  * <p>
  * @author Jesse Caulfield
  */
-public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
+public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> implements IXmlAdapterConstraint {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -86,9 +86,25 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
   private final Integer maxInclusive;
 
   /**
-   * The decimal format pattern defined by the total and fraction digit count.
+   * The (exclusive) magnitude limit defined by the total digit count; i.e. ten
+   * raised to the power of the total digit count. Null if the total digit count
+   * is not configured. This is computed once so that the digit count check
+   * does not allocate.
    */
-  private DecimalFormat df;
+  private final BigInteger digitLimit;
+  /**
+   * The negated magnitude limit.
+   */
+  private final BigInteger digitLimitNegative;
+  /**
+   * The decimal format defined by the total and fraction digit count. Null if
+   * not configured.
+   * <p>
+   * Developer note: DecimalFormat is not thread-safe. Adapter instances are
+   * shared (see {@link XmlAdapterRegistry}) so each thread formats with its own
+   * DecimalFormat copy.
+   */
+  private final ThreadLocal<DecimalFormat> df;
 
   /**
    * Construct a new Number adapter. The minimum and maximum inclusive values
@@ -122,6 +138,8 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
     this.fractionDigits = fractionDigits;
     this.minInclusive = minInclusive;
     this.maxInclusive = maxInclusive;
+    this.digitLimit = totalDigits != null ? BigInteger.TEN.pow(totalDigits) : null;
+    this.digitLimitNegative = totalDigits != null ? digitLimit.negate() : null;
     /**
      * Build a DecimalFormat if configured.
      */
@@ -136,7 +154,16 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
       /**
        * Require zeros on either side of the decimal point.
        */
-      this.df = new DecimalFormat(sb.toString().replace("#.#", "0.0"));
+      final String pattern = sb.toString().replace("#.#", "0.0");
+      this.df = new ThreadLocal<DecimalFormat>() {
+
+        @Override
+        protected DecimalFormat initialValue() {
+          return new DecimalFormat(pattern);
+        }
+      };
+    } else {
+      this.df = null;
     }
   }
 
@@ -154,7 +181,7 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
   @Override
   public String marshal(IMetadataType v) throws Exception {
     return df != null
-      ? df.format(convert((Number) v.getValue()).getValue())
+      ? df.get().format(convert((Number) v.getValue()).getValue())
       : convert((Number) v.getValue()).getValue().toString();
   }
 
@@ -174,6 +201,62 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
     return convert(v.contains(".") ? new BigDecimal(v) : new BigInteger(v));
   }
 
+  /**
+   * Determine if a value satisfies the value range and digit count
+   * constraints.
+   * <p>
+   * @param value the field value. A metadata domain value is unwrapped. Null
+   *              and non-Number values are valid.
+   * @return TRUE if the value is valid
+   */
+  @Override
+  public boolean isValid(Object value) {
+    Object v = value instanceof IMetadataType ? ((IMetadataType) value).getValue() : value;
+    if (!(v instanceof Number)) {
+      return true;
+    }
+    Number number = (Number) v;
+    /**
+     * Use the cached primitive value of a metadata domain type if available.
+     */
+    double primitive;
+    if (value instanceof TDecimal) {
+      primitive = ((TDecimal) value).doubleValue();
+    } else if (value instanceof TInteger) {
+      primitive = ((TInteger) value).doubleValue();
+    } else {
+      primitive = number.doubleValue();
+    }
+    if (minInclusive != null && primitive < minInclusive) {
+      return false;
+    }
+    if (maxInclusive != null && primitive > maxInclusive) {
+      return false;
+    }
+    return !(number instanceof BigInteger) || !exceedsDigitCount((BigInteger) number);
+  }
+
+  /**
+   * Describe why a value does not satisfy the value range and digit count
+   * constraints.
+   * <p>
+   * @param value the field value. A metadata domain value is unwrapped.
+   * @return the violation message, or null if the value is valid
+   */
+  @Override
+  public String getMessage(Object value) {
+    Object v = value instanceof IMetadataType ? ((IMetadataType) value).getValue() : value;
+    if (!(v instanceof Number) || isValid(v)) {
+      return null;
+    }
+    try {
+      convert((Number) v);
+      return null;
+    } catch (Exception exception) {
+      return exception.getMessage();
+    }
+  }
+
   /**
    * Internal method to perform the validation.
    * <p>
@@ -197,7 +280,7 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
      * Validate the digit count.
      */
     if (v instanceof BigInteger) {
-      if (totalDigits != null && totalDigits < getDigitCount((BigInteger) v)) {
+      if (exceedsDigitCount((BigInteger) v)) {
         throw new Exception("maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + totalDigits + "] for \"" + v + "\".");
       }
       return new TInteger((BigInteger) v);
@@ -215,18 +298,13 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, IMetadataType> {
   }
 
   /**
-   * Internal helper method to get the number of digits from a BigInteger
-   * instance.
+   * Internal helper method to determine if a BigInteger instance has more
+   * digits than the total digit count. The sign is not counted.
    * <p>
    * @param number a BigInteger number instance.
-   * @return the total number of digits in the number.
+   * @return TRUE if the number has more than the total number of digits.
    */
-  private int getDigitCount(BigInteger number) {
-    double factor = Math.log(2) / Math.log(10);
-    int digitCount = (int) (factor * number.bitLength() + 1);
-    if (BigInteger.TEN.pow(digitCount - 1).compareTo(number) > 0) {
-      return digitCount - 1;
-    }
-    return digitCount;
+  private boolean exceedsDigitCount(BigInteger number) {
+    return digitLimit != null && (number.compareTo(digitLimit) >= 0 || number.compareTo(digitLimitNegative) <= 0);
   }
 }
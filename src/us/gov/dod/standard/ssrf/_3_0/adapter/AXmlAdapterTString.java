@@ -19,6 +19,7 @@ import java.util.Locale;
 import java.util.regex.Pattern;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
+import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 
 /**
  * Abstract String type XmlAdapter.
@@ -34,7 +35,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
  * <p>
  * @author Jesse Caulfield
  */
-public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
+public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> implements IXmlAdapterConstraint {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -56,9 +57,11 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
    */
   private final Boolean upperCase;
   /**
-   * The REGEX pattern that the string must conform to.
+   * The REGEX pattern that the string must conform to. The pattern is compiled
+   * once when the adapter is constructed; Pattern instances are immutable and
+   * safe for use by multiple concurrent threads.
    */
-  private final String pattern;
+  private final Pattern pattern;
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength) {
     this.minLength = minLength;
@@ -71,14 +74,14 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     this.minLength = minLength;
     this.maxLength = maxLength;
     this.upperCase = false;
-    this.pattern = pattern;
+    this.pattern = pattern != null ? Pattern.compile(pattern) : null;
   }
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength, boolean upperCase, String pattern) {
     this.minLength = minLength;
     this.maxLength = maxLength;
     this.upperCase = upperCase;
-    this.pattern = pattern;
+    this.pattern = pattern != null ? Pattern.compile(pattern) : null;
   }
 
   /**
@@ -113,6 +116,46 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     return new TString(convert(v));
   }
 
+  /**
+   * Determine if a value satisfies the string length and pattern constraints.
+   * <p>
+   * @param value the field value. A metadata domain value is unwrapped. Null
+   *              and non-String values are valid.
+   * @return TRUE if the value is valid
+   */
+  @Override
+  public boolean isValid(Object value) {
+    Object v = value instanceof IMetadataType ? ((IMetadataType) value).getValue() : value;
+    if (!(v instanceof String)) {
+      return true;
+    }
+    String string = (String) v;
+    return (minLength == null || string.length() >= minLength)
+           && (maxLength == null || string.length() <= maxLength)
+           && (pattern == null || pattern.matcher(string).find());
+  }
+
+  /**
+   * Describe why a value does not satisfy the string length and pattern
+   * constraints.
+   * <p>
+   * @param value the field value. A metadata domain value is unwrapped.
+   * @return the violation message, or null if the value is valid
+   */
+  @Override
+  public String getMessage(Object value) {
+    Object v = value instanceof IMetadataType ? ((IMetadataType) value).getValue() : value;
+    if (!(v instanceof String)) {
+      return null;
+    }
+    try {
+      convert((String) v);
+      return null;
+    } catch (Exception exception) {
+      return exception.getMessage();
+    }
+  }
+
   /**
    * Internal method to perform the validation.
    * <p>
@@ -136,8 +179,8 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
      * If the string length is valid then validate the pattern if applicable.
      */
     if (pattern != null) {
-      if (!Pattern.compile(pattern).matcher(v).find()) {
-        throw new Exception("string pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern + "] for \"" + v + "\".");
+      if (!pattern.matcher(v).find()) {
+        throw new Exception("string pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern.pattern() + "] for \"" + v + "\".");
       }
     }
     /**
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_0.adapter;
+
+/**
+ * An interface type to check a field value against the constraints of an SSRF
+ * XmlAdapter without marshaling it.
+ * <p>
+ * The XmlAdapter marshal and unmarshal methods report a constraint violation
+ * by throwing an Exception. Validation instead calls {@link #isValid(Object)},
+ * which performs the same length, pattern, range and digit checks without
+ * building a message or throwing. The message is only built (with
+ * {@link #getMessage(Object)}) when a violation is reported.
+ * <p>
+ * The value may be either the adapter bound type or a metadata domain type
+ * wrapping it (e.g. a TString), in which case the wrapped value is checked.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public interface IXmlAdapterConstraint {
+
+  /**
+   * Determine if a value satisfies the adapter constraints.
+   * <p>
+   * @param value the field value. Null values and values of a type the adapter
+   *              does not constrain are valid.
+   * @return TRUE if the value is valid
+   */
+  public boolean isValid(Object value);
+
+  /**
+   * Describe why a value does not satisfy the adapter constraints. This is the
+   * message of the Exception the adapter throws when marshaling the value.
+   * <p>
+   * @param value the field value
+   * @return the violation message, or null if the value is valid
+   */
+  public String getMessage(Object value);
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_0.adapter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * Registry of shared SSRF XmlAdapter instances.
+ * <p>
+ * The SSRF adapters (see the {@code types} package) are immutable once
+ * constructed: string patterns are compiled and number limits are computed in
+ * the constructor, and date and number formatters are confined to the calling
+ * thread. A single instance of each adapter class is therefore shared by all
+ * users:
+ * <ul>
+ * <li>field validation ({@link us.gov.dod.standard.ssrf.SSRFUtility}) and the
+ * StAX binding engine obtain adapters with {@link #getInstance(Class)};</li>
+ * <li>the pooled JAXB marshallers and unmarshallers
+ * ({@link us.gov.dod.standard.ssrf.SSRFContext}) register the adapter set
+ * returned by {@link #getInstances(Class)}, so that the JAXB provider uses the
+ * same instances instead of creating its own.</li>
+ * </ul>
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public final class XmlAdapterRegistry {
+
+  /**
+   * "us.gov.dod.standard.ssrf". The SSRF model package name prefix. Only model
+   * classes are inspected for adapter annotations.
+   */
+  private static final String MODEL_PACKAGE = "us.gov.dod.standard.ssrf";
+
+  /**
+   * The shared adapter instance for each adapter class. Instances are created
+   * on first use.
+   */
+  private static final ClassValue<XmlAdapter<?, ?>> INSTANCES = new ClassValue<XmlAdapter<?, ?>>() {
+
+    @Override
+    protected XmlAdapter<?, ?> computeValue(Class<?> type) {
+      if (!XmlAdapter.class.isAssignableFrom(type)) {
+        throw new IllegalArgumentException(type.getName() + " is not an XmlAdapter.");
+      }
+      try {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return (XmlAdapter<?, ?>) constructor.newInstance();
+      } catch (ReflectiveOperationException | SecurityException exception) {
+        throw new IllegalArgumentException("XmlAdapter " + type.getName() + " cannot be instantiated.", exception);
+      }
+    }
+  };
+
+  /**
+   * The shared adapter instances referenced from each root class.
+   */
+  private static final ClassValue<List<XmlAdapter<?, ?>>> REFERENCED = new ClassValue<List<XmlAdapter<?, ?>>>() {
+
+    @Override
+    protected List<XmlAdapter<?, ?>> computeValue(Class<?> type) {
+      return Collections.unmodifiableList(findInstances(type));
+    }
+  };
+
+  private XmlAdapterRegistry() {
+  }
+
+  /**
+   * Get the shared instance of an adapter class.
+   * <p>
+   * @param <A>          the adapter class type
+   * @param adapterClass the adapter class. The class must have a no-argument
+   *                     constructor.
+   * @return the shared adapter instance
+   * @throws IllegalArgumentException if the adapter cannot be instantiated
+   */
+  public static <A extends XmlAdapter<?, ?>> A getInstance(Class<A> adapterClass) {
+    return adapterClass.cast(INSTANCES.get(adapterClass));
+  }
+
+  /**
+   * Get the shared instances of every adapter referenced by a class and by the
+   * model classes reachable from it (through field types, collection item
+   * types and {@link XmlSeeAlso} annotations).
+   * <p>
+   * @param rootClass the root class (e.g. SSRF)
+   * @return a non-null, unmodifiable list of shared adapter instances
+   * @throws IllegalArgumentException if an adapter cannot be instantiated
+   */
+  public static List<XmlAdapter<?, ?>> getInstances(Class<?> rootClass) {
+    return REFERENCED.get(rootClass);
+  }
+
+  /**
+   * Internal method to walk the model class tree and collect the referenced
+   * adapter instances.
+   * <p>
+   * @param rootClass the root class
+   * @return the referenced adapter instances in discovery order
+   */
+  private static List<XmlAdapter<?, ?>> findInstances(Class<?> rootClass) {
+    Set<Class<?>> adapterClasses = new LinkedHashSet<>();
+    Set<Class<?>> visited = new HashSet<>();
+    Deque<Class<?>> queue = new ArrayDeque<>();
+    queue.add(rootClass);
+    while (!queue.isEmpty()) {
+      Class<?> clazz = queue.poll();
+      if (!visited.add(clazz)) {
+        continue;
+      }
+      XmlSeeAlso xmlSeeAlso = clazz.getAnnotation(XmlSeeAlso.class);
+      if (xmlSeeAlso != null) {
+        for (Class<?> subclass : xmlSeeAlso.value()) {
+          queue.add(subclass);
+        }
+      }
+      for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+        if (type != clazz) {
+          queue.add(type);
+        }
+        for (Field field : type.getDeclaredFields()) {
+          XmlJavaTypeAdapter xmlJavaTypeAdapter = field.getAnnotation(XmlJavaTypeAdapter.class);
+          if (xmlJavaTypeAdapter != null) {
+            adapterClasses.add(xmlJavaTypeAdapter.value());
+          }
+          enqueueModelTypes(field.getGenericType(), queue);
+        }
+      }
+    }
+    List<XmlAdapter<?, ?>> instances = new ArrayList<>(adapterClasses.size());
+    for (Class<?> adapterClass : adapterClasses) {
+      instances.add(INSTANCES.get(adapterClass));
+    }
+    return instances;
+  }
+
+  /**
+   * Internal method to add a field type and its type arguments to the walk
+   * queue if they are SSRF model classes.
+   * <p>
+   * @param type  the field (generic) type
+   * @param queue the walk queue
+   */
+  private static void enqueueModelTypes(Type type, Deque<Class<?>> queue) {
+    if (type instanceof Class) {
+      Class<?> clazz = (Class<?>) type;
+      if (!clazz.isPrimitive() && !clazz.isArray() && !clazz.isEnum() && clazz.getName().startsWith(MODEL_PACKAGE)) {
+        queue.add(clazz);
+      }
+    } else if (type instanceof ParameterizedType) {
+      enqueueModelTypes(((ParameterizedType) type).getRawType(), queue);
+      for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+        enqueueModelTypes(argument, queue);
+      }
+    }
+  }
+}
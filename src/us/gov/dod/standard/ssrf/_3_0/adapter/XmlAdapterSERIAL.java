@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.adapter;
 import java.util.Locale;
 import java.util.regex.Pattern;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
 
 /**
@@ -26,7 +27,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
  * @author Jesse Caulfield
  * @version SSRF 3.0.0, 09/29/2014
  */
-public class XmlAdapterSERIAL extends XmlAdapter<String, TSerial> {
+public class XmlAdapterSERIAL extends XmlAdapter<String, TSerial> implements IXmlAdapterConstraint {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -48,15 +49,17 @@ public class XmlAdapterSERIAL extends XmlAdapter<String, TSerial> {
    */
   private final Boolean upperCase;
   /**
-   * The REGEX pattern that the string must conform to.
+   * The REGEX pattern that the string must conform to. The pattern is compiled
+   * once when the adapter is constructed; Pattern instances are immutable and
+   * safe for use by multiple concurrent threads.
    */
-  private final String pattern;
+  private final Pattern pattern;
 
   private XmlAdapterSERIAL(Integer minLength, Integer maxLength, boolean upperCase, String pattern) {
     this.minLength = minLength;
     this.maxLength = maxLength;
     this.upperCase = upperCase;
-    this.pattern = pattern;
+    this.pattern = pattern != null ? Pattern.compile(pattern) : null;
   }
 
   public XmlAdapterSERIAL() {
@@ -95,6 +98,46 @@ public class XmlAdapterSERIAL extends XmlAdapter<String, TSerial> {
     return new TSerial(convert(v));
   }
 
+  /**
+   * Determine if a value satisfies the string length and pattern constraints.
+   * <p>
+   * @param value the field value. A metadata domain value is unwrapped. Null
+   *              and non-String values are valid.
+   * @return TRUE if the value is valid
+   */
+  @Override
+  public boolean isValid(Object value) {
+    Object v = value instanceof IMetadataType ? ((IMetadataType) value).getValue() : value;
+    if (!(v instanceof String)) {
+      return true;
+    }
+    String string = (String) v;
+    return (minLength == null || string.length() >= minLength)
+           && (maxLength == null || string.length() <= maxLength)
+           && (pattern == null || pattern.matcher(string).find());
+  }
+
+  /**
+   * Describe why a value does not satisfy the string length and pattern
+   * constraints.
+   * <p>
+   * @param value the field value. A metadata domain value is unwrapped.
+   * @return the violation message, or null if the value is valid
+   */
+  @Override
+  public String getMessage(Object value) {
+    Object v = value instanceof IMetadataType ? ((IMetadataType) value).getValue() : value;
+    if (!(v instanceof String)) {
+      return null;
+    }
+    try {
+      convert((String) v);
+      return null;
+    } catch (Exception exception) {
+      return exception.getMessage();
+    }
+  }
+
   /**
    * Internal method to perform the validation.
    * <p>
@@ -115,8 +158,8 @@ public class XmlAdapterSERIAL extends XmlAdapter<String, TSerial> {
      * If the string length is valid then validate the pattern if applicable.
      */
     if (pattern != null) {
-      if (!Pattern.compile(pattern).matcher(v).find()) {
-        throw new Exception("string pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern + "] for \"" + v + "\".");
+      if (!pattern.matcher(v).find()) {
+        throw new Exception("string pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern.pattern() + "] for \"" + v + "\".");
       }
     }
     /**
@@ -26,6 +26,6 @@ import us.gov.dod.standard.ssrf._3_0.adapter.*;
 public class XmlAdapterHOURS extends AXmlAdapterString {
 
   public XmlAdapterHOURS() {
-    super(1, 40, false, "(([12]?\\d(-[12]?\\d(\\d+)?)?)|(\\*\\d+))(,([12]?\\d(-[12]?\\d(\\d+)?)?)|(,\\*\\d+))*");
+    super(1, 40, false, "(([12]?\\d(-[12]?\\d(/\\d+)?)?)|(\\*/\\d+))(,([12]?\\d(-[12]?\\d(/\\d+)?)?)|(,\\*/\\d+))*");
   }
 }
@@ -26,6 +26,6 @@ import us.gov.dod.standard.ssrf._3_0.adapter.*;
 public class XmlAdapterMINSEC extends AXmlAdapterString {
 
   public XmlAdapterMINSEC() {
-    super(1, 40, false, "(([1-5]?\\d(-[1-5]?\\d(\\d+)?)?)|(\\*\\d+))(,([1-5]?\\d(-[1-5]?\\d(\\d+)?)?)|(,\\*\\d+))*");
+    super(1, 40, false, "(([1-5]?\\d(-[1-5]?\\d(/\\d+)?)?)|(\\*/\\d+))(,([1-5]?\\d(-[1-5]?\\d(/\\d+)?)?)|(,\\*/\\d+))*");
   }
 }
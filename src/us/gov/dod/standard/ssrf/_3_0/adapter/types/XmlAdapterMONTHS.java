@@ -26,6 +26,6 @@ import us.gov.dod.standard.ssrf._3_0.adapter.*;
 public class XmlAdapterMONTHS extends AXmlAdapterString {
 
   public XmlAdapterMONTHS() {
-    super(1, 40, false, "((1?\\d(-1?\\d(\\d+)?)?)|(\\*\\d+))(,(1?\\d(-1?\\d(\\d+)?)?)|(,\\*\\d+))*");
+    super(1, 40, false, "((1?\\d(-1?\\d(/\\d+)?)?)|(\\*/\\d+))(,(1?\\d(-1?\\d(/\\d+)?)?)|(,\\*/\\d+))*");
   }
 }
@@ -26,6 +26,6 @@ import us.gov.dod.standard.ssrf._3_0.adapter.*;
 public class XmlAdapterYEARS extends AXmlAdapterString {
 
   public XmlAdapterYEARS() {
-    super(1, 40, false, "(([12]\\d{3}(-[12]\\d{3}(\\d+)?)?)|(\\*\\d+))(,([12]\\d{3}(-[12]\\d{3}(\\d+)?)?)|(,\\*\\d+))*");
+    super(1, 40, false, "(([12]\\d{3}(-[12]\\d{3}(/\\d+)?)?)|(\\*/\\d+))(,([12]\\d{3}(-[12]\\d{3}(/\\d+)?)?)|(,\\*/\\d+))*");
   }
 }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -78,6 +79,7 @@ public class Code {
    * @since 3.1.0
    */
   public void setValue(TString value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -111,6 +113,7 @@ public class Code {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
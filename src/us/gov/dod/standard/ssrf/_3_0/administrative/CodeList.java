@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Administrative;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -153,6 +154,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setAction(TString value) {
+    SSRFChangeTracker.touch(this);
     this.action = value;
   }
 
@@ -186,6 +188,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setCodeListCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.codeListCode = value;
   }
 
@@ -217,6 +220,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -251,6 +255,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -282,6 +287,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setOrigin(TString value) {
+    SSRFChangeTracker.touch(this);
     this.origin = value;
   }
 
@@ -323,6 +329,7 @@ public class CodeList {
    * Clear the Code field. This sets the field to null.
    */
   public void unsetCode() {
+    SSRFChangeTracker.touch(this);
     this.code = null;
   }
 
@@ -409,6 +416,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public CodeList withCode(Code... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCode().addAll(Arrays.asList(values));
     }
@@ -424,6 +432,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public CodeList withCode(Collection<Code> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCode().addAll(values);
     }
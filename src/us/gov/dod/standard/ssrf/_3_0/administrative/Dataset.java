@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -110,6 +112,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public void setSerial(TString value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -141,6 +144,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public void setRetireDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.retireDate = value;
   }
 
@@ -173,6 +177,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public void setReason(TString value) {
+    SSRFChangeTracker.touch(this);
     this.reason = value;
   }
 
@@ -220,6 +225,7 @@ public class Dataset {
    * Clear the MissingRef field. This sets the field to null.
    */
   public void unsetMissingRef() {
+    SSRFChangeTracker.touch(this);
     this.missingRef = null;
   }
 
@@ -286,6 +292,7 @@ public class Dataset {
    */
   @Deprecated
   public Dataset withMissingRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getMissingRef().addAll(Arrays.asList(values));
     }
@@ -307,6 +314,7 @@ public class Dataset {
    */
   @Deprecated
   public Dataset withMissingRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getMissingRef().addAll(values);
     }
@@ -407,6 +415,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public Dataset withMissing(Collection<Common<?>> values) {
+    SSRFChangeTracker.touch(this);
     getMissing().addAll(values);
     return this;
   }
@@ -446,13 +455,15 @@ public class Dataset {
       return;
     }
     /**
-     * @TODO: Check ALL SSRF lists.
+     * Check ALL SSRF lists.
      */
-//    for (Common<?> instance : root.getCommon < ?  > ()) {
-//      if (missingRef.contains(instance.getSerial())) {
-//        missing.add(instance);
-//      }
-//    }
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : missingRef) {
+      Common<?> instance = index.findAny(serialRef);
+      if (instance != null) {
+        getMissing().add(instance);
+      }
+    }
   }//</editor-fold>
 
 }
@@ -19,6 +19,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -131,6 +133,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -166,6 +169,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -201,6 +205,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setPairedFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pairedFreqMin = value;
   }
 
@@ -232,6 +237,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setTuningStep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.tuningStep = value;
   }
 
@@ -275,6 +281,7 @@ public class AllotFreq {
    * Clear the LocationRestriction field. This sets the field to null.
    */
   public void unsetLocationRestriction() {
+    SSRFChangeTracker.touch(this);
     this.locationRestrictionRef = null;
   }
 
@@ -341,6 +348,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public AllotFreq withLocationRestrictionRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocationRestrictionRef().addAll(Arrays.asList(values));
     }
@@ -358,6 +366,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public AllotFreq withLocationRestrictionRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getLocationRestrictionRef().addAll(values);
     }
@@ -439,6 +448,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public AllotFreq withLocationRestriction(Collection<Location> values) {
+    SSRFChangeTracker.touch(this);
     getLocationRestriction().addAll(values);
     return this;
   }
@@ -478,8 +488,10 @@ public class AllotFreq {
       return;
     }
     locationRestriction = new ArrayList<>();
-    for (Location instance : root.getLocation()) {
-      if (locationRestrictionRef.contains(instance.getSerial())) {
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : locationRestrictionRef) {
+      Location instance = index.find(Location.class, serialRef);
+      if (instance != null) {
         locationRestriction.add(instance);
       }
     }
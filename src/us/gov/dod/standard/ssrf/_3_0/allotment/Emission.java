@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Allotment;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -275,6 +276,7 @@ public class Emission {
    * @since 3.1.0
    */
   public void setEmsClass(TString value) {
+    SSRFChangeTracker.touch(this);
     this.emsClass = value;
   }
 
@@ -314,6 +316,7 @@ public class Emission {
    * @since 3.1.0
    */
   public void setNecessaryBw(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.necessaryBw = value;
   }
 
@@ -345,6 +348,7 @@ public class Emission {
    * @since 3.1.0
    */
   public void setPower(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.power = value;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.allotment;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Station;
@@ -110,6 +111,7 @@ public class POCInformation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -147,6 +149,7 @@ public class POCInformation {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -182,6 +185,7 @@ public class POCInformation {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -306,6 +310,7 @@ public class POCInformation {
    * @since 3.1.0
    */
   public POCInformation withPoc(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.poc = value;
     return this;
   }
@@ -340,24 +345,7 @@ public class POCInformation {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Contact instance : root.getContact()) {
-      if (serial.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (serial.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
-    for (Role instance : root.getRole()) {
-      if (serial.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
+    poc = root.getSerialIndex().find(serial, Contact.class, Organisation.class, Role.class);
   }//</editor-fold>
 
 }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -110,6 +111,7 @@ public class AntEfficiency {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -145,6 +147,7 @@ public class AntEfficiency {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -178,6 +181,7 @@ public class AntEfficiency {
    * @since 3.1.0
    */
   public void setEfficiency(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.efficiency = value;
   }
 
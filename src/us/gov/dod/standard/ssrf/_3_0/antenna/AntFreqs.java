@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAU;
@@ -123,6 +124,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -158,6 +160,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -191,6 +194,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setBandwidth(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.bandwidth = value;
   }
 
@@ -224,6 +228,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setFreqUse(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqUse = value;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
@@ -126,6 +127,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    SSRFChangeTracker.touch(this);
     this.calculated = value;
   }
 
@@ -161,6 +163,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setGain(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.gain = value;
   }
 
@@ -192,6 +195,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setFreq(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freq = value;
   }
 
@@ -223,6 +227,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setFrontToBackRatio(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.frontToBackRatio = value;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Antenna;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -124,6 +125,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setFeedType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.feedType = value;
   }
 
@@ -159,6 +161,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setLeadType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.leadType = value;
   }
 
@@ -194,6 +197,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setConnectorType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.connectorType = value;
   }
 
@@ -229,6 +233,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setFeedOrientation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.feedOrientation = value;
   }
 
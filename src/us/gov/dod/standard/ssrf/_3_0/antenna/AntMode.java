@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Antenna;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -547,6 +548,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setModeID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeID = value;
   }
 
@@ -580,6 +582,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -613,6 +616,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setModeUse(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeUse = value;
   }
 
@@ -646,6 +650,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setMotionType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.motionType = value;
   }
 
@@ -677,6 +682,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setSectBlanking(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sectBlanking = value;
   }
 
@@ -710,6 +716,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setPolarisationType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.polarisationType = value;
   }
 
@@ -745,6 +752,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setPolarisationAngle(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.polarisationAngle = value;
   }
 
@@ -784,6 +792,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanSpeed(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzScanSpeed = value;
   }
 
@@ -817,6 +826,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanRate(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.horzScanRate = value;
   }
 
@@ -848,6 +858,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.horzScanType = value;
   }
 
@@ -881,6 +892,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanSector(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzScanSector = value;
   }
 
@@ -920,6 +932,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanSpeed(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertScanSpeed = value;
   }
 
@@ -959,6 +972,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanRate(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.vertScanRate = value;
   }
 
@@ -990,6 +1004,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.vertScanType = value;
   }
 
@@ -1023,6 +1038,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanAngleMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertScanAngleMin = value;
   }
 
@@ -1062,6 +1078,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanAngleMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertScanAngleMax = value;
   }
 
@@ -1093,6 +1110,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setRotationDirection(TString value) {
+    SSRFChangeTracker.touch(this);
     this.rotationDirection = value;
   }
 
@@ -1124,6 +1142,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setRotationRateMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.rotationRateMin = value;
   }
 
@@ -1161,6 +1180,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setRotationRateMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.rotationRateMax = value;
   }
 
@@ -1192,6 +1212,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzBwMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzBwMin = value;
   }
 
@@ -1229,6 +1250,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzBwMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.horzBwMax = value;
   }
 
@@ -1260,6 +1282,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertBwMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertBwMin = value;
   }
 
@@ -1297,6 +1320,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertBwMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.vertBwMax = value;
   }
 
@@ -1328,6 +1352,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setBeamType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.beamType = value;
   }
 
@@ -1359,6 +1384,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setMaxPower(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.maxPower = value;
   }
 
@@ -1392,6 +1418,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setPortIsolation(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.portIsolation = value;
   }
 
@@ -1423,6 +1450,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setModeName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeName = value;
   }
 
@@ -1467,6 +1495,7 @@ public class AntMode {
    * Clear the AntGain field. This sets the field to null.
    */
   public void unsetAntGain() {
+    SSRFChangeTracker.touch(this);
     this.antGain = null;
   }
 
@@ -1499,6 +1528,7 @@ public class AntMode {
    * Clear the AntFreqs field. This sets the field to null.
    */
   public void unsetAntFreqs() {
+    SSRFChangeTracker.touch(this);
     this.antFreqs = null;
   }
 
@@ -1535,6 +1565,7 @@ public class AntMode {
    * Clear the AntPattern field. This sets the field to null.
    */
   public void unsetAntPattern() {
+    SSRFChangeTracker.touch(this);
     this.antPattern = null;
   }
 
@@ -1567,6 +1598,7 @@ public class AntMode {
    * Clear the AntEfficiency field. This sets the field to null.
    */
   public void unsetAntEfficiency() {
+    SSRFChangeTracker.touch(this);
     this.antEfficiency = null;
   }
 
@@ -1600,6 +1632,7 @@ public class AntMode {
    * Clear the VSWR field. This sets the field to null.
    */
   public void unsetVSWR() {
+    SSRFChangeTracker.touch(this);
     this.vswr = null;
   }
 
@@ -1977,6 +2010,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntGain(AntGain... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntGain().addAll(Arrays.asList(values));
     }
@@ -1995,6 +2029,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntGain(Collection<AntGain> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntGain().addAll(values);
     }
@@ -2012,6 +2047,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntFreqs(AntFreqs... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntFreqs().addAll(Arrays.asList(values));
     }
@@ -2029,6 +2065,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntFreqs(Collection<AntFreqs> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntFreqs().addAll(values);
     }
@@ -2050,6 +2087,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntPattern(AntPattern... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntPattern().addAll(Arrays.asList(values));
     }
@@ -2071,6 +2109,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntPattern(Collection<AntPattern> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntPattern().addAll(values);
     }
@@ -2088,6 +2127,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntEfficiency(AntEfficiency... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntEfficiency().addAll(Arrays.asList(values));
     }
@@ -2105,6 +2145,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntEfficiency(Collection<AntEfficiency> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntEfficiency().addAll(values);
     }
@@ -2123,6 +2164,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withVSWR(VSWR... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getVSWR().addAll(Arrays.asList(values));
     }
@@ -2141,6 +2183,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withVSWR(Collection<VSWR> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getVSWR().addAll(values);
     }
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
@@ -150,6 +151,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -185,6 +187,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    SSRFChangeTracker.touch(this);
     this.calculated = value;
   }
 
@@ -222,6 +225,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setCutType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.cutType = value;
   }
 
@@ -255,6 +259,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setCutAngle(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.cutAngle = value;
   }
 
@@ -298,6 +303,7 @@ public class AntPattern {
    * Clear the AntPatternPoint field. This sets the field to null.
    */
   public void unsetAntPatternPoint() {
+    SSRFChangeTracker.touch(this);
     this.antPatternPoint = null;
   }
 
@@ -369,6 +375,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public AntPattern withAntPatternPoint(AntPatternPoint... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntPatternPoint().addAll(Arrays.asList(values));
     }
@@ -386,6 +393,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public AntPattern withAntPatternPoint(Collection<AntPatternPoint> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAntPatternPoint().addAll(values);
     }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -84,6 +85,7 @@ public class AntPatternPoint {
    * @since 3.1.0
    */
   public void setDir(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.dir = value;
   }
 
@@ -115,6 +117,7 @@ public class AntPatternPoint {
    * @since 3.1.0
    */
   public void setGain(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.gain = value;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
@@ -82,6 +83,7 @@ public class Manufacturer {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.country = value;
   }
 
@@ -113,6 +115,7 @@ public class Manufacturer {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
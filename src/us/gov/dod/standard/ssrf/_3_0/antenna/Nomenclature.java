@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -116,6 +117,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -147,6 +149,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setLevel(TString value) {
+    SSRFChangeTracker.touch(this);
     this.level = value;
   }
 
@@ -182,6 +185,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -227,6 +231,7 @@ public class Nomenclature {
    * Clear the Manufacturer field. This sets the field to null.
    */
   public void unsetManufacturer() {
+    SSRFChangeTracker.touch(this);
     this.manufacturer = null;
   }
 
@@ -281,6 +286,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public Nomenclature withManufacturer(Manufacturer... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getManufacturer().addAll(Arrays.asList(values));
     }
@@ -300,6 +306,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public Nomenclature withManufacturer(Collection<Manufacturer> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getManufacturer().addAll(values);
     }
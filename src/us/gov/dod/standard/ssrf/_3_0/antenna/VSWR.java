@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -94,6 +95,7 @@ public class VSWR {
    * @since 3.1.0
    */
   public void setFreq(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freq = value;
   }
 
@@ -127,6 +129,7 @@ public class VSWR {
    * @since 3.1.0
    */
   public void setRatio(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.ratio = value;
   }
 
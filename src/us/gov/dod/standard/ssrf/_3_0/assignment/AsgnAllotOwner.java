@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_0.assignment;
 
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -63,6 +64,7 @@ public class AsgnAllotOwner {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -96,6 +98,7 @@ public class AsgnAllotOwner {
    * @since 3.1.0
    */
   public void setOwnerType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ownerType = value;
   }
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -252,6 +253,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setQuality(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -289,6 +291,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setColourWord(TString value) {
+    SSRFChangeTracker.touch(this);
     this.colourWord = value;
   }
 
@@ -324,6 +327,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setColourNum(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.colourNum = value;
   }
 
@@ -355,6 +359,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegStatus(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ituRegStatus = value;
   }
 
@@ -388,6 +393,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.ituRegDate = value;
   }
 
@@ -422,6 +428,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ituRegNum = value;
   }
 
@@ -461,6 +468,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setNavAidsChannel(TString value) {
+    SSRFChangeTracker.touch(this);
     this.navAidsChannel = value;
   }
 
@@ -500,6 +508,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setNetNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.netNum = value;
   }
 
@@ -533,6 +542,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegComments(TString value) {
+    SSRFChangeTracker.touch(this);
     this.ituRegComments = value;
   }
 
@@ -576,6 +586,7 @@ public class Assigned {
    * Clear the Freq field. This sets the field to null.
    */
   public void unsetFreq() {
+    SSRFChangeTracker.touch(this);
     this.freq = null;
   }
 
@@ -608,6 +619,7 @@ public class Assigned {
    * Clear the FreqOld field. This sets the field to null.
    */
   public void unsetFreqOld() {
+    SSRFChangeTracker.touch(this);
     this.freqOld = null;
   }
 
@@ -763,6 +775,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreq(Freq... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreq().addAll(Arrays.asList(values));
     }
@@ -780,6 +793,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreq(Collection<Freq> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreq().addAll(values);
     }
@@ -797,6 +811,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreqOld(FreqOld... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreqOld().addAll(Arrays.asList(values));
     }
@@ -814,6 +829,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreqOld(Collection<FreqOld> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreqOld().addAll(values);
     }
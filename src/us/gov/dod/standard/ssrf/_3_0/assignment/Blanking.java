@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -121,6 +122,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setAzStart(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.azStart = value;
   }
 
@@ -154,6 +156,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setAzStop(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.azStop = value;
   }
 
@@ -187,6 +190,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setElevStart(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.elevStart = value;
   }
 
@@ -220,6 +224,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setElevStop(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.elevStop = value;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.assignment;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.common.CaseNum;
@@ -286,6 +287,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setConfigID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.configID = value;
   }
 
@@ -319,6 +321,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -352,6 +355,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setRepeater(TString value) {
+    SSRFChangeTracker.touch(this);
     this.repeater = value;
   }
 
@@ -385,6 +389,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setNumUsers(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numUsers = value;
   }
 
@@ -420,6 +425,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setEIRPMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.eirpMin = value;
   }
 
@@ -459,6 +465,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setEIRPMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.eirpMax = value;
   }
 
@@ -490,6 +497,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setOOBJustification(TString value) {
+    SSRFChangeTracker.touch(this);
     this.oobJustification = value;
   }
 
@@ -521,6 +529,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setPowerLimit(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.powerLimit = value;
   }
 
@@ -556,6 +565,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setPowerType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.powerType = value;
   }
 
@@ -589,6 +599,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setSpectrumLink(TString value) {
+    SSRFChangeTracker.touch(this);
     this.spectrumLink = value;
   }
 
@@ -634,6 +645,7 @@ public class Configuration {
    * Clear the Notation field. This sets the field to null.
    */
   public void unsetNotation() {
+    SSRFChangeTracker.touch(this);
     this.notation = null;
   }
 
@@ -666,6 +678,7 @@ public class Configuration {
    * Clear the Usage field. This sets the field to null.
    */
   public void unsetUsage() {
+    SSRFChangeTracker.touch(this);
     this.usage = null;
   }
 
@@ -699,6 +712,7 @@ public class Configuration {
    * Clear the ConfigFreq field. This sets the field to null.
    */
   public void unsetConfigFreq() {
+    SSRFChangeTracker.touch(this);
     this.configFreq = null;
   }
 
@@ -731,6 +745,7 @@ public class Configuration {
    * Clear the TxRef field. This sets the field to null.
    */
   public void unsetTxRef() {
+    SSRFChangeTracker.touch(this);
     this.txRef = null;
   }
 
@@ -763,6 +778,7 @@ public class Configuration {
    * Clear the RxRef field. This sets the field to null.
    */
   public void unsetRxRef() {
+    SSRFChangeTracker.touch(this);
     this.rxRef = null;
   }
 
@@ -796,6 +812,7 @@ public class Configuration {
    * Clear the ConfigEmission field. This sets the field to null.
    */
   public void unsetConfigEmission() {
+    SSRFChangeTracker.touch(this);
     this.configEmission = null;
   }
 
@@ -947,6 +964,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withNotation(Notation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNotation().addAll(Arrays.asList(values));
     }
@@ -966,6 +984,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withNotation(Collection<Notation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNotation().addAll(values);
     }
@@ -983,6 +1002,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withUsage(Usage... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getUsage().addAll(Arrays.asList(values));
     }
@@ -1000,6 +1020,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withUsage(Collection<Usage> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getUsage().addAll(values);
     }
@@ -1018,6 +1039,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigFreq(ConfigFreq... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfigFreq().addAll(Arrays.asList(values));
     }
@@ -1036,6 +1058,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigFreq(Collection<ConfigFreq> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfigFreq().addAll(values);
     }
@@ -1053,6 +1076,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withTxRef(TxRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxRef().addAll(Arrays.asList(values));
     }
@@ -1070,6 +1094,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withTxRef(Collection<TxRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxRef().addAll(values);
     }
@@ -1087,6 +1112,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withRxRef(RxRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxRef().addAll(Arrays.asList(values));
     }
@@ -1104,6 +1130,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withRxRef(Collection<RxRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxRef().addAll(values);
     }
@@ -1122,6 +1149,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigEmission(ConfigEmission... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfigEmission().addAll(Arrays.asList(values));
     }
@@ -1140,6 +1168,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigEmission(Collection<ConfigEmission> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getConfigEmission().addAll(values);
     }
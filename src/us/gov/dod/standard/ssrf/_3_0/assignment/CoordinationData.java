@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Assignment;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -81,6 +82,7 @@ public class CoordinationData {
    * @since 3.1.0
    */
   public void setCoordIndicator(TString value) {
+    SSRFChangeTracker.touch(this);
     this.coordIndicator = value;
   }
 
@@ -112,6 +114,7 @@ public class CoordinationData {
    * @since 3.1.0
    */
   public void setHostComments(TString value) {
+    SSRFChangeTracker.touch(this);
     this.hostComments = value;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.assignment;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -144,6 +145,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -175,6 +177,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -214,6 +217,7 @@ public class DCSTrunk {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -244,6 +248,7 @@ public class DCSTrunk {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -270,6 +275,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -303,6 +309,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -332,6 +339,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -365,6 +373,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -385,6 +394,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -397,6 +407,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -409,6 +420,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -424,6 +436,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -439,6 +452,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -454,6 +468,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -471,6 +486,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -484,6 +500,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -495,6 +512,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -508,6 +526,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.AsgnFreqBase;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -128,6 +129,7 @@ public class Freq
    * @since 3.1.0
    */
   public void setTAD(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tad = value;
   }
 
@@ -159,6 +161,7 @@ public class Freq
    * @since 3.1.0
    */
   public void setLegacyNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.legacyNum = value;
   }
 
@@ -201,6 +204,7 @@ public class Freq
    * Clear the PairedFreq field. This sets the field to null.
    */
   public void unsetPairedFreq() {
+    SSRFChangeTracker.touch(this);
     this.pairedFreq = null;
   }
 
@@ -233,6 +237,7 @@ public class Freq
    * Clear the NarrowBandPlanning field. This sets the field to null.
    */
   public void unsetNarrowBandPlanning() {
+    SSRFChangeTracker.touch(this);
     this.narrowBandPlanning = null;
   }
 
@@ -273,6 +278,7 @@ public class Freq
    * @since 3.1.0
    */
   public Freq withPairedFreq(PairedFreq... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPairedFreq().addAll(Arrays.asList(values));
     }
@@ -289,6 +295,7 @@ public class Freq
    * @since 3.1.0
    */
   public Freq withPairedFreq(Collection<PairedFreq> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPairedFreq().addAll(values);
     }
@@ -306,6 +313,7 @@ public class Freq
    * @since 3.1.0
    */
   public Freq withNarrowBandPlanning(NarrowBandPlanning... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNarrowBandPlanning().addAll(Arrays.asList(values));
     }
@@ -323,6 +331,7 @@ public class Freq
    * @since 3.1.0
    */
   public Freq withNarrowBandPlanning(Collection<NarrowBandPlanning> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getNarrowBandPlanning().addAll(values);
     }
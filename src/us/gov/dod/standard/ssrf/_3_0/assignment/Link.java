@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Assignment;
 import us.gov.dod.standard.ssrf._3_0.DetailedFunction;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -183,6 +184,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setLinkID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.linkID = value;
   }
 
@@ -214,6 +216,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setIntermediateFunction(TString value) {
+    SSRFChangeTracker.touch(this);
     this.intermediateFunction = value;
   }
 
@@ -245,6 +248,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setMajorFunction(TString value) {
+    SSRFChangeTracker.touch(this);
     this.majorFunction = value;
   }
 
@@ -276,6 +280,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setLinkName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.linkName = value;
   }
 
@@ -320,6 +325,7 @@ public class Link {
    * Clear the Tuning field. This sets the field to null.
    */
   public void unsetTuning() {
+    SSRFChangeTracker.touch(this);
     this.tuning = null;
   }
 
@@ -353,6 +359,7 @@ public class Link {
    * Clear the StationConfig field. This sets the field to null.
    */
   public void unsetStationConfig() {
+    SSRFChangeTracker.touch(this);
     this.stationConfig = null;
   }
 
@@ -385,6 +392,7 @@ public class Link {
    * Clear the Assigned field. This sets the field to null.
    */
   public void unsetAssigned() {
+    SSRFChangeTracker.touch(this);
     this.assigned = null;
   }
 
@@ -418,6 +426,7 @@ public class Link {
    * Clear the DCSTrunk field. This sets the field to null.
    */
   public void unsetDCSTrunk() {
+    SSRFChangeTracker.touch(this);
     this.dcsTrunk = null;
   }
 
@@ -447,6 +456,7 @@ public class Link {
    * Clear the DetailedFunction field. This sets the field to null.
    */
   public void unsetDetailedFunction() {
+    SSRFChangeTracker.touch(this);
     this.detailedFunction = null;
   }
 
@@ -513,6 +523,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withTuning(Tuning... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTuning().addAll(Arrays.asList(values));
     }
@@ -531,6 +542,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withTuning(Collection<Tuning> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTuning().addAll(values);
     }
@@ -549,6 +561,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withStationConfig(StationConfig... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStationConfig().addAll(Arrays.asList(values));
     }
@@ -567,6 +580,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withStationConfig(Collection<StationConfig> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStationConfig().addAll(values);
     }
@@ -584,6 +598,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withAssigned(Assigned... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAssigned().addAll(Arrays.asList(values));
     }
@@ -601,6 +616,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withAssigned(Collection<Assigned> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAssigned().addAll(values);
     }
@@ -619,6 +635,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDCSTrunk(DCSTrunk... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDCSTrunk().addAll(Arrays.asList(values));
     }
@@ -637,6 +654,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDCSTrunk(Collection<DCSTrunk> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDCSTrunk().addAll(values);
     }
@@ -651,6 +669,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDetailedFunction(DetailedFunction... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDetailedFunction().addAll(Arrays.asList(values));
     }
@@ -665,6 +684,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDetailedFunction(Collection<DetailedFunction> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDetailedFunction().addAll(values);
     }
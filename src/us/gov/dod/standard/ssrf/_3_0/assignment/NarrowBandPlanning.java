@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -87,6 +88,7 @@ public class NarrowBandPlanning {
    * @since 3.1.0
    */
   public void setChangeDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.changeDate = value;
   }
 
@@ -119,6 +121,7 @@ public class NarrowBandPlanning {
    * @since 3.1.0
    */
   public void setNBFreq(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.nbFreq = value;
   }
 
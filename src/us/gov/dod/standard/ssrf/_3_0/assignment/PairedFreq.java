@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.assignment;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -113,6 +114,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void setFreq(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freq = value;
   }
 
@@ -152,6 +154,7 @@ public class PairedFreq {
    */
   @Deprecated
   public void setAssignmentRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.assignmentRef = value;
   }
 
@@ -185,6 +188,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void setPairedASN(TString value) {
+    SSRFChangeTracker.touch(this);
     this.pairedASN = value;
   }
 
@@ -220,6 +224,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void setPairedType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.pairedType = value;
   }
 
@@ -362,6 +367,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public PairedFreq withAssignment(Assignment value) {
+    SSRFChangeTracker.touch(this);
     this.assignment = value;
     return this;
   }
@@ -396,12 +402,7 @@ public class PairedFreq {
     if (assignmentRef == null || !assignmentRef.isSetValue()) {
       return;
     }
-    for (Assignment instance : root.getAssignment()) {
-      if (assignmentRef.equals(instance.getSerial())) {
-        assignment = instance;
-        return;
-      }
-    }
+    assignment = root.getSerialIndex().find(Assignment.class, assignmentRef);
   }//</editor-fold>
 
 }
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Assignment;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -92,6 +93,7 @@ public class PreviousAuthorization {
    * @since 3.1.0
    */
   public void setDocketNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.docketNum = value;
   }
 
@@ -125,6 +127,7 @@ public class PreviousAuthorization {
    * @since 3.1.0
    */
   public void setDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.date = value;
   }
 
@@ -157,6 +160,7 @@ public class PreviousAuthorization {
    * @since 3.1.0
    */
   public void setAgencySerialNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.agencySerialNum = value;
   }
 
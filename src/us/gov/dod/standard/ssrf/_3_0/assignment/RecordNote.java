@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.assignment;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -91,6 +92,7 @@ public class RecordNote {
    */
   @Deprecated
   public void setNoteRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.noteRef = value;
   }
 
@@ -126,6 +128,7 @@ public class RecordNote {
    * @since 3.1.0
    */
   public void setComments(TString value) {
+    SSRFChangeTracker.touch(this);
     this.comments = value;
   }
 
@@ -240,6 +243,7 @@ public class RecordNote {
    * @since 3.1.0
    */
   public RecordNote withNote(Note value) {
+    SSRFChangeTracker.touch(this);
     this.note = value;
     return this;
   }
@@ -274,12 +278,7 @@ public class RecordNote {
     if (noteRef == null || !noteRef.isSetValue()) {
       return;
     }
-    for (Note instance : root.getNote()) {
-      if (noteRef.equals(instance.getSerial())) {
-        note = instance;
-        return;
-      }
-    }
+    note = root.getSerialIndex().find(Note.class, noteRef);
   }//</editor-fold>
 
 }
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Assignment;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
@@ -285,6 +286,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setStationID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stationID = value;
   }
 
@@ -322,6 +324,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setCallSign(TString value) {
+    SSRFChangeTracker.touch(this);
     this.callSign = value;
   }
 
@@ -377,6 +380,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setCositeSep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.cositeSep = value;
   }
 
@@ -412,6 +416,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setCositeSepDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.cositeSepDescription = value;
   }
 
@@ -445,6 +450,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setNumMobileUnits(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numMobileUnits = value;
   }
 
@@ -496,6 +502,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setNumAreaUnits(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numAreaUnits = value;
   }
 
@@ -531,6 +538,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setNumCositedUnits(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numCositedUnits = value;
   }
 
@@ -562,6 +570,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setTSDF(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tsdf = value;
   }
 
@@ -593,6 +602,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setUserCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.userCode = value;
   }
 
@@ -626,6 +636,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setAntStructureHeight(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.antStructureHeight = value;
   }
 
@@ -659,6 +670,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setStationName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stationName = value;
   }
 
@@ -692,6 +704,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setStationControl(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stationControl = value;
   }
 
@@ -735,6 +748,7 @@ public class Station {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -769,6 +783,7 @@ public class Station {
    * Clear the StationLoc field. This sets the field to null.
    */
   public void unsetStationLoc() {
+    SSRFChangeTracker.touch(this);
     this.stationLoc = null;
   }
 
@@ -962,6 +977,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -979,6 +995,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -998,6 +1015,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withStationLoc(StationLoc... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStationLoc().addAll(Arrays.asList(values));
     }
@@ -1017,6 +1035,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withStationLoc(Collection<StationLoc> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStationLoc().addAll(values);
     }
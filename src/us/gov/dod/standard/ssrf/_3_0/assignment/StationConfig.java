@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAU;
@@ -295,6 +296,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -328,6 +330,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setConfigID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.configID = value;
   }
 
@@ -363,6 +366,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setStationID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stationID = value;
   }
 
@@ -398,6 +402,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setEIRPMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.eirpMin = value;
   }
 
@@ -437,6 +442,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setEIRPMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.eirpMax = value;
   }
 
@@ -476,6 +482,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setAntFeedpointHeight(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.antFeedpointHeight = value;
   }
 
@@ -507,6 +514,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setFeedlineLength(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.feedlineLength = value;
   }
 
@@ -538,6 +546,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setFeedlineLoss(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.feedlineLoss = value;
   }
 
@@ -569,6 +578,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setEarthCoverage(TString value) {
+    SSRFChangeTracker.touch(this);
     this.earthCoverage = value;
   }
 
@@ -604,6 +614,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingAzMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pointingAzMin = value;
   }
 
@@ -645,6 +656,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingAzMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pointingAzMax = value;
   }
 
@@ -680,6 +692,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingElevMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pointingElevMin = value;
   }
 
@@ -721,6 +734,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingElevMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pointingElevMax = value;
   }
 
@@ -754,6 +768,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setCoordinationNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.coordinationNum = value;
   }
 
@@ -797,6 +812,7 @@ public class StationConfig {
    * Clear the Blanking field. This sets the field to null.
    */
   public void unsetBlanking() {
+    SSRFChangeTracker.touch(this);
     this.blanking = null;
   }
 
@@ -1008,6 +1024,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public StationConfig withBlanking(Blanking... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBlanking().addAll(Arrays.asList(values));
     }
@@ -1025,6 +1042,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public StationConfig withBlanking(Collection<Blanking> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBlanking().addAll(values);
     }
@@ -19,6 +19,7 @@ import javax.xml.bind.JAXBElement;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -166,6 +167,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setLocationExcluded(TString value) {
+    SSRFChangeTracker.touch(this);
     this.locationExcluded = value;
   }
 
@@ -207,6 +209,7 @@ public class StationLoc {
    */
   @Deprecated
   public void setLocSatRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.locSatRef = value;
   }
 
@@ -243,6 +246,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setLocationRadius(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.locationRadius = value;
   }
 
@@ -278,6 +282,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setServiceVolumeLocRef(TString value) {
+    SSRFChangeTracker.touch(this);
     this.serviceVolumeLocRef = value;
   }
 
@@ -314,6 +319,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setServiceVolumeRadius(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.serviceVolumeRadius = value;
   }
 
@@ -347,6 +353,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setServiceVolumeHeight(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.serviceVolumeHeight = value;
   }
 
@@ -402,6 +409,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public StationLoc withLocationRadius(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -430,6 +438,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public StationLoc withServiceVolumeRadius(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -521,6 +530,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public StationLoc withLocSat(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.locSat = value;
     return this;
   }
@@ -555,18 +565,7 @@ public class StationLoc {
     if (locSatRef == null || !locSatRef.isSetValue()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
-    for (Satellite instance : root.getSatellite()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
+    locSat = root.getSerialIndex().find(locSatRef, Location.class, Satellite.class);
   }//</editor-fold>
 
 }
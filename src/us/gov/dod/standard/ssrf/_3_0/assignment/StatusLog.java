@@ -20,6 +20,7 @@ import java.util.Date;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -124,6 +125,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateTime = value;
   }
 
@@ -156,6 +158,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setState(TString value) {
+    SSRFChangeTracker.touch(this);
     this.state = value;
   }
 
@@ -187,6 +190,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setAgencyCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.agencyCode = value;
   }
 
@@ -218,6 +222,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setComment(TString value) {
+    SSRFChangeTracker.touch(this);
     this.comment = value;
   }
 
@@ -251,6 +256,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setPOCRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.pocRef = value;
   }
 
@@ -412,6 +418,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public StatusLog withPoc(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.poc = value;
     return this;
   }
@@ -446,24 +453,7 @@ public class StatusLog {
     if (pocRef == null || !pocRef.isSetValue()) {
       return;
     }
-    for (Contact instance : root.getContact()) {
-      if (pocRef.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (pocRef.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
-    for (Role instance : root.getRole()) {
-      if (pocRef.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
+    poc = root.getSerialIndex().find(pocRef, Contact.class, Organisation.class, Role.class);
   }//</editor-fold>
 
 }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Assignment;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -96,6 +97,7 @@ public class SysOfStation {
    * @since 3.1.0
    */
   public void setSysName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sysName = value;
   }
 
@@ -127,6 +129,7 @@ public class SysOfStation {
    * @since 3.1.0
    */
   public void setNumStations(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numStations = value;
   }
 
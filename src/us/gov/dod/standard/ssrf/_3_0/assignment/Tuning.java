@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.AsgnFreqBase;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -160,6 +161,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setTuningStep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.tuningStep = value;
   }
 
@@ -191,6 +193,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setNumFreq(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numFreq = value;
   }
 
@@ -226,6 +229,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setPriority(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.priority = value;
   }
 
@@ -259,6 +263,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setExclusive(TString value) {
+    SSRFChangeTracker.touch(this);
     this.exclusive = value;
   }
 
@@ -290,6 +295,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setFreqSep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqSep = value;
   }
 
@@ -321,6 +327,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setFreqSepType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqSepType = value;
   }
 
@@ -364,6 +371,7 @@ public class Tuning {
    * Clear the RequestedFreq field. This sets the field to null.
    */
   public void unsetRequestedFreq() {
+    SSRFChangeTracker.touch(this);
     this.requestedFreq = null;
   }
 
@@ -455,6 +463,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public Tuning withRequestedFreq(AsgnFreqBase... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRequestedFreq().addAll(Arrays.asList(values));
     }
@@ -472,6 +481,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public Tuning withRequestedFreq(Collection<AsgnFreqBase> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRequestedFreq().addAll(values);
     }
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -99,6 +100,7 @@ public class Channel {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -130,6 +132,7 @@ public class Channel {
    * @since 3.1.0
    */
   public void setUser(TString value) {
+    SSRFChangeTracker.touch(this);
     this.user = value;
   }
 
@@ -170,6 +173,7 @@ public class Channel {
    * Clear the ChannelFreq field. This sets the field to null.
    */
   public void unsetChannelFreq() {
+    SSRFChangeTracker.touch(this);
     this.channelFreq = null;
   }
 
@@ -206,6 +210,7 @@ public class Channel {
    * @since 3.1.0
    */
   public Channel withChannelFreq(ChannelFreq... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelFreq().addAll(Arrays.asList(values));
     }
@@ -220,6 +225,7 @@ public class Channel {
    * @since 3.1.0
    */
   public Channel withChannelFreq(Collection<ChannelFreq> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelFreq().addAll(values);
     }
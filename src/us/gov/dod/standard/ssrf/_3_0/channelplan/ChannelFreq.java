@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -138,6 +139,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public void setValue(BigDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -169,6 +171,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -208,6 +211,7 @@ public class ChannelFreq {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -238,6 +242,7 @@ public class ChannelFreq {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -264,6 +269,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -297,6 +303,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -326,6 +333,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -359,6 +367,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -379,6 +388,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withValue(BigDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -391,6 +401,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -403,6 +414,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -418,6 +430,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -433,6 +446,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -448,6 +462,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -465,6 +480,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -478,6 +494,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -489,6 +506,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -502,6 +520,7 @@ public class ChannelFreq {
    * @since 3.1.0
    */
   public ChannelFreq withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
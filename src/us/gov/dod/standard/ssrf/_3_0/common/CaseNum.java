@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Common;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
@@ -104,6 +105,7 @@ public class CaseNum {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.country = value;
   }
 
@@ -137,6 +139,7 @@ public class CaseNum {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -168,6 +171,7 @@ public class CaseNum {
    * @since 3.1.0
    */
   public void setIdentifier(TString value) {
+    SSRFChangeTracker.touch(this);
     this.identifier = value;
   }
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -106,6 +107,7 @@ public class ClsDerived {
    * @since 3.1.0
    */
   public void setDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.date = value;
   }
 
@@ -138,6 +140,7 @@ public class ClsDerived {
    * @since 3.1.0
    */
   public void setTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.title = value;
   }
 
@@ -169,6 +172,7 @@ public class ClsDerived {
    * @since 3.1.0
    */
   public void setOrg(TString value) {
+    SSRFChangeTracker.touch(this);
     this.org = value;
   }
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -105,6 +106,7 @@ public class Downgrade {
    * @since 3.1.0
    */
   public void setDowncls(TString value) {
+    SSRFChangeTracker.touch(this);
     this.downcls = value;
   }
 
@@ -136,6 +138,7 @@ public class Downgrade {
    * @since 3.1.0
    */
   public void setDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.date = value;
   }
 
@@ -168,6 +171,7 @@ public class Downgrade {
    * @since 3.1.0
    */
   public void setDowngradeInfo(TString value) {
+    SSRFChangeTracker.touch(this);
     this.downgradeInfo = value;
   }
 
@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
@@ -165,6 +166,7 @@ public class ExtReferenceRef {
    */
   @Deprecated
   public void setValue(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -200,6 +202,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -231,6 +234,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -270,6 +274,7 @@ public class ExtReferenceRef {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -300,6 +305,7 @@ public class ExtReferenceRef {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -326,6 +332,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -359,6 +366,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -388,6 +396,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -421,6 +430,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -444,6 +454,7 @@ public class ExtReferenceRef {
    */
   @Deprecated
   public ExtReferenceRef withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -458,6 +469,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -470,6 +482,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -482,6 +495,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -497,6 +511,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -512,6 +527,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -527,6 +543,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -544,6 +561,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -557,6 +575,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -568,6 +587,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -581,6 +601,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -659,6 +680,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withExternalReference(ExternalReference value) {
+    SSRFChangeTracker.touch(this);
     this.externalReference = value;
     return this;
   }
@@ -693,12 +715,7 @@ public class ExtReferenceRef {
     if (value == null || !value.isSetValue()) {
       return;
     }
-    for (ExternalReference instance : root.getExternalReference()) {
-      if (value.equals(instance.getSerial())) {
-        externalReference = instance;
-        return;
-      }
-    }
+    externalReference = root.getSerialIndex().find(ExternalReference.class, value);
   }//</editor-fold>
 
 }
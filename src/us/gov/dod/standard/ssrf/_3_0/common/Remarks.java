@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.common;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Common;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -161,6 +162,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -196,6 +198,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -227,6 +230,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -267,6 +271,7 @@ public class Remarks {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -297,6 +302,7 @@ public class Remarks {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -323,6 +329,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -356,6 +363,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -385,6 +393,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -418,6 +427,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -438,6 +448,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -452,6 +463,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -464,6 +476,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -477,6 +490,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -493,6 +507,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -508,6 +523,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -523,6 +539,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -540,6 +557,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -553,6 +571,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -564,6 +583,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -577,6 +597,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -203,6 +204,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setClsAuthority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.clsAuthority = value;
   }
 
@@ -236,6 +238,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setSourceClsDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.sourceClsDate = value;
   }
 
@@ -268,6 +271,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setClsOrg(TString value) {
+    SSRFChangeTracker.touch(this);
     this.clsOrg = value;
   }
 
@@ -321,6 +325,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setClsReason(TString value) {
+    SSRFChangeTracker.touch(this);
     this.clsReason = value;
   }
 
@@ -356,6 +361,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setDeclsType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.declsType = value;
   }
 
@@ -389,6 +395,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setDeclsDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.declsDate = value;
   }
 
@@ -423,6 +430,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setDeclsEvent(TString value) {
+    SSRFChangeTracker.touch(this);
     this.declsEvent = value;
   }
 
@@ -466,6 +474,7 @@ public class SecurityClass {
    * Clear the Downgrade field. This sets the field to null.
    */
   public void unsetDowngrade() {
+    SSRFChangeTracker.touch(this);
     this.downgrade = null;
   }
 
@@ -498,6 +507,7 @@ public class SecurityClass {
    * Clear the ClsDerived field. This sets the field to null.
    */
   public void unsetClsDerived() {
+    SSRFChangeTracker.touch(this);
     this.clsDerived = null;
   }
 
@@ -639,6 +649,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withDowngrade(Downgrade... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDowngrade().addAll(Arrays.asList(values));
     }
@@ -656,6 +667,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withDowngrade(Collection<Downgrade> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getDowngrade().addAll(values);
     }
@@ -673,6 +685,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withClsDerived(ClsDerived... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getClsDerived().addAll(Arrays.asList(values));
     }
@@ -690,6 +703,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withClsDerived(Collection<ClsDerived> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getClsDerived().addAll(values);
     }
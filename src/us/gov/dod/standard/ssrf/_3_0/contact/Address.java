@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Contact;
 import us.gov.dod.standard.ssrf._3_0.Organisation;
 import us.gov.dod.standard.ssrf._3_0.Role;
@@ -165,6 +166,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -196,6 +198,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setStreet(TString value) {
+    SSRFChangeTracker.touch(this);
     this.street = value;
   }
 
@@ -227,6 +230,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setCityArea(TString value) {
+    SSRFChangeTracker.touch(this);
     this.cityArea = value;
   }
 
@@ -258,6 +262,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setStateCounty(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stateCounty = value;
   }
 
@@ -289,6 +294,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setPostCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.postCode = value;
   }
 
@@ -324,6 +330,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    SSRFChangeTracker.touch(this);
     this.country = value;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Contact;
 import us.gov.dod.standard.ssrf._3_0.Organisation;
 import us.gov.dod.standard.ssrf._3_0.Role;
@@ -125,6 +126,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setPreferred(TString value) {
+    SSRFChangeTracker.touch(this);
     this.preferred = value;
   }
 
@@ -156,6 +158,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -187,6 +190,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setMaxCls(TString value) {
+    SSRFChangeTracker.touch(this);
     this.maxCls = value;
   }
 
@@ -218,6 +222,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setAddress(TString value) {
+    SSRFChangeTracker.touch(this);
     this.address = value;
   }
 
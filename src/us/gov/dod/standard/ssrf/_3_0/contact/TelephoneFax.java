@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Contact;
 import us.gov.dod.standard.ssrf._3_0.Organisation;
 import us.gov.dod.standard.ssrf._3_0.Role;
@@ -136,6 +137,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setPreferred(TString value) {
+    SSRFChangeTracker.touch(this);
     this.preferred = value;
   }
 
@@ -169,6 +171,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -202,6 +205,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setFax(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fax = value;
   }
 
@@ -235,6 +239,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setMaxCls(TString value) {
+    SSRFChangeTracker.touch(this);
     this.maxCls = value;
   }
 
@@ -268,6 +273,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setNumber(TString value) {
+    SSRFChangeTracker.touch(this);
     this.number = value;
   }
 
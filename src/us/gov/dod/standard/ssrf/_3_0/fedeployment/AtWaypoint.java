@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.FEDeployment;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -119,6 +120,7 @@ public class AtWaypoint {
    * @since 3.1.0
    */
   public void setWaypointIdx(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.waypointIdx = value;
   }
 
@@ -150,6 +152,7 @@ public class AtWaypoint {
    * @since 3.1.0
    */
   public void setDateTime(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateTime = value;
   }
 
@@ -184,6 +187,7 @@ public class AtWaypoint {
    * @since 3.1.0
    */
   public void setSpeed(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.speed = value;
   }
 
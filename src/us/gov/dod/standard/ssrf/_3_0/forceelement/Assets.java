@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.forceelement;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -114,6 +115,7 @@ public class Assets {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -145,6 +147,7 @@ public class Assets {
    * @since 3.1.0
    */
   public void setAuthorised(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.authorised = value;
   }
 
@@ -176,6 +179,7 @@ public class Assets {
    * @since 3.1.0
    */
   public void setAvailable(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.available = value;
   }
 
@@ -305,6 +309,7 @@ public class Assets {
    * @since 3.1.0
    */
   public Assets withAsset(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.asset = value;
     return this;
   }
@@ -339,30 +344,7 @@ public class Assets {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Transmitter instance : root.getTransmitter()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
-    }
-    for (Receiver instance : root.getReceiver()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
-    }
-    for (Antenna instance : root.getAntenna()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
-    }
-    for (RFSystem instance : root.getRFSystem()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
-    }
+    asset = root.getSerialIndex().find(serial, Transmitter.class, Receiver.class, Antenna.class, RFSystem.class);
   }//</editor-fold>
 
 }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.ForceElement;
 import us.gov.dod.standard.ssrf._3_0.RFSystem;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -91,6 +92,7 @@ public class StockNum {
    * @since 3.1.0
    */
   public void setStockNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stockNum = value;
   }
 
@@ -122,6 +124,7 @@ public class StockNum {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.allotment.POCInformation;
@@ -68,7 +69,7 @@ import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCPC;
   "pocInformation",
   "jrflEntryLocation"
 })
-public class JRFLEntry {
+public class JRFLEntry implements ITimeFrame {
 
   /**
    * In Data Item ProtectionCode, indicate the type of JRFL entry.
@@ -355,6 +356,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setProtectionCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.protectionCode = value;
   }
 
@@ -392,6 +394,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.priority = value;
   }
 
@@ -425,6 +428,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setJustification(TString value) {
+    SSRFChangeTracker.touch(this);
     this.justification = value;
   }
 
@@ -456,6 +460,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setApprovalLevel(TString value) {
+    SSRFChangeTracker.touch(this);
     this.approvalLevel = value;
   }
 
@@ -487,6 +492,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setSeconds(TString value) {
+    SSRFChangeTracker.touch(this);
     this.seconds = value;
   }
 
@@ -518,6 +524,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setMinutes(TString value) {
+    SSRFChangeTracker.touch(this);
     this.minutes = value;
   }
 
@@ -549,6 +556,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setHours(TString value) {
+    SSRFChangeTracker.touch(this);
     this.hours = value;
   }
 
@@ -580,6 +588,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setDaysOfMonth(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfMonth = value;
   }
 
@@ -611,6 +620,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setMonths(TString value) {
+    SSRFChangeTracker.touch(this);
     this.months = value;
   }
 
@@ -642,6 +652,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setDaysOfWeek(TString value) {
+    SSRFChangeTracker.touch(this);
     this.daysOfWeek = value;
   }
 
@@ -673,6 +684,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setYears(TString value) {
+    SSRFChangeTracker.touch(this);
     this.years = value;
   }
 
@@ -746,6 +758,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setDuration(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.duration = value;
   }
 
@@ -791,6 +804,7 @@ public class JRFLEntry {
    */
   @Deprecated
   public void setAsgnAllotRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.asgnAllotRef = value;
   }
 
@@ -822,6 +836,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -857,6 +872,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -888,6 +904,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setBandwidth(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.bandwidth = value;
   }
 
@@ -919,6 +936,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setFreqUse(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqUse = value;
   }
 
@@ -962,6 +980,7 @@ public class JRFLEntry {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    SSRFChangeTracker.touch(this);
     this.project = null;
   }
 
@@ -994,6 +1013,7 @@ public class JRFLEntry {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    SSRFChangeTracker.touch(this);
     this.pocInformation = null;
   }
 
@@ -1026,6 +1046,7 @@ public class JRFLEntry {
    * Clear the JRFLEntryLocation field. This sets the field to null.
    */
   public void unsetJRFLEntryLocation() {
+    SSRFChangeTracker.touch(this);
     this.jrflEntryLocation = null;
   }
 
@@ -1278,6 +1299,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withProject(Project... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -1295,6 +1317,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withProject(Collection<Project> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getProject().addAll(values);
     }
@@ -1312,6 +1335,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withPOCInformation(POCInformation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -1329,6 +1353,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withPOCInformation(Collection<POCInformation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -1346,6 +1371,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withJRFLEntryLocation(JRFLEntryLocation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getJRFLEntryLocation().addAll(Arrays.asList(values));
     }
@@ -1363,6 +1389,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withJRFLEntryLocation(Collection<JRFLEntryLocation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getJRFLEntryLocation().addAll(values);
     }
@@ -1467,6 +1494,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withAssignmentAllotment(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.assignmentAllotment = value;
     return this;
   }
@@ -1501,18 +1529,7 @@ public class JRFLEntry {
     if (asgnAllotRef == null || !asgnAllotRef.isSetValue()) {
       return;
     }
-    for (Assignment instance : root.getAssignment()) {
-      if (asgnAllotRef.equals(instance.getSerial())) {
-        assignmentAllotment = instance;
-        return;
-      }
-    }
-    for (Allotment instance : root.getAllotment()) {
-      if (asgnAllotRef.equals(instance.getSerial())) {
-        assignmentAllotment = instance;
-        return;
-      }
-    }
+    assignmentAllotment = root.getSerialIndex().find(asgnAllotRef, Assignment.class, Allotment.class);
   }//</editor-fold>
 
 }
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.jrfl;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -102,6 +103,7 @@ public class JRFLEntryLocation {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -141,6 +143,7 @@ public class JRFLEntryLocation {
    * @since 3.1.0
    */
   public void setAntFeedpointHeight(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.antFeedpointHeight = value;
   }
 
@@ -270,6 +273,7 @@ public class JRFLEntryLocation {
    * @since 3.1.0
    */
   public JRFLEntryLocation withLocation(Location value) {
+    SSRFChangeTracker.touch(this);
     this.location = value;
     return this;
   }
@@ -304,12 +308,7 @@ public class JRFLEntryLocation {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (serial.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    location = root.getSerialIndex().find(Location.class, serial);
   }//</editor-fold>
 
 }
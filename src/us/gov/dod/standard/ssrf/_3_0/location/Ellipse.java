@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.location;
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Location;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -218,6 +219,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    SSRFChangeTracker.touch(this);
     this.excluded = value;
   }
 
@@ -263,6 +265,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setLon(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lon = value;
   }
 
@@ -300,6 +303,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setLat(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lat = value;
   }
 
@@ -337,6 +341,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setSemiMajorAxis(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.semiMajorAxis = value;
   }
 
@@ -368,6 +373,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setSemiMinorAxis(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.semiMinorAxis = value;
   }
 
@@ -401,6 +407,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setAzimuth(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.azimuth = value;
   }
 
@@ -434,6 +441,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setAltitudeMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.altitudeMin = value;
   }
 
@@ -473,6 +481,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setAltitudeMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.altitudeMax = value;
   }
 
@@ -506,6 +515,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -577,6 +587,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public Ellipse withSemiMajorAxis(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -588,6 +599,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public Ellipse withSemiMinorAxis(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -642,6 +654,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public Ellipse withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.location;
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Location;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -188,6 +189,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    SSRFChangeTracker.touch(this);
     this.excluded = value;
   }
 
@@ -233,6 +235,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setLon(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lon = value;
   }
 
@@ -270,6 +273,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setLat(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lat = value;
   }
 
@@ -303,6 +307,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setTerrainElevation(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.terrainElevation = value;
   }
 
@@ -336,6 +341,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setAltitudeMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.altitudeMin = value;
   }
 
@@ -375,6 +381,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setAltitudeMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.altitudeMax = value;
   }
 
@@ -414,6 +421,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -528,6 +536,7 @@ public class Point {
    * @since 3.1.0
    */
   public Point withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
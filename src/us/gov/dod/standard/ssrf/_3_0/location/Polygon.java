@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Location;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -111,6 +112,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    SSRFChangeTracker.touch(this);
     this.excluded = value;
   }
 
@@ -142,6 +144,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setAltitudeMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.altitudeMin = value;
   }
 
@@ -173,6 +176,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setAltitudeMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.altitudeMax = value;
   }
 
@@ -219,6 +223,7 @@ public class Polygon {
    * Clear the PolygonPoint field. This sets the field to null.
    */
   public void unsetPolygonPoint() {
+    SSRFChangeTracker.touch(this);
     this.polygonPoint = null;
   }
 
@@ -239,6 +244,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -303,6 +309,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public Polygon withPolygonPoint(PolygonPoint... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPolygonPoint().addAll(Arrays.asList(values));
     }
@@ -323,6 +330,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public Polygon withPolygonPoint(Collection<PolygonPoint> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPolygonPoint().addAll(values);
     }
@@ -337,6 +345,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public Polygon withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.location;
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -120,6 +121,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public void setLon(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lon = value;
   }
 
@@ -157,6 +159,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public void setLat(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lat = value;
   }
 
@@ -190,6 +193,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public void setSequence(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.sequence = value;
   }
 
@@ -245,6 +249,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public PolygonPoint withSequence(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -16,10 +16,15 @@
 package us.gov.dod.standard.ssrf._3_0.metadata;
 
 import java.math.BigInteger;
+import java.util.AbstractSet;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCY;
 
@@ -54,6 +59,14 @@ import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCY;
  * therefore must be annotated as XmlTransient to successfully marshal SSRF
  * instances.
  * <p>
+ * Developer note: Most metadata leaves in a document share a few identical
+ * attribute values. The list-valued attributes (releasability, remarks,
+ * extReferences) and the descriptive string attributes are therefore held as
+ * shared, immutable instances from the {@link MetadataPool}. The list getters
+ * return a live view that replaces a shared list with a private copy on the
+ * first modification (copy-on-write) and the WITH setters re-intern it. Documents read from XML
+ * are interned as they are read (see {@link #intern()}).
+ * <p>
  * @author Jesse Caulfield
  * @version SSRF 3.0.0, 09/29/2014
  * @param <T> The class type implementation
@@ -162,6 +175,19 @@ public abstract class AMetadata<T> {
   @XmlAttribute(name = "availability")
   protected String availability;
 
+  /**
+   * The {@link AttributeSet} index of the releasability attribute.
+   */
+  private static final int RELEASABILITY = 0;
+  /**
+   * The {@link AttributeSet} index of the remark references attribute.
+   */
+  private static final int REMARK_REF = 1;
+  /**
+   * The {@link AttributeSet} index of the external references attribute.
+   */
+  private static final int EXT_REFERENCES = 2;
+
   /**
    * Metadata types require a zero argument constructor.
    */
@@ -185,6 +211,7 @@ public abstract class AMetadata<T> {
    * @param value a {@link ListCCL} instance
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -195,10 +222,7 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public Set<BigInteger> getRemarkRef() {
-    if (remarkRef == null) {
-      remarkRef = new HashSet<>();
-    }
-    return this.remarkRef;
+    return new AttributeSet<>(REMARK_REF);
   }
 
   /**
@@ -215,6 +239,7 @@ public abstract class AMetadata<T> {
    * Clear the RemarkIndex field. This sets the field to null.
    */
   public void unsetRemarkRef() {
+    SSRFChangeTracker.touch(this);
     this.remarkRef = null;
   }
 
@@ -237,10 +262,7 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link ListCCY} instances
    */
   public Set<ListCCY> getReleasability() {
-    if (releasability == null) {
-      releasability = new HashSet<>();
-    }
-    return this.releasability;
+    return new AttributeSet<>(RELEASABILITY);
   }
 
   /**
@@ -256,6 +278,7 @@ public abstract class AMetadata<T> {
    * Clear the Releasability field. This sets the field to null.
    */
   public void unsetReleasability() {
+    SSRFChangeTracker.touch(this);
     this.releasability = null;
   }
 
@@ -284,6 +307,7 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setIdref(String value) {
+    SSRFChangeTracker.touch(this);
     this.idref = value;
   }
 
@@ -315,7 +339,8 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setAvailability(String value) {
-    this.availability = value;
+    SSRFChangeTracker.touch(this);
+    this.availability = MetadataPool.intern(value);
   }
 
   /**
@@ -334,10 +359,7 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public Set<BigInteger> getExtReferences() {
-    if (extReferences == null) {
-      extReferences = new HashSet<>();
-    }
-    return this.extReferences;
+    return new AttributeSet<>(EXT_REFERENCES);
   }
 
   /**
@@ -353,6 +375,7 @@ public abstract class AMetadata<T> {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -377,7 +400,8 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setLegacyReleasability(String value) {
-    this.legacyReleasability = value;
+    SSRFChangeTracker.touch(this);
+    this.legacyReleasability = MetadataPool.intern(value);
   }
 
   /**
@@ -408,7 +432,8 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setQuality(String value) {
-    this.quality = value;
+    SSRFChangeTracker.touch(this);
+    this.quality = MetadataPool.intern(value);
   }
 
   /**
@@ -435,7 +460,8 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setRecommendedValue(String value) {
-    this.recommendedValue = value;
+    SSRFChangeTracker.touch(this);
+    this.recommendedValue = MetadataPool.intern(value);
   }
 
   /**
@@ -447,6 +473,37 @@ public abstract class AMetadata<T> {
     return (this.recommendedValue != null);
   }
 
+  /**
+   * Replace the list-valued and descriptive string attributes of this metadata
+   * instance with their shared instances from the {@link MetadataPool}. This
+   * does not change the attribute values.
+   * <p>
+   * Called after this instance is read from XML or from a binary stream. The
+   * setters and WITH setters intern their values as they are set.
+   * <p>
+   * @since 3.1.0
+   */
+  public void intern() {
+    releasability = MetadataPool.intern(releasability);
+    remarkRef = MetadataPool.intern(remarkRef);
+    extReferences = MetadataPool.intern(extReferences);
+    legacyReleasability = MetadataPool.intern(legacyReleasability);
+    quality = MetadataPool.intern(quality);
+    recommendedValue = MetadataPool.intern(recommendedValue);
+    availability = MetadataPool.intern(availability);
+  }
+
+  /**
+   * JAXB callback invoked after this instance is unmarshalled. Interns the
+   * metadata attributes.
+   * <p>
+   * @param unmarshaller the unmarshaller
+   * @param parent       the parent object
+   */
+  private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    intern();
+  }
+
   /**
    * Get a string representation of this Common instance configuration.
    * <p>
@@ -483,9 +540,11 @@ public abstract class AMetadata<T> {
    * @return The current Common object instance
    */
   public T withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(new HashSet<>(Arrays.asList(values)));
     }
+    extReferences = MetadataPool.intern(extReferences);
     return (T) this;
   }
 
@@ -497,9 +556,11 @@ public abstract class AMetadata<T> {
    * @return The current Common object instance
    */
   public T withExtReferences(Set<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
+    extReferences = MetadataPool.intern(extReferences);
     return (T) this;
   }
 
@@ -552,9 +613,11 @@ public abstract class AMetadata<T> {
    * @return The current Common object instance
    */
   public T withReleasability(ListCCY... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getReleasability().addAll(new HashSet<>(Arrays.asList(values)));
     }
+    releasability = MetadataPool.intern(releasability);
     return (T) this;
   }
 
@@ -569,9 +632,11 @@ public abstract class AMetadata<T> {
    * @return The current Common object instance
    */
   public T withReleasability(Set<ListCCY> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getReleasability().addAll(values);
     }
+    releasability = MetadataPool.intern(releasability);
     return (T) this;
   }
 
@@ -583,9 +648,11 @@ public abstract class AMetadata<T> {
    * @return The current Common object instance
    */
   public T withRemarkRef(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarkRef().addAll(new HashSet<>(Arrays.asList(values)));
     }
+    remarkRef = MetadataPool.intern(remarkRef);
     return (T) this;
   }
 
@@ -597,9 +664,11 @@ public abstract class AMetadata<T> {
    * @return The current Common object instance
    */
   public T withRemarkRef(Set<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarkRef().addAll(values);
     }
+    remarkRef = MetadataPool.intern(remarkRef);
     return (T) this;
   }
 
@@ -632,6 +701,133 @@ public abstract class AMetadata<T> {
     return (T) this;
   }
 
+  /**
+   * A live view of a list-valued metadata attribute.
+   * <p>
+   * Reads go to the current attribute value, which may be a shared
+   * {@link MetadataPool} instance. The first modification replaces a shared (or
+   * unset) value with a private HashSet (copy-on-write), so reading an
+   * attribute never copies it.
+   * <p>
+   * @param <E> the attribute entry type
+   */
+  @SuppressWarnings("rawtypes")
+  private final class AttributeSet<E> extends AbstractSet<E> {
+
+    /**
+     * The attribute index.
+     */
+    private final int attribute;
+
+    public AttributeSet(int attribute) {
+      this.attribute = attribute;
+    }
+
+    /**
+     * Get the current attribute value.
+     * <p>
+     * @return the current value. Null if not set.
+     */
+    private Set<E> read() {
+      switch (attribute) {
+        case RELEASABILITY:
+          return (Set<E>) (Set) releasability;
+        case REMARK_REF:
+          return (Set<E>) (Set) remarkRef;
+        default:
+          return (Set<E>) (Set) extReferences;
+      }
+    }
+
+    /**
+     * Get the attribute value for modification, replacing a shared or unset
+     * value with a private copy.
+     * <p>
+     * @return the private attribute value
+     */
+    private Set<E> write() {
+      Set<E> value = read();
+      if (value != null && !MetadataPool.isInterned(value)) {
+        return value;
+      }
+      Set<E> copy = value == null ? new HashSet<E>() : new HashSet<>(value);
+      switch (attribute) {
+        case RELEASABILITY:
+          releasability = (Set) copy;
+          break;
+        case REMARK_REF:
+          remarkRef = (Set) copy;
+          break;
+        default:
+          extReferences = (Set) copy;
+      }
+      return copy;
+    }
+
+    @Override
+    public int size() {
+      Set<E> value = read();
+      return value == null ? 0 : value.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      Set<E> value = read();
+      return value != null && value.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+      return write().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      return contains(o) && write().remove(o);
+    }
+
+    @Override
+    public void clear() {
+      if (!isEmpty()) {
+        write().clear();
+      }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      final Set<E> value = read();
+      if (value == null) {
+        return Collections.<E>emptySet().iterator();
+      }
+      if (!MetadataPool.isInterned(value)) {
+        return value.iterator();
+      }
+      /**
+       * Iterate the shared value. A removal is applied to a private copy.
+       */
+      final Iterator<E> iterator = value.iterator();
+      return new Iterator<E>() {
+        private E last;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+          last = iterator.next();
+          return last;
+        }
+
+        @Override
+        public void remove() {
+          write().remove(last);
+        }
+      };
+    }
+  }
+
   /**
    * Determine if the required fields in this SSRF data type instance are set.
    * <p>
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_0.metadata;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pool of shared, immutable metadata attribute values.
+ * <p>
+ * Large SSRF documents contain millions of metadata leaves (TString, TDecimal,
+ * TSerial, etc.) but only a handful of distinct metadata attribute values: the
+ * same releasability, remark and external reference lists and the same quality
+ * and availability strings recur throughout. {@link AMetadata} therefore
+ * stores these values as shared instances from this pool instead of one
+ * HashSet (or String) per leaf.
+ * <p>
+ * Interned sets are immutable. {@link AMetadata} replaces an interned set with
+ * a private copy (copy-on-write) before returning it for modification and
+ * re-interns it after its WITH setters.
+ * <p>
+ * The pool holds at most {@link #MAX_SIZE} values of each kind. Values beyond
+ * the limit are still returned in their compact immutable form but are not
+ * shared.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public final class MetadataPool {
+
+  /**
+   * 4,096. The maximum number of pooled values of each kind.
+   */
+  public static final int MAX_SIZE = 4096;
+
+  /**
+   * The pooled sets. Each key is mapped to itself.
+   */
+  private static final ConcurrentMap<Set<?>, Set<?>> SETS = new ConcurrentHashMap<>();
+  /**
+   * The pooled strings. Each key is mapped to itself.
+   */
+  private static final ConcurrentMap<String, String> STRINGS = new ConcurrentHashMap<>();
+
+  private MetadataPool() {
+  }
+
+  /**
+   * Get the shared, immutable instance of a set.
+   * <p>
+   * @param <E> the set element type
+   * @param set the set to intern. Null values and interned sets are returned
+   *            as-is.
+   * @return an immutable set equal to the input set
+   */
+  @SuppressWarnings("unchecked")
+  public static <E> Set<E> intern(Set<E> set) {
+    if (set == null || set instanceof InternedSet) {
+      return set;
+    }
+    Set<?> interned = SETS.get(set);
+    if (interned == null) {
+      interned = new InternedSet<>(set.toArray());
+      if (SETS.size() < MAX_SIZE) {
+        Set<?> previous = SETS.putIfAbsent(interned, interned);
+        if (previous != null) {
+          interned = previous;
+        }
+      }
+    }
+    return (Set<E>) interned;
+  }
+
+  /**
+   * Get the shared instance of a string.
+   * <p>
+   * @param value the string to intern. Null values are returned as-is.
+   * @return a string equal to the input string
+   */
+  public static String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    String interned = STRINGS.get(value);
+    if (interned == null) {
+      if (STRINGS.size() >= MAX_SIZE) {
+        return value;
+      }
+      interned = STRINGS.putIfAbsent(value, value);
+      if (interned == null) {
+        interned = value;
+      }
+    }
+    return interned;
+  }
+
+  /**
+   * Determine if a set is an (immutable) interned set.
+   * <p>
+   * @param set the set
+   * @return TRUE if the set was returned by {@link #intern(Set)}
+   */
+  public static boolean isInterned(Set<?> set) {
+    return set instanceof InternedSet;
+  }
+
+  /**
+   * An immutable set backed by an array. Metadata lists contain few entries,
+   * so a linear search is as fast as hashing and the array is far smaller
+   * than a HashSet.
+   * <p>
+   * @param <E> the set element type
+   */
+  private static final class InternedSet<E> extends AbstractSet<E> {
+
+    /**
+     * The (distinct) set entries.
+     */
+    private final Object[] entries;
+    /**
+     * The set hash code, computed once.
+     */
+    private final int hash;
+
+    public InternedSet(Object[] entries) {
+      this.entries = entries;
+      int hashCode = 0;
+      for (Object entry : entries) {
+        hashCode += entry != null ? entry.hashCode() : 0;
+      }
+      this.hash = hashCode;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return new Iterator<E>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < entries.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+          if (index >= entries.length) {
+            throw new NoSuchElementException();
+          }
+          return (E) entries[index++];
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException("Interned metadata sets are immutable.");
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return entries.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      for (Object entry : entries) {
+        if (entry == null ? o == null : entry.equals(o)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean add(E e) {
+      throw new UnsupportedOperationException("Interned metadata sets are immutable.");
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      throw new UnsupportedOperationException("Interned metadata sets are immutable.");
+    }
+
+    @Override
+    public void clear() {
+      throw new UnsupportedOperationException("Interned metadata sets are immutable.");
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(entries);
+    }
+  }
+}
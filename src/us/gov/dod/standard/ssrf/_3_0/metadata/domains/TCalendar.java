@@ -15,6 +15,7 @@
  */
 package us.gov.dod.standard.ssrf._3_0.metadata.domains;
 
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -84,6 +85,7 @@ public class TCalendar extends AMetadata<TCalendar> implements IMetadataType, Co
    * @param value
    */
   public final void setValue(Calendar value) {
+    SSRFChangeTracker.touch(this);
     this.value = (value != null ? (Calendar) value.clone() : null);
     this.value.setTimeZone(TIMEZONE);
   }
@@ -94,6 +96,7 @@ public class TCalendar extends AMetadata<TCalendar> implements IMetadataType, Co
    * @param value
    */
   public final void setValue(Date value) {
+    SSRFChangeTracker.touch(this);
     if (value != null) {
       this.value = Calendar.getInstance(TIMEZONE);
       this.value.setTime(value);
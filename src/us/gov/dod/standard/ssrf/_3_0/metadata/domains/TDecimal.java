@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
@@ -41,6 +42,13 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    */
   @XmlValue
   protected BigDecimal value;
+  /**
+   * The primitive (double) view of the value, computed on first use. Not
+   * serialized. The view records the BigDecimal it was computed from so that
+   * values set directly on the field (e.g. by a field-binding unmarshaller)
+   * are detected.
+   */
+  private transient Primitive primitive;
 
   /**
    * Construct a new data type instance with the indicated value.
@@ -58,6 +66,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    */
   public TDecimal(Double value) {
     this.value = value != null ? BigDecimal.valueOf(value) : null;
+    this.primitive = value != null ? new Primitive(this.value, value) : null;
   }
 
   /**
@@ -82,6 +91,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    * @param value
    */
   public void setValue(BigDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -109,6 +119,77 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
     return super.isSet() && isSetValue();
   }
 
+  /**
+   * Get the value as a primitive double.
+   * <p>
+   * The double value is computed once from the BigDecimal value and cached, so
+   * repeated numeric comparisons (e.g. frequency screening) do not convert the
+   * BigDecimal or box a Double.
+   * <p>
+   * @return the value, or NaN if the value is not set.
+   */
+  public double doubleValue() {
+    BigDecimal decimal = value;
+    Primitive view = primitive;
+    if (view == null || view.source != decimal) {
+      view = new Primitive(decimal, decimal != null ? decimal.doubleValue() : Double.NaN);
+      primitive = view;
+    }
+    return view.value;
+  }
+
+  /**
+   * Compare the value with a primitive double.
+   * <p>
+   * @param value the other value
+   * @return a negative integer, zero, or a positive integer as this value is
+   *         less than, equal to, or greater than the other value.
+   * @see Double#compare(double, double)
+   */
+  public int compareTo(double value) {
+    return Double.compare(doubleValue(), value);
+  }
+
+  /**
+   * Less than.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is less than the other value.
+   */
+  public boolean lt(double value) {
+    return doubleValue() < value;
+  }
+
+  /**
+   * Less than or Equal.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is less than or Equal to the other value.
+   */
+  public boolean ltequal(double value) {
+    return doubleValue() <= value;
+  }
+
+  /**
+   * Greater than.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is Greater than the other value.
+   */
+  public boolean gt(double value) {
+    return doubleValue() > value;
+  }
+
+  /**
+   * Greater than or Equal.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is Greater than or Equal to the other value.
+   */
+  public boolean gtequal(double value) {
+    return doubleValue() >= value;
+  }
+
   /**
    * Less than.
    * <p>
@@ -116,7 +197,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    * @return TRUE if this value is less than the other value.
    */
   public boolean lt(Double value) {
-    return this.value.doubleValue() < value;
+    return lt(value.doubleValue());
   }
 
   /**
@@ -126,7 +207,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    * @return TRUE if this value is less than or Equal to the other value.
    */
   public boolean ltequal(Double value) {
-    return this.value.doubleValue() <= value;
+    return ltequal(value.doubleValue());
   }
 
   /**
@@ -136,7 +217,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    * @return TRUE if this value is Greater than the other value.
    */
   public boolean gt(Double value) {
-    return this.value.doubleValue() > value;
+    return gt(value.doubleValue());
   }
 
   /**
@@ -146,7 +227,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
    * @return TRUE if this value is Greater than or Equal to the other value.
    */
   public boolean gtequal(Double value) {
-    return this.value.doubleValue() >= value;
+    return gtequal(value.doubleValue());
   }
 
   /**
@@ -186,7 +267,7 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((TString) obj).value);
+    return Objects.equals(this.value, ((TDecimal) obj).value);
   }
 
   /**
@@ -206,4 +287,25 @@ public class TDecimal extends AMetadata<TDecimal> implements IMetadataType, Comp
     return this.value.compareTo(o.getValue());
   }//</editor-fold>
 
+  /**
+   * An immutable primitive view of a BigDecimal value. Immutable so that a view
+   * read by another thread is always consistent.
+   */
+  private static final class Primitive {
+
+    /**
+     * The BigDecimal value this view was computed from.
+     */
+    private final BigDecimal source;
+    /**
+     * The double value.
+     */
+    private final double value;
+
+    public Primitive(BigDecimal source, double value) {
+      this.source = source;
+      this.value = value;
+    }
+  }
+
 }
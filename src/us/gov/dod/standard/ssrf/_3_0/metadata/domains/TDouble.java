@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
@@ -72,6 +73,7 @@ public class TDouble extends AMetadata<TDouble> implements IMetadataType, Compar
    * @param value
    */
   public void setValue(Double value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -176,7 +178,7 @@ public class TDouble extends AMetadata<TDouble> implements IMetadataType, Compar
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((TString) obj).value);
+    return Objects.equals(this.value, ((TDouble) obj).value);
   }
 
   /**
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
@@ -41,6 +42,13 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
    */
   @XmlValue
   protected BigInteger value;
+  /**
+   * The primitive (long) view of the value, computed on first use. Not
+   * serialized. The view records the BigInteger it was computed from so that
+   * values set directly on the field (e.g. by a field-binding unmarshaller)
+   * are detected.
+   */
+  private transient Primitive primitive;
 
   public TInteger(BigInteger value) {
     this.value = value;
@@ -81,6 +89,7 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
    * @param value
    */
   public void setValue(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -108,6 +117,95 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
     return super.isSet() && isSetValue();
   }
 
+  /**
+   * Get the value as a primitive long.
+   * <p>
+   * The long value is computed once from the BigInteger value and cached, so
+   * repeated numeric comparisons do not convert the BigInteger or box a
+   * number. Values outside the long range are saturated to
+   * {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}.
+   * <p>
+   * @return the value, or zero if the value is not set.
+   */
+  public long longValue() {
+    return getPrimitive().value;
+  }
+
+  /**
+   * Get the value as a primitive double.
+   * <p>
+   * @return the value, or NaN if the value is not set.
+   */
+  public double doubleValue() {
+    Primitive view = getPrimitive();
+    if (view.source == null) {
+      return Double.NaN;
+    }
+    return view.exact ? view.value : view.source.doubleValue();
+  }
+
+  /**
+   * Compare the value with a primitive long.
+   * <p>
+   * @param value the other value
+   * @return a negative integer, zero, or a positive integer as this value is
+   *         less than, equal to, or greater than the other value.
+   * @throws NullPointerException if the value is not set
+   */
+  public int compareTo(long value) {
+    Primitive view = getPrimitive();
+    if (view.source == null) {
+      throw new NullPointerException("TInteger value is not set.");
+    }
+    /**
+     * A saturated value is beyond every long value.
+     */
+    if (!view.exact) {
+      return view.value < 0 ? -1 : 1;
+    }
+    return Long.compare(view.value, value);
+  }
+
+  /**
+   * Less than.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is less than the other value.
+   */
+  public boolean lt(double value) {
+    return doubleValue() < value;
+  }
+
+  /**
+   * Less than or Equal.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is less than or Equal to the other value.
+   */
+  public boolean ltequal(double value) {
+    return doubleValue() <= value;
+  }
+
+  /**
+   * Greater than.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is Greater than the other value.
+   */
+  public boolean gt(double value) {
+    return doubleValue() > value;
+  }
+
+  /**
+   * Greater than or Equal.
+   * <p>
+   * @param value the other value
+   * @return TRUE if this value is Greater than or Equal to the other value.
+   */
+  public boolean gtequal(double value) {
+    return doubleValue() >= value;
+  }
+
   /**
    * Less than.
    * <p>
@@ -115,7 +213,7 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
    * @return TRUE if this value is less than the other value.
    */
   public boolean lt(Double value) {
-    return this.value.intValue() < value;
+    return lt(value.doubleValue());
   }
 
   /**
@@ -125,7 +223,7 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
    * @return TRUE if this value is less than or Equal to the other value.
    */
   public boolean ltequal(Double value) {
-    return this.value.intValue() <= value;
+    return ltequal(value.doubleValue());
   }
 
   /**
@@ -135,7 +233,7 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
    * @return TRUE if this value is Greater than the other value.
    */
   public boolean gt(Double value) {
-    return this.value.intValue() > value;
+    return gt(value.doubleValue());
   }
 
   /**
@@ -145,7 +243,23 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
    * @return TRUE if this value is Greater than or Equal to the other value.
    */
   public boolean gtequal(Double value) {
-    return this.value.intValue() >= value;
+    return gtequal(value.doubleValue());
+  }
+
+  /**
+   * Internal method to get the primitive view of the current value, computing
+   * it if the value has changed.
+   * <p>
+   * @return the primitive view
+   */
+  private Primitive getPrimitive() {
+    BigInteger integer = value;
+    Primitive view = primitive;
+    if (view == null || view.source != integer) {
+      view = new Primitive(integer);
+      primitive = view;
+    }
+    return view;
   }
 
   /**
@@ -185,7 +299,7 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((TString) obj).value);
+    return Objects.equals(this.value, ((TInteger) obj).value);
   }
 
   /**
@@ -205,4 +319,36 @@ public class TInteger extends AMetadata<TInteger> implements IMetadataType, Comp
     return value.compareTo(o.getValue());
   }//</editor-fold>
 
+  /**
+   * An immutable primitive view of a BigInteger value. Immutable so that a view
+   * read by another thread is always consistent.
+   */
+  private static final class Primitive {
+
+    /**
+     * The BigInteger value this view was computed from.
+     */
+    private final BigInteger source;
+    /**
+     * The long value, saturated if the source is outside the long range.
+     */
+    private final long value;
+    /**
+     * TRUE if the long value equals the source value.
+     */
+    private final boolean exact;
+
+    public Primitive(BigInteger source) {
+      this.source = source;
+      this.exact = source == null || source.bitLength() < Long.SIZE;
+      if (source == null) {
+        this.value = 0;
+      } else if (exact) {
+        this.value = source.longValue();
+      } else {
+        this.value = source.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+      }
+    }
+  }
+
 }
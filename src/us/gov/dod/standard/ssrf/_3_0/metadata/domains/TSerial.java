@@ -23,6 +23,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.xml.bind.annotation.*;
 import us.gov.dod.standard.ssrf.EDatasetType;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Common;
 import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
@@ -258,6 +259,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * @param country the data source country
    */
   public void setCountry(ListCCY country) {
+    SSRFChangeTracker.touch(this);
     this.country = country;
     format();
   }
@@ -268,6 +270,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * @param locale the data source country
    */
   public void setLocale(Locale locale) {
+    SSRFChangeTracker.touch(this);
     this.country = ListCCY.valueOf(locale.getISO3Country());
     format();
   }
@@ -278,6 +281,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * @param organisation
    */
   public void setOrganisation(String organisation) {
+    SSRFChangeTracker.touch(this);
     if (organisation.length() > 4) {
       throw new IllegalArgumentException("String length violation S4 [0, 4]. Length is " + value.length() + " for \"" + value + "\"");
     }
@@ -324,6 +328,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * @param serial the serial number Serial identifier.
    */
   public void setSerial(String serial) {
+    SSRFChangeTracker.touch(this);
     if (serial.length() > 15) {
       throw new IllegalArgumentException("String length violation S15 [1, 15]. Length is " + value.length() + " for \"" + value + "\"");
     }
@@ -346,6 +351,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    *               to 1E15.
    */
   public void setSerial(Long number) {
+    SSRFChangeTracker.touch(this);
     BigInteger bi = new BigInteger(String.valueOf(number));
     if (getDigitCount(bi) > 15) {
       throw new IllegalArgumentException("Serial value violation. Maximum " + value.length() + " digits for \"" + value + "\"");
@@ -382,6 +388,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    *                                  SERIAL format
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
     parse();
   }
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.metadata.domains;
 import java.util.Locale;
 import java.util.Objects;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
@@ -79,6 +80,7 @@ public class TString extends AMetadata<TString> implements IMetadataType, Compar
    * @param value
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -112,6 +114,7 @@ public class TString extends AMetadata<TString> implements IMetadataType, Compar
    * @param locale A {@link Locale} instance
    */
   public void setLocale(Locale locale) {
+    SSRFChangeTracker.touch(this);
     this.locale = locale != null ? locale.toLanguageTag() : null;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -278,6 +279,7 @@ public class ConfigEmission {
    * @since 3.1.0
    */
   public void setEmsClass(TString value) {
+    SSRFChangeTracker.touch(this);
     this.emsClass = value;
   }
 
@@ -315,6 +317,7 @@ public class ConfigEmission {
    * @since 3.1.0
    */
   public void setNecessaryBwMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.necessaryBwMax = value;
   }
 
@@ -356,6 +359,7 @@ public class ConfigEmission {
    * @since 3.1.0
    */
   public void setNecessaryBwMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.necessaryBwMin = value;
   }
 
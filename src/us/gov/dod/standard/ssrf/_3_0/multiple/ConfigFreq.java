@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -135,6 +136,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -170,6 +172,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -205,6 +208,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setInBand(TString value) {
+    SSRFChangeTracker.touch(this);
     this.inBand = value;
   }
 
@@ -240,6 +244,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.priority = value;
   }
 
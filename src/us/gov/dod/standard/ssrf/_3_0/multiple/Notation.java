@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -113,6 +114,7 @@ public class Notation {
    * @since 3.1.0
    */
   public void setCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.code = value;
   }
 
@@ -144,6 +146,7 @@ public class Notation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
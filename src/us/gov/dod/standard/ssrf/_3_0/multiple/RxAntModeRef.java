@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.multiple;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -119,6 +120,7 @@ public class RxAntModeRef {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -154,6 +156,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public void setModeID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeID = value;
   }
 
@@ -187,6 +190,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public void setCouplingLoss(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.couplingLoss = value;
   }
 
@@ -319,6 +323,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public RxAntModeRef withAntenna(Antenna value) {
+    SSRFChangeTracker.touch(this);
     this.antenna = value;
     return this;
   }
@@ -353,12 +358,7 @@ public class RxAntModeRef {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Antenna instance : root.getAntenna()) {
-      if (serial.equals(instance.getSerial())) {
-        antenna = instance;
-        return;
-      }
-    }
+    antenna = root.getSerialIndex().find(Antenna.class, serial);
   }//</editor-fold>
 
 }
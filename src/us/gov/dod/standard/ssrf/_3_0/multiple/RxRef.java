@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
@@ -105,6 +106,7 @@ public class RxRef {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -148,6 +150,7 @@ public class RxRef {
    * Clear the RxModeRef field. This sets the field to null.
    */
   public void unsetRxModeRef() {
+    SSRFChangeTracker.touch(this);
     this.rxModeRef = null;
   }
 
@@ -180,6 +183,7 @@ public class RxRef {
    * Clear the RxAntModeRef field. This sets the field to null.
    */
   public void unsetRxAntModeRef() {
+    SSRFChangeTracker.touch(this);
     this.rxAntModeRef = null;
   }
 
@@ -211,6 +215,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxModeRef(RxModeRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxModeRef().addAll(Arrays.asList(values));
     }
@@ -228,6 +233,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxModeRef(Collection<RxModeRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxModeRef().addAll(values);
     }
@@ -245,6 +251,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxAntModeRef(RxAntModeRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxAntModeRef().addAll(Arrays.asList(values));
     }
@@ -262,6 +269,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxAntModeRef(Collection<RxAntModeRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxAntModeRef().addAll(values);
     }
@@ -342,6 +350,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withReceiver(Receiver value) {
+    SSRFChangeTracker.touch(this);
     this.receiver = value;
     return this;
   }
@@ -376,12 +385,7 @@ public class RxRef {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Receiver instance : root.getReceiver()) {
-      if (serial.equals(instance.getSerial())) {
-        receiver = instance;
-        return;
-      }
-    }
+    receiver = root.getSerialIndex().find(Receiver.class, serial);
   }//</editor-fold>
 
 }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -80,6 +81,7 @@ public class TxAntModeRef
    * @since 3.1.0
    */
   public void setSpectralPowerDensity(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.spectralPowerDensity = value;
   }
 
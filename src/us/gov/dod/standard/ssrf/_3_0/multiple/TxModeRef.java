@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -95,6 +96,7 @@ public class TxModeRef {
    * @since 3.1.0
    */
   public void setModeID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeID = value;
   }
 
@@ -126,6 +128,7 @@ public class TxModeRef {
    * @since 3.1.0
    */
   public void setPowerLimit(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.powerLimit = value;
   }
 
@@ -19,6 +19,7 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
@@ -109,6 +110,7 @@ public class TxRef {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -152,6 +154,7 @@ public class TxRef {
    * Clear the TxModeRef field. This sets the field to null.
    */
   public void unsetTxModeRef() {
+    SSRFChangeTracker.touch(this);
     this.txModeRef = null;
   }
 
@@ -184,6 +187,7 @@ public class TxRef {
    * Clear the TxAntModeRef field. This sets the field to null.
    */
   public void unsetTxAntModeRef() {
+    SSRFChangeTracker.touch(this);
     this.txAntModeRef = null;
   }
 
@@ -215,6 +219,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxModeRef(TxModeRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxModeRef().addAll(Arrays.asList(values));
     }
@@ -232,6 +237,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxModeRef(Collection<TxModeRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxModeRef().addAll(values);
     }
@@ -249,6 +255,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxAntModeRef(TxAntModeRef... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxAntModeRef().addAll(Arrays.asList(values));
     }
@@ -266,6 +273,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxAntModeRef(Collection<TxAntModeRef> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxAntModeRef().addAll(values);
     }
@@ -346,6 +354,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTransmitter(Transmitter value) {
+    SSRFChangeTracker.touch(this);
     this.transmitter = value;
     return this;
   }
@@ -380,12 +389,7 @@ public class TxRef {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Transmitter instance : root.getTransmitter()) {
-      if (serial.equals(instance.getSerial())) {
-        transmitter = instance;
-        return;
-      }
-    }
+    transmitter = root.getSerialIndex().find(Transmitter.class, serial);
   }//</editor-fold>
 
 }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -109,6 +110,7 @@ public class Usage {
    * @since 3.1.0
    */
   public void setEqpFnct(TString value) {
+    SSRFChangeTracker.touch(this);
     this.eqpFnct = value;
   }
 
@@ -140,6 +142,7 @@ public class Usage {
    * @since 3.1.0
    */
   public void setStnClass(TString value) {
+    SSRFChangeTracker.touch(this);
     this.stnClass = value;
   }
 
@@ -175,6 +178,7 @@ public class Usage {
    * @since 3.1.0
    */
   public void setRadioService(TString value) {
+    SSRFChangeTracker.touch(this);
     this.radioService = value;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.organisation;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -104,6 +105,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -135,6 +137,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public void setRelation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.relation = value;
   }
 
@@ -174,6 +177,7 @@ public class RelatedOrganisation {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -301,6 +305,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public RelatedOrganisation withOrganisation(Organisation value) {
+    SSRFChangeTracker.touch(this);
     this.organisation = value;
     return this;
   }
@@ -335,12 +340,7 @@ public class RelatedOrganisation {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (Organisation instance : root.getOrganisation()) {
-      if (serial.equals(instance.getSerial())) {
-        organisation = instance;
-        return;
-      }
-    }
+    organisation = root.getSerialIndex().find(Organisation.class, serial);
   }//</editor-fold>
 
 }
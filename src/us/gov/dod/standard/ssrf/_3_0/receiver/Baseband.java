@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.transmitter.TxMode;
@@ -122,6 +123,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setModFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.modFreqMin = value;
   }
 
@@ -167,6 +169,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setModFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.modFreqMax = value;
   }
 
@@ -198,6 +201,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setSignalType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.signalType = value;
   }
 
@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Receiver;
 import us.gov.dod.standard.ssrf._3_0.Transmitter;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -210,6 +211,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -245,6 +247,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    SSRFChangeTracker.touch(this);
     this.calculated = value;
   }
 
@@ -280,6 +283,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqFactor(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqFactor = value;
   }
 
@@ -311,6 +315,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqConst(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqConst = value;
   }
 
@@ -342,6 +347,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setBw(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.bw = value;
   }
 
@@ -373,6 +379,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -408,6 +415,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -453,6 +461,7 @@ public class Curve {
    * Clear the CurvePoint field. This sets the field to null.
    */
   public void unsetCurvePoint() {
+    SSRFChangeTracker.touch(this);
     this.curvePoint = null;
   }
 
@@ -479,6 +488,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -594,6 +604,7 @@ public class Curve {
    * @since 3.1.0
    */
   public Curve withCurvePoint(CurvePoint... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurvePoint().addAll(Arrays.asList(values));
     }
@@ -613,6 +624,7 @@ public class Curve {
    * @since 3.1.0
    */
   public Curve withCurvePoint(Collection<CurvePoint> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurvePoint().addAll(values);
     }
@@ -630,6 +642,7 @@ public class Curve {
    * @since 3.1.0
    */
   public Curve withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
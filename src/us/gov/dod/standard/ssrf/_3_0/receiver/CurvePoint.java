@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -101,6 +102,7 @@ public class CurvePoint {
    * @since 3.1.0
    */
   public void setOffset(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.offset = value;
   }
 
@@ -132,6 +134,7 @@ public class CurvePoint {
    * @since 3.1.0
    */
   public void setLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.level = value;
   }
 
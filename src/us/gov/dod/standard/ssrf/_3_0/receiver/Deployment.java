@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.RFSystem;
 import us.gov.dod.standard.ssrf._3_0.Receiver;
 import us.gov.dod.standard.ssrf._3_0.Transmitter;
@@ -109,6 +110,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -140,6 +142,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public void setStatus(TString value) {
+    SSRFChangeTracker.touch(this);
     this.status = value;
   }
 
@@ -184,6 +187,7 @@ public class Deployment {
    * Clear the Installation field. This sets the field to null.
    */
   public void unsetInstallation() {
+    SSRFChangeTracker.touch(this);
     this.installation = null;
   }
 
@@ -223,6 +227,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public Deployment withInstallation(Installation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getInstallation().addAll(Arrays.asList(values));
     }
@@ -241,6 +246,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public Deployment withInstallation(Collection<Installation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getInstallation().addAll(values);
     }
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.receiver;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 import us.gov.dod.standard.ssrf._3_0.transmitter.TxMode;
@@ -184,6 +185,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -215,6 +217,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setExplainInformationTypeX(String value) {
+    SSRFChangeTracker.touch(this);
     this.explainInformationTypeX = value;
   }
 
@@ -246,6 +249,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setExplainModulationTypeX(String value) {
+    SSRFChangeTracker.touch(this);
     this.explainModulationTypeX = value;
   }
 
@@ -277,6 +281,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setExplainNatureOfSignalX(String value) {
+    SSRFChangeTracker.touch(this);
     this.explainNatureOfSignalX = value;
   }
 
@@ -308,6 +313,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -347,6 +353,7 @@ public class EmsClass {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -377,6 +384,7 @@ public class EmsClass {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -403,6 +411,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -436,6 +445,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -465,6 +475,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -498,6 +509,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -518,6 +530,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -530,6 +543,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExplainInformationTypeX(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -542,6 +556,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExplainModulationTypeX(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -554,6 +569,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExplainNatureOfSignalX(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -566,6 +582,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -578,6 +595,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -593,6 +611,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -608,6 +627,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -623,6 +643,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -640,6 +661,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -653,6 +675,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -664,6 +687,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -677,6 +701,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCLO;
@@ -150,6 +151,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setStageNum(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.stageNum = value;
   }
 
@@ -183,6 +185,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setOscillatorTuning(TString value) {
+    SSRFChangeTracker.touch(this);
     this.oscillatorTuning = value;
   }
 
@@ -214,6 +217,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setLOFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.loFreqMin = value;
   }
 
@@ -249,6 +253,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setLOFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.loFreqMax = value;
   }
 
@@ -282,6 +287,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setIFMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.ifMin = value;
   }
 
@@ -317,6 +323,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setIFMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.ifMax = value;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.receiver;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -145,6 +146,7 @@ public class Installation {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -176,6 +178,7 @@ public class Installation {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -215,6 +218,7 @@ public class Installation {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -245,6 +249,7 @@ public class Installation {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -271,6 +276,7 @@ public class Installation {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -304,6 +310,7 @@ public class Installation {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -333,6 +340,7 @@ public class Installation {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -366,6 +374,7 @@ public class Installation {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -386,6 +395,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -398,6 +408,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -410,6 +421,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -425,6 +437,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -440,6 +453,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -455,6 +469,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -472,6 +487,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -485,6 +501,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -496,6 +513,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -509,6 +527,7 @@ public class Installation {
    * @since 3.1.0
    */
   public Installation withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
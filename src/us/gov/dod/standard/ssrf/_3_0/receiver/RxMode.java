@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Receiver;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -521,6 +522,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setModeID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeID = value;
   }
 
@@ -554,6 +556,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -587,6 +590,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setRxType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.rxType = value;
   }
 
@@ -624,6 +628,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setNecessaryBw(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.necessaryBw = value;
   }
 
@@ -655,6 +660,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setTunability(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tunability = value;
   }
 
@@ -688,6 +694,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setTuningMethod(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tuningMethod = value;
   }
 
@@ -719,6 +726,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setIntermodPct(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.intermodPct = value;
   }
 
@@ -750,6 +758,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setIntermodEffect(TString value) {
+    SSRFChangeTracker.touch(this);
     this.intermodEffect = value;
   }
 
@@ -787,6 +796,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sensitivityLevel = value;
   }
 
@@ -824,6 +834,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setNoiseFigure(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.noiseFigure = value;
   }
 
@@ -863,6 +874,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setNoiseTemp(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.noiseTemp = value;
   }
 
@@ -899,6 +911,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityCriteriaType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sensitivityCriteriaType = value;
   }
 
@@ -933,6 +946,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityCriteriaLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sensitivityCriteriaLevel = value;
   }
 
@@ -965,6 +979,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityCriteriaText(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sensitivityCriteriaText = value;
   }
 
@@ -996,6 +1011,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setPostDetectionFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.postDetectionFreqMin = value;
   }
 
@@ -1033,6 +1049,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setPostDetectionFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.postDetectionFreqMax = value;
   }
 
@@ -1072,6 +1089,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setProcessingGain(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.processingGain = value;
   }
 
@@ -1113,6 +1131,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSpuriousRejection(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.spuriousRejection = value;
   }
 
@@ -1154,6 +1173,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setImageRejection(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.imageRejection = value;
   }
 
@@ -1191,6 +1211,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setIntermodRejection(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.intermodRejection = value;
   }
 
@@ -1228,6 +1249,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setAdjacentChannelSelectivity(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.adjacentChannelSelectivity = value;
   }
 
@@ -1263,6 +1285,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setFreqTolerance(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqTolerance = value;
   }
 
@@ -1294,6 +1317,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setFreqToleranceUnit(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqToleranceUnit = value;
   }
 
@@ -1325,6 +1349,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setModeName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeName = value;
   }
 
@@ -1370,6 +1395,7 @@ public class RxMode {
    * Clear the EmsClass field. This sets the field to null.
    */
   public void unsetEmsClass() {
+    SSRFChangeTracker.touch(this);
     this.emsClass = null;
   }
 
@@ -1403,6 +1429,7 @@ public class RxMode {
    * Clear the RxSignalTuning field. This sets the field to null.
    */
   public void unsetRxSignalTuning() {
+    SSRFChangeTracker.touch(this);
     this.rxSignalTuning = null;
   }
 
@@ -1435,6 +1462,7 @@ public class RxMode {
    * Clear the RxModulation field. This sets the field to null.
    */
   public void unsetRxModulation() {
+    SSRFChangeTracker.touch(this);
     this.rxModulation = null;
   }
 
@@ -1467,6 +1495,7 @@ public class RxMode {
    * Clear the Baseband field. This sets the field to null.
    */
   public void unsetBaseband() {
+    SSRFChangeTracker.touch(this);
     this.baseband = null;
   }
 
@@ -1500,6 +1529,7 @@ public class RxMode {
    * Clear the FreqConversion field. This sets the field to null.
    */
   public void unsetFreqConversion() {
+    SSRFChangeTracker.touch(this);
     this.freqConversion = null;
   }
 
@@ -1526,6 +1556,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSpreadSpectrum(SpreadSpectrum value) {
+    SSRFChangeTracker.touch(this);
     this.spreadSpectrum = value;
   }
 
@@ -1564,6 +1595,7 @@ public class RxMode {
    * Clear the Curves field. This sets the field to null.
    */
   public void unsetCurves() {
+    SSRFChangeTracker.touch(this);
     this.curves = null;
   }
 
@@ -1914,6 +1946,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withEmsClass(EmsClass... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEmsClass().addAll(Arrays.asList(values));
     }
@@ -1933,6 +1966,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withEmsClass(Collection<EmsClass> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEmsClass().addAll(values);
     }
@@ -1951,6 +1985,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxSignalTuning(RxSignalTuning... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxSignalTuning().addAll(Arrays.asList(values));
     }
@@ -1969,6 +2004,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxSignalTuning(Collection<RxSignalTuning> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxSignalTuning().addAll(values);
     }
@@ -1986,6 +2022,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxModulation(RxModulation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxModulation().addAll(Arrays.asList(values));
     }
@@ -2003,6 +2040,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxModulation(Collection<RxModulation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRxModulation().addAll(values);
     }
@@ -2020,6 +2058,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withBaseband(Baseband... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBaseband().addAll(Arrays.asList(values));
     }
@@ -2037,6 +2076,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withBaseband(Collection<Baseband> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBaseband().addAll(values);
     }
@@ -2055,6 +2095,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withFreqConversion(FreqConversion... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreqConversion().addAll(Arrays.asList(values));
     }
@@ -2073,6 +2114,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withFreqConversion(Collection<FreqConversion> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFreqConversion().addAll(values);
     }
@@ -2090,6 +2132,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withSpreadSpectrum(SpreadSpectrum value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -2101,6 +2144,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withCurves(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurves().addAll(Arrays.asList(values));
     }
@@ -2115,6 +2159,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withCurves(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurves().addAll(values);
     }
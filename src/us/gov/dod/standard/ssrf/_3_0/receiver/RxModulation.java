@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_0.receiver;
 
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.transmitter.TxModulation;
@@ -155,6 +156,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setDigitalModType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.digitalModType = value;
   }
 
@@ -192,6 +194,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setMaxBitRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.maxBitRate = value;
   }
 
@@ -225,6 +228,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setNumStates(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numStates = value;
   }
 
@@ -258,6 +262,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setLineCoding(TString value) {
+    SSRFChangeTracker.touch(this);
     this.lineCoding = value;
   }
 
@@ -289,6 +294,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setCodeRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.codeRate = value;
   }
 
@@ -320,6 +326,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setCodePeriod(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.codePeriod = value;
   }
 
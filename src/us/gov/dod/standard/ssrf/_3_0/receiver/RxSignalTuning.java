@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -124,6 +125,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -159,6 +161,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -190,6 +193,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setTuningStep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.tuningStep = value;
   }
 
@@ -221,6 +225,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setNumPresetChannels(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numPresetChannels = value;
   }
 
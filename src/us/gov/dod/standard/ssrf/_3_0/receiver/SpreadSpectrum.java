@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
@@ -358,6 +359,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -389,6 +391,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -424,6 +427,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -455,6 +459,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setMaxGain(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.maxGain = value;
   }
 
@@ -488,6 +493,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseFreqDev(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pulseFreqDev = value;
   }
 
@@ -519,6 +525,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setInfoDataRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.infoDataRate = value;
   }
 
@@ -552,6 +559,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setChipRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.chipRate = value;
   }
 
@@ -587,6 +595,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setCodeRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.codeRate = value;
   }
 
@@ -620,6 +629,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pulseChirpRate = value;
   }
 
@@ -653,6 +663,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpFreqShift(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pulseChirpFreqShift = value;
   }
 
@@ -685,6 +696,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpDurationMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pulseChirpDurationMin = value;
   }
 
@@ -716,6 +728,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setTimeHopNumSlots(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.timeHopNumSlots = value;
   }
 
@@ -748,6 +761,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setTimeHopPulsesPerDwell(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.timeHopPulsesPerDwell = value;
   }
 
@@ -781,6 +795,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setHopRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.hopRate = value;
   }
 
@@ -812,6 +827,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setHopDwell(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.hopDwell = value;
   }
 
@@ -843,6 +859,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setNumFreqsPerHopset(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numFreqsPerHopset = value;
   }
 
@@ -878,6 +895,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setNumHopsets(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numHopsets = value;
   }
 
@@ -911,6 +929,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setFreqBlocking(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqBlocking = value;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.rfsystem;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -88,6 +89,7 @@ public class RelatedSystem {
    * @since 3.1.0
    */
   public void setRelation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.relation = value;
   }
 
@@ -125,6 +127,7 @@ public class RelatedSystem {
    */
   @Deprecated
   public void setSerial(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.serial = value;
   }
 
@@ -234,6 +237,7 @@ public class RelatedSystem {
    * @since 3.1.0
    */
   public RelatedSystem withRfSystem(RFSystem value) {
+    SSRFChangeTracker.touch(this);
     this.rfSystem = value;
     return this;
   }
@@ -268,12 +272,7 @@ public class RelatedSystem {
     if (serial == null || !serial.isSetValue()) {
       return;
     }
-    for (RFSystem instance : root.getRFSystem()) {
-      if (serial.equals(instance.getSerial())) {
-        rfSystem = instance;
-        return;
-      }
-    }
+    rfSystem = root.getSerialIndex().find(RFSystem.class, serial);
   }//</editor-fold>
 
 }
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.satellite;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -101,6 +102,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -132,6 +134,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -169,6 +172,7 @@ public class EarthStation {
    */
   @Deprecated
   public void setLocationRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.locationRef = value;
   }
 
@@ -287,6 +291,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public EarthStation withLocation(Location value) {
+    SSRFChangeTracker.touch(this);
     this.location = value;
     return this;
   }
@@ -321,12 +326,7 @@ public class EarthStation {
     if (locationRef == null || !locationRef.isSetValue()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    location = root.getSerialIndex().find(Location.class, locationRef);
   }//</editor-fold>
 
 }
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.satellite;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Satellite;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
@@ -139,6 +140,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public void setValue(ListCAO value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -170,6 +172,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -209,6 +212,7 @@ public class ServiceArea {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -239,6 +243,7 @@ public class ServiceArea {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -265,6 +270,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -298,6 +304,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -327,6 +334,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -360,6 +368,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -380,6 +389,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withValue(ListCAO value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -392,6 +402,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -404,6 +415,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -419,6 +431,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -434,6 +447,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -449,6 +463,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -466,6 +481,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -479,6 +495,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -490,6 +507,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -503,6 +521,7 @@ public class ServiceArea {
    * @since 3.1.0
    */
   public ServiceArea withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.ssreply;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -154,6 +155,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -189,6 +191,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -220,6 +223,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -259,6 +263,7 @@ public class Comment {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -289,6 +294,7 @@ public class Comment {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -315,6 +321,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -348,6 +355,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -377,6 +385,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -410,6 +419,7 @@ public class Comment {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -430,6 +440,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -444,6 +455,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -456,6 +468,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -468,6 +481,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -483,6 +497,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -498,6 +513,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -513,6 +529,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -530,6 +547,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -543,6 +561,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -554,6 +573,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -567,6 +587,7 @@ public class Comment {
    * @since 3.1.0
    */
   public Comment withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSReply;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -138,6 +139,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setSource(TString value) {
+    SSRFChangeTracker.touch(this);
     this.source = value;
   }
 
@@ -171,6 +173,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setAuthor(TString value) {
+    SSRFChangeTracker.touch(this);
     this.author = value;
   }
 
@@ -202,6 +205,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setJobTitle(TString value) {
+    SSRFChangeTracker.touch(this);
     this.jobTitle = value;
   }
 
@@ -233,6 +237,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.date = value;
   }
 
@@ -277,6 +282,7 @@ public class CommentSource {
    * Clear the Comment field. This sets the field to null.
    */
   public void unsetComment() {
+    SSRFChangeTracker.touch(this);
     this.comment = null;
   }
 
@@ -353,6 +359,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public CommentSource withComment(Comment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getComment().addAll(Arrays.asList(values));
     }
@@ -370,6 +377,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public CommentSource withComment(Collection<Comment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getComment().addAll(values);
     }
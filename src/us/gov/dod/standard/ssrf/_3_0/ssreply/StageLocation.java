@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.ssreply;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.XmlAdapterSERIAL;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -89,6 +90,7 @@ public class StageLocation {
    */
   @Deprecated
   public void setLocSatRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.locSatRef = value;
   }
 
@@ -124,6 +126,7 @@ public class StageLocation {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    SSRFChangeTracker.touch(this);
     this.excluded = value;
   }
 
@@ -234,6 +237,7 @@ public class StageLocation {
    * @since 3.1.0
    */
   public StageLocation withLocSat(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.locSat = value;
     return this;
   }
@@ -268,18 +272,7 @@ public class StageLocation {
     if (locSatRef == null || !locSatRef.isSetValue()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
-    for (Satellite instance : root.getSatellite()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
+    locSat = root.getSerialIndex().find(locSatRef, Location.class, Satellite.class);
   }//</editor-fold>
 
 }
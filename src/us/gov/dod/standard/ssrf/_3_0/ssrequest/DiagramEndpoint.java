@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSRequest;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -141,6 +142,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.name = value;
   }
 
@@ -172,6 +174,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setIconType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.iconType = value;
   }
 
@@ -207,6 +210,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setIconPosLeft(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.iconPosLeft = value;
   }
 
@@ -246,6 +250,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setIconPosTop(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.iconPosTop = value;
   }
 
@@ -281,6 +286,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setPointToMultiPoint(TString value) {
+    SSRFChangeTracker.touch(this);
     this.pointToMultiPoint = value;
   }
 
@@ -324,6 +330,7 @@ public class DiagramEndpoint {
    * Clear the EndpointLocation field. This sets the field to null.
    */
   public void unsetEndpointLocation() {
+    SSRFChangeTracker.touch(this);
     this.endpointLocation = null;
   }
 
@@ -406,6 +413,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public DiagramEndpoint withEndpointLocation(EndpointLocation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEndpointLocation().addAll(Arrays.asList(values));
     }
@@ -423,6 +431,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public DiagramEndpoint withEndpointLocation(Collection<EndpointLocation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEndpointLocation().addAll(values);
     }
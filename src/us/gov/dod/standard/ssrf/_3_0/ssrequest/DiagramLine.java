@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSRequest;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -77,6 +78,7 @@ public class DiagramLine {
    * @since 3.1.0
    */
   public void setTxEndpointName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.txEndpointName = value;
   }
 
@@ -108,6 +110,7 @@ public class DiagramLine {
    * @since 3.1.0
    */
   public void setRxEndpointName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.rxEndpointName = value;
   }
 
@@ -141,6 +144,7 @@ public class DiagramLine {
    * @since 3.1.0
    */
   public void setConfigID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.configID = value;
   }
 
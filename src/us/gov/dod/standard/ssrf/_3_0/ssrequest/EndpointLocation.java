@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.ssrequest;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -124,6 +125,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setAntennaHeight(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.antennaHeight = value;
   }
 
@@ -157,6 +159,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    SSRFChangeTracker.touch(this);
     this.excluded = value;
   }
 
@@ -202,6 +205,7 @@ public class EndpointLocation {
    */
   @Deprecated
   public void setLocSatRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.locSatRef = value;
   }
 
@@ -235,6 +239,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setMinPointAngle(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.minPointAngle = value;
   }
 
@@ -268,6 +273,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setSiteElevation(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.siteElevation = value;
   }
 
@@ -432,6 +438,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public EndpointLocation withLocSat(Common<?> value) {
+    SSRFChangeTracker.touch(this);
     this.locSat = value;
     return this;
   }
@@ -466,18 +473,7 @@ public class EndpointLocation {
     if (locSatRef == null || !locSatRef.isSetValue()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
-    for (Satellite instance : root.getSatellite()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
+    locSat = root.getSerialIndex().find(locSatRef, Location.class, Satellite.class);
   }//</editor-fold>
 
 }
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.ssrequest;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSRequest;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
@@ -147,6 +148,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public void setValue(ListCAO value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -178,6 +180,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -217,6 +220,7 @@ public class HostNation {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -247,6 +251,7 @@ public class HostNation {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -273,6 +278,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -306,6 +312,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -335,6 +342,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -368,6 +376,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -388,6 +397,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withValue(ListCAO value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -400,6 +410,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -412,6 +423,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -427,6 +439,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -442,6 +455,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -457,6 +471,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -474,6 +489,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -487,6 +503,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -498,6 +515,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -511,6 +529,7 @@ public class HostNation {
    * @since 3.1.0
    */
   public HostNation withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.ssrequest;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -105,6 +106,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -136,6 +138,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void setSSRequestRef(TSerial value) {
+    SSRFChangeTracker.touch(this);
     this.ssRequestRef = value;
   }
 
@@ -169,6 +172,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void setJ12Number(TString value) {
+    SSRFChangeTracker.touch(this);
     this.j12Number = value;
   }
 
@@ -290,6 +294,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public RelatedSupportability withSsRequest(SSRequest value) {
+    SSRFChangeTracker.touch(this);
     this.ssRequest = value;
     return this;
   }
@@ -324,12 +329,7 @@ public class RelatedSupportability {
     if (ssRequestRef == null || !ssRequestRef.isSetValue()) {
       return;
     }
-    for (SSRequest instance : root.getSSRequest()) {
-      if (ssRequestRef.equals(instance.getSerial())) {
-        ssRequest = instance;
-        return;
-      }
-    }
+    ssRequest = root.getSerialIndex().find(SSRequest.class, ssRequestRef);
   }//</editor-fold>
 
 }
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSRequest;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -178,6 +179,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -209,6 +211,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setStartDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.startDate = value;
   }
 
@@ -243,6 +246,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setTargetDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.targetDate = value;
   }
 
@@ -276,6 +280,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setDateApprovalRequired(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.dateApprovalRequired = value;
   }
 
@@ -312,6 +317,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setTerminationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.terminationDate = value;
   }
 
@@ -346,6 +352,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setNumEquip(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numEquip = value;
   }
 
@@ -379,6 +386,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setGeoDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.geoDescription = value;
   }
 
@@ -422,6 +430,7 @@ public class Stage {
    * Clear the StageLocation field. This sets the field to null.
    */
   public void unsetStageLocation() {
+    SSRFChangeTracker.touch(this);
     this.stageLocation = null;
   }
 
@@ -576,6 +585,7 @@ public class Stage {
    * @since 3.1.0
    */
   public Stage withStageLocation(StageLocation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStageLocation().addAll(Arrays.asList(values));
     }
@@ -593,6 +603,7 @@ public class Stage {
    * @since 3.1.0
    */
   public Stage withStageLocation(Collection<StageLocation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStageLocation().addAll(values);
     }
@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSRequest;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -72,6 +73,7 @@ public class Time {
    * @since 3.1.0
    */
   public void setPeriod(TString value) {
+    SSRFChangeTracker.touch(this);
     this.period = value;
   }
 
@@ -105,6 +107,7 @@ public class Time {
    * @since 3.1.0
    */
   public void setUsageDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.usageDescription = value;
   }
 
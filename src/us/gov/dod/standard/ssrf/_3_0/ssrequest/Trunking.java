@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.SSRequest;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -302,6 +303,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setAdditionalChannelsRationale(TString value) {
+    SSRFChangeTracker.touch(this);
     this.additionalChannelsRationale = value;
   }
 
@@ -335,6 +337,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setDispatcher(TString value) {
+    SSRFChangeTracker.touch(this);
     this.dispatcher = value;
   }
 
@@ -366,6 +369,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setDispatcherExplanation(TString value) {
+    SSRFChangeTracker.touch(this);
     this.dispatcherExplanation = value;
   }
 
@@ -398,6 +402,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setEstimatedExpansionCost(TString value) {
+    SSRFChangeTracker.touch(this);
     this.estimatedExpansionCost = value;
   }
 
@@ -431,6 +436,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setExpansionTargetDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expansionTargetDate = value;
   }
 
@@ -467,6 +473,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -504,6 +511,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNSEPUse(TString value) {
+    SSRFChangeTracker.touch(this);
     this.nsepUse = value;
   }
 
@@ -535,6 +543,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNumFreqsRequired(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numFreqsRequired = value;
   }
 
@@ -566,6 +575,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNumRepeaters(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numRepeaters = value;
   }
 
@@ -597,6 +607,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNumUsers(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numUsers = value;
   }
 
@@ -630,6 +641,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setPreviousSPSDocketNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.previousSPSDocketNum = value;
   }
 
@@ -661,6 +673,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setRequestForExpansion(TString value) {
+    SSRFChangeTracker.touch(this);
     this.requestForExpansion = value;
   }
 
@@ -702,6 +715,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setSeparateSystemJustification(TString value) {
+    SSRFChangeTracker.touch(this);
     this.separateSystemJustification = value;
   }
 
@@ -733,6 +747,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -777,6 +792,7 @@ public class Trunking {
    * Clear the TrunkingAssignment field. This sets the field to null.
    */
   public void unsetTrunkingAssignment() {
+    SSRFChangeTracker.touch(this);
     this.trunkingAssignment = null;
   }
 
@@ -986,6 +1002,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public Trunking withTrunkingAssignment(TrunkingAssignment... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTrunkingAssignment().addAll(Arrays.asList(values));
     }
@@ -1004,6 +1021,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public Trunking withTrunkingAssignment(Collection<TrunkingAssignment> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTrunkingAssignment().addAll(values);
     }
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -143,6 +144,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setIsRelinquished(TString value) {
+    SSRFChangeTracker.touch(this);
     this.isRelinquished = value;
   }
 
@@ -174,6 +176,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setAgencySerialNum(TString value) {
+    SSRFChangeTracker.touch(this);
     this.agencySerialNum = value;
   }
 
@@ -209,6 +212,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -240,6 +244,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -273,6 +278,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setRelinquishmentDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.relinquishmentDate = value;
   }
 
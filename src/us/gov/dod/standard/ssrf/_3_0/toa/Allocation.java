@@ -20,6 +20,8 @@ import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
+import us.gov.dod.standard.ssrf.SSRFSerialIndex;
 import us.gov.dod.standard.ssrf._3_0.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.*;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
@@ -184,6 +186,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setAllocatedService(TString value) {
+    SSRFChangeTracker.touch(this);
     this.allocatedService = value;
   }
 
@@ -217,6 +220,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.priority = value;
   }
 
@@ -248,6 +252,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setEffectiveDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.effectiveDate = value;
   }
 
@@ -282,6 +287,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setExpirationDate(TCalendar value) {
+    SSRFChangeTracker.touch(this);
     this.expirationDate = value;
   }
 
@@ -318,6 +324,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setAllocatedByFootnote(TString value) {
+    SSRFChangeTracker.touch(this);
     this.allocatedByFootnote = value;
   }
 
@@ -362,6 +369,7 @@ public class Allocation {
    * Clear the Variance field. This sets the field to null.
    */
   public void unsetVariance() {
+    SSRFChangeTracker.touch(this);
     this.variance = null;
   }
 
@@ -394,6 +402,7 @@ public class Allocation {
    * Clear the StnClass field. This sets the field to null.
    */
   public void unsetStnClass() {
+    SSRFChangeTracker.touch(this);
     this.stnClass = null;
   }
 
@@ -428,6 +437,7 @@ public class Allocation {
    * Clear the ChannelPlanRef field. This sets the field to null.
    */
   public void unsetChannelPlanRef() {
+    SSRFChangeTracker.touch(this);
     this.channelPlanRef = null;
   }
 
@@ -459,6 +469,7 @@ public class Allocation {
    * Clear the Footnotes field. This sets the field to null.
    */
   public void unsetFootnotes() {
+    SSRFChangeTracker.touch(this);
     this.footnotes = null;
   }
 
@@ -488,6 +499,7 @@ public class Allocation {
    * Clear the BandApps field. This sets the field to null.
    */
   public void unsetBandApps() {
+    SSRFChangeTracker.touch(this);
     this.bandApps = null;
   }
 
@@ -517,6 +529,7 @@ public class Allocation {
    * Clear the BandUsers field. This sets the field to null.
    */
   public void unsetBandUsers() {
+    SSRFChangeTracker.touch(this);
     this.bandUsers = null;
   }
 
@@ -622,6 +635,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withVariance(Variance... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getVariance().addAll(Arrays.asList(values));
     }
@@ -640,6 +654,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withVariance(Collection<Variance> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getVariance().addAll(values);
     }
@@ -657,6 +672,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withStnClass(StnClass... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStnClass().addAll(Arrays.asList(values));
     }
@@ -674,6 +690,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withStnClass(Collection<StnClass> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getStnClass().addAll(values);
     }
@@ -693,6 +710,7 @@ public class Allocation {
    */
   @Deprecated
   public Allocation withChannelPlanRef(TSerial... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelPlanRef().addAll(Arrays.asList(values));
     }
@@ -712,6 +730,7 @@ public class Allocation {
    */
   @Deprecated
   public Allocation withChannelPlanRef(Collection<TSerial> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getChannelPlanRef().addAll(values);
     }
@@ -728,6 +747,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withFootnotes(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFootnotes().addAll(Arrays.asList(values));
     }
@@ -744,6 +764,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withFootnotes(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFootnotes().addAll(values);
     }
@@ -758,6 +779,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withBandApps(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandApps().addAll(Arrays.asList(values));
     }
@@ -772,6 +794,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withBandApps(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandApps().addAll(values);
     }
@@ -786,6 +809,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withBandUsers(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandUsers().addAll(Arrays.asList(values));
     }
@@ -800,6 +824,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withBandUsers(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBandUsers().addAll(values);
     }
@@ -901,6 +926,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withChannelPlan(Collection<ChannelPlan> values) {
+    SSRFChangeTracker.touch(this);
     getChannelPlan().addAll(values);
     return this;
   }
@@ -939,9 +965,11 @@ public class Allocation {
     if (channelPlanRef == null || channelPlanRef.isEmpty()) {
       return;
     }
-    for (ChannelPlan instance : root.getChannelPlan()) {
-      if (channelPlanRef.contains(instance.getSerial())) {
-        channelPlan.add(instance);
+    SSRFSerialIndex index = root.getSerialIndex();
+    for (TSerial serialRef : channelPlanRef) {
+      ChannelPlan instance = index.find(ChannelPlan.class, serialRef);
+      if (instance != null) {
+        getChannelPlan().add(instance);
       }
     }
   }//</editor-fold>
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.toa;
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.TOA;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -124,6 +125,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setIdentifier(TString value) {
+    SSRFChangeTracker.touch(this);
     this.identifier = value;
   }
 
@@ -157,6 +159,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setText(TString value) {
+    SSRFChangeTracker.touch(this);
     this.text = value;
   }
 
@@ -194,6 +197,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     this.idx = value;
   }
 
@@ -243,6 +247,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public Footnote withIdx(BigInteger value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.TOA;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -140,6 +141,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -175,6 +177,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -208,6 +211,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setUseIndicator(TString value) {
+    SSRFChangeTracker.touch(this);
     this.useIndicator = value;
   }
 
@@ -239,6 +243,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setBandNotes(TString value) {
+    SSRFChangeTracker.touch(this);
     this.bandNotes = value;
   }
 
@@ -282,6 +287,7 @@ public class FreqBand {
    * Clear the Allocation field. This sets the field to null.
    */
   public void unsetAllocation() {
+    SSRFChangeTracker.touch(this);
     this.allocation = null;
   }
 
@@ -313,6 +319,7 @@ public class FreqBand {
    * Clear the Footnotes field. This sets the field to null.
    */
   public void unsetFootnotes() {
+    SSRFChangeTracker.touch(this);
     this.footnotes = null;
   }
 
@@ -378,6 +385,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withAllocation(Allocation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAllocation().addAll(Arrays.asList(values));
     }
@@ -395,6 +403,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withAllocation(Collection<Allocation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAllocation().addAll(values);
     }
@@ -411,6 +420,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withFootnotes(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFootnotes().addAll(Arrays.asList(values));
     }
@@ -427,6 +437,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withFootnotes(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getFootnotes().addAll(values);
     }
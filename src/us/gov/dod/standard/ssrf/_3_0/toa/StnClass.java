@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_0.toa;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -137,6 +138,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -168,6 +170,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -207,6 +210,7 @@ public class StnClass {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -237,6 +241,7 @@ public class StnClass {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -263,6 +268,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -296,6 +302,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -325,6 +332,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -358,6 +366,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -378,6 +387,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -390,6 +400,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -402,6 +413,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -417,6 +429,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -432,6 +445,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -447,6 +461,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -464,6 +479,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -477,6 +493,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -488,6 +505,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -501,6 +519,7 @@ public class StnClass {
    * @since 3.1.0
    */
   public StnClass withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
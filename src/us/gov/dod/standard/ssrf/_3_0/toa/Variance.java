@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -119,6 +120,7 @@ public class Variance {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.type = value;
   }
 
@@ -152,6 +154,7 @@ public class Variance {
    * @since 3.1.0
    */
   public void setAllocatedService(TString value) {
+    SSRFChangeTracker.touch(this);
     this.allocatedService = value;
   }
 
@@ -185,6 +188,7 @@ public class Variance {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    SSRFChangeTracker.touch(this);
     this.priority = value;
   }
 
@@ -228,6 +232,7 @@ public class Variance {
    * Clear the Administration field. This sets the field to null.
    */
   public void unsetAdministration() {
+    SSRFChangeTracker.touch(this);
     this.administration = null;
   }
 
@@ -280,6 +285,7 @@ public class Variance {
    * @since 3.1.0
    */
   public Variance withAdministration(Administration... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAdministration().addAll(Arrays.asList(values));
     }
@@ -297,6 +303,7 @@ public class Variance {
    * @since 3.1.0
    */
   public Variance withAdministration(Collection<Administration> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getAdministration().addAll(values);
     }
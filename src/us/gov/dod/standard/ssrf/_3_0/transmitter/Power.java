@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
@@ -124,6 +125,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setPowerMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.powerMin = value;
   }
 
@@ -159,6 +161,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setPowerMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.powerMax = value;
   }
 
@@ -194,6 +197,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setPowerType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.powerType = value;
   }
 
@@ -227,6 +231,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    SSRFChangeTracker.touch(this);
     this.calculated = value;
   }
 
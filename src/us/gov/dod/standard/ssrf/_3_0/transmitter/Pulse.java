@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -325,6 +326,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPRRMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.prrMin = value;
   }
 
@@ -362,6 +364,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPRRMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.prrMax = value;
   }
 
@@ -399,6 +402,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPDMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pdMin = value;
   }
 
@@ -436,6 +440,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPDMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.pdMax = value;
   }
 
@@ -469,6 +474,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setDutyCycleMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.dutyCycleMin = value;
   }
 
@@ -508,6 +514,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setDutyCycleMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.dutyCycleMax = value;
   }
 
@@ -539,6 +546,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setAvgPowerMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.avgPowerMin = value;
   }
 
@@ -576,6 +584,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setAvgPowerMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.avgPowerMax = value;
   }
 
@@ -609,6 +618,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setCompRatio(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.compRatio = value;
   }
 
@@ -640,6 +650,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setCompMethod(TString value) {
+    SSRFChangeTracker.touch(this);
     this.compMethod = value;
   }
 
@@ -679,6 +690,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setRiseTime(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.riseTime = value;
   }
 
@@ -710,6 +722,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setFallTime(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.fallTime = value;
   }
 
@@ -749,6 +762,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setJustifyShortRiseTime(TString value) {
+    SSRFChangeTracker.touch(this);
     this.justifyShortRiseTime = value;
   }
 
@@ -785,6 +799,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setRadarProcessingGainMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.radarProcessingGainMax = value;
   }
 
@@ -818,6 +833,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setNumSubpulses(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numSubpulses = value;
   }
 
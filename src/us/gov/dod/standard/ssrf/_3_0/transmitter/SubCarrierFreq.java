@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.common.Remarks;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
 
@@ -140,6 +141,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public void setValue(BigDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.value = value;
   }
 
@@ -171,6 +173,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     this.cls = value;
   }
 
@@ -210,6 +213,7 @@ public class SubCarrierFreq {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    SSRFChangeTracker.touch(this);
     this.remarks = null;
   }
 
@@ -240,6 +244,7 @@ public class SubCarrierFreq {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    SSRFChangeTracker.touch(this);
     this.extReferences = null;
   }
 
@@ -266,6 +271,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     this.legacyReleasability = value;
   }
 
@@ -299,6 +305,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    SSRFChangeTracker.touch(this);
     this.quality = value;
   }
 
@@ -328,6 +335,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     this.recommendedValue = value;
   }
 
@@ -361,6 +369,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     this.availability = value;
   }
 
@@ -381,6 +390,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withValue(BigDecimal value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -393,6 +403,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withCls(ListCCL value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -405,6 +416,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withRemarks(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -420,6 +432,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withRemarks(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -435,6 +448,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withExtReferences(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -450,6 +464,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withExtReferences(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -467,6 +482,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withLegacyReleasability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -480,6 +496,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withQuality(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -491,6 +508,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withRecommendedValue(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -504,6 +522,7 @@ public class SubCarrierFreq {
    * @since 3.1.0
    */
   public SubCarrierFreq withAvailability(String value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
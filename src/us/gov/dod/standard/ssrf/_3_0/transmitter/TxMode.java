@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.Transmitter;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
@@ -622,6 +623,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setModeID(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeID = value;
   }
 
@@ -655,6 +657,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setDescription(TString value) {
+    SSRFChangeTracker.touch(this);
     this.description = value;
   }
 
@@ -692,6 +695,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setNecessaryBw(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.necessaryBw = value;
   }
 
@@ -723,6 +727,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setTunability(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tunability = value;
   }
 
@@ -756,6 +761,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setTuningMethod(TString value) {
+    SSRFChangeTracker.touch(this);
     this.tuningMethod = value;
   }
 
@@ -789,6 +795,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setNumSubCarriers(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numSubCarriers = value;
   }
 
@@ -822,6 +829,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setNumSideTones(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numSideTones = value;
   }
 
@@ -853,6 +861,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setIntermodPct(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.intermodPct = value;
   }
 
@@ -884,6 +893,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setIntermodEffect(TString value) {
+    SSRFChangeTracker.touch(this);
     this.intermodEffect = value;
   }
 
@@ -915,6 +925,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstRate(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.burstRate = value;
   }
 
@@ -946,6 +957,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstDuration(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.burstDuration = value;
   }
 
@@ -977,6 +989,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstNumPulses(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.burstNumPulses = value;
   }
 
@@ -1010,6 +1023,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstOffTime(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.burstOffTime = value;
   }
 
@@ -1043,6 +1057,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setOccBw(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.occBw = value;
   }
 
@@ -1076,6 +1091,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setOccBwCalculated(TString value) {
+    SSRFChangeTracker.touch(this);
     this.occBwCalculated = value;
   }
 
@@ -1111,6 +1127,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setSecondHarmonicLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.secondHarmonicLevel = value;
   }
 
@@ -1146,6 +1163,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setThirdHarmonicLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.thirdHarmonicLevel = value;
   }
 
@@ -1183,6 +1201,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setOtherHarmonicLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.otherHarmonicLevel = value;
   }
 
@@ -1220,6 +1239,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setSpuriousLevel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.spuriousLevel = value;
   }
 
@@ -1255,6 +1275,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setFreqTolerance(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqTolerance = value;
   }
 
@@ -1286,6 +1307,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setFreqToleranceUnit(TString value) {
+    SSRFChangeTracker.touch(this);
     this.freqToleranceUnit = value;
   }
 
@@ -1317,6 +1339,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setRadarType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.radarType = value;
   }
 
@@ -1350,6 +1373,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsNBL1Level(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.gpsNBL1Level = value;
   }
 
@@ -1383,6 +1407,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsNBL2Level(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.gpsNBL2Level = value;
   }
 
@@ -1416,6 +1441,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsWBL1Level(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.gpsWBL1Level = value;
   }
 
@@ -1449,6 +1475,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsWBL2Level(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.gpsWBL2Level = value;
   }
 
@@ -1480,6 +1507,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setModulationType(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modulationType = value;
   }
 
@@ -1511,6 +1539,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setModeName(TString value) {
+    SSRFChangeTracker.touch(this);
     this.modeName = value;
   }
 
@@ -1556,6 +1585,7 @@ public class TxMode {
    * Clear the EmsClass field. This sets the field to null.
    */
   public void unsetEmsClass() {
+    SSRFChangeTracker.touch(this);
     this.emsClass = null;
   }
 
@@ -1585,6 +1615,7 @@ public class TxMode {
    * Clear the Power field. This sets the field to null.
    */
   public void unsetPower() {
+    SSRFChangeTracker.touch(this);
     this.power = null;
   }
 
@@ -1618,6 +1649,7 @@ public class TxMode {
    * Clear the TxSignalTuning field. This sets the field to null.
    */
   public void unsetTxSignalTuning() {
+    SSRFChangeTracker.touch(this);
     this.txSignalTuning = null;
   }
 
@@ -1650,6 +1682,7 @@ public class TxMode {
    * Clear the TxModulation field. This sets the field to null.
    */
   public void unsetTxModulation() {
+    SSRFChangeTracker.touch(this);
     this.txModulation = null;
   }
 
@@ -1682,6 +1715,7 @@ public class TxMode {
    * Clear the Baseband field. This sets the field to null.
    */
   public void unsetBaseband() {
+    SSRFChangeTracker.touch(this);
     this.baseband = null;
   }
 
@@ -1711,6 +1745,7 @@ public class TxMode {
    * Clear the Pulse field. This sets the field to null.
    */
   public void unsetPulse() {
+    SSRFChangeTracker.touch(this);
     this.pulse = null;
   }
 
@@ -1746,6 +1781,7 @@ public class TxMode {
    * Clear the SubCarrierFreq field. This sets the field to null.
    */
   public void unsetSubCarrierFreq() {
+    SSRFChangeTracker.touch(this);
     this.subCarrierFreq = null;
   }
 
@@ -1775,6 +1811,7 @@ public class TxMode {
    * Clear the SubCarrierTone field. This sets the field to null.
    */
   public void unsetSubCarrierTone() {
+    SSRFChangeTracker.touch(this);
     this.subCarrierTone = null;
   }
 
@@ -1801,6 +1838,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setSpreadSpectrum(SpreadSpectrum value) {
+    SSRFChangeTracker.touch(this);
     this.spreadSpectrum = value;
   }
 
@@ -1839,6 +1877,7 @@ public class TxMode {
    * Clear the Curves field. This sets the field to null.
    */
   public void unsetCurves() {
+    SSRFChangeTracker.touch(this);
     this.curves = null;
   }
 
@@ -2219,6 +2258,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withEmsClass(EmsClass... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEmsClass().addAll(Arrays.asList(values));
     }
@@ -2238,6 +2278,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withEmsClass(Collection<EmsClass> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getEmsClass().addAll(values);
     }
@@ -2252,6 +2293,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPower(Power... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPower().addAll(Arrays.asList(values));
     }
@@ -2266,6 +2308,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPower(Collection<Power> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPower().addAll(values);
     }
@@ -2284,6 +2327,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxSignalTuning(TxSignalTuning... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxSignalTuning().addAll(Arrays.asList(values));
     }
@@ -2302,6 +2346,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxSignalTuning(Collection<TxSignalTuning> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxSignalTuning().addAll(values);
     }
@@ -2319,6 +2364,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxModulation(TxModulation... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxModulation().addAll(Arrays.asList(values));
     }
@@ -2336,6 +2382,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxModulation(Collection<TxModulation> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getTxModulation().addAll(values);
     }
@@ -2353,6 +2400,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withBaseband(Baseband... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBaseband().addAll(Arrays.asList(values));
     }
@@ -2370,6 +2418,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withBaseband(Collection<Baseband> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getBaseband().addAll(values);
     }
@@ -2384,6 +2433,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPulse(Pulse... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPulse().addAll(Arrays.asList(values));
     }
@@ -2398,6 +2448,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPulse(Collection<Pulse> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getPulse().addAll(values);
     }
@@ -2418,6 +2469,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSubCarrierFreq(SubCarrierFreq... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSubCarrierFreq().addAll(Arrays.asList(values));
     }
@@ -2438,6 +2490,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSubCarrierFreq(Collection<SubCarrierFreq> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSubCarrierFreq().addAll(values);
     }
@@ -2452,6 +2505,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSubCarrierTone(SubCarrierTone... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSubCarrierTone().addAll(Arrays.asList(values));
     }
@@ -2466,6 +2520,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSubCarrierTone(Collection<SubCarrierTone> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getSubCarrierTone().addAll(values);
     }
@@ -2483,6 +2538,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSpreadSpectrum(SpreadSpectrum value) {
+    SSRFChangeTracker.touch(this);
     return this;
   }
 
@@ -2494,6 +2550,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withCurves(BigInteger... values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurves().addAll(Arrays.asList(values));
     }
@@ -2508,6 +2565,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withCurves(Collection<BigInteger> values) {
+    SSRFChangeTracker.touch(this);
     if (values != null) {
       getCurves().addAll(values);
     }
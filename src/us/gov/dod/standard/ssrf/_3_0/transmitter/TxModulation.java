@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCSI;
@@ -257,6 +258,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setMaxDevRatio(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.maxDevRatio = value;
   }
 
@@ -298,6 +300,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setAMIdx(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.amIdx = value;
   }
 
@@ -337,6 +340,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setAMRMSIdx(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.amrmsIdx = value;
   }
 
@@ -368,6 +372,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setFMPeakFreqDev(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.fmPeakFreqDev = value;
   }
 
@@ -405,6 +410,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setFMRMSFreqDev(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.fmrmsFreqDev = value;
   }
 
@@ -438,6 +444,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setFMDeviationCode(TString value) {
+    SSRFChangeTracker.touch(this);
     this.fmDeviationCode = value;
   }
 
@@ -471,6 +478,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setFMPeakModulationIdx(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.fmPeakModulationIdx = value;
   }
 
@@ -504,6 +512,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setCarrierSuppression(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.carrierSuppression = value;
   }
 
@@ -539,6 +548,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setSidebandSuppression(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.sidebandSuppression = value;
   }
 
@@ -570,6 +580,7 @@ public class TxModulation
    * @since 3.1.0
    */
   public void setSidebandSuppressed(TString value) {
+    SSRFChangeTracker.touch(this);
     this.sidebandSuppressed = value;
   }
 
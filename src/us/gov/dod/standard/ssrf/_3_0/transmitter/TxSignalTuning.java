@@ -20,6 +20,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFChangeTracker;
 import us.gov.dod.standard.ssrf._3_0.adapter.types.*;
 import us.gov.dod.standard.ssrf._3_0.metadata.domains.*;
 
@@ -154,6 +155,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMin(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMin = value;
   }
 
@@ -189,6 +191,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMax(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.freqMax = value;
   }
 
@@ -220,6 +223,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setTuningStep(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.tuningStep = value;
   }
 
@@ -251,6 +255,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setNumPresetChannels(TInteger value) {
+    SSRFChangeTracker.touch(this);
     this.numPresetChannels = value;
   }
 
@@ -284,6 +289,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setLowestUsableChannel(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.lowestUsableChannel = value;
   }
 
@@ -317,6 +323,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setMinSeparation(TDecimal value) {
+    SSRFChangeTracker.touch(this);
     this.minSeparation = value;
   }
 
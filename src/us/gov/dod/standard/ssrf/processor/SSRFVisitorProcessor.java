@@ -0,0 +1,371 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor generating the SSRF class visitors.
+ * <p>
+ * For each concrete, public, top-level SSRF model class (i.e. each class in the
+ * {@code us.gov.dod.standard.ssrf} package tree annotated with
+ * {@code @XmlType}) this processor writes a {@code <Class>_SSRFVisitor} source
+ * file into the same package. The generated class extends
+ * {@code us.gov.dod.standard.ssrf.SSRFVisitor} and provides typed read and
+ * write access to the class fields (superclass fields first), direct
+ * instantiation of the class plus direct calls to the class prepare() and
+ * postLoad() methods.
+ * <p>
+ * The processor is compiled and registered by the {@code -pre-compile} target
+ * in {@code build.xml} and then runs as part of the normal javac task. It is
+ * not registered in the library jar. If the processor does not run the SSRF
+ * utilities fall back to reflection.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+@SupportedAnnotationTypes("javax.xml.bind.annotation.XmlType")
+public class SSRFVisitorProcessor extends AbstractProcessor {
+
+  /**
+   * "us.gov.dod.standard.ssrf". The SSRF top level package.
+   */
+  private static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
+  /**
+   * "us.gov.dod.standard.ssrf.SSRF". The SSRF root class name.
+   */
+  private static final String SSRF_CLASS = SSRF_PACKAGE + ".SSRF";
+  /**
+   * "us.gov.dod.standard.ssrf.SSRFVisitor". The visitor base class name.
+   */
+  private static final String VISITOR_CLASS = SSRF_PACKAGE + ".SSRFVisitor";
+  /**
+   * "_SSRFVisitor". The generated visitor class name suffix. This must match
+   * SSRFVisitor.CLASS_NAME_SUFFIX.
+   */
+  private static final String CLASS_NAME_SUFFIX = "_SSRFVisitor";
+
+  /**
+   * Support the current source version. The generated code is Java 7
+   * compatible.
+   * <p>
+   * @return the latest supported source version
+   */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /**
+   * Generate a visitor for each SSRF model class in this round.
+   * <p>
+   * @param annotations the XmlType annotation, if present in this round
+   * @param roundEnv    the round environment
+   * @return FALSE. The XmlType annotation is not claimed.
+   */
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (!isVisitable(element)) {
+          continue;
+        }
+        TypeElement type = (TypeElement) element;
+        try {
+          write(type);
+        } catch (IOException exception) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write SSRF visitor: " + exception.getMessage(), type);
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Determine if a visitor should be generated for an element. Only concrete,
+   * public, top-level classes within the SSRF package tree are visited. XML
+   * adapter classes are ignored.
+   * <p>
+   * @param element the annotated element
+   * @return TRUE if a visitor should be generated
+   */
+  private boolean isVisitable(Element element) {
+    if (element.getKind() != ElementKind.CLASS) {
+      return false;
+    }
+    TypeElement type = (TypeElement) element;
+    String name = type.getQualifiedName().toString();
+    return name.startsWith(SSRF_PACKAGE + ".")
+           && !name.contains(".adapter.")
+           && type.getNestingKind() == NestingKind.TOP_LEVEL
+           && type.getModifiers().contains(Modifier.PUBLIC)
+           && !type.getModifiers().contains(Modifier.ABSTRACT);
+  }
+
+  /**
+   * Get the instance fields of a class, superclass fields first and in
+   * declaration order. Static and transient fields are ignored.
+   * <p>
+   * @param type the class type
+   * @return the instance fields
+   */
+  private List<VariableElement> findFields(TypeElement type) {
+    List<TypeElement> hierarchy = new ArrayList<>();
+    for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+      hierarchy.add(0, current);
+    }
+    List<VariableElement> fields = new ArrayList<>();
+    for (TypeElement current : hierarchy) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if (!field.getModifiers().contains(Modifier.STATIC) && !field.getModifiers().contains(Modifier.TRANSIENT)) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * Get the superclass of a class type.
+   * <p>
+   * @param type the class type
+   * @return the superclass, or null if the superclass is java.lang.Object
+   */
+  private TypeElement getSuperclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  /**
+   * Find a public instance method of a class type, including inherited
+   * methods.
+   * <p>
+   * @param type          the class type
+   * @param name          the method name
+   * @param parameterType the (single) parameter type name, or null for a
+   *                      method without parameters
+   * @return TRUE if the method is found
+   */
+  private boolean hasPublicMethod(TypeElement type, String name, String parameterType) {
+    for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+      if (!method.getSimpleName().contentEquals(name)
+          || !method.getModifiers().contains(Modifier.PUBLIC)
+          || method.getModifiers().contains(Modifier.STATIC)) {
+        continue;
+      }
+      List<? extends VariableElement> parameters = method.getParameters();
+      if (parameterType == null && parameters.isEmpty()) {
+        return true;
+      }
+      if (parameterType != null
+          && parameters.size() == 1
+          && erasure(parameters.get(0).asType()).equals(parameterType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Determine if a class type has a public constructor without parameters.
+   * <p>
+   * @param type the class type
+   * @return TRUE if the class can be instantiated with {@code new}
+   */
+  private boolean hasPublicConstructor(TypeElement type) {
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get the erased source name of a type. e.g. "java.util.List".
+   * <p>
+   * @param type the type
+   * @return the erased type name
+   */
+  private String erasure(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+  /**
+   * Determine if a generated visitor references a deprecated element: the
+   * class itself, a field, the class declaring a field or the (erased) type of
+   * a field. The visitor of such a class suppresses deprecation warnings, as
+   * its references are generated and not a use of the deprecated API.
+   * <p>
+   * @param type   the class type
+   * @param fields the class instance fields
+   * @return TRUE if the visitor references a deprecated element
+   */
+  private boolean referencesDeprecated(TypeElement type, List<VariableElement> fields) {
+    if (processingEnv.getElementUtils().isDeprecated(type)) {
+      return true;
+    }
+    for (VariableElement field : fields) {
+      if (processingEnv.getElementUtils().isDeprecated(field)
+          || processingEnv.getElementUtils().isDeprecated(field.getEnclosingElement())) {
+        return true;
+      }
+      Element fieldType = processingEnv.getTypeUtils().asElement(processingEnv.getTypeUtils().erasure(field.asType()));
+      if (fieldType != null && processingEnv.getElementUtils().isDeprecated(fieldType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Write the visitor source file for a SSRF model class.
+   * <p>
+   * @param type the SSRF model class type
+   * @throws IOException if the source file cannot be written
+   */
+  private void write(TypeElement type) throws IOException {
+    String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String typeName = erasure(type.asType());
+    String visitorName = type.getSimpleName() + CLASS_NAME_SUFFIX;
+    List<VariableElement> fields = findFields(type);
+    boolean prepare = hasPublicMethod(type, "prepare", null);
+    boolean postLoadRoot = hasPublicMethod(type, "postLoad", SSRF_CLASS);
+    boolean postLoad = postLoadRoot || hasPublicMethod(type, "postLoad", null);
+    boolean instantiable = hasPublicConstructor(type);
+
+    JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName + "." + visitorName, type);
+    try (PrintWriter out = new PrintWriter(file.openWriter())) {
+      out.println("package " + packageName + ";");
+      out.println();
+      out.println("import java.lang.invoke.MethodHandle;");
+      out.println();
+      out.println("/**");
+      out.println(" * SSRF visitor for {@link " + type.getSimpleName() + "}.");
+      out.println(" * <p>");
+      out.println(" * Generated by " + getClass().getName() + ". Do not edit.");
+      out.println(" */");
+      if (referencesDeprecated(type, fields)) {
+        out.println("@SuppressWarnings(\"deprecation\")");
+      }
+      out.println("final class " + visitorName + " extends " + VISITOR_CLASS + "<" + typeName + "> {");
+      out.println();
+      /**
+       * Field getters and setters.
+       */
+      for (int i = 0; i < fields.size(); i++) {
+        VariableElement field = fields.get(i);
+        String owner = erasure(field.getEnclosingElement().asType());
+        out.println("  private static final MethodHandle F" + i + " = getter(" + owner + ".class, \"" + field.getSimpleName() + "\");");
+        out.println("  private static final MethodHandle S" + i + " = setter(" + owner + ".class, \"" + field.getSimpleName() + "\");");
+      }
+      out.println();
+      /**
+       * Constructor.
+       */
+      out.println("  " + visitorName + "() {");
+      out.println("    super(new String[]{");
+      for (int i = 0; i < fields.size(); i++) {
+        VariableElement field = fields.get(i);
+        TypeElement owner = (TypeElement) field.getEnclosingElement();
+        out.println("      \"" + processingEnv.getElementUtils().getBinaryName(owner) + "#" + field.getSimpleName() + "\"" + (i < fields.size() - 1 ? "," : ""));
+      }
+      out.println("    }, " + prepare + ", " + postLoad + ");");
+      out.println("  }");
+      out.println();
+      /**
+       * Field access.
+       */
+      out.println("  @Override");
+      out.println("  protected Object get(" + typeName + " instance, int index) throws Throwable {");
+      out.println("    switch (index) {");
+      for (int i = 0; i < fields.size(); i++) {
+        VariableElement field = fields.get(i);
+        String owner = erasure(field.getEnclosingElement().asType());
+        String argument = owner.equals(typeName) ? "instance" : "(" + owner + ") instance";
+        out.println("      case " + i + ":");
+        out.println("        return (" + erasure(field.asType()) + ") F" + i + ".invokeExact(" + argument + ");");
+      }
+      out.println("      default:");
+      out.println("        throw new IndexOutOfBoundsException(\"Field index \" + index);");
+      out.println("    }");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  protected void set(" + typeName + " instance, int index, Object value) throws Throwable {");
+      out.println("    switch (index) {");
+      for (int i = 0; i < fields.size(); i++) {
+        VariableElement field = fields.get(i);
+        String owner = erasure(field.getEnclosingElement().asType());
+        String argument = owner.equals(typeName) ? "instance" : "(" + owner + ") instance";
+        out.println("      case " + i + ":");
+        out.println("        S" + i + ".invokeExact(" + argument + ", (" + erasure(field.asType()) + ") value);");
+        out.println("        return;");
+      }
+      out.println("      default:");
+      out.println("        throw new IndexOutOfBoundsException(\"Field index \" + index);");
+      out.println("    }");
+      out.println("  }");
+      /**
+       * Instantiation and lifecycle methods.
+       */
+      if (instantiable) {
+        out.println();
+        out.println("  @Override");
+        out.println("  protected " + typeName + " newInstance() {");
+        out.println("    return new " + typeName + "();");
+        out.println("  }");
+      }
+      if (prepare) {
+        out.println();
+        out.println("  @Override");
+        out.println("  protected void prepare(" + typeName + " instance) throws Exception {");
+        out.println("    instance.prepare();");
+        out.println("  }");
+      }
+      if (postLoad) {
+        out.println();
+        out.println("  @Override");
+        out.println("  protected void postLoad(" + typeName + " instance, " + SSRF_CLASS + " root) throws Exception {");
+        out.println(postLoadRoot ? "    instance.postLoad(root);" : "    instance.postLoad();");
+        out.println("  }");
+      }
+      out.println();
+      out.println("}");
+    }
+  }
+
+}
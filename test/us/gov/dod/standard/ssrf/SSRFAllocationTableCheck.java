@@ -0,0 +1,329 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import us.gov.dod.standard.ssrf._3_0.TOA;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+import us.gov.dod.standard.ssrf._3_0.toa.Allocation;
+import us.gov.dod.standard.ssrf._3_0.toa.Footnote;
+import us.gov.dod.standard.ssrf._3_0.toa.FreqBand;
+
+/**
+ * Checks of the {@link SSRFAllocationTable} lookups.
+ * <p>
+ * Random TOA datasets are compiled and queried at band edges, inside and
+ * outside bands, and on, just before and just after the allocation dates.
+ * Each answer is compared with a scan of the TOA / FreqBand / Allocation lists
+ * in document order: a band covers FreqMin to FreqMax inclusive (FreqMin alone
+ * if there is no FreqMax) and an allocation is in force from the later of its
+ * own and its TOA effective date until, exclusive, the earlier of the
+ * expiration dates. Band edges are shared by several bands and many
+ * allocations take effect and expire on the same day, some at the same
+ * instant.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFAllocationTableCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFAllocationTableCheck {
+
+  /**
+   * The band edges (MHz).
+   */
+  private static final double[] EDGES = {100, 150, 200, 250, 300};
+  /**
+   * Midnight UTC, 17 October 2026.
+   */
+  private static final long DAY = 1792195200000L;
+  private static final long HOUR = 3600000L;
+
+  private static final Random RANDOM = new Random(22);
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    boolean findOk = true, allOk = true, compileOk = true;
+    for (int document = 0; document < 300; document++) {
+      SSRF ssrf = new SSRF();
+      for (int i = RANDOM.nextInt(3); i >= 0; i--) {
+        ssrf.getTOA().add(toa());
+      }
+      SSRFAllocationTable table = new SSRFAllocationTable(null, ssrf.getTOA());
+      Map<String, SSRFAllocationTable> tables = SSRFAllocationTable.compile(ssrf);
+      for (int query = 0; query < 200; query++) {
+        double frequency = frequency();
+        long time = time();
+        findOk &= same(table.find(frequency, time), scan(ssrf.getTOA(), frequency, time, true))
+                  && table.find(frequency, new Date(time)) == table.find(frequency, time);
+        allOk &= same(table.find(frequency), scan(ssrf.getTOA(), frequency, time, false));
+        for (Map.Entry<String, SSRFAllocationTable> entry : tables.entrySet()) {
+          compileOk &= entry.getKey() == null ? entry.getValue().getAdministration() == null : entry.getKey().equals(entry.getValue().getAdministration());
+          compileOk &= same(entry.getValue().find(frequency, time), scan(administration(ssrf, entry.getKey()), frequency, time, true));
+        }
+      }
+    }
+    check("find by frequency and date", findOk);
+    check("find by frequency", allOk);
+    check("compile by administration", compileOk);
+    checkEdges();
+    checkReferences();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Named edge cases: bands sharing an edge, a band with no FreqMax, an
+   * allocation that expires later on the day it takes effect, one that
+   * expires the instant it takes effect and one clipped by its TOA.
+   */
+  private static void checkEdges() {
+    Allocation a = allocation(null, null);
+    Allocation b = allocation(null, null);
+    Allocation c = allocation(null, null);
+    Allocation sameDay = allocation(DAY, DAY + 18 * HOUR);
+    Allocation instant = allocation(DAY, DAY);
+    Allocation next = allocation(DAY + 18 * HOUR, null);
+    Allocation clipped = allocation(null, null);
+    TOA toa = new TOA()
+      .withFreqBand(band(100.0, 200.0, a), band(200.0, 300.0, b, sameDay, instant, next), band(150.0, null, c));
+    TOA expiring = new TOA().withFreqBand(band(250.0, 300.0, clipped));
+    expiring.setExpirationDate(new TCalendar(new Date(DAY + 12 * HOUR)));
+    SSRFAllocationTable table = new SSRFAllocationTable(null, Arrays.asList(toa, expiring));
+    long noon = DAY + 12 * HOUR;
+    check("shared band edge", same(table.find(200.0, noon), Arrays.asList(a, b, sameDay))
+                              && same(table.find(Math.nextAfter(200.0, 0), noon), Arrays.asList(a))
+                              && same(table.find(Math.nextUp(200.0), noon), Arrays.asList(b, sameDay))
+                              && same(table.find(100.0, noon), Arrays.asList(a))
+                              && same(table.find(300.0, noon), Arrays.asList(b, sameDay))
+                              && table.find(Math.nextUp(300.0), noon).isEmpty()
+                              && table.find(Math.nextAfter(100.0, 0), noon).isEmpty());
+    check("band with no FreqMax", same(table.find(150.0, noon), Arrays.asList(a, c))
+                                  && same(table.find(Math.nextUp(150.0), noon), Arrays.asList(a)));
+    check("same-day expiration", same(table.find(220.0, DAY - 1), Arrays.asList(b))
+                                 && same(table.find(220.0, DAY), Arrays.asList(b, sameDay))
+                                 && same(table.find(220.0, DAY + 18 * HOUR - 1), Arrays.asList(b, sameDay))
+                                 && same(table.find(220.0, DAY + 18 * HOUR), Arrays.asList(b, next)));
+    check("expires as it takes effect", contains(table.find(220.0), instant)
+                                        && !contains(table.find(220.0, DAY - 1), instant)
+                                        && !contains(table.find(220.0, DAY), instant)
+                                        && !contains(table.find(220.0, DAY + 1), instant));
+    check("clipped to the TOA expiration", same(table.find(260.0, noon - 1), Arrays.asList(b, sameDay, clipped))
+                                           && same(table.find(260.0, noon), Arrays.asList(b, sameDay)));
+  }
+
+  /**
+   * Footnotes are resolved by idx; unresolved references are skipped.
+   */
+  private static void checkReferences() {
+    Footnote one = new Footnote();
+    one.setIdx(BigInteger.ONE);
+    Footnote two = new Footnote();
+    two.setIdx(BigInteger.valueOf(2));
+    Allocation allocation = allocation(null, null).withFootnotes(BigInteger.valueOf(2), BigInteger.valueOf(9));
+    FreqBand band = band(100.0, 200.0, allocation).withFootnotes(BigInteger.ONE);
+    TOA toa = new TOA().withFreqBand(band);
+    toa.getFootnote().add(one);
+    toa.getFootnote().add(two);
+    List<SSRFAllocationTable.Entry> found = new SSRFAllocationTable(null, Collections.singletonList(toa)).find(150.0, DAY);
+    check("footnote references", found.size() == 1
+                                 && found.get(0).getFootnotes().equals(Arrays.asList(two))
+                                 && found.get(0).getBandFootnotes().equals(Arrays.asList(one))
+                                 && found.get(0).getFreqBand() == band
+                                 && found.get(0).getTOA() == toa);
+  }
+
+  /**
+   * Scan the TOA datasets for the allocations at a frequency, in force on a
+   * date if required, in document order.
+   */
+  private static List<Allocation> scan(Collection<TOA> toas, double frequency, long time, boolean onDate) {
+    List<Allocation> found = new ArrayList<>();
+    for (TOA toa : toas) {
+      if (!toa.isSetFreqBand()) {
+        continue;
+      }
+      long toaEffective = millis(toa.getEffectiveDate(), Long.MIN_VALUE);
+      long toaExpiration = millis(toa.getExpirationDate(), Long.MAX_VALUE);
+      for (FreqBand band : toa.getFreqBand()) {
+        if (!band.isSetFreqMin() || !band.isSetAllocation()) {
+          continue;
+        }
+        double min = band.getFreqMin().getValue().doubleValue();
+        double max = band.isSetFreqMax() ? band.getFreqMax().getValue().doubleValue() : min;
+        if (Math.min(min, max) > frequency || Math.max(min, max) < frequency) {
+          continue;
+        }
+        for (Allocation allocation : band.getAllocation()) {
+          long effective = Math.max(toaEffective, millis(allocation.getEffectiveDate(), Long.MIN_VALUE));
+          long expiration = Math.min(toaExpiration, millis(allocation.getExpirationDate(), Long.MAX_VALUE));
+          if (!onDate || (effective <= time && time < expiration)) {
+            found.add(allocation);
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Create a random TOA dataset of one to six bands between the band edges.
+   * One band in five has no FreqMax and some have FreqMax below FreqMin.
+   */
+  private static TOA toa() {
+    TOA toa = new TOA();
+    int administration = RANDOM.nextInt(3);
+    if (administration > 0) {
+      toa.withAdministration(administration == 1 ? "USA" : "GBR");
+    }
+    if (RANDOM.nextInt(4) == 0) {
+      toa.setEffectiveDate(new TCalendar(new Date(date())));
+    }
+    if (RANDOM.nextInt(4) == 0) {
+      toa.setExpirationDate(new TCalendar(new Date(date())));
+    }
+    for (int i = RANDOM.nextInt(6); i >= 0; i--) {
+      Allocation[] allocations = new Allocation[1 + RANDOM.nextInt(3)];
+      for (int j = 0; j < allocations.length; j++) {
+        Long effective = RANDOM.nextInt(3) == 0 ? null : date();
+        Long expiration = RANDOM.nextInt(3) == 0 ? null : effective != null && RANDOM.nextInt(4) == 0 ? effective : date();
+        allocations[j] = allocation(effective, expiration);
+      }
+      toa.withFreqBand(band(EDGES[RANDOM.nextInt(EDGES.length)],
+                            RANDOM.nextInt(5) == 0 ? null : EDGES[RANDOM.nextInt(EDGES.length)],
+                            allocations));
+    }
+    return toa;
+  }
+
+  private static FreqBand band(Double min, Double max, Allocation... allocations) {
+    FreqBand band = new FreqBand().withFreqMin(min).withAllocation(allocations);
+    if (max != null) {
+      band.withFreqMax(max);
+    }
+    return band;
+  }
+
+  private static Allocation allocation(Long effective, Long expiration) {
+    Allocation allocation = new Allocation().withAllocatedService("FIXED");
+    if (effective != null) {
+      allocation.withEffectiveDate(new Date(effective));
+    }
+    if (expiration != null) {
+      allocation.withExpirationDate(new Date(expiration));
+    }
+    return allocation;
+  }
+
+  /**
+   * Create a random date: midnight, morning or evening of one of four days.
+   */
+  private static long date() {
+    return DAY + RANDOM.nextInt(4) * 24 * HOUR + new long[]{0, 6 * HOUR, 18 * HOUR}[RANDOM.nextInt(3)];
+  }
+
+  /**
+   * Create a random query date: an allocation date, a millisecond either side
+   * of one, or any time in the six days around them.
+   */
+  private static long time() {
+    switch (RANDOM.nextInt(4)) {
+      case 0:
+        return date();
+      case 1:
+        return date() - 1;
+      case 2:
+        return date() + 1;
+      default:
+        return DAY - 24 * HOUR + (long) (RANDOM.nextDouble() * 6 * 24 * HOUR);
+    }
+  }
+
+  /**
+   * Create a random query frequency: a band edge, a value either side of one,
+   * or any value around the bands.
+   */
+  private static double frequency() {
+    double edge = EDGES[RANDOM.nextInt(EDGES.length)];
+    switch (RANDOM.nextInt(4)) {
+      case 0:
+        return edge;
+      case 1:
+        return Math.nextUp(edge);
+      case 2:
+        return Math.nextAfter(edge, 0);
+      default:
+        return 50 + RANDOM.nextDouble() * 300;
+    }
+  }
+
+  private static List<TOA> administration(SSRF ssrf, String administration) {
+    List<TOA> toas = new ArrayList<>();
+    for (TOA toa : ssrf.getTOA()) {
+      String key = toa.isSetAdministration() ? toa.getAdministration().getValue() : null;
+      if (administration == null ? key == null : administration.equals(key)) {
+        toas.add(toa);
+      }
+    }
+    return toas;
+  }
+
+  /**
+   * Compare the allocations of a lookup with a scan, by identity: allocations
+   * with the same content are equal.
+   */
+  private static boolean same(List<SSRFAllocationTable.Entry> entries, List<Allocation> allocations) {
+    if (entries.size() != allocations.size()) {
+      return false;
+    }
+    for (int i = 0; i < entries.size(); i++) {
+      if (entries.get(i).getAllocation() != allocations.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean contains(List<SSRFAllocationTable.Entry> entries, Allocation allocation) {
+    for (SSRFAllocationTable.Entry entry : entries) {
+      if (entry.getAllocation() == allocation) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long millis(TCalendar calendar, long otherwise) {
+    return calendar != null && calendar.isSetValue() ? calendar.getValue().getTimeInMillis() : otherwise;
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * Checks of the single traversal
+ * {@link SSRFUtility#assemble(SSRF, SSRFProperties)}.
+ * <p>
+ * Two copies of random documents are assembled: one with the single
+ * traversal, the other as export did before it, with
+ * {@link SSRFUtility#setProperties(SSRFProperties, Object)} applied twice
+ * then {@link SSRFUtility#prepare(SSRF)} and
+ * {@link SSRFUtility#validate(Object)}. Both must accept or reject the same
+ * documents with the same first message, report the same violations in each
+ * validation mode and, when valid, write the same XML.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFAssembleCheck}. The process
+ * exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFAssembleCheck {
+
+  /**
+   * The entry date of every dataset.
+   */
+  private static final Date ENTRY_DATE_TIME = new Date(1792240215000L);
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    boolean acceptOk = true, messageOk = true, violationsOk = true, xmlOk = true;
+    int valid = 0, invalid = 0;
+    for (int seed = 0; seed < 200; seed++) {
+      SSRFProperties properties = properties(seed);
+      SSRF single = build(seed);
+      SSRF legacy = build(seed);
+      String singleMessage = null, legacyMessage = null;
+      try {
+        SSRFUtility.assemble(single, properties);
+      } catch (Exception exception) {
+        singleMessage = exception.getMessage();
+      }
+      try {
+        assembleLegacy(legacy, properties);
+        SSRFUtility.validate(legacy);
+      } catch (Exception exception) {
+        legacyMessage = exception.getMessage();
+      }
+      acceptOk &= (singleMessage == null) == (legacyMessage == null);
+      messageOk &= singleMessage == null ? legacyMessage == null : singleMessage.equals(legacyMessage);
+      if (singleMessage == null) {
+        valid++;
+        xmlOk &= Arrays.equals(xml(single), xml(legacy));
+      } else {
+        invalid++;
+      }
+      for (EValidationMode mode : EValidationMode.values()) {
+        SSRF singleCopy = build(seed);
+        SSRF legacyCopy = build(seed);
+        SSRFValidationResult singleResult = SSRFUtility.assemble(singleCopy, properties, new SSRFValidationResult(mode, 1000));
+        assembleLegacy(legacyCopy, properties);
+        SSRFValidationResult legacyResult = SSRFUtility.evaluate(legacyCopy, new SSRFValidationResult(mode, 1000));
+        violationsOk &= singleResult.getViolationCount() == legacyResult.getViolationCount()
+                        && singleResult.getMessages().equals(legacyResult.getMessages());
+      }
+    }
+    check("valid and invalid documents generated", valid > 20 && invalid > 20);
+    check("same documents accepted", acceptOk);
+    check("same first violation", messageOk);
+    check("same violations in each mode", violationsOk);
+    check("same XML", xmlOk);
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Assemble a document as export did before the single traversal: apply the
+   * properties twice (the second pass reaches values created by the first),
+   * then prepare.
+   */
+  private static void assembleLegacy(SSRF ssrf, SSRFProperties properties) {
+    SSRFUtility.setProperties(properties, ssrf);
+    SSRFUtility.setProperties(properties, ssrf);
+    SSRFUtility.prepare(ssrf);
+  }
+
+  /**
+   * Create a properties configuration. Most set the global classification
+   * (applied to the metadata: the Common withCls method does not set the
+   * dataset classification), some also a Location country; a few set nothing.
+   */
+  private static SSRFProperties properties(int seed) {
+    SSRFProperties properties = new SSRFProperties();
+    if (seed % 7 != 0) {
+      properties.setProperty("cls", "U");
+    }
+    if (seed % 3 == 0) {
+      properties.setProperty("Location.country", "USA");
+    }
+    return properties;
+  }
+
+  /**
+   * Build a random document of Location datasets. Classifications, countries,
+   * Point indexes and valid latitudes are each left out at random. The entry
+   * date is fixed so that two copies write the same XML. The classification and
+   * Point index are set with the setters as their with methods do not set them.
+   */
+  private static SSRF build(int seed) {
+    Random random = new Random(seed);
+    SSRF ssrf = new SSRF();
+    for (int i = random.nextInt(8); i >= 0; i--) {
+      Point point = new Point().withLat(random.nextInt(12) == 0 ? "bad" : "123456N").withLon("0123456W");
+      if (random.nextInt(12) > 0) {
+        point.setIdx(BigInteger.valueOf(i + 1));
+      }
+      Location location = new Location().withName("Location " + i).withPoint(point);
+      if (random.nextInt(4) > 0) {
+        location.withCountry(ListCAO.USA);
+      }
+      if (random.nextInt(12) > 0) {
+        location.setCls(random.nextInt(4) > 0 ? ListCCL.U : ListCCL.C);
+      }
+      location.setSerial(new TSerial("USA::LO:" + i));
+      location.setEntryDateTime(new TCalendar(ENTRY_DATE_TIME));
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  private static byte[] xml(SSRF ssrf) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    SSRFUtility.marshal(ssrf, outputStream, true, EXmlBinding.STAX);
+    return outputStream.toByteArray();
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Random;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.common.Remarks;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCY;
+
+/**
+ * Checks of the {@link SSRFBinaryCodec} encoder and decoder.
+ * <p>
+ * A SSRF instance must survive a round trip unchanged (compared by its XML
+ * output). Truncated, corrupted and handcrafted streams must be rejected with
+ * an IOException: no other exception or error may escape the decoder, and no
+ * class outside the SSRF package may be instantiated.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFBinaryCodecCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFBinaryCodecCheck {
+
+  /**
+   * The stream header: "SSRB" and format version 1.
+   */
+  private static final byte[] HEADER = {'S', 'S', 'R', 'B', 1};
+  /**
+   * The value tags used by the handcrafted streams.
+   */
+  private static final int STRING = 1, ENUM = 6, LIST = 7, OBJECT = 9;
+
+  private static final Random RANDOM = new Random(6);
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    checkRoundTrip();
+    checkTruncated();
+    checkCorrupted();
+    checkCounts();
+    checkForeignClass();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Encode and decode a SSRF instance, then compare the XML output.
+   */
+  private static void checkRoundTrip() throws Exception {
+    SSRF ssrf = build(20);
+    SSRF decoded = SSRFBinaryCodec.decode(SSRFBinaryCodec.encode(ssrf), SSRF.class);
+    check("round trip", Arrays.equals(xml(ssrf), xml(decoded)));
+    check("round trip of an empty SSRF",
+          Arrays.equals(xml(new SSRF()), xml(SSRFBinaryCodec.decode(SSRFBinaryCodec.encode(new SSRF()), SSRF.class))));
+  }
+
+  /**
+   * Every prefix of a valid stream is rejected.
+   */
+  private static void checkTruncated() throws Exception {
+    byte[] bytes = SSRFBinaryCodec.encode(build(3));
+    boolean truncatedOk = true;
+    for (int length = 0; length < bytes.length; length++) {
+      truncatedOk &= rejected(Arrays.copyOf(bytes, length));
+    }
+    check("truncated streams", truncatedOk);
+  }
+
+  /**
+   * Random bytes of a valid stream are overwritten. The decoder either returns
+   * an instance or throws an IOException.
+   */
+  private static void checkCorrupted() throws Exception {
+    byte[] bytes = SSRFBinaryCodec.encode(build(3));
+    boolean corruptedOk = true;
+    for (int i = 0; i < 5000; i++) {
+      byte[] corrupted = bytes.clone();
+      for (int j = 1 + RANDOM.nextInt(4); j > 0; j--) {
+        corrupted[HEADER.length + RANDOM.nextInt(corrupted.length - HEADER.length)] = (byte) RANDOM.nextInt(256);
+      }
+      corruptedOk &= decodes(corrupted);
+    }
+    check("corrupted streams", corruptedOk);
+  }
+
+  /**
+   * Counts and lengths larger than the stream and deeply nested values are
+   * rejected without exhausting the heap or the stack.
+   */
+  private static void checkCounts() {
+    check("huge list count", rejected(stream(LIST, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, LIST, 0)));
+    check("huge string length", rejected(stream(STRING, 0, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 'x')));
+    check("huge field name count", rejected(stream(concat(new int[]{OBJECT, 0}, string(Location.class.getName()), new int[]{0xFF, 0xFF, 0xFF, 0xFF, 0x07}))));
+    int[] nested = new int[100000];
+    for (int i = 0; i < nested.length; i += 2) {
+      nested[i] = LIST;
+      nested[i + 1] = 1;
+    }
+    check("deeply nested lists", rejected(stream(nested)));
+  }
+
+  /**
+   * Object types outside the SSRF package are rejected. Enum constants of
+   * other packages are resolved but never created.
+   */
+  private static void checkForeignClass() throws Exception {
+    check("foreign object type",
+          rejected(stream(concat(new int[]{OBJECT, 0}, string("java.io.File"), new int[]{0, 0})))
+          && rejected(stream(concat(new int[]{OBJECT, 0}, string("java.util.Date"), new int[]{0, 0}))));
+    check("enum type as an object",
+          rejected(stream(concat(new int[]{OBJECT, 0}, string(ListCCL.class.getName()), new int[]{0, 0}))));
+    check("foreign enum constant",
+          SSRFBinaryCodec.decode(stream(concat(new int[]{ENUM, 0}, string("java.util.concurrent.TimeUnit"), new int[]{1}, string("SECONDS"), new int[]{0})), Object.class) == java.util.concurrent.TimeUnit.SECONDS);
+    check("missing object type", SSRFBinaryCodec.decode(stream(concat(new int[]{LIST, 1, OBJECT, 0}, string("us.gov.dod.standard.ssrf.Missing"), new int[]{0, 0})), Object.class).equals(Arrays.asList((Object) null)));
+  }
+
+  /**
+   * Build a SSRF instance with Location datasets.
+   */
+  private static SSRF build(int datasets) {
+    SSRF ssrf = new SSRF();
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTimeInMillis(1700000000000L);
+    for (int i = 0; i < datasets; i++) {
+      Location location = new Location()
+        .withName("Location " + i)
+        .withCountry(ListCAO.USA)
+        .withPoint(new Point().withLat("123456N").withLon("0123456W").withTerrainElevation(12.5 + i))
+        .withEffectiveDate(calendar);
+      location.withRemarks(new Remarks().withValue("remark " + i));
+      location.setSerial(new TSerial("USA::LO:" + i));
+      location.setEntryDateTime(new TCalendar(calendar));
+      location.setCls(ListCCL.U);
+      location.getName().getReleasability().add(ListCCY.USA);
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  private static byte[] xml(SSRF ssrf) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    SSRFUtility.marshal(ssrf, outputStream, true, EXmlBinding.STAX);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Create a stream of a header followed by the given bytes.
+   */
+  private static byte[] stream(int... values) {
+    byte[] bytes = Arrays.copyOf(HEADER, HEADER.length + values.length);
+    for (int i = 0; i < values.length; i++) {
+      bytes[HEADER.length + i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  /**
+   * Encode a new string table entry (ASCII only).
+   */
+  private static int[] string(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+    int[] values = new int[bytes.length + 2];
+    values[1] = bytes.length;
+    for (int i = 0; i < bytes.length; i++) {
+      values[i + 2] = bytes[i];
+    }
+    return values;
+  }
+
+  private static int[] concat(int[]... parts) {
+    int[] values = new int[0];
+    for (int[] part : parts) {
+      int length = values.length;
+      values = Arrays.copyOf(values, length + part.length);
+      System.arraycopy(part, 0, values, length, part.length);
+    }
+    return values;
+  }
+
+  /**
+   * @return true if the stream decodes or is rejected with an IOException
+   */
+  private static boolean decodes(byte[] bytes) {
+    try {
+      SSRFBinaryCodec.decode(bytes, Object.class);
+      return true;
+    } catch (IOException exception) {
+      return true;
+    } catch (Throwable throwable) {
+      System.out.println("      " + throwable);
+      return false;
+    }
+  }
+
+  /**
+   * @return true if the stream is rejected with an IOException
+   */
+  private static boolean rejected(byte[] bytes) {
+    try {
+      SSRFBinaryCodec.decode(bytes, Object.class);
+      return false;
+    } catch (IOException exception) {
+      return true;
+    } catch (Throwable throwable) {
+      System.out.println("      " + throwable);
+      return false;
+    }
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * Checks of the {@link SSRFChangeTracker} incremental validator.
+ * <p>
+ * The tracker results are compared with a full evaluation after edits to one
+ * dataset and to an instance shared by two datasets. Setters must not wait
+ * for a running evaluation, and a tracker that is dropped without being closed
+ * must be garbage collected.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFChangeTrackerCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFChangeTrackerCheck {
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    checkEdits();
+    checkNotBlocked();
+    checkDropped();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Edit a dataset, an instance shared by two datasets and the dataset list.
+   */
+  private static void checkEdits() {
+    SSRF ssrf = build(50);
+    try (SSRFChangeTracker tracker = SSRFChangeTracker.track(ssrf)) {
+      check("initial evaluation", same(ssrf, tracker));
+      ssrf.getLocation().get(7).getPoint().get(0).setLat(new TString("123456N"));
+      check("dataset edit", same(ssrf, tracker));
+      TString shared = new TString("Shared");
+      ssrf.getLocation().get(1).setName(shared);
+      ssrf.getLocation().get(2).setName(shared);
+      check("shared instance", same(ssrf, tracker));
+      shared.setValue(null);
+      check("shared instance edit", same(ssrf, tracker));
+      ssrf.getLocation().remove(3);
+      check("dataset removed", same(ssrf, tracker));
+    }
+  }
+
+  /**
+   * A setter completes while another thread holds the tracker lock, as a long
+   * evaluation does.
+   */
+  private static void checkNotBlocked() throws InterruptedException {
+    final SSRF ssrf = build(10);
+    final SSRFChangeTracker tracker = SSRFChangeTracker.track(ssrf);
+    tracker.evaluate(new SSRFValidationResult());
+    final CountDownLatch locked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    Thread evaluation = new Thread() {
+      @Override
+      public void run() {
+        synchronized (tracker) {
+          locked.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    };
+    evaluation.start();
+    locked.await();
+    final CountDownLatch set = new CountDownLatch(1);
+    Thread setter = new Thread() {
+      @Override
+      public void run() {
+        ssrf.getLocation().get(0).getPoint().get(0).setLat(new TString("123456N"));
+        ssrf.getLocation().get(0).getName().setValue("Renamed");
+        set.countDown();
+      }
+    };
+    setter.start();
+    check("setter not blocked by evaluation", set.await(5, TimeUnit.SECONDS));
+    release.countDown();
+    evaluation.join();
+    setter.join();
+    check("change during evaluation detected", same(ssrf, tracker));
+    tracker.close();
+  }
+
+  /**
+   * A tracker dropped without being closed is garbage collected.
+   */
+  private static void checkDropped() throws InterruptedException {
+    SSRF ssrf = build(5);
+    WeakReference<SSRFChangeTracker> dropped = new WeakReference<>(SSRFChangeTracker.track(ssrf));
+    for (int i = 0; i < 50 && dropped.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    ssrf.getLocation().get(0).getName().setValue("Touched");
+    check("unclosed tracker is collected", dropped.get() == null);
+  }
+
+  /**
+   * Build a SSRF instance of Location datasets. Every seventh dataset has an
+   * invalid latitude.
+   */
+  private static SSRF build(int datasets) {
+    SSRF ssrf = new SSRF();
+    for (int i = 0; i < datasets; i++) {
+      Location location = new Location()
+        .withName("Location " + i)
+        .withCountry(ListCAO.USA)
+        .withPoint(new Point().withLat(i % 7 == 0 ? "bad" : "123456N").withLon("0123456W"));
+      location.setSerial(new TSerial("USA::LO:" + i));
+      location.setCls(ListCCL.U);
+      location.getName().setCls(ListCCL.U);
+      location.getCountry().setCls(ListCCL.U);
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  /**
+   * Compare the tracker result with a full evaluation in each validation mode.
+   */
+  private static boolean same(SSRF ssrf, SSRFChangeTracker tracker) {
+    for (EValidationMode mode : EValidationMode.values()) {
+      SSRFValidationResult expected = SSRFUtility.evaluate(ssrf, new SSRFValidationResult(mode, 1000));
+      SSRFValidationResult actual = tracker.evaluate(new SSRFValidationResult(mode, 1000));
+      if (!expected.getMessages().equals(actual.getMessages())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+import us.gov.dod.standard.ssrf._3_0.receiver.RxMode;
+
+/**
+ * Checks of the {@link SSRFClassDescriptor} reflection metadata.
+ * <p>
+ * Every class reachable from the SSRF root through its fields is described,
+ * and each descriptor is compared with a direct reflective scan of the class:
+ * the fields and their order, the required, collection, transient and adapter
+ * flags, the WITH setters (named for their field where possible), the
+ * prepare() and postLoad() methods and the no argument constructor. Field
+ * values written through a descriptor must be read back unchanged.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFClassDescriptorCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFClassDescriptorCheck {
+
+  private static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    Set<Class<?>> classes = reachable(SSRF.class);
+    check(classes.size() + " reachable classes", classes.size() > 100);
+    boolean fieldsOk = true, flagsOk = true, methodsOk = true, accessOk = true, cacheOk = true;
+    for (Class<?> clazz : classes) {
+      SSRFClassDescriptor descriptor = SSRFClassDescriptor.forClass(clazz);
+      cacheOk &= descriptor == SSRFClassDescriptor.forClass(clazz) && descriptor.getClazz() == clazz;
+      fieldsOk &= sameFields(descriptor);
+      flagsOk &= sameFlags(descriptor);
+      methodsOk &= sameMethods(descriptor);
+      accessOk &= readsWrites(descriptor);
+    }
+    check("descriptors are cached", cacheOk);
+    check("fields and order", fieldsOk);
+    check("field flags and adapters", flagsOk);
+    check("prepare, postLoad and constructor", methodsOk);
+    check("field values read and written", accessOk);
+    checkSpecialCases();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Classes outside the SSRF package, enums, serial and classification fields
+   * and the WITH setter overload preference.
+   */
+  private static void checkSpecialCases() {
+    check("enum and JDK classes are not inspected",
+          !SSRFClassDescriptor.forClass(ListCCL.class).isInspectable()
+          && !SSRFClassDescriptor.forClass(String.class).isInspectable()
+          && SSRFClassDescriptor.forClass(String.class).getFields().length == 0);
+    check("JDK superclass fields are skipped",
+          SSRFClassDescriptor.forClass(SSRFProperties.class).isInspectable()
+          && SSRFClassDescriptor.forClass(SSRFProperties.class).getFields().length == SSRFProperties.class.getDeclaredFields().length - statics(SSRFProperties.class));
+    SSRFClassDescriptor location = SSRFClassDescriptor.forClass(Location.class);
+    check("dataset serial field",
+          location.getSerialField() != null && location.getSerialField().getName().equals("serial")
+          && SSRFClassDescriptor.forClass(Point.class).getSerialField() == null);
+    boolean clsOk = location.getClsFields().length > 0;
+    for (FieldDescriptor field : location.getClsFields()) {
+      clsOk &= field.getField().getType() == ListCCL.class;
+    }
+    check("classification fields", clsOk);
+    check("WITH setter accepting a String is preferred",
+          withMethod(TSerial.class, "serial").getParameterTypes()[0] == String.class);
+    check("WITH setter named for the field is preferred",
+          withMethod(Location.class, "state").getName().equals("withState")
+          && withMethod(RxMode.class, "freqTolerance").getName().equals("withFreqTolerance"));
+    FieldDescriptor serial = location.getSerialField();
+    Location instance = (Location) location.newInstance();
+    serial.set(instance, new TSerial("USA::LO:1"));
+    check("serial read and written", "USA::LO:1".equals(instance.getSerial().getValue()));
+  }
+
+  /**
+   * Compare the descriptor fields with the non-static, non-transient fields
+   * declared by the SSRF classes of the hierarchy, superclass first.
+   */
+  private static boolean sameFields(SSRFClassDescriptor descriptor) {
+    List<Field> expected = new ArrayList<>();
+    if (isInspectable(descriptor.getClazz())) {
+      List<Class<?>> hierarchy = new ArrayList<>();
+      for (Class<?> type = descriptor.getClazz(); type != null && type.getName().startsWith(SSRF_PACKAGE); type = type.getSuperclass()) {
+        hierarchy.add(0, type);
+      }
+      for (Class<?> type : hierarchy) {
+        for (Field field : type.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+            expected.add(field);
+          }
+        }
+      }
+    }
+    List<Field> actual = new ArrayList<>();
+    for (FieldDescriptor field : descriptor.getFields()) {
+      actual.add(field.getField());
+    }
+    return descriptor.isInspectable() == isInspectable(descriptor.getClazz()) && actual.equals(expected);
+  }
+
+  /**
+   * Compare the field flags and adapters with the field annotations.
+   */
+  private static boolean sameFlags(SSRFClassDescriptor descriptor) {
+    for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+      Field field = fieldDescriptor.getField();
+      XmlAttribute attribute = field.getAnnotation(XmlAttribute.class);
+      XmlElement element = field.getAnnotation(XmlElement.class);
+      XmlElementRef elementRef = field.getAnnotation(XmlElementRef.class);
+      boolean required = attribute != null ? attribute.required()
+                         : element != null ? element.required()
+                           : elementRef != null && elementRef.required();
+      XmlJavaTypeAdapter adapter = field.getAnnotation(XmlJavaTypeAdapter.class);
+      boolean collection = Collection.class.isAssignableFrom(field.getType());
+      if (fieldDescriptor.isRequired() != required
+          || fieldDescriptor.isXmlTransient() != field.isAnnotationPresent(XmlTransient.class)
+          || fieldDescriptor.isCollection(new ArrayList<>()) != (collection || field.getType() == Object.class)
+          || fieldDescriptor.isCollection(null) != collection
+          || (adapter == null ? fieldDescriptor.getAdapter() != null : fieldDescriptor.getAdapter() == null || fieldDescriptor.getAdapter().getClass() != adapter.value())) {
+        System.out.println("      " + field);
+        return false;
+      }
+      Method with = fieldDescriptor.getWithMethod();
+      String withName = "with" + field.getName().toLowerCase();
+      if (with != null && !(with.getName().equalsIgnoreCase(withName)
+                            || (with.getName().toLowerCase().contains(withName) && !hasWithMethod(descriptor.getClazz(), withName)))) {
+        System.out.println("      " + with);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compare prepare(), postLoad() and the constructor with the class methods.
+   */
+  private static boolean sameMethods(SSRFClassDescriptor descriptor) {
+    Class<?> clazz = descriptor.getClazz();
+    String name = clazz.getName();
+    boolean inspectable = isInspectable(clazz);
+    boolean prepare = inspectable && !name.contains(".adapter.") && !name.contains(".metadata.") && hasMethod(clazz, "prepare");
+    boolean postLoad = inspectable && !name.contains(".adapter.") && !name.contains(".metadata.lists")
+                       && (hasMethod(clazz, "postLoad", SSRF.class) || hasMethod(clazz, "postLoad"));
+    if (descriptor.implementsPrepare() != prepare || descriptor.implementsPostLoad() != postLoad) {
+      System.out.println("      " + clazz);
+      return false;
+    }
+    if (inspectable && !Modifier.isAbstract(clazz.getModifiers()) && !clazz.isInterface()) {
+      try {
+        clazz.getDeclaredConstructor();
+      } catch (NoSuchMethodException exception) {
+        return true;
+      }
+      Object instance = descriptor.newInstance();
+      return instance != null && instance.getClass() == clazz && instance != descriptor.newInstance();
+    }
+    return true;
+  }
+
+  /**
+   * Write a value to each writable field of a new instance and read it back.
+   */
+  private static boolean readsWrites(SSRFClassDescriptor descriptor) {
+    Class<?> clazz = descriptor.getClazz();
+    if (!descriptor.isInspectable() || Modifier.isAbstract(clazz.getModifiers())) {
+      return true;
+    }
+    try {
+      clazz.getDeclaredConstructor();
+    } catch (NoSuchMethodException exception) {
+      return true;
+    }
+    Object instance = descriptor.newInstance();
+    for (FieldDescriptor field : descriptor.getFields()) {
+      Object value = sample(field.getField().getType());
+      if (value == null || Modifier.isFinal(field.getField().getModifiers())) {
+        continue;
+      }
+      field.set(instance, value);
+      if (field.get(instance) != value) {
+        System.out.println("      " + field.getField());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Create a sample value of a field type.
+   * <p>
+   * @return a value, or null if none is created for the type
+   */
+  private static Object sample(Class<?> type) {
+    if (type == String.class) {
+      return new String("sample");
+    } else if (type.isEnum()) {
+      return type.getEnumConstants()[0];
+    } else if (List.class.isAssignableFrom(type) && type.isAssignableFrom(ArrayList.class)) {
+      return new ArrayList<>();
+    } else if (Set.class.isAssignableFrom(type) && type.isAssignableFrom(LinkedHashSet.class)) {
+      return new LinkedHashSet<>();
+    } else if (type.getName().startsWith(SSRF_PACKAGE) && !Modifier.isAbstract(type.getModifiers()) && !type.isInterface()) {
+      try {
+        return SSRFClassDescriptor.forClass(type).newInstance();
+      } catch (IllegalStateException exception) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Collect the classes reachable from a class through its field types and
+   * collection element types.
+   */
+  private static Set<Class<?>> reachable(Class<?> root) {
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    List<Class<?>> queue = new ArrayList<>();
+    queue.add(root);
+    queue.add(String.class);
+    while (!queue.isEmpty()) {
+      Class<?> clazz = queue.remove(queue.size() - 1);
+      if (!classes.add(clazz) || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+        continue;
+      }
+      for (Class<?> type = clazz; type != null && type.getName().startsWith(SSRF_PACKAGE); type = type.getSuperclass()) {
+        queue.add(type);
+        for (Field field : type.getDeclaredFields()) {
+          queue.add(field.getType());
+          Type generic = field.getGenericType();
+          if (generic instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) generic).getActualTypeArguments()) {
+              if (argument instanceof Class) {
+                queue.add((Class<?>) argument);
+              }
+            }
+          }
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static boolean isInspectable(Class<?> clazz) {
+    return !clazz.isEnum() && clazz.getName().startsWith(SSRF_PACKAGE);
+  }
+
+  /**
+   * Determine if a class has a public method named (case-insensitive) exactly
+   * as a WITH setter.
+   */
+  private static boolean hasWithMethod(Class<?> clazz, String withName) {
+    for (Method method : clazz.getMethods()) {
+      if (method.getName().equalsIgnoreCase(withName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Method withMethod(Class<?> clazz, String fieldName) {
+    for (FieldDescriptor field : SSRFClassDescriptor.forClass(clazz).getFields()) {
+      if (field.getName().equals(fieldName)) {
+        return field.getWithMethod();
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+    try {
+      clazz.getMethod(name, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException exception) {
+      return false;
+    }
+  }
+
+  private static int statics(Class<?> clazz) {
+    int count = 0;
+    for (Field field : clazz.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
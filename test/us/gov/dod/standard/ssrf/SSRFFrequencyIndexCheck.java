@@ -0,0 +1,298 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import us.gov.dod.standard.ssrf.SSRFFrequencyIndex.Interval;
+import us.gov.dod.standard.ssrf._3_0.Allotment;
+import us.gov.dod.standard.ssrf._3_0.allotment.AllotFreq;
+
+/**
+ * Checks of the {@link SSRFFrequencyIndex} engine.
+ * <p>
+ * The index answers are compared with a scan of the indexed elements while
+ * changes are buffered and merged into the tree: on either side of the
+ * compaction threshold, when buffered additions are removed again and when an
+ * empty index grows one dataset at a time. Single frequencies, equal bounds
+ * and touching intervals are checked against fixed answers.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFFrequencyIndexCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFFrequencyIndexCheck {
+
+  private static final Random RANDOM = new Random(21);
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    checkCompaction();
+    checkBufferedRemoval();
+    checkGrowth();
+    checkEdges();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Buffer 31, 32, 33 and more changes to an index of 256 single-interval
+   * datasets (compaction threshold 32).
+   */
+  private static void checkCompaction() {
+    for (int changes : new int[]{31, 32, 33, 64, 300}) {
+      List<Allotment> expected = new ArrayList<>();
+      for (int i = 0; i < 256; i++) {
+        expected.add(allotment(1));
+      }
+      SSRF ssrf = new SSRF();
+      ssrf.getAllotment().addAll(expected);
+      SSRFFrequencyIndex index = new SSRFFrequencyIndex(ssrf);
+      for (int i = 0; i < changes; i++) {
+        if (i % 3 == 2) {
+          index.remove(expected.remove(RANDOM.nextInt(expected.size())));
+        } else if (i % 3 == 1) {
+          /**
+           * Replace the frequencies of an indexed dataset.
+           */
+          Allotment allotment = expected.get(RANDOM.nextInt(expected.size()));
+          allotment.getAllotFreq().clear();
+          allotment.withAllotFreq(allotFreq());
+          index.add(allotment);
+        } else {
+          Allotment allotment = allotment(1);
+          expected.add(allotment);
+          index.add(allotment);
+        }
+      }
+      check(changes + " buffered changes", matches(index, expected));
+    }
+  }
+
+  /**
+   * Datasets with several intervals are removed while their intervals are
+   * still buffered.
+   */
+  private static void checkBufferedRemoval() {
+    List<Allotment> expected = new ArrayList<>();
+    SSRFFrequencyIndex index = new SSRFFrequencyIndex();
+    boolean removalOk = true;
+    for (int i = 0; i < 200; i++) {
+      Allotment allotment = allotment(1 + RANDOM.nextInt(3));
+      expected.add(allotment);
+      index.add(allotment);
+      if (i % 4 == 3) {
+        index.remove(expected.remove(expected.size() - 1 - RANDOM.nextInt(3)));
+      }
+      removalOk &= matches(index, expected);
+    }
+    check("remove buffered additions", removalOk && !index.remove(allotment(1)));
+  }
+
+  /**
+   * An empty index grows one dataset at a time, then shrinks to empty.
+   */
+  private static void checkGrowth() {
+    List<Allotment> expected = new ArrayList<>();
+    SSRFFrequencyIndex index = new SSRFFrequencyIndex();
+    boolean growOk = index.findNearest(100) == null;
+    for (int i = 0; i < 80; i++) {
+      Allotment allotment = allotment(1);
+      expected.add(allotment);
+      index.add(allotment);
+      growOk &= matches(index, expected);
+    }
+    check("grow from empty", growOk);
+    boolean shrinkOk = true;
+    while (!expected.isEmpty()) {
+      index.remove(expected.remove(RANDOM.nextInt(expected.size())));
+      shrinkOk &= matches(index, expected);
+    }
+    check("shrink to empty", shrinkOk && index.size() == 0 && index.findNearest(100) == null);
+  }
+
+  /**
+   * Fixed intervals at the edges of the query semantics, indexed both in the
+   * tree and as buffered additions: A [100, 200] and B [200, 300] touch at
+   * 200, C is the single frequency 150 (no FreqMax), D has equal bounds
+   * [250, 250] and E has no FreqMin so is not indexed.
+   */
+  private static void checkEdges() {
+    Map<Object, String> labels = new IdentityHashMap<>();
+    SSRF ssrf = new SSRF();
+    ssrf.getAllotment().add(allotment(labels, "A", 100.0, 200.0));
+    ssrf.getAllotment().add(allotment(labels, "B", 200.0, 300.0));
+    ssrf.getAllotment().add(allotment(labels, "C", 150.0, null));
+    ssrf.getAllotment().add(allotment(labels, "D", 250.0, 250.0));
+    ssrf.getAllotment().add(allotment(labels, "E", null, 400.0));
+    SSRFFrequencyIndex buffered = new SSRFFrequencyIndex();
+    for (Allotment allotment : ssrf.getAllotment()) {
+      buffered.add(allotment);
+    }
+    for (SSRFFrequencyIndex index : new SSRFFrequencyIndex[]{new SSRFFrequencyIndex(ssrf), buffered}) {
+      String name = index == buffered ? " (buffered)" : " (tree)";
+      check("no FreqMin is not indexed" + name, index.size() == 4);
+      check("touching intervals" + name,
+            labels(labels, index.findContaining(200)).equals("AB")
+            && labels(labels, index.findOverlapping(200, 200)).equals("AB")
+            && labels(labels, index.findOverlapping(300, 400)).equals("B")
+            && labels(labels, index.findOverlapping(300.5, 400)).isEmpty()
+            && labels(labels, index.findOverlapping(50, 100)).equals("A"));
+      check("single frequency" + name,
+            labels(labels, index.findContaining(150)).equals("AC")
+            && labels(labels, index.findWithin(150, 150)).equals("C")
+            && labels(labels, index.findContaining(150, 150)).equals("AC")
+            && labels(labels, index.findWithin(100, 200)).equals("AC"));
+      check("equal bounds" + name,
+            labels(labels, index.findWithin(250, 250)).equals("D")
+            && labels(labels, index.findContaining(250, 250)).equals("BD")
+            && labels(labels, index.findContaining(240, 260)).equals("B")
+            && labels(labels, index.findWithin(200, 300)).equals("BD"));
+      Interval above = index.findNearest(350);
+      Interval below = index.findNearest(40);
+      check("nearest outside every interval" + name,
+            above != null && labels.get(above.getElement()).equals("B") && above.distance(350) == 50
+            && below != null && labels.get(below.getElement()).equals("A") && below.distance(40) == 60
+            && index.findNearest(250).distance(250) == 0);
+    }
+  }
+
+  /**
+   * Create an Allotment dataset with one labelled frequency range.
+   */
+  private static Allotment allotment(Map<Object, String> labels, String label, Double min, Double max) {
+    AllotFreq allotFreq = new AllotFreq();
+    if (min != null) {
+      allotFreq.withFreqMin(min);
+    }
+    if (max != null) {
+      allotFreq.withFreqMax(max);
+    }
+    labels.put(allotFreq, label);
+    return new Allotment().withAllotFreq(allotFreq);
+  }
+
+  /**
+   * Concatenate the labels of the interval elements, in result order.
+   */
+  private static String labels(Map<Object, String> labels, List<Interval> intervals) {
+    StringBuilder sb = new StringBuilder();
+    for (Interval interval : intervals) {
+      sb.append(labels.get(interval.getElement()));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Create an Allotment dataset with frequency ranges.
+   */
+  private static Allotment allotment(int count) {
+    Allotment allotment = new Allotment();
+    for (int i = 0; i < count; i++) {
+      allotment.withAllotFreq(allotFreq());
+    }
+    return allotment;
+  }
+
+  /**
+   * Create a frequency range between 0 and 1,000 MHz. One range in five is a
+   * single frequency (no FreqMax).
+   */
+  private static AllotFreq allotFreq() {
+    double min = RANDOM.nextInt(100000) / 100.0;
+    AllotFreq allotFreq = new AllotFreq().withFreqMin(min);
+    if (RANDOM.nextInt(5) > 0) {
+      allotFreq.withFreqMax(min + RANDOM.nextInt(5000) / 100.0);
+    }
+    return allotFreq;
+  }
+
+  /**
+   * Compare the index answers for random ranges with a scan of the elements.
+   */
+  private static boolean matches(SSRFFrequencyIndex index, List<Allotment> expected) {
+    List<double[]> ranges = new ArrayList<>();
+    List<AllotFreq> elements = new ArrayList<>();
+    for (Allotment allotment : expected) {
+      for (AllotFreq allotFreq : allotment.getAllotFreq()) {
+        double min = allotFreq.getFreqMin().doubleValue();
+        double max = allotFreq.isSetFreqMax() ? allotFreq.getFreqMax().doubleValue() : min;
+        ranges.add(new double[]{min, max});
+        elements.add(allotFreq);
+      }
+    }
+    if (index.size() != elements.size()) {
+      return false;
+    }
+    for (int q = 0; q < 30; q++) {
+      double min = RANDOM.nextInt(110000) / 100.0 - 50;
+      double max = min + RANDOM.nextInt(3000) / 100.0;
+      List<Object> overlapping = new ArrayList<>(), containing = new ArrayList<>(), within = new ArrayList<>();
+      double nearest = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < ranges.size(); i++) {
+        double[] range = ranges.get(i);
+        if (range[0] <= max && range[1] >= min) {
+          overlapping.add(elements.get(i));
+        }
+        if (range[0] <= min && range[1] >= max) {
+          containing.add(elements.get(i));
+        }
+        if (range[0] >= min && range[1] <= max) {
+          within.add(elements.get(i));
+        }
+        nearest = Math.min(nearest, min < range[0] ? range[0] - min : (min > range[1] ? min - range[1] : 0));
+      }
+      Interval found = index.findNearest(min);
+      if (!same(overlapping, index.findOverlapping(min, max))
+          || !same(containing, index.findContaining(min, max))
+          || !same(within, index.findWithin(min, max))
+          || (found == null ? !elements.isEmpty() : found.distance(min) != nearest)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compare the elements of intervals with the expected elements, and check
+   * the intervals are sorted by minimum frequency.
+   */
+  private static boolean same(List<Object> expected, List<Interval> actual) {
+    Set<Object> set = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    for (int i = 0; i < actual.size(); i++) {
+      set.add(actual.get(i).getElement());
+      if (i > 0 && actual.get(i - 1).getMin() > actual.get(i).getMin()) {
+        return false;
+      }
+    }
+    return actual.size() == expected.size() && set.size() == actual.size() && set.containsAll(expected);
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.location.Polygon;
+import us.gov.dod.standard.ssrf._3_0.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TDecimal;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
+
+/**
+ * Checks of the {@link SSRFLocationIndex} engine.
+ * <p>
+ * Covers shapes and query boxes crossing the antimeridian, and the
+ * subtraction of Excluded shapes from the area of a Location.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFLocationIndexCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFLocationIndexCheck {
+
+  /**
+   * The approximate length of one degree of latitude (km).
+   */
+  private static final double KM_PER_DEGREE = 111.19;
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    checkAntimeridian();
+    checkExcluded();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * A Polygon, an Ellipse and Points on either side of the antimeridian.
+   */
+  private static void checkAntimeridian() {
+    Location polygon = location(1).withPolygon(polygon(-1, 179, -1, -179, 1, -179, 1, 179));
+    Location ellipse = location(2).withEllipse(ellipse(10, 179.95, 20, 20));
+    Location east = location(3).withPoint(point(-5, 175));
+    Location west = location(4).withPoint(point(-5, -175));
+    Location greenwich = location(5).withPoint(point(0, 5));
+    SSRFLocationIndex index = new SSRFLocationIndex(Arrays.asList(polygon, ellipse, east, west, greenwich));
+    check("polygon contains both sides",
+          same(index.findContaining(rad(0), rad(179.5)), 1) && same(index.findContaining(rad(0), rad(-179.5)), 1));
+    check("polygon excludes outside",
+          same(index.findContaining(rad(0), rad(178.5))) && same(index.findContaining(rad(0), rad(-178.5))));
+    check("ellipse contains across",
+          same(index.findContaining(rad(10), rad(-179.95)), 2) && same(index.findContaining(rad(10), rad(179.95)), 2));
+    check("box across the antimeridian",
+          same(index.findIntersecting(rad(-10), rad(20), rad(170), rad(-170)), 1, 2, 3, 4));
+    check("box west of the antimeridian",
+          same(index.findIntersecting(rad(-10), rad(20), rad(-179.9), rad(-170)), 1, 2, 4)
+          && same(index.findIntersecting(rad(-10), rad(20), rad(-178), rad(-170)), 4));
+    check("box away from the antimeridian",
+          same(index.findIntersecting(rad(-10), rad(20), rad(0), rad(10)), 5));
+    check("near across the antimeridian",
+          same(index.findNear(rad(-5), rad(179), 1000), 1, 3, 4)
+          && same(index.findNear(rad(-5), rad(-179.9), 600), 1, 3, 4));
+  }
+
+  /**
+   * Excluded shapes are removed from the area of their Location only, and are
+   * ignored by the intersecting and near queries.
+   */
+  private static void checkExcluded() {
+    Ellipse hole = ellipse(10, 20, 10, 5).withAzimuth(90.0).withExcluded(ListCBO.YES);
+    Location square = location(1).withPolygon(polygon(9.5, 19.5, 9.5, 20.5, 10.5, 20.5, 10.5, 19.5)).withEllipse(hole);
+    Location overlap = location(2).withEllipse(ellipse(10, 20, 3, 3));
+    Location excludedOnly = location(3).withPolygon(polygon(40, 40, 40, 41, 41, 41, 41, 40).withExcluded(ListCBO.YES));
+    Location ring = location(4).withEllipse(ellipse(-30, 60, 50, 50))
+      .withPolygon(polygon(-30.1, 59.9, -30.1, 60.1, -29.9, 60.1, -29.9, 59.9).withExcluded(ListCBO.YES));
+    SSRFLocationIndex index = new SSRFLocationIndex(Arrays.asList(square, overlap, excludedOnly, ring));
+    double kmEast = 1 / (KM_PER_DEGREE * Math.cos(rad(10)));
+    check("included area", same(index.findContaining(rad(10.2), rad(20.2)), 1));
+    check("excluded ellipse major axis",
+          same(index.findContaining(rad(10), rad(20 + 8 * kmEast))));
+    check("outside excluded ellipse minor axis",
+          same(index.findContaining(rad(10 + 8 / KM_PER_DEGREE), rad(20)), 1));
+    check("exclusion is per Location", same(index.findContaining(rad(10), rad(20)), 2));
+    check("excluded polygon in an ellipse",
+          same(index.findContaining(rad(-30), rad(60))) && same(index.findContaining(rad(-30.2), rad(60)), 4));
+    check("excluded only shape",
+          same(index.findContaining(rad(40.5), rad(40.5)))
+          && same(index.findIntersecting(rad(39), rad(42), rad(39), rad(42)))
+          && same(index.findNear(rad(40.5), rad(40.5), 100)));
+  }
+
+  private static Location location(int serial) {
+    Location location = new Location();
+    location.setSerial(new TSerial("USA::LO:" + serial));
+    return location;
+  }
+
+  private static Point point(double lat, double lon) {
+    return new Point().withLat(lat(lat)).withLon(lon(lon));
+  }
+
+  /**
+   * Create a Polygon from latitude, longitude pairs (degrees).
+   */
+  private static Polygon polygon(double... coordinates) {
+    Polygon polygon = new Polygon();
+    for (int i = 0; i < coordinates.length; i += 2) {
+      polygon.withPolygonPoint(new PolygonPoint()
+        .withSequence(BigInteger.valueOf(i / 2 + 1))
+        .withLat(lat(coordinates[i]))
+        .withLon(lon(coordinates[i + 1])));
+    }
+    return polygon;
+  }
+
+  /**
+   * Create an Ellipse (axes in km). The axes are set with the setters as the
+   * TDecimal with methods do not set them.
+   */
+  private static Ellipse ellipse(double lat, double lon, double semiMajorAxis, double semiMinorAxis) {
+    Ellipse ellipse = new Ellipse().withLat(lat(lat)).withLon(lon(lon));
+    ellipse.setSemiMajorAxis(new TDecimal(semiMajorAxis));
+    ellipse.setSemiMinorAxis(new TDecimal(semiMinorAxis));
+    return ellipse;
+  }
+
+  private static String lat(double degrees) {
+    return dms(degrees, "%02d%02d%05.2f", degrees < 0 ? "S" : "N");
+  }
+
+  private static String lon(double degrees) {
+    return dms(degrees, "%03d%02d%05.2f", degrees < 0 ? "W" : "E");
+  }
+
+  private static String dms(double degrees, String format, String hemisphere) {
+    long hundredths = Math.round(Math.abs(degrees) * 360000);
+    return String.format(Locale.ROOT, format, hundredths / 360000, hundredths / 6000 % 60, hundredths % 6000 / 100.0) + hemisphere;
+  }
+
+  private static double rad(double degrees) {
+    return Math.toRadians(degrees);
+  }
+
+  /**
+   * Compare the serial numbers of a query result with the expected Location
+   * numbers, in document order.
+   */
+  private static boolean same(List<TSerial> actual, int... expected) {
+    List<String> serials = new ArrayList<>();
+    for (TSerial serial : actual) {
+      serials.add(serial.getValue());
+    }
+    List<String> expectedSerials = new ArrayList<>();
+    for (int number : expected) {
+      expectedSerials.add("USA::LO:" + number);
+    }
+    return serials.equals(expectedSerials);
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * Checks of the {@link SSRFParallelValidator} and of
+ * {@link SSRF#evaluate(SSRFValidationResult, Executor)}.
+ * <p>
+ * Two copies of the same document, which depends upon its properties being
+ * applied, are evaluated sequentially and in parallel on several executors.
+ * The violations must be identical in each validation mode. Parallel
+ * validation without an executor must reuse one shared pool.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFParallelValidatorCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFParallelValidatorCheck {
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    ExecutorService fixed = Executors.newFixedThreadPool(3);
+    try {
+      checkSameResult("shared pool", null);
+      checkSameResult("fixed thread pool", fixed);
+      checkSameResult("calling thread", new Executor() {
+        @Override
+        public void execute(Runnable command) {
+          command.run();
+        }
+      });
+    } finally {
+      fixed.shutdown();
+    }
+    checkSharedPool();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Compare the sequential and parallel evaluation of the same document.
+   */
+  private static void checkSameResult(String name, Executor executor) {
+    for (EValidationMode mode : EValidationMode.values()) {
+      for (int maxViolations : new int[]{5, 1000}) {
+        SSRFValidationResult sequential = build(500).evaluate(new SSRFValidationResult(mode, maxViolations));
+        SSRFValidationResult parallel = build(500).evaluate(new SSRFValidationResult(mode, maxViolations), executor);
+        check(name + " " + mode + " " + maxViolations,
+              sequential.getViolationCount() > 0
+              && sequential.getViolationCount() == parallel.getViolationCount()
+              && sequential.getMessages().equals(parallel.getMessages()));
+      }
+    }
+    check(name + " isValid", build(50).isValid() == build(50).isValid(executor)
+                             && valid(50).isValid() && valid(50).isValid(executor));
+  }
+
+  /**
+   * Repeated parallel validations without an executor do not create threads.
+   */
+  private static void checkSharedPool() {
+    SSRF ssrf = valid(200);
+    ssrf.isValid(null);
+    int threads = Thread.activeCount();
+    for (int i = 0; i < 50; i++) {
+      ssrf.isValid(null);
+    }
+    check("shared pool reused", Thread.activeCount() <= threads);
+  }
+
+  /**
+   * Build a document of Location datasets. The Location classification is set
+   * by the document properties, and every seventh dataset has an invalid
+   * latitude.
+   */
+  private static SSRF build(int datasets) {
+    SSRF ssrf = new SSRF();
+    SSRFProperties properties = new SSRFProperties();
+    properties.setProperty("cls", "U");
+    ssrf.setProperties(properties);
+    for (int i = 0; i < datasets; i++) {
+      Location location = new Location()
+        .withName("Location " + i)
+        .withCountry(ListCAO.USA)
+        .withPoint(new Point().withLat(i % 7 == 0 ? "bad" : "123456N").withLon("0123456W"));
+      location.setSerial(new TSerial("USA::LO:" + i));
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  /**
+   * Build a valid document of Location datasets. The Point index is set with
+   * the setter as the with method does not set it.
+   */
+  private static SSRF valid(int datasets) {
+    SSRF ssrf = build(0);
+    for (int i = 0; i < datasets; i++) {
+      Point point = new Point().withLat("123456N").withLon("0123456W");
+      point.setIdx(BigInteger.ONE);
+      Location location = new Location()
+        .withName("Location " + i)
+        .withCountry(ListCAO.USA)
+        .withPoint(point);
+      location.setSerial(new TSerial("USA::LO:" + i));
+      location.setCls(ListCCL.U);
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks of the compiled {@link SSRFProperties} lookup.
+ * <p>
+ * Random property tables are queried with random class paths and each answer
+ * of {@link SSRFProperties#getProperty(String, String, String)} is compared
+ * with the regular expression scan it replaced: the first key ending with the
+ * class path plus field, else the global field value, else the default. Where
+ * several keys match, the scan returned the first in table order and the
+ * compiled lookup must return a shortest matching key. Class paths are
+ * queried with the leading dot that assembly passes; assembly stripped it
+ * before the scan.
+ * <p>
+ * Tables are then modified through every path that bypasses put and remove
+ * (the entry, key and value views and, where the runtime provides them,
+ * replace and putIfAbsent) and each change must be seen by the next lookup.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFPropertiesCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFPropertiesCheck {
+
+  /**
+   * Class names. None is the suffix of another, so that the scan matched at
+   * class name boundaries only.
+   */
+  private static final String[] CLASSES = {"SSRF", "Location", "Point", "TSerial", "Contact", "Satellite"};
+  /**
+   * Field names.
+   */
+  private static final String[] FIELDS = {"cls", "organisation", "country", "name"};
+
+  private static final Random RANDOM = new Random(17);
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    boolean singleOk = true, severalOk = true, globalOk = true;
+    int several = 0;
+    for (int table = 0; table < 500; table++) {
+      SSRFProperties properties = build();
+      for (int query = 0; query < 50; query++) {
+        String classPath = path(1 + RANDOM.nextInt(4));
+        String fieldName = FIELDS[RANDOM.nextInt(FIELDS.length)];
+        String found = properties.getProperty("." + classPath, fieldName, "default");
+        List<String> matches = scan(properties, classPath, fieldName);
+        if (matches.isEmpty()) {
+          String global = properties.getProperty(fieldName);
+          globalOk &= found.equals(global != null ? global : "default");
+        } else if (matches.size() == 1) {
+          singleOk &= found.equals(properties.get(matches.get(0)));
+        } else {
+          several++;
+          severalOk &= isShortest(properties, matches, found);
+        }
+        /**
+         * The class level lookup that assembly falls back to.
+         */
+        String name = CLASSES[RANDOM.nextInt(CLASSES.length)];
+        matches = scan(properties, name, fieldName);
+        found = properties.getProperty(name, fieldName, null);
+        if (matches.isEmpty()) {
+          globalOk &= found == null ? properties.getProperty(fieldName) == null : found.equals(properties.getProperty(fieldName));
+        } else if (matches.size() == 1) {
+          singleOk &= found.equals(properties.get(matches.get(0)));
+        } else {
+          several++;
+          severalOk &= isShortest(properties, matches, found);
+        }
+      }
+    }
+    check("single matching key", singleOk);
+    check("several matching keys", several > 100 && severalOk);
+    check("global and default values", globalOk);
+    checkChanges();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Modify a table through the paths that bypass put and remove.
+   */
+  private static void checkChanges() throws Exception {
+    SSRFProperties properties = new SSRFProperties();
+    properties.setProperty("Location.cls", "U");
+    properties.setProperty("cls", "C");
+    check("compiled lookup", "U".equals(properties.getProperty("Location", "cls", null)));
+    for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+      if ("Location.cls".equals(entry.getKey())) {
+        entry.setValue("S");
+      }
+    }
+    check("entry setValue", "S".equals(properties.getProperty("Location", "cls", null)));
+    for (Iterator<Object> iterator = properties.keySet().iterator(); iterator.hasNext();) {
+      if ("Location.cls".equals(iterator.next())) {
+        iterator.remove();
+      }
+    }
+    check("key iterator remove", "C".equals(properties.getProperty("Location", "cls", null)));
+    properties.setProperty("Point.cls", "U");
+    properties.getProperty("Point", "cls", null);
+    properties.keySet().remove("Point.cls");
+    check("key set remove", "C".equals(properties.getProperty("Point", "cls", null)));
+    properties.setProperty("Point.cls", "U");
+    properties.getProperty("Point", "cls", null);
+    properties.values().remove("U");
+    check("value collection remove", "C".equals(properties.getProperty("Point", "cls", null)));
+    /**
+     * replace and putIfAbsent are not available to Java 7 source; call them
+     * where the runtime provides them.
+     */
+    Method replace = method("replace", Object.class, Object.class);
+    Method putIfAbsent = method("putIfAbsent", Object.class, Object.class);
+    if (replace != null && putIfAbsent != null) {
+      properties.setProperty("Location.cls", "U");
+      properties.getProperty("Location", "cls", null);
+      replace.invoke(properties, "Location.cls", "S");
+      check("replace", "S".equals(properties.getProperty("Location", "cls", null)));
+      putIfAbsent.invoke(properties, "Satellite.cls", "R");
+      check("putIfAbsent", "R".equals(properties.getProperty("Satellite", "cls", null)));
+    } else {
+      System.out.println("replace and putIfAbsent not available; skipped");
+    }
+  }
+
+  /**
+   * Build a random table of one to eight keys. A key is a field name preceded
+   * by up to three class names; a field name alone is a global value.
+   */
+  private static SSRFProperties build() {
+    SSRFProperties properties = new SSRFProperties();
+    for (int i = RANDOM.nextInt(8); i >= 0; i--) {
+      int depth = RANDOM.nextInt(4);
+      String key = FIELDS[RANDOM.nextInt(FIELDS.length)];
+      if (depth > 0) {
+        key = path(depth) + "." + key;
+      }
+      properties.setProperty(key, "value" + RANDOM.nextInt(100));
+    }
+    return properties;
+  }
+
+  /**
+   * Create a random dot-delimited class path, starting with SSRF one time in
+   * two.
+   */
+  private static String path(int depth) {
+    StringBuilder path = new StringBuilder(RANDOM.nextBoolean() ? "SSRF" : CLASSES[RANDOM.nextInt(CLASSES.length)]);
+    for (int i = 1; i < depth; i++) {
+      path.append('.').append(CLASSES[RANDOM.nextInt(CLASSES.length)]);
+    }
+    return path.toString();
+  }
+
+  /**
+   * The lookup that the compiled profile replaced: every key matching the
+   * expression {@code classPath\.fieldName$}, in table order.
+   */
+  private static List<String> scan(SSRFProperties properties, String classPath, String fieldName) {
+    List<String> matches = new ArrayList<>();
+    Pattern p = Pattern.compile(classPath + "\\." + fieldName + "$");
+    for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+      Matcher m = p.matcher((String) entry.getKey());
+      if (m.find()) {
+        matches.add((String) entry.getKey());
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Determine if a value is that of a matching key with the fewest class
+   * names.
+   */
+  private static boolean isShortest(SSRFProperties properties, List<String> matches, String value) {
+    int fewest = Integer.MAX_VALUE;
+    for (String key : matches) {
+      fewest = Math.min(fewest, key.split("\\.").length);
+    }
+    for (String key : matches) {
+      if (key.split("\\.").length == fewest && value.equals(properties.get(key))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Method method(String name, Class<?>... parameterTypes) {
+    try {
+      return Map.class.getMethod(name, parameterTypes);
+    } catch (NoSuchMethodException exception) {
+      return null;
+    }
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
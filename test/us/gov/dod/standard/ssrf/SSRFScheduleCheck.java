@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TInteger;
+
+/**
+ * Checks of the {@link SSRFSchedule} engine.
+ * <p>
+ * Covers the DaysOfMonth / DaysOfWeek "either" semantics, year rollover in
+ * {@link SSRFSchedule#previousActivation(long)}, the handling of Years
+ * values outside the scheduled range and days of month that a month does not
+ * have.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFScheduleCheck}. The process
+ * exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFScheduleCheck {
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    checkEitherDay();
+    checkPreviousActivationRollover();
+    checkYearRange();
+    checkMonthLength();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * DaysOfMonth "13" and DaysOfWeek "5" (Friday) activate on every 13th and
+   * on every Friday; each field alone restricts the days to its own values.
+   */
+  private static void checkEitherDay() {
+    SSRFSchedule either = SSRFSchedule.compile(null, null, "12", "13", null, "5", null, null);
+    SSRFSchedule dayOfMonth = SSRFSchedule.compile(null, null, "12", "13", null, null, null, null);
+    SSRFSchedule dayOfWeek = SSRFSchedule.compile(null, null, "12", null, null, "5", null, null);
+    boolean eitherOk = true, dayOfMonthOk = true, dayOfWeekOk = true;
+    Calendar calendar = utc(2026, 1, 1, 0, 0);
+    for (int i = 0; i < 730; i++) {
+      calendar.set(Calendar.HOUR_OF_DAY, 12);
+      long noon = calendar.getTimeInMillis();
+      boolean thirteenth = calendar.get(Calendar.DAY_OF_MONTH) == 13;
+      boolean friday = calendar.get(Calendar.DAY_OF_WEEK) == Calendar.FRIDAY;
+      eitherOk &= (either.nextActivation(noon - 1) == noon) == (thirteenth || friday);
+      dayOfMonthOk &= (dayOfMonth.nextActivation(noon - 1) == noon) == thirteenth;
+      dayOfWeekOk &= (dayOfWeek.nextActivation(noon - 1) == noon) == friday;
+      calendar.add(Calendar.DAY_OF_MONTH, 1);
+    }
+    check("DaysOfMonth or DaysOfWeek", eitherOk);
+    check("DaysOfMonth only", dayOfMonthOk);
+    check("DaysOfWeek only", dayOfWeekOk);
+    check("DaysOfWeek 7 is Sunday",
+          SSRFSchedule.compile(null, null, null, null, null, "7", null, null).isActive(ms(2026, 10, 18, 9, 0)));
+  }
+
+  /**
+   * previousActivation crosses year boundaries, including skipped years.
+   */
+  private static void checkPreviousActivationRollover() {
+    SSRFSchedule newYearsEve = SSRFSchedule.compile(null, "30", "23", "31", "12", null, null, null);
+    check("previous across one year",
+          newYearsEve.previousActivation(ms(2027, 1, 15, 0, 0)) == ms(2026, 12, 31, 23, 30));
+    check("previous at midnight January 1",
+          newYearsEve.previousActivation(ms(2026, 1, 1, 0, 0)) == ms(2025, 12, 31, 23, 30));
+    check("previous at the activation",
+          newYearsEve.previousActivation(ms(2026, 12, 31, 23, 30)) == ms(2026, 12, 31, 23, 30));
+    SSRFSchedule oddYears = SSRFSchedule.compile(null, "30", "23", "31", "12", null, "2025,2027", null);
+    check("previous across a skipped year",
+          oddYears.previousActivation(ms(2027, 6, 1, 0, 0)) == ms(2025, 12, 31, 23, 30));
+    check("previous before the first year",
+          oddYears.previousActivation(ms(2025, 12, 31, 23, 29)) == SSRFSchedule.NONE);
+    SSRFSchedule february29 = SSRFSchedule.compile(null, null, null, "29", "2", null, null, new TInteger(60));
+    check("previous leap day",
+          february29.previousActivation(ms(2027, 3, 1, 0, 0)) == ms(2024, 2, 29, 0, 0));
+    check("active on a leap day", february29.isActive(ms(2028, 2, 29, 0, 59))
+                                  && !february29.isActive(ms(2028, 2, 29, 1, 0)));
+  }
+
+  /**
+   * Valid Years values outside MIN_YEAR to MAX_YEAR are ignored.
+   */
+  private static void checkYearRange() {
+    SSRFSchedule past = SSRFSchedule.compile(null, null, null, null, null, null, "1850-1899", null);
+    check("years before MIN_YEAR never activate",
+          past.nextActivation(ms(1800, 1, 1, 0, 0)) == SSRFSchedule.NONE
+          && past.previousActivation(ms(2100, 12, 31, 0, 0)) == SSRFSchedule.NONE);
+    SSRFSchedule straddle = SSRFSchedule.compile(null, null, null, null, null, null, "1899-1901,2099-2999", null);
+    check("years straddling MIN_YEAR",
+          straddle.nextActivation(ms(1800, 1, 1, 0, 0)) == ms(1900, 1, 1, 0, 0));
+    check("years straddling MAX_YEAR",
+          straddle.nextActivation(ms(2099, 6, 1, 0, 0)) == ms(2100, 1, 1, 0, 0)
+          && straddle.nextActivation(ms(2100, 1, 1, 0, 0)) == SSRFSchedule.NONE);
+    check("step counts from MIN_YEAR",
+          SSRFSchedule.compile(null, null, null, null, null, null, "*/7", null)
+            .nextActivation(ms(2025, 1, 1, 0, 0)) == ms(2026, 1, 1, 0, 0));
+    check("long step", SSRFSchedule.compile(null, null, null, null, null, null, "2026-2999/2147483647", null)
+                         .nextActivation(ms(2026, 1, 1, 0, 0)) == SSRFSchedule.NONE);
+    boolean rejected;
+    try {
+      SSRFSchedule.compile(null, null, null, null, null, null, "3000", null);
+      rejected = false;
+    } catch (IllegalArgumentException exception) {
+      rejected = true;
+    }
+    check("invalid year rejected", rejected);
+  }
+
+  /**
+   * Days of month beyond the length of every selected month never activate;
+   * days beyond the length of some months skip those months.
+   */
+  private static void checkMonthLength() {
+    SSRFSchedule february30 = SSRFSchedule.compile(null, null, null, "30", "2", null, null, null);
+    check("February 30 never activates",
+          february30.nextActivation(ms(1900, 1, 1, 0, 0)) == SSRFSchedule.NONE
+          && february30.previousActivation(ms(2100, 12, 31, 0, 0)) == SSRFSchedule.NONE);
+    check("31 in 30 day months never activates",
+          SSRFSchedule.compile(null, null, null, "31", "4,6,9,11", null, null, null)
+            .nextActivation(ms(1900, 1, 1, 0, 0)) == SSRFSchedule.NONE);
+    check("February 30 or Mondays",
+          SSRFSchedule.compile(null, null, null, "30", "2", "1", null, null)
+            .nextActivation(ms(2026, 1, 1, 0, 0)) == ms(2026, 2, 2, 0, 0));
+    SSRFSchedule late = SSRFSchedule.compile(null, null, "6", "29,31", null, null, null, null);
+    SSRFSchedule lateMondays = SSRFSchedule.compile(null, null, "6", "29,31", null, "1", null, null);
+    boolean nextOk = true, previousOk = true, eitherOk = true;
+    /**
+     * Scan backward for the next activations and forward for the previous.
+     */
+    long next = SSRFSchedule.NONE, nextEither = SSRFSchedule.NONE;
+    for (Calendar calendar = utc(2029, 1, 1, 6, 0); calendar.get(Calendar.YEAR) >= 2027; calendar.add(Calendar.DAY_OF_MONTH, -1)) {
+      long activation = calendar.getTimeInMillis();
+      if (next != SSRFSchedule.NONE) {
+        nextOk &= late.nextActivation(activation) == next;
+        eitherOk &= lateMondays.nextActivation(activation) == nextEither;
+      }
+      if (isLate(calendar)) {
+        next = activation;
+      }
+      if (isLate(calendar) || calendar.get(Calendar.DAY_OF_WEEK) == Calendar.MONDAY) {
+        nextEither = activation;
+      }
+    }
+    long previous = SSRFSchedule.NONE;
+    for (Calendar calendar = utc(2027, 1, 1, 6, 0); calendar.get(Calendar.YEAR) < 2029; calendar.add(Calendar.DAY_OF_MONTH, 1)) {
+      long activation = calendar.getTimeInMillis();
+      if (isLate(calendar)) {
+        previous = activation;
+      }
+      if (previous != SSRFSchedule.NONE) {
+        previousOk &= late.previousActivation(activation + 1) == previous;
+      }
+    }
+    check("next skips short months", nextOk);
+    check("previous skips short months", previousOk);
+    check("either day in short months", eitherOk);
+  }
+
+  private static boolean isLate(Calendar calendar) {
+    return calendar.get(Calendar.DAY_OF_MONTH) == 29 || calendar.get(Calendar.DAY_OF_MONTH) == 31;
+  }
+
+  private static Calendar utc(int year, int month, int day, int hour, int minute) {
+    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    calendar.clear();
+    calendar.set(year, month - 1, day, hour, minute, 0);
+    return calendar;
+  }
+
+  private static long ms(int year, int month, int day, int hour, int minute) {
+    return utc(year, month, day, hour, minute).getTimeInMillis();
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.List;
+import java.util.Random;
+import us.gov.dod.standard.ssrf._3_0.Common;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.Note;
+import us.gov.dod.standard.ssrf._3_0.Satellite;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+
+/**
+ * Checks of the {@link SSRFSerialIndex} lookups.
+ * <p>
+ * Documents of Location, Note and Satellite datasets with colliding serial
+ * numbers are queried with random references, and each answer is compared
+ * with a scan of the dataset lists using {@link TSerial#equals(Object)}: a
+ * dataset with the identical serial number value is preferred to one with
+ * the same serial identifier component, and the first in document order (then
+ * in the requested or SchemaRoot type order) is returned.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFSerialIndexCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFSerialIndexCheck {
+
+  private static final Random RANDOM = new Random(9);
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    boolean findOk = true, findTypesOk = true, findAnyOk = true, equalsOk = true;
+    for (int document = 0; document < 50; document++) {
+      SSRF ssrf = build(RANDOM.nextInt(60));
+      SSRFSerialIndex index = new SSRFSerialIndex(ssrf);
+      for (int query = 0; query < 100; query++) {
+        TSerial reference = serial("LO", "NT", "SA");
+        Common<?> found = index.find(Location.class, reference);
+        findOk &= found == scan(reference, ssrf.getLocation());
+        Common<?> foundTypes = index.find(reference, Satellite.class, Location.class);
+        findTypesOk &= foundTypes == scan(reference, ssrf.getSatellite(), ssrf.getLocation());
+        Common<?> foundAny = index.findAny(reference);
+        findAnyOk &= foundAny == scanAny(reference, ssrf.getLocation(), ssrf.getNote(), ssrf.getSatellite());
+        equalsOk &= (found == null || reference.equals(found.getSerial()))
+                    && (found != null) == anyEqual(reference, ssrf.getLocation());
+      }
+    }
+    check("find by type", findOk);
+    check("find by several types", findTypesOk);
+    check("find any type", findAnyOk);
+    check("TSerial.equals contract", equalsOk);
+    TSerial missing = new TSerial("USA::LO:1");
+    check("empty and null references",
+          new SSRFSerialIndex(new SSRF()).findAny(missing) == null
+          && new SSRFSerialIndex(build(10)).findAny(null) == null
+          && new SSRFSerialIndex(build(10)).find(Location.class, null) == null);
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Build a document of Location, Note and Satellite datasets with colliding
+   * serial numbers. One dataset in ten has no serial number.
+   */
+  private static SSRF build(int datasets) {
+    SSRF ssrf = new SSRF();
+    for (int i = 0; i < datasets; i++) {
+      switch (RANDOM.nextInt(3)) {
+        case 0: {
+          Location location = new Location();
+          location.setSerial(RANDOM.nextInt(10) == 0 ? null : serial("LO"));
+          ssrf.getLocation().add(location);
+          break;
+        }
+        case 1: {
+          Note note = new Note();
+          note.setSerial(RANDOM.nextInt(10) == 0 ? null : serial("NT"));
+          ssrf.getNote().add(note);
+          break;
+        }
+        default: {
+          Satellite satellite = new Satellite();
+          satellite.setSerial(RANDOM.nextInt(10) == 0 ? null : serial("SA"));
+          ssrf.getSatellite().add(satellite);
+        }
+      }
+    }
+    return ssrf;
+  }
+
+  /**
+   * Create a random serial number of one of the dataset types. Countries,
+   * organisations and identifiers are drawn from small sets so that values
+   * and identifier components collide.
+   */
+  private static TSerial serial(String... types) {
+    return new TSerial((RANDOM.nextBoolean() ? "USA" : "GBR") + ":"
+                       + (RANDOM.nextBoolean() ? "" : "A1") + ":"
+                       + types[RANDOM.nextInt(types.length)] + ":"
+                       + (1 + RANDOM.nextInt(30)));
+  }
+
+  /**
+   * Scan dataset lists in turn: in each list the first dataset with the same
+   * serial number value, otherwise the first with the same serial identifier
+   * component.
+   */
+  @SafeVarargs
+  private static Common<?> scan(TSerial reference, List<? extends Common<?>>... lists) {
+    for (List<? extends Common<?>> list : lists) {
+      Common<?> found = scanAny(reference, list);
+      if (found != null) {
+        return found;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Scan all dataset lists for the same serial number value, then all for the
+   * same serial identifier component.
+   */
+  @SafeVarargs
+  private static Common<?> scanAny(TSerial reference, List<? extends Common<?>>... lists) {
+    for (List<? extends Common<?>> list : lists) {
+      for (Common<?> dataset : list) {
+        if (dataset.getSerial() != null && reference.getValue().equals(dataset.getSerial().getValue())) {
+          return dataset;
+        }
+      }
+    }
+    for (List<? extends Common<?>> list : lists) {
+      for (Common<?> dataset : list) {
+        if (dataset.getSerial() != null && reference.getSerial().equals(dataset.getSerial().getSerial())) {
+          return dataset;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean anyEqual(TSerial reference, List<? extends Common<?>> list) {
+    for (Common<?> dataset : list) {
+      if (reference.equals(dataset.getSerial())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import us.gov.dod.standard.ssrf.SSRFClassDescriptor.FieldDescriptor;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.location.Polygon;
+import us.gov.dod.standard.ssrf._3_0.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_0.metadata.IMetadataType;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+
+/**
+ * Checks of validation without exceptions:
+ * {@link SSRFUtility#evaluate(Object, SSRFValidationResult)} and
+ * {@link SSRFUtility#validate(Object)}.
+ * <p>
+ * Random documents with missing required fields, badly formatted values and
+ * subordinate classifications above their dataset classification are
+ * validated and compared with the traversal that validation used before it
+ * reported violations to a {@link SSRFValidationResult}: the same depth-first
+ * walk, which threw an Exception at the first missing field, classification
+ * or XmlAdapter marshal failure. Here the old walk records each failure
+ * instead of throwing so that it also serves as the COLLECT_ALL reference.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFValidationCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFValidationCheck {
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    boolean validateOk = true, failFastOk = true, collectAllOk = true, capOk = true, isValidOk = true, messagesOk = true;
+    int valid = 0, invalid = 0;
+    boolean[] rules = new boolean[EValidationRule.values().length];
+    for (int seed = 0; seed < 300; seed++) {
+      SSRF ssrf = build(seed);
+      List<String> reference = new ArrayList<>();
+      legacyValidate(ssrf, null, reference);
+      if (reference.isEmpty()) {
+        valid++;
+      } else {
+        invalid++;
+      }
+      /**
+       * validate() throws if and only if the old traversal failed.
+       */
+      boolean thrown = false;
+      try {
+        SSRFUtility.validate(ssrf);
+      } catch (Exception exception) {
+        thrown = true;
+      }
+      validateOk &= thrown == !reference.isEmpty();
+      /**
+       * FAIL_FAST records the violation the old traversal threw.
+       */
+      SSRFValidationResult failFast = SSRFUtility.evaluate(ssrf, new SSRFValidationResult(EValidationMode.FAIL_FAST, 1));
+      failFastOk &= reference.isEmpty()
+                    ? failFast.isValid() && failFast.getViolationCount() == 0
+                    : failFast.getViolationCount() == 1 && key(failFast.getViolations().get(0)).equals(reference.get(0));
+      /**
+       * COLLECT_ALL records every failure in traversal order.
+       */
+      SSRFValidationResult collectAll = SSRFUtility.evaluate(ssrf, new SSRFValidationResult(EValidationMode.COLLECT_ALL, 1000));
+      List<String> recorded = new ArrayList<>();
+      for (SSRFValidationResult.Violation violation : collectAll.getViolations()) {
+        recorded.add(key(violation));
+        rules[violation.getRule().ordinal()] = true;
+      }
+      collectAllOk &= recorded.equals(reference) && collectAll.getViolationCount() == reference.size()
+                      && collectAll.isValid() == reference.isEmpty();
+      /**
+       * Beyond the cap violations are counted, per rule, but not recorded.
+       */
+      SSRFValidationResult capped = SSRFUtility.evaluate(ssrf, new SSRFValidationResult(EValidationMode.COLLECT_ALL, 2));
+      capOk &= capped.getViolations().size() == Math.min(2, reference.size())
+               && capped.getViolationCount() == reference.size()
+               && capped.isTruncated() == reference.size() > 2;
+      for (EValidationRule rule : EValidationRule.values()) {
+        capOk &= capped.getViolationCount(rule) == count(reference, rule);
+      }
+      isValidOk &= ssrf.isValid() == reference.isEmpty();
+      messagesOk &= SSRFUtility.evaluate(ssrf).isEmpty() == reference.isEmpty();
+    }
+    check("valid and invalid documents generated", valid > 30 && invalid > 30);
+    check("every rule violated", rules[EValidationRule.REQUIRED.ordinal()]
+                                 && rules[EValidationRule.CLASSIFICATION.ordinal()]
+                                 && rules[EValidationRule.FORMAT.ordinal()]);
+    check("validate throws as before", validateOk);
+    check("FAIL_FAST first violation", failFastOk);
+    check("COLLECT_ALL violations", collectAllOk);
+    check("COLLECT_ALL maximum", capOk);
+    check("SSRF.isValid", isValidOk);
+    check("evaluate messages", messagesOk);
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * The validation traversal as it was before violations were reported to a
+   * validation result, recording each failure rather than throwing at the
+   * first. Two failures of the old walk are corrected as validation now does:
+   * a missing subordinate classification is left to the REQUIRED rule (the old
+   * comparison threw a NullPointerException) and metadata values are checked
+   * by their plain value (see {@link #legacyMarshals(XmlAdapter, Object)}).
+   */
+  @SuppressWarnings("AssignmentToMethodParameter")
+  private static void legacyValidate(Object instance, ListCCL cls, List<String> failures) {
+    SSRFClassDescriptor descriptor = SSRFClassDescriptor.forInstance(instance);
+    if (!descriptor.isInspectable()) {
+      return;
+    }
+    if (cls != null) {
+      for (FieldDescriptor field : descriptor.getClsFields()) {
+        ListCCL fieldCls = (ListCCL) field.get(instance);
+        if (fieldCls != null && cls.compareTo(fieldCls) < 0) {
+          failures.add(EValidationRule.CLASSIFICATION + " " + field.getName());
+        }
+      }
+    } else {
+      for (FieldDescriptor field : descriptor.getClsFields()) {
+        cls = (ListCCL) field.get(instance);
+      }
+    }
+    for (FieldDescriptor field : descriptor.getFields()) {
+      Object fieldValue = field.get(instance);
+      if (field.isRequired() && fieldValue == null) {
+        failures.add(EValidationRule.REQUIRED + " " + field.getName());
+      }
+      if (fieldValue == null) {
+        continue;
+      }
+      if (field.isCollection(fieldValue)) {
+        for (Object entry : (Collection<?>) fieldValue) {
+          if (entry != null) {
+            legacyValidate(entry, cls, failures);
+          }
+        }
+      } else {
+        legacyValidate(fieldValue, cls, failures);
+        XmlAdapter<Object, Object> adapter = field.getAdapter();
+        if (adapter != null && !legacyMarshals(adapter, fieldValue)) {
+          failures.add(EValidationRule.FORMAT + " " + field.getName());
+        }
+      }
+    }
+  }
+
+  /**
+   * The old XmlAdapter check: marshal the value and fail on any Exception. A
+   * metadata value (e.g. TString) given to an adapter of its plain value
+   * failed with a ClassCastException; it is retried with the plain value.
+   */
+  private static boolean legacyMarshals(XmlAdapter<Object, Object> adapter, Object fieldValue) {
+    try {
+      adapter.marshal(fieldValue);
+      return true;
+    } catch (ClassCastException exception) {
+      return fieldValue instanceof IMetadataType && legacyMarshals(adapter, ((IMetadataType) fieldValue).getValue());
+    } catch (Exception exception) {
+      return false;
+    }
+  }
+
+  /**
+   * Build a random document of Location datasets with Points and Polygons.
+   * Classifications, Point indexes, PolygonPoint sequences and valid
+   * latitudes are each left out at random, and some Names are classified
+   * above their Location. Classifications, indexes and sequences are set with
+   * the setters as their with methods do not set them.
+   */
+  private static SSRF build(int seed) {
+    Random random = new Random(seed);
+    SSRF ssrf = new SSRF();
+    for (int i = random.nextInt(4); i >= 0; i--) {
+      Location location = new Location().withName("Location " + i).withCountry(ListCAO.USA);
+      location.setSerial(new TSerial("USA::LO:" + i));
+      location.getSerial().setCls(ListCCL.U);
+      location.getEntryDateTime().setCls(ListCCL.U);
+      location.getName().setCls(random.nextInt(20) == 0 ? ListCCL.S : ListCCL.U);
+      location.getCountry().setCls(ListCCL.U);
+      if (random.nextInt(20) > 0) {
+        location.setCls(ListCCL.C);
+      }
+      for (int p = random.nextInt(3); p >= 0; p--) {
+        Point point = new Point().withLat(random.nextInt(25) == 0 ? "bad" : "123456N").withLon("0123456W");
+        point.getLat().setCls(ListCCL.U);
+        point.getLon().setCls(ListCCL.U);
+        if (random.nextInt(25) > 0) {
+          point.setIdx(BigInteger.valueOf(p + 1));
+        }
+        location.withPoint(point);
+      }
+      if (random.nextBoolean()) {
+        Polygon polygon = new Polygon();
+        polygon.setIdx(BigInteger.ONE);
+        for (int p = 1; p <= 3; p++) {
+          PolygonPoint polygonPoint = new PolygonPoint().withLat("100000N").withLon(random.nextInt(30) == 0 ? "east" : "0200000E");
+          polygonPoint.getLat().setCls(ListCCL.U);
+          polygonPoint.getLon().setCls(ListCCL.U);
+          if (random.nextInt(30) > 0) {
+            polygonPoint.setSequence(BigInteger.valueOf(p));
+          }
+          polygon.withPolygonPoint(polygonPoint);
+        }
+        location.withPolygon(polygon);
+      }
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  /**
+   * The rule and field name of a violation, as recorded by the reference.
+   */
+  private static String key(SSRFValidationResult.Violation violation) {
+    return violation.getRule() + " " + violation.getFieldName();
+  }
+
+  private static int count(List<String> failures, EValidationRule rule) {
+    int count = 0;
+    for (String failure : failures) {
+      if (failure.startsWith(rule + " ")) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+
+/**
+ * Checks of the {@link SSRFValidityIndex} engine.
+ * <p>
+ * The index answers are compared with a scan of the datasets while changes
+ * are buffered and merged into the tree: on either side of the compaction
+ * threshold, after changes made through the model setters, and after the
+ * index has been closed or dropped without being closed. Unset dates, expired
+ * and empty validity windows and the instants at either end of a window are
+ * checked against fixed answers.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFValidityIndexCheck}. The
+ * process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFValidityIndexCheck {
+
+  /**
+   * The epoch millisecond range of the generated dates.
+   */
+  private static final long SPAN = 1000000L;
+
+  private static final Random RANDOM = new Random(25);
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    checkCompaction();
+    checkSetters();
+    checkClose();
+    checkEdges();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Buffer 31, 32, 33 and more changes to an index of 256 datasets (compaction
+   * threshold 32), and grow an empty index one dataset at a time.
+   */
+  private static void checkCompaction() {
+    List<Location> indexed = new ArrayList<>();
+    for (int i = 0; i < 256; i++) {
+      indexed.add(location());
+    }
+    for (int changes : new int[]{31, 32, 33, 64, 300}) {
+      List<Location> expected = new ArrayList<>(indexed);
+      try (SSRFValidityIndex<Location> index = new SSRFValidityIndex<>(Location.class, expected)) {
+        for (int i = 0; i < changes; i++) {
+          if (i % 3 == 2 && !expected.isEmpty()) {
+            index.remove(expected.remove(RANDOM.nextInt(expected.size())));
+          } else {
+            Location location = location();
+            expected.add(location);
+            index.add(location);
+          }
+        }
+        check(changes + " buffered changes", index, expected);
+      }
+    }
+    List<Location> expected = new ArrayList<>();
+    boolean growOk = true;
+    try (SSRFValidityIndex<Location> index = new SSRFValidityIndex<>(Location.class)) {
+      for (int i = 0; i < 80; i++) {
+        Location location = location();
+        expected.add(location);
+        index.add(location);
+        growOk &= matches(index, expected);
+      }
+    }
+    check("grow from empty", growOk);
+  }
+
+  /**
+   * Date changes made through the dataset and date setters are re-read.
+   */
+  private static void checkSetters() {
+    List<Location> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      expected.add(location());
+    }
+    try (SSRFValidityIndex<Location> index = new SSRFValidityIndex<>(Location.class, expected)) {
+      for (int i = 0; i < 40; i++) {
+        Location location = expected.get(RANDOM.nextInt(expected.size()));
+        if (i % 2 == 0) {
+          location.setExpirationDate(new TCalendar(new Date(RANDOM.nextInt((int) SPAN))));
+        } else if (location.getReviewDate() != null) {
+          location.getReviewDate().setValue(new Date(RANDOM.nextInt((int) SPAN)));
+        } else {
+          location.setReviewDate(new TCalendar(new Date(RANDOM.nextInt((int) SPAN))));
+        }
+      }
+      check("setter changes", index, expected);
+    }
+  }
+
+  /**
+   * A closed index is empty, and an index that is dropped without being
+   * closed is garbage collected.
+   */
+  private static void checkClose() throws InterruptedException {
+    Location location = location();
+    SSRFValidityIndex<Location> index = new SSRFValidityIndex<>(Location.class, Collections.singletonList(location));
+    index.close();
+    location.setExpirationDate(new TCalendar(new Date(SPAN / 2)));
+    check("closed index is empty", index.size() == 0 && index.findActive(0, SPAN).isEmpty());
+    WeakReference<?> dropped = new WeakReference<>(new SSRFValidityIndex<>(Location.class, Collections.singletonList(location)));
+    for (int i = 0; i < 50 && dropped.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    location.setExpirationDate(new TCalendar(new Date(SPAN / 3)));
+    check("unclosed index is collected", dropped.get() == null);
+  }
+
+  /**
+   * Fixed datasets at the edges of the query semantics, indexed both in the
+   * tree and as buffered additions: A has no dates, B is active from 1,000
+   * until 2,000 and due for review at 1,000, C is effective and expires at
+   * 3,000, D expires at 500, E is effective from 5,000 with date elements
+   * that have no value, and F expires at 3,500 before it is effective at
+   * 4,000.
+   */
+  private static void checkEdges() {
+    Map<Location, String> labels = new IdentityHashMap<>();
+    List<Location> datasets = new ArrayList<>();
+    datasets.add(location(labels, "A", null, null, null));
+    datasets.add(location(labels, "B", 1000L, 2000L, 1000L));
+    datasets.add(location(labels, "C", 3000L, 3000L, null));
+    datasets.add(location(labels, "D", null, 500L, null));
+    Location e = location(labels, "E", 5000L, null, null);
+    e.setExpirationDate(new TCalendar());
+    e.setReviewDate(new TCalendar());
+    datasets.add(e);
+    datasets.add(location(labels, "F", 4000L, 3500L, null));
+    try (SSRFValidityIndex<Location> tree = new SSRFValidityIndex<>(Location.class, datasets);
+         SSRFValidityIndex<Location> buffered = new SSRFValidityIndex<>(Location.class)) {
+      for (Location location : datasets) {
+        buffered.add(location);
+      }
+      for (SSRFValidityIndex<Location> index : Arrays.asList(tree, buffered)) {
+        String name = index == buffered ? " (buffered)" : " (tree)";
+        check("unset dates" + name,
+              labels(labels, index.findActive(Long.MIN_VALUE)).equals("AD")
+              && labels(labels, index.findActive(1000000000L)).equals("AE")
+              && labels(labels, index.findExpiring(Long.MIN_VALUE, Long.MAX_VALUE)).equals("BCDF")
+              && labels(labels, index.findReviewDue(Long.MIN_VALUE, Long.MAX_VALUE)).equals("B"));
+        check("expired window" + name,
+              labels(labels, index.findActive(499)).equals("AD")
+              && labels(labels, index.findActive(500)).equals("A")
+              && labels(labels, index.findActive(600, 900)).equals("A")
+              && labels(labels, index.findExpiring(500, 501)).equals("D"));
+        check("effective equals expiration" + name,
+              labels(labels, index.findActive(3000)).equals("A")
+              && labels(labels, index.findActive(2000, 4500)).equals("A")
+              && labels(labels, index.findExpiring(3000, 3001)).equals("C"));
+        check("window boundaries" + name,
+              labels(labels, index.findActive(999)).equals("A")
+              && labels(labels, index.findActive(1000)).equals("AB")
+              && labels(labels, index.findActive(1999)).equals("AB")
+              && labels(labels, index.findActive(2000)).equals("A")
+              && labels(labels, index.findActive(4999)).equals("A")
+              && labels(labels, index.findActive(5000)).equals("AE")
+              && labels(labels, index.findActive(1999, 2000)).equals("AB")
+              && labels(labels, index.findActive(2000, 5000)).equals("A")
+              && labels(labels, index.findExpiring(1999, 2000)).isEmpty()
+              && labels(labels, index.findExpiring(2000, 2001)).equals("B")
+              && labels(labels, index.findReviewDue(999, 1000)).isEmpty()
+              && labels(labels, index.findReviewDue(1000, 1001)).equals("B"));
+      }
+      datasets.get(2).setExpirationDate(new TCalendar(new Date(3001)));
+      check("empty window made active", labels(labels, tree.findActive(3000)).equals("AC"));
+    }
+  }
+
+  /**
+   * Create a Location dataset with fixed dates (epoch milliseconds). Null
+   * dates are not set.
+   */
+  private static Location location(Map<Location, String> labels, String label, Long effective, Long expiration, Long review) {
+    Location location = new Location();
+    if (effective != null) {
+      location.setEffectiveDate(new TCalendar(new Date(effective)));
+    }
+    if (expiration != null) {
+      location.setExpirationDate(new TCalendar(new Date(expiration)));
+    }
+    if (review != null) {
+      location.setReviewDate(new TCalendar(new Date(review)));
+    }
+    labels.put(location, label);
+    return location;
+  }
+
+  /**
+   * Concatenate the labels of the datasets in alphabetical order.
+   */
+  private static String labels(Map<Location, String> labels, List<Location> datasets) {
+    List<String> list = new ArrayList<>();
+    for (Location location : datasets) {
+      list.add(labels.get(location));
+    }
+    Collections.sort(list);
+    StringBuilder sb = new StringBuilder();
+    for (String label : list) {
+      sb.append(label);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Create a Location dataset with random dates. Each date is unset one time
+   * in four.
+   */
+  private static Location location() {
+    Location location = new Location();
+    long effective = RANDOM.nextInt((int) SPAN);
+    if (RANDOM.nextInt(4) > 0) {
+      location.setEffectiveDate(new TCalendar(new Date(effective)));
+    }
+    if (RANDOM.nextInt(4) > 0) {
+      location.setExpirationDate(new TCalendar(new Date(effective + RANDOM.nextInt((int) SPAN / 10))));
+    }
+    if (RANDOM.nextInt(4) > 0) {
+      location.setReviewDate(new TCalendar(new Date(RANDOM.nextInt((int) SPAN))));
+    }
+    return location;
+  }
+
+  private static void check(String name, SSRFValidityIndex<Location> index, List<Location> expected) {
+    check(name, matches(index, expected));
+  }
+
+  /**
+   * Compare the index answers for random periods with a scan of the datasets.
+   */
+  private static boolean matches(SSRFValidityIndex<Location> index, List<Location> expected) {
+    if (index.size() != expected.size()) {
+      return false;
+    }
+    for (int i = 0; i < 50; i++) {
+      long from = RANDOM.nextInt((int) SPAN);
+      long to = from + RANDOM.nextInt((int) SPAN / 20);
+      List<Location> active = new ArrayList<>(), expiring = new ArrayList<>(), review = new ArrayList<>();
+      for (Location location : expected) {
+        long effective = millis(location.getEffectiveDate(), Long.MIN_VALUE);
+        long expiration = millis(location.getExpirationDate(), Long.MAX_VALUE);
+        long reviewDate = millis(location.getReviewDate(), Long.MIN_VALUE);
+        if (effective < to && expiration > from && effective < expiration) {
+          active.add(location);
+        }
+        if (expiration != Long.MAX_VALUE && expiration >= from && expiration < to) {
+          expiring.add(location);
+        }
+        if (reviewDate != Long.MIN_VALUE && reviewDate >= from && reviewDate < to) {
+          review.add(location);
+        }
+      }
+      if (!same(active, index.findActive(from, to))
+          || !same(expiring, index.findExpiring(from, to))
+          || !same(review, index.findReviewDue(from, to))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long millis(TCalendar date, long unset) {
+    return date != null && date.isSetValue() ? date.getValue().getTimeInMillis() : unset;
+  }
+
+  private static boolean same(List<Location> expected, List<Location> actual) {
+    Set<Location> set = Collections.newSetFromMap(new IdentityHashMap<Location, Boolean>());
+    set.addAll(actual);
+    return actual.size() == expected.size() && set.size() == actual.size() && set.containsAll(expected);
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}
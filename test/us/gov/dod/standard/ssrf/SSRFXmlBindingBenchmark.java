@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Calendar;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.common.Remarks;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCY;
+
+/**
+ * Compare the JAXB and StAX ({@link SSRFXmlBinding}) XML binding engines.
+ * <p>
+ * A synthetic SSRF instance of Location datasets is marshalled and unmarshalled
+ * with each engine. The harness reports the throughput of each engine and
+ * checks that:
+ * <ul>
+ * <li>each engine reproduces its own output after a round trip, and</li>
+ * <li>the StAX output is byte-for-byte identical to the JAXB output, both
+ * formatted and compact, and each engine reads the other's output.</li>
+ * </ul>
+ * If the configured JAXB provider cannot bind the SSRF classes the JAXB
+ * comparison is skipped and only the StAX engine is measured.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFXmlBindingBenchmark
+ * [datasets] [iterations]}. The defaults are 2,000 datasets and 20 iterations.
+ * The process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFXmlBindingBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int datasets = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+    SSRF ssrf = build(datasets);
+    boolean ok = true;
+    /**
+     * StAX round trip.
+     */
+    byte[] stax = marshal(ssrf, true, EXmlBinding.STAX);
+    byte[] staxCompact = marshal(ssrf, false, EXmlBinding.STAX);
+    ok &= check("STAX formatted round trip", stax, marshal(unmarshal(stax, EXmlBinding.STAX), true, EXmlBinding.STAX));
+    ok &= check("STAX compact round trip", staxCompact, marshal(unmarshal(staxCompact, EXmlBinding.STAX), false, EXmlBinding.STAX));
+    /**
+     * JAXB round trip and cross-engine comparison.
+     */
+    boolean jaxb;
+    try {
+      SSRFContext.getInstance(SSRF.class);
+      jaxb = true;
+    } catch (Exception exception) {
+      System.out.println("JAXB provider cannot bind SSRF; JAXB comparison skipped: " + firstLine(exception));
+      jaxb = false;
+    }
+    if (jaxb) {
+      byte[] jaxbFormatted = marshal(ssrf, true, EXmlBinding.JAXB);
+      byte[] jaxbCompact = marshal(ssrf, false, EXmlBinding.JAXB);
+      ok &= check("JAXB formatted round trip", jaxbFormatted, marshal(unmarshal(jaxbFormatted, EXmlBinding.JAXB), true, EXmlBinding.JAXB));
+      ok &= check("STAX == JAXB formatted", jaxbFormatted, stax);
+      ok &= check("STAX == JAXB compact", jaxbCompact, staxCompact);
+      ok &= check("STAX reads JAXB", jaxbFormatted, marshal(unmarshal(jaxbFormatted, EXmlBinding.STAX), true, EXmlBinding.JAXB));
+      ok &= check("JAXB reads STAX", stax, marshal(unmarshal(stax, EXmlBinding.JAXB), true, EXmlBinding.STAX));
+    }
+    /**
+     * Throughput. Each engine is warmed up with the same number of iterations
+     * before it is measured.
+     */
+    System.out.printf("%d datasets, %d bytes formatted, %d iterations%n", datasets, stax.length, iterations);
+    for (EXmlBinding binding : EXmlBinding.values()) {
+      if (binding == EXmlBinding.JAXB && !jaxb) {
+        continue;
+      }
+      measure(ssrf, binding, iterations);
+      long[] nanos = measure(ssrf, binding, iterations);
+      System.out.printf("%-5s marshal %8.1f ms  unmarshal %8.1f ms  (%.1f MB/s, %.1f MB/s)%n",
+                        binding,
+                        nanos[0] / 1e6 / iterations,
+                        nanos[1] / 1e6 / iterations,
+                        stax.length * (double) iterations / nanos[0] * 1e3,
+                        stax.length * (double) iterations / nanos[1] * 1e3);
+    }
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Build a SSRF instance with Location datasets exercising attributes, lists,
+   * nested elements, escaped text and dates.
+   */
+  private static SSRF build(int datasets) {
+    SSRF ssrf = new SSRF();
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTimeInMillis(1700000000000L);
+    for (int i = 0; i < datasets; i++) {
+      Location location = new Location()
+        .withName("Location <&> \"" + (i % 97) + "\"")
+        .withCountry(ListCAO.USA)
+        .withPoint(new Point().withLat("123456N").withLon("0123456W").withTerrainElevation(12.5 + i))
+        .withEffectiveDate(calendar);
+      location.withRemarks(new Remarks().withValue("remark " + i + "\nsecond line"));
+      location.setSerial(TSerial.getInstance(Location.class));
+      location.setEntryDateTime(new TCalendar(calendar));
+      location.setCls(ListCCL.U);
+      location.getName().setCls(ListCCL.C);
+      location.getName().getReleasability().add(ListCCY.USA);
+      location.getName().getReleasability().add(ListCCY.GBR);
+      ssrf.getLocation().add(location);
+    }
+    return ssrf;
+  }
+
+  private static long[] measure(SSRF ssrf, EXmlBinding binding, int iterations) throws Exception {
+    byte[] xml = marshal(ssrf, true, binding);
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      marshal(ssrf, true, binding);
+    }
+    long marshal = System.nanoTime() - start;
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      unmarshal(xml, binding);
+    }
+    return new long[]{marshal, System.nanoTime() - start};
+  }
+
+  private static byte[] marshal(SSRF ssrf, boolean formatted, EXmlBinding binding) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    SSRFUtility.marshal(ssrf, outputStream, formatted, binding);
+    return outputStream.toByteArray();
+  }
+
+  private static SSRF unmarshal(byte[] xml, EXmlBinding binding) throws Exception {
+    return SSRFUtility.unmarshal(new ByteArrayInputStream(xml), SSRF.class, binding);
+  }
+
+  private static boolean check(String name, byte[] expected, byte[] actual) {
+    int mismatch = -1;
+    for (int i = 0; i < Math.max(expected.length, actual.length) && mismatch < 0; i++) {
+      if (i >= expected.length || i >= actual.length || expected[i] != actual[i]) {
+        mismatch = i;
+      }
+    }
+    System.out.println((mismatch < 0 ? "pass  " : "FAIL  ") + name + (mismatch < 0 ? "" : " (first difference at byte " + mismatch + ")"));
+    return mismatch < 0;
+  }
+
+  private static String firstLine(Exception exception) {
+    Throwable cause = exception;
+    while (cause.getCause() != null && cause.getMessage() == null) {
+      cause = cause.getCause();
+    }
+    String message = String.valueOf(cause.getMessage()).trim();
+    int newline = message.indexOf('\n');
+    return newline < 0 ? message : message.substring(0, newline);
+  }
+}
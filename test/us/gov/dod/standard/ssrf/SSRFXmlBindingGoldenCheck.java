@@ -0,0 +1,189 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Calendar;
+import java.util.TimeZone;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.common.Remarks;
+import us.gov.dod.standard.ssrf._3_0.location.Ellipse;
+import us.gov.dod.standard.ssrf._3_0.location.Point;
+import us.gov.dod.standard.ssrf._3_0.location.Polygon;
+import us.gov.dod.standard.ssrf._3_0.location.PolygonPoint;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TCalendar;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TDecimal;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TSerial;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCBO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCL;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCY;
+
+/**
+ * Golden file checks of the {@link SSRFXmlBinding} StAX engine.
+ * <p>
+ * A fixed SSRF document is written with the StAX engine, formatted and
+ * compact, and compared byte-for-byte with the recorded documents
+ * {@code SSRFXmlBindingGolden.xml} and {@code SSRFXmlBindingGolden-compact.xml}
+ * in this directory. Each recorded document must also read back to the same
+ * output. Where the configured JAXB provider can bind the SSRF classes the
+ * JAXB output is compared with the recorded documents as well; otherwise that
+ * comparison is skipped.
+ * <p>
+ * The recorded documents are meant to be the output of the JAXB engine. To
+ * re-record them run the check with the {@code record} argument where a JAXB
+ * provider binds the SSRF classes; recording fails without one.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf.SSRFXmlBindingGoldenCheck
+ * [record]}, from the project directory. The process exits with status 1 if a
+ * check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class SSRFXmlBindingGoldenCheck {
+
+  /**
+   * The recorded formatted document.
+   */
+  private static final Path FORMATTED = Paths.get("test/us/gov/dod/standard/ssrf/SSRFXmlBindingGolden.xml");
+  /**
+   * The recorded compact document.
+   */
+  private static final Path COMPACT = Paths.get("test/us/gov/dod/standard/ssrf/SSRFXmlBindingGolden-compact.xml");
+
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    SSRF ssrf = build();
+    boolean jaxb;
+    try {
+      SSRFContext.getInstance(SSRF.class);
+      jaxb = true;
+    } catch (Exception exception) {
+      jaxb = false;
+    }
+    if (args.length > 0 && "record".equals(args[0])) {
+      if (!jaxb) {
+        System.out.println("FAIL  record: the JAXB provider cannot bind SSRF");
+        System.exit(1);
+      }
+      Files.write(FORMATTED, marshal(ssrf, true, EXmlBinding.JAXB));
+      Files.write(COMPACT, marshal(ssrf, false, EXmlBinding.JAXB));
+      System.out.println("recorded " + FORMATTED + " and " + COMPACT);
+      return;
+    }
+    byte[] formatted = Files.readAllBytes(FORMATTED);
+    byte[] compact = Files.readAllBytes(COMPACT);
+    check("STAX formatted", formatted, marshal(ssrf, true, EXmlBinding.STAX));
+    check("STAX compact", compact, marshal(ssrf, false, EXmlBinding.STAX));
+    check("STAX reads formatted", formatted, marshal(unmarshal(formatted, EXmlBinding.STAX), true, EXmlBinding.STAX));
+    check("STAX reads compact", compact, marshal(unmarshal(compact, EXmlBinding.STAX), false, EXmlBinding.STAX));
+    if (jaxb) {
+      check("JAXB formatted", formatted, marshal(ssrf, true, EXmlBinding.JAXB));
+      check("JAXB compact", compact, marshal(ssrf, false, EXmlBinding.JAXB));
+    } else {
+      System.out.println("JAXB provider cannot bind SSRF; JAXB comparison skipped");
+    }
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Build a fixed SSRF document: Location datasets with attributes, attribute
+   * lists, escaped text, dates, decimals and nested Point, Polygon and Ellipse
+   * elements. Dates are in UTC so that the output does not depend upon the
+   * default time zone. Set-valued attributes hold a single value as a set of
+   * enums iterates in hash order, which varies between runs. Index and value
+   * attributes are set with the setters as their with methods do not set them.
+   */
+  private static SSRF build() {
+    SSRF ssrf = new SSRF();
+    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    calendar.clear();
+    calendar.set(2026, Calendar.OCTOBER, 17, 12, 30, 15);
+    for (int i = 1; i <= 3; i++) {
+      Location location = new Location()
+        .withName("Location <&> \"" + i + "\"")
+        .withCountry(ListCAO.USA)
+        .withEffectiveDate(calendar);
+      Remarks remarks = new Remarks();
+      remarks.setValue("remark " + i + "\nsecond line");
+      remarks.setIdx(BigInteger.valueOf(i));
+      location.withRemarks(remarks);
+      location.setSerial(new TSerial("USA::LO:" + i));
+      location.setEntryDateTime(new TCalendar(calendar));
+      location.setCls(ListCCL.U);
+      location.getName().setCls(ListCCL.C);
+      location.getName().getReleasability().add(ListCCY.USA);
+      Point point = new Point().withLat("123456N").withLon("0123456W").withTerrainElevation(12.5 * i);
+      point.setIdx(BigInteger.valueOf(i));
+      location.withPoint(point);
+      ssrf.getLocation().add(location);
+    }
+    Polygon polygon = new Polygon().withExcluded(ListCBO.NO)
+      .withPolygonPoint(polygonPoint(1, "100000N", "0200000E"),
+                        polygonPoint(2, "110000N", "0200000E"),
+                        polygonPoint(3, "110000N", "0210000E"));
+    polygon.setIdx(BigInteger.ONE);
+    ssrf.getLocation().get(0).withPolygon(polygon);
+    Ellipse ellipse = new Ellipse().withLat("100000S").withLon("1795700W").withAzimuth(90.0);
+    ellipse.setSemiMajorAxis(new TDecimal(20.25));
+    ellipse.setSemiMinorAxis(new TDecimal(5.0));
+    ellipse.setIdx(BigInteger.ONE);
+    ssrf.getLocation().get(1).withEllipse(ellipse);
+    return ssrf;
+  }
+
+  /**
+   * Create a PolygonPoint. The sequence is set with the setter as the with
+   * method does not set it.
+   */
+  private static PolygonPoint polygonPoint(int sequence, String lat, String lon) {
+    PolygonPoint polygonPoint = new PolygonPoint().withLat(lat).withLon(lon);
+    polygonPoint.setSequence(BigInteger.valueOf(sequence));
+    return polygonPoint;
+  }
+
+  private static byte[] marshal(SSRF ssrf, boolean formatted, EXmlBinding binding) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    SSRFUtility.marshal(ssrf, outputStream, formatted, binding);
+    return outputStream.toByteArray();
+  }
+
+  private static SSRF unmarshal(byte[] xml, EXmlBinding binding) throws Exception {
+    return SSRFUtility.unmarshal(new ByteArrayInputStream(xml), SSRF.class, binding);
+  }
+
+  private static void check(String name, byte[] expected, byte[] actual) {
+    int mismatch = -1;
+    for (int i = 0; i < Math.max(expected.length, actual.length) && mismatch < 0; i++) {
+      if (i >= expected.length || i >= actual.length || expected[i] != actual[i]) {
+        mismatch = i;
+      }
+    }
+    System.out.println((mismatch < 0 ? "pass  " : "FAIL  ") + name + (mismatch < 0 ? "" : " (first difference at byte " + mismatch + ")"));
+    ok &= mismatch < 0;
+  }
+}
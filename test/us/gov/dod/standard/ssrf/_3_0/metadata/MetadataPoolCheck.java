@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_0.metadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import us.gov.dod.standard.ssrf.EXmlBinding;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFBinaryCodec;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_0.Location;
+import us.gov.dod.standard.ssrf._3_0.metadata.domains.TString;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCAO;
+import us.gov.dod.standard.ssrf._3_0.metadata.lists.ListCCY;
+
+/**
+ * Checks of the {@link MetadataPool} interned attribute values held by
+ * {@link AMetadata}.
+ * <p>
+ * Random operations are applied to metadata leaves whose attribute values are
+ * shared, and to a model of each leaf that holds its own HashSets and strings
+ * as AMetadata did before the values were interned. After each operation
+ * every leaf must read the same values as its model: a change to one leaf
+ * must never be seen through another leaf that shares the value, and a view
+ * returned by a getter before the change must see it. Leaves with equal
+ * values must then share one interned instance, as must the leaves of a
+ * document read by the StAX engine or the binary codec.
+ * <p>
+ * Usage: {@code java us.gov.dod.standard.ssrf._3_0.metadata.MetadataPoolCheck}.
+ * The process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class MetadataPoolCheck {
+
+  private static final ListCCY[] COUNTRIES = {ListCCY.USA, ListCCY.GBR, ListCCY.CAN, ListCCY.AUS};
+  private static final String[] QUALITIES = {null, "Outlier", "Non-CodeList", "Outlier|Non-CodeList"};
+  private static final Random RANDOM = new Random(19);
+  private static boolean ok = true;
+
+  public static void main(String[] args) throws Exception {
+    List<TString> leaves = new ArrayList<>();
+    List<Model> models = new ArrayList<>();
+    List<Set<ListCCY>> views = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      TString leaf = new TString("value " + i).withReleasability(ListCCY.USA).withRemarkRef(BigInteger.ONE);
+      Model model = new Model();
+      model.releasability.add(ListCCY.USA);
+      model.remarkRef.add(BigInteger.ONE);
+      leaves.add(leaf);
+      models.add(model);
+      views.add(leaf.getReleasability());
+    }
+    boolean sameOk = true, viewOk = true;
+    for (int operation = 0; operation < 20000 && sameOk; operation++) {
+      int i = RANDOM.nextInt(leaves.size());
+      apply(leaves.get(i), models.get(i), views.get(i));
+      for (int j = 0; j < leaves.size(); j++) {
+        sameOk &= models.get(j).matches(leaves.get(j));
+        viewOk &= views.get(j).equals(models.get(j).releasability);
+      }
+    }
+    check("leaves read as unshared values", sameOk);
+    check("earlier views see changes", viewOk);
+    /**
+     * Once interned, leaves with equal values share one instance.
+     */
+    boolean sharedOk = true;
+    for (TString leaf : leaves) {
+      leaf.intern();
+      sharedOk &= leaf.releasability == null || MetadataPool.isInterned(leaf.releasability);
+    }
+    for (TString a : leaves) {
+      for (TString b : leaves) {
+        if (a.getReleasability().equals(b.getReleasability()) && !a.getReleasability().isEmpty()) {
+          sharedOk &= a.releasability == b.releasability;
+        }
+        if (Objects.equals(a.getQuality(), b.getQuality())) {
+          sharedOk &= a.getQuality() == b.getQuality();
+        }
+      }
+    }
+    check("equal values shared", sharedOk);
+    checkImmutable();
+    checkRead();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Apply a random operation to a leaf and to its model.
+   */
+  private static void apply(TString leaf, Model model, Set<ListCCY> view) {
+    ListCCY country = COUNTRIES[RANDOM.nextInt(COUNTRIES.length)];
+    BigInteger ref = BigInteger.valueOf(RANDOM.nextInt(4));
+    switch (RANDOM.nextInt(12)) {
+      case 0:
+        leaf.withReleasability(country);
+        model.releasability.add(country);
+        break;
+      case 1:
+        leaf.getReleasability().add(country);
+        model.releasability.add(country);
+        break;
+      case 2:
+        leaf.getReleasability().remove(country);
+        model.releasability.remove(country);
+        break;
+      case 3:
+        for (Iterator<ListCCY> iterator = leaf.getReleasability().iterator(); iterator.hasNext();) {
+          if (iterator.next().equals(country)) {
+            iterator.remove();
+          }
+        }
+        model.releasability.remove(country);
+        break;
+      case 4:
+        leaf.getReleasability().clear();
+        model.releasability.clear();
+        break;
+      case 5:
+        view.add(country);
+        model.releasability.add(country);
+        break;
+      case 6:
+        leaf.withRemarkRef(ref);
+        model.remarkRef.add(ref);
+        break;
+      case 7:
+        leaf.getRemarkRef().remove(ref);
+        model.remarkRef.remove(ref);
+        break;
+      case 8:
+        leaf.withExtReferences(ref);
+        model.extReferences.add(ref);
+        break;
+      case 9:
+        leaf.getExtReferences().retainAll(Collections.singleton(ref));
+        model.extReferences.retainAll(Collections.singleton(ref));
+        break;
+      case 10:
+        String quality = QUALITIES[RANDOM.nextInt(QUALITIES.length)];
+        leaf.setQuality(quality == null ? null : new String(quality));
+        model.quality = quality;
+        break;
+      default:
+        leaf.intern();
+    }
+  }
+
+  /**
+   * Interned sets reject changes.
+   */
+  private static void checkImmutable() {
+    Set<ListCCY> set = new HashSet<>();
+    set.add(ListCCY.USA);
+    Set<ListCCY> interned = MetadataPool.intern(set);
+    boolean rejected = true;
+    try {
+      interned.add(ListCCY.GBR);
+      rejected = false;
+    } catch (UnsupportedOperationException exception) {
+    }
+    try {
+      Iterator<ListCCY> iterator = interned.iterator();
+      iterator.next();
+      iterator.remove();
+      rejected = false;
+    } catch (UnsupportedOperationException exception) {
+    }
+    check("interned sets immutable", rejected && interned.equals(set) && MetadataPool.intern(set) == interned);
+  }
+
+  /**
+   * Documents read by the StAX engine and the binary codec hold interned
+   * values: the Name and Country leaves share their releasability and quality.
+   */
+  private static void checkRead() throws Exception {
+    Location location = new Location().withName("Location").withCountry(ListCAO.USA);
+    location.getName().withReleasability(ListCCY.USA, ListCCY.GBR).setQuality(new String("Outlier"));
+    location.getCountry().withReleasability(ListCCY.GBR, ListCCY.USA).setQuality(new String("Outlier"));
+    location.getCountry().getReleasability().add(ListCCY.CAN);
+    location.getCountry().getReleasability().remove(ListCCY.CAN);
+    SSRF ssrf = new SSRF();
+    ssrf.getLocation().add(location);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    SSRFUtility.marshal(ssrf, outputStream, false, EXmlBinding.STAX);
+    Location xml = SSRFUtility.unmarshal(new ByteArrayInputStream(outputStream.toByteArray()), SSRF.class, EXmlBinding.STAX).getLocation().get(0);
+    Location binary = SSRFBinaryCodec.decode(SSRFBinaryCodec.encode(ssrf), SSRF.class).getLocation().get(0);
+    check("StAX read shares values", shares(xml.getName(), xml.getCountry()));
+    check("binary read shares values", shares(binary.getName(), binary.getCountry()));
+  }
+
+  private static boolean shares(AMetadata<?> a, AMetadata<?> b) {
+    return a.getReleasability().size() == 2
+           && a.getReleasability().equals(b.getReleasability())
+           && a.releasability == b.releasability
+           && "Outlier".equals(a.getQuality())
+           && a.getQuality() == b.getQuality();
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+
+  /**
+   * A model of a metadata leaf: its own HashSets and strings, as AMetadata
+   * held them before the values were interned.
+   */
+  private static class Model {
+
+    private final Set<ListCCY> releasability = new HashSet<>();
+    private final Set<BigInteger> remarkRef = new HashSet<>();
+    private final Set<BigInteger> extReferences = new HashSet<>();
+    private String quality;
+
+    private boolean matches(AMetadata<?> leaf) {
+      return leaf.getReleasability().equals(releasability)
+             && releasability.equals(leaf.getReleasability())
+             && leaf.getReleasability().hashCode() == releasability.hashCode()
+             && leaf.getRemarkRef().equals(remarkRef)
+             && leaf.getExtReferences().equals(extReferences)
+             && leaf.isSetReleasability() == !releasability.isEmpty()
+             && Objects.equals(leaf.getQuality(), quality);
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2014 Key Bridge Global LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_0.metadata.domains;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import us.gov.dod.standard.ssrf._3_0.adapter.AXmlAdapterTNumber;
+
+/**
+ * Checks of the cached primitive views and comparators of {@link TDecimal}
+ * and {@link TInteger}.
+ * <p>
+ * Random values, including values beyond the long range and values that do
+ * not convert exactly to a double, are compared with random thresholds. Each
+ * answer is compared with a conversion of the BigDecimal or BigInteger value
+ * on every call, as the comparators did before the view was cached. The old
+ * TInteger comparators truncated the value to an int; within the int range
+ * they must agree with that as well. The view must follow values changed with
+ * the setter or written directly to the field, and the adapter range checks
+ * must match a range check of the converted value.
+ * <p>
+ * Usage:
+ * {@code java us.gov.dod.standard.ssrf._3_0.metadata.domains.TNumberCheck}.
+ * The process exits with status 1 if a check fails.
+ * <p>
+ * @author Jesse Caulfield
+ * @version 1.0, 10/17/26
+ * @since 3.1.0
+ */
+public class TNumberCheck {
+
+  private static final Random RANDOM = new Random(20);
+  private static boolean ok = true;
+
+  public static void main(String[] args) {
+    boolean decimalOk = true, integerOk = true, intRangeOk = true, longOk = true, changeOk = true, adapterOk = true;
+    AXmlAdapterTNumber adapter = new AXmlAdapterTNumber(null, null, -90, 90);
+    TDecimal decimal = new TDecimal();
+    TInteger integer = new TInteger();
+    for (int i = 0; i < 100000; i++) {
+      /**
+       * Change the value with the setter or directly on the field.
+       */
+      BigDecimal decimalValue = decimal();
+      BigInteger integerValue = integer();
+      if (RANDOM.nextBoolean()) {
+        decimal.setValue(decimalValue);
+        integer.setValue(integerValue);
+      } else {
+        decimal.value = decimalValue;
+        integer.value = integerValue;
+      }
+      changeOk &= Double.compare(decimal.doubleValue(), decimalValue.doubleValue()) == 0
+                  && Double.compare(integer.doubleValue(), integerValue.doubleValue()) == 0;
+      double threshold = threshold(decimalValue.doubleValue());
+      double d = decimalValue.doubleValue();
+      decimalOk &= decimal.lt(threshold) == d < threshold
+                   && decimal.ltequal(threshold) == d <= threshold
+                   && decimal.gt(threshold) == d > threshold
+                   && decimal.gtequal(threshold) == d >= threshold
+                   && decimal.lt(Double.valueOf(threshold)) == d < threshold
+                   && decimal.gtequal(Double.valueOf(threshold)) == d >= threshold
+                   && decimal.compareTo(threshold) == Double.compare(d, threshold);
+      threshold = threshold(integerValue.doubleValue());
+      d = integerValue.doubleValue();
+      integerOk &= integer.lt(threshold) == d < threshold
+                   && integer.ltequal(threshold) == d <= threshold
+                   && integer.gt(threshold) == d > threshold
+                   && integer.gtequal(threshold) == d >= threshold
+                   && integer.ltequal(Double.valueOf(threshold)) == d <= threshold
+                   && integer.gt(Double.valueOf(threshold)) == d > threshold;
+      if (integerValue.bitLength() < Integer.SIZE) {
+        int old = integerValue.intValue();
+        intRangeOk &= integer.lt(Double.valueOf(threshold)) == old < threshold
+                      && integer.ltequal(Double.valueOf(threshold)) == old <= threshold
+                      && integer.gt(Double.valueOf(threshold)) == old > threshold
+                      && integer.gtequal(Double.valueOf(threshold)) == old >= threshold;
+      }
+      long other = RANDOM.nextBoolean() ? integerValue.longValue() + RANDOM.nextInt(3) - 1 : RANDOM.nextLong();
+      longOk &= integer.longValue() == saturate(integerValue)
+                && Integer.signum(integer.compareTo(other)) == integerValue.compareTo(BigInteger.valueOf(other));
+      adapterOk &= adapter.isValid(decimal) == (d(decimalValue) >= -90 && d(decimalValue) <= 90)
+                   && adapter.isValid(integer) == (d(integerValue) >= -90 && d(integerValue) <= 90);
+    }
+    check("TDecimal comparators", decimalOk);
+    check("TInteger comparators", integerOk);
+    check("TInteger comparators within the int range", intRangeOk);
+    check("TInteger long value and compareTo(long)", longOk);
+    check("view follows value changes", changeOk);
+    check("adapter range checks", adapterOk);
+    checkUnset();
+    checkEquals();
+    System.out.println(ok ? "OK" : "FAILED");
+    if (!ok) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Unset values: NaN doubles, a zero long and no long comparison.
+   */
+  private static void checkUnset() {
+    TInteger integer = new TInteger();
+    boolean thrown = false;
+    try {
+      integer.compareTo(0L);
+    } catch (NullPointerException exception) {
+      thrown = true;
+    }
+    check("unset values", Double.isNaN(new TDecimal().doubleValue())
+                          && Double.isNaN(integer.doubleValue())
+                          && integer.longValue() == 0
+                          && thrown
+                          && !new TDecimal().lt(1.0) && !new TDecimal().gtequal(1.0));
+  }
+
+  /**
+   * equals compares values of the same type and no longer throws for another
+   * type.
+   */
+  private static void checkEquals() {
+    check("equals", new TDecimal(1.5).equals(new TDecimal(1.5))
+                    && !new TDecimal(1.5).equals(new TDecimal(2.5))
+                    && new TInteger(7).equals(new TInteger(7))
+                    && !new TInteger(7).equals(new TInteger(8))
+                    && !new TDecimal(7.0).equals(new TInteger(7))
+                    && !new TInteger(7).equals(new TString("7")));
+  }
+
+  /**
+   * Create a random BigDecimal: a double, or an unscaled value of up to 80 bits
+   * with a scale of up to 20 digits, which does not convert exactly.
+   */
+  private static BigDecimal decimal() {
+    switch (RANDOM.nextInt(3)) {
+      case 0:
+        return BigDecimal.valueOf((RANDOM.nextDouble() - 0.5) * 400);
+      case 1:
+        return new BigDecimal(new BigInteger(1 + RANDOM.nextInt(80), RANDOM).negate(), RANDOM.nextInt(20));
+      default:
+        return new BigDecimal(new BigInteger(1 + RANDOM.nextInt(80), RANDOM), RANDOM.nextInt(20));
+    }
+  }
+
+  /**
+   * Create a random BigInteger: within the int range, the long range, near
+   * the long limits or beyond them.
+   */
+  private static BigInteger integer() {
+    BigInteger value;
+    switch (RANDOM.nextInt(4)) {
+      case 0:
+        value = BigInteger.valueOf(RANDOM.nextInt(400) - 200);
+        break;
+      case 1:
+        value = BigInteger.valueOf(RANDOM.nextLong());
+        break;
+      case 2:
+        value = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.valueOf(RANDOM.nextInt(5) - 2));
+        break;
+      default:
+        value = new BigInteger(1 + RANDOM.nextInt(100), RANDOM);
+    }
+    return RANDOM.nextBoolean() ? value : value.negate();
+  }
+
+  /**
+   * Create a threshold near a value: the value itself, an adjacent double, a
+   * random value or a non-finite value.
+   */
+  private static double threshold(double value) {
+    switch (RANDOM.nextInt(6)) {
+      case 0:
+        return value;
+      case 1:
+        return Math.nextUp(value);
+      case 2:
+        return Math.nextAfter(value, Double.NEGATIVE_INFINITY);
+      case 3:
+        return (RANDOM.nextDouble() - 0.5) * 400;
+      case 4:
+        return RANDOM.nextLong();
+      default:
+        return new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}[RANDOM.nextInt(3)];
+    }
+  }
+
+  private static long saturate(BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      return value.longValue();
+    }
+    return value.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+  }
+
+  private static double d(Number number) {
+    return number.doubleValue();
+  }
+
+  private static void check(String name, boolean passed) {
+    System.out.println((passed ? "pass  " : "FAIL  ") + name);
+    ok &= passed;
+  }
+}